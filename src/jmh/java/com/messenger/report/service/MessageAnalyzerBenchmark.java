@@ -0,0 +1,191 @@
+package com.messenger.report.service;
+
+import com.messenger.chat.entity.ChatMessage;
+import com.messenger.chat.entity.MessageType;
+import com.messenger.report.entity.ReportItem;
+import com.messenger.report.entity.WorkCategory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * ============================================================
+ * MessageAnalyzerBenchmark - 메시지 분석기 성능 비교 (JMH)
+ * ============================================================
+ *
+ * 【비교 대상】
+ * - legacyJoinAndIndexOf: 기존 방식 (채팅방 메시지를 하나의 문자열로 합친 뒤 키워드마다 indexOf)
+ * - streamingAhoCorasick: 현재 MessageAnalyzer (메시지 1건씩 자동자로 한 번만 훑기)
+ * 두 방식 모두 같은 결과(정렬된 ReportItem 목록)를 만들어 반환하므로 같은 일을 비교합니다.
+ * (반환값은 JMH가 소비하므로 JIT가 계산을 지우지 못함)
+ *
+ * 【실행】
+ *   ./gradlew jmh
+ * ============================================================
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MessageAnalyzerBenchmark {
+
+    /** 하루치 메시지 수 */
+    @Param({"100000"})
+    private int messageCount;
+
+    /** 메시지가 흩어질 채팅방 수 */
+    @Param({"20"})
+    private int roomCount;
+
+    private static final String[] WORDS = {
+            "코드", "리뷰", "부탁", "드립니다", "버그", "수정", "했습니다", "회의", "안건", "공유",
+            "점심", "뭐", "먹을까요", "배포", "예정", "확인", "피드백", "반영", "PR", "머지",
+            "일정", "논의", "필요", "합니다", "서버", "에러", "로그", "봐주세요", "좋아요", "네"
+    };
+
+    private static final Map<WorkCategory, List<String>> LEGACY_KEYWORDS = Map.of(
+            WorkCategory.DEVELOPMENT, List.of(
+                    "코드", "버그", "수정", "배포", "개발", "구현", "PR", "커밋",
+                    "빌드", "테스트", "에러", "오류", "디버그", "API", "서버", "DB",
+                    "프론트", "백엔드", "기능", "모듈", "브랜치", "머지"),
+            WorkCategory.MEETING, List.of(
+                    "회의", "미팅", "논의", "결정", "안건", "일정", "참석",
+                    "발표", "공유", "보고", "계획", "전략", "목표"),
+            WorkCategory.REVIEW, List.of(
+                    "검토", "확인", "피드백", "리뷰", "승인", "반려",
+                    "수정요청", "코멘트", "코드리뷰")
+    );
+
+    private List<ChatMessage> messages;
+    private Map<Long, String> roomNames;
+    private MessageAnalyzer analyzer;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.of(2026, 1, 5, 9, 0);
+        messages = new ArrayList<>(messageCount);
+        roomNames = new HashMap<>();
+        for (long roomId = 1; roomId <= roomCount; roomId++) {
+            roomNames.put(roomId, "채팅방 " + roomId);
+        }
+        for (int i = 0; i < messageCount; i++) {
+            StringBuilder content = new StringBuilder();
+            int words = 3 + random.nextInt(10);
+            for (int w = 0; w < words; w++) {
+                if (w > 0) content.append(' ');
+                content.append(WORDS[random.nextInt(WORDS.length)]);
+            }
+            messages.add(ChatMessage.builder()
+                    .chatRoomId(1L + random.nextInt(roomCount))
+                    .senderId(1L)
+                    .content(content.toString())
+                    .messageType(MessageType.TEXT)
+                    .sentAt(start.plusSeconds(random.nextInt(10 * 3600)))
+                    .build());
+        }
+        analyzer = new MessageAnalyzer(CompiledRuleSet.defaults());
+    }
+
+    @Benchmark
+    public List<ReportItem> streamingAhoCorasick() {
+        return analyzer.analyzeMessages(messages, roomNames);
+    }
+
+    /** 기존 MessageAnalyzer.analyzeMessages()와 같은 절차 (그룹화 → 문자열 합치기 → indexOf → 항목 생성) */
+    @Benchmark
+    public List<ReportItem> legacyJoinAndIndexOf() {
+        Map<Long, List<ChatMessage>> byRoom = messages.stream()
+                .collect(Collectors.groupingBy(ChatMessage::getChatRoomId));
+        List<ReportItem> items = new ArrayList<>();
+        for (Map.Entry<Long, List<ChatMessage>> entry : byRoom.entrySet()) {
+            List<ChatMessage> roomMessages = entry.getValue();
+            if (roomMessages.size() < 3) {
+                continue;
+            }
+            String allText = roomMessages.stream()
+                    .map(ChatMessage::getContent)
+                    .collect(Collectors.joining(" "));
+            WorkCategory category = legacyCategory(allText);
+            String roomName = roomNames.getOrDefault(entry.getKey(), "채팅방 #" + entry.getKey());
+
+            Map<Integer, Long> hourly = roomMessages.stream()
+                    .filter(m -> m.getSentAt() != null)
+                    .collect(Collectors.groupingBy(m -> m.getSentAt().getHour(), Collectors.counting()));
+            Optional<Map.Entry<Integer, Long>> peak = hourly.entrySet().stream().max(Map.Entry.comparingByValue());
+
+            StringBuilder description = new StringBuilder();
+            description.append(String.format("총 %d건의 메시지가 교환되었습니다.\n", roomMessages.size()));
+            peak.ifPresent(p -> description.append(String.format("가장 활발한 시간대: %d시 (%d건)\n", p.getKey(), p.getValue())));
+            description.append("업무 분류: ").append(legacyCategoryDescription(category));
+
+            items.add(ReportItem.builder()
+                    .title(String.format("[%s] %s (%d건)", roomName, legacyLabel(category), roomMessages.size()))
+                    .description(description.toString())
+                    .chatRoomName(roomName)
+                    .relatedMessageCount(roomMessages.size())
+                    .category(category)
+                    .build());
+        }
+        items.sort((a, b) -> Integer.compare(b.getRelatedMessageCount(), a.getRelatedMessageCount()));
+        return items;
+    }
+
+    private static String legacyLabel(WorkCategory category) {
+        return switch (category) {
+            case DEVELOPMENT -> "개발 관련 논의";
+            case MEETING -> "회의/미팅";
+            case REVIEW -> "검토/리뷰";
+            case OTHER -> "업무 대화";
+        };
+    }
+
+    private static String legacyCategoryDescription(WorkCategory category) {
+        return switch (category) {
+            case DEVELOPMENT -> "소프트웨어 개발 관련 논의";
+            case MEETING -> "회의 및 미팅 진행";
+            case REVIEW -> "코드/문서 검토 및 피드백";
+            case OTHER -> "일반 업무 대화";
+        };
+    }
+
+    private static WorkCategory legacyCategory(String text) {
+        WorkCategory best = WorkCategory.OTHER;
+        int max = 0;
+        for (Map.Entry<WorkCategory, List<String>> entry : LEGACY_KEYWORDS.entrySet()) {
+            int count = 0;
+            for (String keyword : entry.getValue()) {
+                int idx = 0;
+                while ((idx = text.indexOf(keyword, idx)) != -1) {
+                    count++;
+                    idx += keyword.length();
+                }
+            }
+            if (count > max) {
+                max = count;
+                best = entry.getKey();
+            }
+        }
+        return best;
+    }
+}
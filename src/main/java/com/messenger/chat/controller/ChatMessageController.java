@@ -123,6 +123,7 @@ public class ChatMessageController {
 
     private void publishMessageEvent(Long roomId, Long senderId, String senderName, ChatMessageRequest request) {
         ChatMessageEvent event = ChatMessageEvent.builder()
+                .eventId(UUID.randomUUID().toString())
                 .chatRoomId(roomId)
                 .senderId(senderId)
                 .senderName(senderName != null ? senderName : "익명")
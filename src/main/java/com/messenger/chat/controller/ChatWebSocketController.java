@@ -11,6 +11,7 @@ import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.stereotype.Controller;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * ============================================================
@@ -89,6 +90,7 @@ public class ChatWebSocketController {
 
         // ===== Kafka 이벤트 생성 =====
         ChatMessageEvent event = ChatMessageEvent.builder()
+                .eventId(UUID.randomUUID().toString())
                 .chatRoomId(request.getChatRoomId())
                 .senderId(senderId)
                 .senderName(senderName)
@@ -16,8 +16,13 @@ public class ChatRoomMemberResponse {
     private String displayName;
     private String profileImage;
     private String joinedAt;
+    private boolean online;
 
     public static ChatRoomMemberResponse from(ChatRoomMember member) {
+        return from(member, false);
+    }
+
+    public static ChatRoomMemberResponse from(ChatRoomMember member, boolean online) {
         return ChatRoomMemberResponse.builder()
                 .memberId(member.getId())
                 .userId(member.getUser().getId())
@@ -25,6 +30,7 @@ public class ChatRoomMemberResponse {
                 .displayName(member.getUser().getDisplayName())
                 .profileImage(member.getUser().getProfileImage())
                 .joinedAt(member.getCreatedAt() != null ? member.getCreatedAt().toString() : null)
+                .online(online)
                 .build();
     }
 }
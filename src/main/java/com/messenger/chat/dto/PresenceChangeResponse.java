@@ -0,0 +1,24 @@
+package com.messenger.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * ============================================================
+ * PresenceChangeResponse - 접속 상태 변경 이벤트 DTO
+ * ============================================================
+ *
+ * 【역할】
+ * 친구의 온라인/오프라인 전환을 /user/queue/presence 로 전달할 때 사용합니다.
+ * 짧은 구간의 변경을 모아 List 형태(배치)로 한 프레임에 전송합니다.
+ * ============================================================
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class PresenceChangeResponse {
+
+    private Long userId;
+    private boolean online;
+}
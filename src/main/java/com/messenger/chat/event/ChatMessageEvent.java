@@ -37,6 +37,12 @@ public class ChatMessageEvent implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * 이벤트 고유 ID (발행 시 UUID 부여).
+     * Kafka가 같은 이벤트를 다시 전달해도 업무일지 집계가 두 번 세지 않도록 중복 판별에 사용합니다.
+     */
+    private String eventId;
+
     /** 메시지를 보낼 채팅방 ID (★ Kafka 파티션 키로도 사용) */
     private Long chatRoomId;
 
@@ -29,6 +29,10 @@ public interface ChatRoomMemberRepository extends JpaRepository<ChatRoomMember,
     /** 특정 사용자의 특정 채팅방 멤버십 조회 (읽음 처리용) */
     Optional<ChatRoomMember> findByChatRoomIdAndUserId(Long chatRoomId, Long userId);
 
+    /** 특정 채팅방의 멤버 사용자 ID만 조회 (@멘션 대상 확인용, 엔티티 로딩 없음) */
+    @Query("SELECT m.user.id FROM ChatRoomMember m WHERE m.chatRoom.id = :chatRoomId")
+    List<Long> findUserIdsByChatRoomId(@Param("chatRoomId") Long chatRoomId);
+
     /** 특정 채팅방의 멤버 수를 COUNT 쿼리로 조회 (전체 로딩 방지) */
     @Query("SELECT COUNT(m) FROM ChatRoomMember m WHERE m.chatRoom.id = :chatRoomId")
     int countByChatRoomId(@Param("chatRoomId") Long chatRoomId);
@@ -3,10 +3,21 @@ package com.messenger.chat.service;
 import com.messenger.infrastructure.redis.RedisCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * ============================================================
@@ -14,21 +25,35 @@ import java.util.stream.Collectors;
  * ============================================================
  *
  * 【역할】
- * Redis SET 자료구조를 사용하여 현재 온라인인 사용자를 관리합니다.
+ * heartbeat(주기적 갱신) + TTL 방식으로 현재 온라인인 사용자를 관리합니다.
  *
  * 【Redis 구조】
- * Key: "online:users" (SET 타입)
- * Value: "user:42", "user:17", "user:5" ...
+ * Key: "presence:online" (SORTED SET)
+ *   member = "42" (사용자 ID), score = 마지막 heartbeat 시각 (epoch millis)
+ * Key: "presence:sessions:{userId}" (SORTED SET, 키 TTL 적용)
+ *   member = WebSocket 세션 ID, score = 마지막 heartbeat 시각
  *
- * SET 자료구조의 특징:
- * - 중복 불가: 같은 사용자를 여러 번 추가해도 하나만 저장
- * - O(1) 조회: 특정 사용자의 온라인 여부를 즉시 확인
- * - 전체 조회: 현재 온라인인 모든 사용자 목록을 한번에 가져올 수 있음
+ * 【왜 SET 대신 SORTED SET + TTL인가?】
+ * 기존 SET 방식은 서버 노드가 비정상 종료되면 disconnect 이벤트가 발생하지 않아
+ * 해당 노드의 사용자가 영원히 "온라인"으로 남았습니다.
+ * 이제 각 노드가 자신이 보유한 세션을 주기적으로 갱신(heartbeat)하고,
+ * 갱신이 TTL 이상 멈춘 사용자는 온라인으로 간주하지 않습니다.
+ *
+ * 【다중 세션】
+ * 같은 사용자가 탭/기기를 여러 개 열면 세션이 여러 개 생깁니다.
+ * 세션 ZSET의 유효 멤버 수가 0이 될 때만 오프라인으로 전환합니다.
  *
  * 【호출 시점】
- * - setOnline():  WebSocket 연결 시 (WebSocketEventListener에서 호출)
- * - setOffline(): WebSocket 연결 해제 시
- * - isOnline():   채팅방 멤버 목록에서 온라인 상태 표시 시
+ * - connect():    WebSocket 연결 시 (WebSocketEventListener에서 호출)
+ * - disconnect(): WebSocket 연결 해제 시
+ * - refreshLocalSessions(): 이 노드가 보유한 세션의 heartbeat 갱신 (@Scheduled)
+ * - sweepExpired(): heartbeat가 끊긴 사용자 정리 + 오프라인 전파 (@Scheduled)
+ * - isOnline():   단일 사용자의 온라인 상태 확인 시
+ * - getOnlineStatuses(): 친구 목록/채팅방 멤버 목록처럼 여러 명을 한 번에 확인할 때
+ *
+ * 【상태 변경 전파】
+ * 온라인/오프라인 "전환"이 일어난 경우에만 PresenceFanoutService에 넘겨
+ * 친구들에게 배치로 전송합니다. (DB의 users.status는 더 이상 갱신하지 않음)
  * ============================================================
  */
 @Slf4j
@@ -37,39 +62,77 @@ import java.util.stream.Collectors;
 public class ChatPresenceService {
 
     private final RedisCacheService redisCacheService;
+    private final PresenceFanoutService presenceFanoutService;
+
+    /** 온라인 사용자 ZSET 키 (score = 마지막 heartbeat 시각) */
+    private static final String ONLINE_USERS_KEY = "presence:online";
+
+    /** 사용자별 세션 ZSET 키 접두사 */
+    private static final String SESSIONS_KEY_PREFIX = "presence:sessions:";
 
-    /** Redis에서 온라인 사용자 목록을 저장하는 SET의 키 */
-    private static final String ONLINE_USERS_KEY = "online:users";
+    /** heartbeat가 이 시간 이상 끊기면 오프라인으로 간주 */
+    @Value("${app.presence.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /** 이 노드에 연결된 WebSocket 세션 (세션 ID → 사용자 ID), heartbeat 갱신 대상 */
+    private final ConcurrentMap<String, Long> localSessions = new ConcurrentHashMap<>();
 
     /**
-     * 사용자를 온라인으로 등록합니다.
+     * WebSocket 세션 연결을 등록합니다.
+     * 사용자의 첫 세션이면 온라인 전환을 친구들에게 전파합니다.
      *
-     * @param userId 사용자 ID
+     * @param userId    사용자 ID
+     * @param sessionId WebSocket 세션 ID
      */
-    public void setOnline(Long userId) {
-        redisCacheService.addToSet(ONLINE_USERS_KEY, "user:" + userId);
-        log.info("[접속 상태] 온라인 등록 - 사용자ID={}", userId);
+    public void connect(Long userId, String sessionId) {
+        localSessions.put(sessionId, userId);
+        long now = System.currentTimeMillis();
+        try {
+            touchSession(userId, sessionId, now);
+            boolean becameOnline = redisCacheService.addToSortedSet(ONLINE_USERS_KEY, userId.toString(), now);
+            if (becameOnline) {
+                presenceFanoutService.enqueue(userId, true);
+            }
+            log.info("[접속 상태] 세션 연결 - 사용자ID={}, 세션ID={}, 온라인전환={}", userId, sessionId, becameOnline);
+        } catch (Exception e) {
+            log.warn("[presence] connect failed. userId={}, sessionId={}, reason={}", userId, sessionId, e.getMessage());
+        }
     }
 
     /**
-     * 사용자를 오프라인으로 변경합니다.
+     * WebSocket 세션 해제를 처리합니다.
+     * 남은 유효 세션이 없으면 오프라인으로 전환하고 친구들에게 전파합니다.
      *
-     * @param userId 사용자 ID
+     * @param userId    사용자 ID
+     * @param sessionId WebSocket 세션 ID
      */
-    public void setOffline(Long userId) {
-        redisCacheService.removeFromSet(ONLINE_USERS_KEY, "user:" + userId);
-        log.info("[접속 상태] 오프라인 변경 - 사용자ID={}", userId);
+    public void disconnect(Long userId, String sessionId) {
+        localSessions.remove(sessionId);
+        try {
+            String sessionsKey = SESSIONS_KEY_PREFIX + userId;
+            redisCacheService.removeFromSortedSet(sessionsKey, sessionId);
+            // 다른 노드가 죽으면서 남긴 세션은 유효 세션으로 세지 않음
+            redisCacheService.removeSortedSetRangeByScore(sessionsKey, 0, expiryThreshold());
+
+            if (redisCacheService.getSortedSetSize(sessionsKey) == 0) {
+                markOffline(userId);
+            }
+            log.info("[접속 상태] 세션 해제 - 사용자ID={}, 세션ID={}", userId, sessionId);
+        } catch (Exception e) {
+            log.warn("[presence] disconnect failed. userId={}, sessionId={}, reason={}", userId, sessionId, e.getMessage());
+        }
     }
 
     /**
      * 특정 사용자가 현재 온라인인지 확인합니다.
      *
      * @param userId 사용자 ID
-     * @return true면 온라인, false면 오프라인
+     * @return true면 온라인 (TTL 안에 heartbeat가 있었음), false면 오프라인
      */
     public boolean isOnline(Long userId) {
         try {
-            return redisCacheService.isSetMember(ONLINE_USERS_KEY, "user:" + userId);
+            Double lastSeen = redisCacheService.getSortedSetScore(ONLINE_USERS_KEY, userId.toString());
+            return lastSeen != null && lastSeen > expiryThreshold();
         } catch (Exception e) {
             // Redis 오류가 친구 목록 API 전체 실패로 번지지 않도록 오프라인으로 처리
             log.warn("[presence] online check failed. userId={}, reason={}", userId, e.getMessage());
@@ -77,19 +140,135 @@ public class ChatPresenceService {
         }
     }
 
+    /**
+     * 여러 사용자의 온라인 상태를 한 번의 Redis 호출(ZMSCORE)로 조회합니다.
+     *
+     * 【왜 필요한가?】
+     * isOnline()을 사용자마다 호출하면 친구/멤버 수만큼 Redis 왕복이 발생합니다.
+     * 수백 명 규모의 목록도 왕복 1회로 처리하기 위해 멤버 score를 한꺼번에 가져옵니다.
+     *
+     * @param userIds 조회할 사용자 ID 목록
+     * @return 사용자 ID → 온라인 여부 (Redis 오류 시 모두 false)
+     */
+    public Map<Long, Boolean> getOnlineStatuses(Collection<Long> userIds) {
+        try {
+            return lookupOnlineStatuses(userIds);
+        } catch (Exception e) {
+            log.warn("[presence] bulk online check failed. count={}, reason={}", userIds.size(), e.getMessage());
+            Map<Long, Boolean> statuses = new HashMap<>();
+            userIds.forEach(id -> statuses.put(id, false));
+            return statuses;
+        }
+    }
+
+    /**
+     * getOnlineStatuses()와 같지만 Redis 오류를 그대로 던집니다.
+     * 조회 실패를 "오프라인"과 구분해야 하는 호출자(알림 전송 등)가 사용합니다.
+     *
+     * @param userIds 조회할 사용자 ID 목록
+     * @return 사용자 ID → 온라인 여부
+     */
+    public Map<Long, Boolean> lookupOnlineStatuses(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(userIds));
+        Map<Long, Boolean> statuses = new HashMap<>();
+        if (ids.isEmpty()) {
+            return statuses;
+        }
+        List<String> members = ids.stream().map(String::valueOf).toList();
+        List<Double> scores = redisCacheService.getSortedSetScores(ONLINE_USERS_KEY, members);
+        double threshold = expiryThreshold();
+        for (int i = 0; i < ids.size(); i++) {
+            Double lastSeen = scores.get(i);
+            statuses.put(ids.get(i), lastSeen != null && lastSeen > threshold);
+        }
+        return statuses;
+    }
+
     /**
      * 현재 온라인인 모든 사용자 ID 목록을 조회합니다.
+     * 전체 온라인 사용자를 가져오므로 디버그/관리 용도로만 사용하고,
+     * 특정 사용자 집합의 상태는 getOnlineStatuses()를 사용하세요.
      *
      * @return 온라인 사용자 ID Set
      */
     public Set<Long> getOnlineUserIds() {
-        Set<Object> members = redisCacheService.getSetMembers(ONLINE_USERS_KEY);
+        Set<Object> members = redisCacheService.getSortedSetRangeByScore(
+                ONLINE_USERS_KEY, expiryThreshold(), Double.MAX_VALUE);
         if (members == null) return Set.of();
 
-        return members.stream()
-                .map(Object::toString)
-                .filter(s -> s.startsWith("user:"))
-                .map(s -> Long.parseLong(s.substring(5)))  // "user:42" → 42
-                .collect(Collectors.toSet());
+        Set<Long> userIds = new HashSet<>();
+        for (Object member : members) {
+            userIds.add(Long.parseLong(member.toString()));
+        }
+        return userIds;
+    }
+
+    /**
+     * 【heartbeat 갱신】
+     * 이 노드에 연결된 모든 세션의 마지막 접속 시각을 갱신합니다.
+     * 노드가 죽으면 갱신이 멈추므로, TTL 이후 해당 사용자들은 자동으로 오프라인이 됩니다.
+     *
+     * 갱신이 늦어(GC 멈춤, Redis 지연 등) 다른 노드가 이미 오프라인으로 정리한 사용자는
+     * 온라인 목록에 다시 추가되므로, 이때 온라인 전환을 다시 전파합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.presence.heartbeat-interval-ms:20000}")
+    public void refreshLocalSessions() {
+        if (localSessions.isEmpty()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        try {
+            for (Map.Entry<String, Long> entry : localSessions.entrySet()) {
+                Long userId = entry.getValue();
+                touchSession(userId, entry.getKey(), now);
+                if (redisCacheService.addToSortedSet(ONLINE_USERS_KEY, userId.toString(), now)) {
+                    presenceFanoutService.enqueue(userId, true);
+                    log.info("[접속 상태] 만료 정리 후 heartbeat로 다시 온라인 - 사용자ID={}", userId);
+                }
+            }
+            log.debug("[presence] heartbeat 갱신 - 로컬 세션 수={}", localSessions.size());
+        } catch (Exception e) {
+            log.warn("[presence] heartbeat refresh failed. reason={}", e.getMessage());
+        }
+    }
+
+    /**
+     * 【만료 사용자 정리】
+     * heartbeat가 TTL 이상 끊긴 사용자를 온라인 목록에서 제거하고 오프라인을 전파합니다.
+     * 여러 노드가 동시에 실행해도 ZREM에 성공한 노드만 전파하므로 중복 전송되지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.presence.heartbeat-interval-ms:20000}")
+    public void sweepExpired() {
+        try {
+            Set<Object> expired = redisCacheService.getSortedSetRangeByScore(ONLINE_USERS_KEY, 0, expiryThreshold());
+            if (expired == null || expired.isEmpty()) {
+                return;
+            }
+            for (Object member : expired) {
+                markOffline(Long.parseLong(member.toString()));
+            }
+            log.info("[presence] heartbeat 만료 정리 - 대상 사용자 수={}", expired.size());
+        } catch (Exception e) {
+            log.warn("[presence] sweep failed. reason={}", e.getMessage());
+        }
+    }
+
+    private void touchSession(Long userId, String sessionId, long now) {
+        String sessionsKey = SESSIONS_KEY_PREFIX + userId;
+        redisCacheService.addToSortedSet(sessionsKey, sessionId, now);
+        redisCacheService.expire(sessionsKey, Duration.ofSeconds(ttlSeconds));
+    }
+
+    private void markOffline(Long userId) {
+        boolean removed = redisCacheService.removeFromSortedSet(ONLINE_USERS_KEY, userId.toString());
+        if (removed) {
+            presenceFanoutService.enqueue(userId, false);
+            log.info("[접속 상태] 오프라인 전환 - 사용자ID={}", userId);
+        }
+    }
+
+    /** 이 시각(epoch millis) 이전에 갱신된 heartbeat는 만료된 것으로 봅니다. */
+    private double expiryThreshold() {
+        return System.currentTimeMillis() - ttlSeconds * 1000;
     }
 }
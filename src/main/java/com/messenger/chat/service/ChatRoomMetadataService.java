@@ -0,0 +1,101 @@
+package com.messenger.chat.service;
+
+import com.messenger.chat.entity.ChatRoom;
+import com.messenger.chat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ============================================================
+ * ChatRoomMetadataService - 채팅방 이름 조회 (일괄 조회 + 메모리 캐시)
+ * ============================================================
+ *
+ * 【역할】
+ * 업무일지 생성처럼 여러 채팅방의 이름이 한꺼번에 필요한 곳에서 사용합니다.
+ *
+ * 【기존 방식의 문제】
+ * 채팅방마다 chatRoomRepository.findById()를 호출
+ * → 사용자 1명 × 채팅방 N개 = N번 쿼리, 야간 일괄 생성이면 수천 번
+ *
+ * 【동작 방식】
+ * 1. 캐시(채팅방 ID → 이름)에 있는 이름은 그대로 사용
+ * 2. 캐시에 없는 ID만 모아 findAllById()로 한 번에 조회 (IN 쿼리 1회) 후 캐시에 저장
+ * 3. ChatRoomService가 채팅방 생성 시 put(), 삭제 시 evict()로 캐시를 갱신
+ *
+ * 【캐시 범위】
+ * 노드별 메모리 캐시입니다. 채팅방 이름은 생성 후 바뀌지 않으므로
+ * 다른 노드에서 삭제된 채팅방의 이름이 잠시 남아 있어도 업무일지 표시에는 문제가 없습니다.
+ * 최대 크기(max-size)를 넘으면 캐시를 비우고 다시 채웁니다.
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomMetadataService {
+
+    private final ChatRoomRepository chatRoomRepository;
+
+    /** 캐시에 보관할 최대 채팅방 수 */
+    @Value("${app.chat.room-cache.max-size:10000}")
+    private int maxSize;
+
+    private final ConcurrentMap<Long, String> roomNames = new ConcurrentHashMap<>();
+
+    /**
+     * 여러 채팅방의 이름을 조회합니다.
+     *
+     * @param roomIds 채팅방 ID 목록
+     * @return 채팅방 ID → 이름 (존재하지 않는 채팅방은 포함되지 않음)
+     */
+    public Map<Long, String> getRoomNames(Collection<Long> roomIds) {
+        Map<Long, String> result = new HashMap<>();
+        List<Long> misses = new ArrayList<>();
+        for (Long roomId : roomIds) {
+            String name = roomNames.get(roomId);
+            if (name != null) {
+                result.put(roomId, name);
+            } else {
+                misses.add(roomId);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            for (ChatRoom room : chatRoomRepository.findAllById(misses)) {
+                result.put(room.getId(), room.getName());
+                cache(room.getId(), room.getName());
+            }
+            log.debug("[채팅방 이름 조회] 요청={}개, 캐시 미스={}개", roomIds.size(), misses.size());
+        }
+        return result;
+    }
+
+    /** 새로 생성된 채팅방을 캐시에 등록합니다. */
+    public void put(ChatRoom room) {
+        cache(room.getId(), room.getName());
+    }
+
+    /** 삭제된 채팅방을 캐시에서 제거합니다. */
+    public void evict(Long roomId) {
+        roomNames.remove(roomId);
+    }
+
+    private void cache(Long roomId, String name) {
+        if (roomId == null || name == null) {
+            return;
+        }
+        if (roomNames.size() >= maxSize) {
+            roomNames.clear();
+        }
+        roomNames.put(roomId, name);
+    }
+}
@@ -24,6 +24,7 @@ import com.messenger.chat.dto.ChatRoomMemberResponse;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -41,6 +42,8 @@ public class ChatRoomService {
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
+    private final ChatPresenceService chatPresenceService;
+    private final ChatRoomMetadataService chatRoomMetadataService;
 
     private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
 
@@ -59,6 +62,7 @@ public class ChatRoomService {
                 .roomType(roomType)
                 .build();
         ChatRoom savedRoom = chatRoomRepository.save(chatRoom);
+        chatRoomMetadataService.put(savedRoom);
 
         User creator = userRepository.findById(creatorId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
@@ -213,6 +217,7 @@ public class ChatRoomService {
                 .roomType(RoomType.DIRECT)
                 .build();
         ChatRoom savedRoom = chatRoomRepository.save(chatRoom);
+        chatRoomMetadataService.put(savedRoom);
 
         addMemberToRoom(savedRoom, currentUser);
         addMemberToRoom(savedRoom, targetUser);
@@ -241,8 +246,12 @@ public class ChatRoomService {
      */
     public List<ChatRoomMemberResponse> getRoomMembers(Long roomId) {
         List<ChatRoomMember> members = chatRoomMemberRepository.findByChatRoomId(roomId);
+        // 멤버 전원의 접속 상태를 Redis 왕복 1회로 조회
+        Map<Long, Boolean> onlineStatuses = chatPresenceService.getOnlineStatuses(
+                members.stream().map(m -> m.getUser().getId()).collect(Collectors.toList()));
         return members.stream()
-                .map(ChatRoomMemberResponse::from)
+                .map(m -> ChatRoomMemberResponse.from(m,
+                        onlineStatuses.getOrDefault(m.getUser().getId(), false)))
                 .collect(Collectors.toList());
     }
 
@@ -292,6 +301,7 @@ public class ChatRoomService {
         List<ChatRoomMember> remaining = chatRoomMemberRepository.findByChatRoomId(roomId);
         if (remaining.isEmpty()) {
             chatRoomRepository.deleteById(roomId);
+            chatRoomMetadataService.evict(roomId);
             log.info("[채팅방 삭제] 채팅방ID={} - 멤버 없음", roomId);
         }
     }
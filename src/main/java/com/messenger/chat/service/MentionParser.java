@@ -0,0 +1,75 @@
+package com.messenger.chat.service;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * ============================================================
+ * MentionParser - 메시지 본문에서 @멘션 추출
+ * ============================================================
+ *
+ * 【규칙】
+ * - '@'가 문장 시작 또는 공백/기호 뒤에 올 때만 멘션으로 봅니다. (이메일 "kim@test.com"은 제외)
+ * - '@' 뒤의 글자/숫자/'_'/'.'/'-'를 아이디로 읽고, 끝에 붙은 '.'/'-'는 문장부호로 보고 뗍니다.
+ * - "@all", "@here"는 채팅방 전체/접속 중인 멤버를 뜻하는 특수 멘션입니다. (ALL, HERE로 반환)
+ *
+ * 【성능】
+ * 본문을 앞에서부터 한 번만 훑습니다. '@'가 없으면 객체를 만들지 않습니다.
+ * ============================================================
+ */
+final class MentionParser {
+
+    static final String ALL = "all";
+    static final String HERE = "here";
+
+    /** 아이디 최대 길이 (회원가입 검증과 동일) */
+    private static final int MAX_USERNAME_LENGTH = 50;
+
+    private MentionParser() {
+    }
+
+    /**
+     * @param content 메시지 본문
+     * @return 멘션된 아이디 (등장 순서, 중복 제거). 특수 멘션은 ALL/HERE. 없으면 빈 Set
+     */
+    static Set<String> parse(CharSequence content) {
+        if (content == null) {
+            return Set.of();
+        }
+        Set<String> tokens = null;
+        int length = content.length();
+        int i = 0;
+        while (i < length) {
+            if (content.charAt(i) != '@' || (i > 0 && isUsernameChar(content.charAt(i - 1)))) {
+                i++;
+                continue;
+            }
+            int start = i + 1;
+            int end = start;
+            while (end < length && end - start < MAX_USERNAME_LENGTH && isUsernameChar(content.charAt(end))) {
+                end++;
+            }
+            int tokenEnd = end;
+            while (tokenEnd > start && isTrailingPunctuation(content.charAt(tokenEnd - 1))) {
+                tokenEnd--;
+            }
+            if (tokenEnd > start) {
+                if (tokens == null) {
+                    tokens = new LinkedHashSet<>();
+                }
+                String token = content.subSequence(start, tokenEnd).toString();
+                tokens.add(ALL.equalsIgnoreCase(token) ? ALL : HERE.equalsIgnoreCase(token) ? HERE : token);
+            }
+            i = Math.max(end, i + 1);
+        }
+        return tokens != null ? tokens : Set.of();
+    }
+
+    private static boolean isUsernameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '.' || c == '-';
+    }
+
+    private static boolean isTrailingPunctuation(char c) {
+        return c == '.' || c == '-';
+    }
+}
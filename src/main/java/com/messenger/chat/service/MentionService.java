@@ -0,0 +1,162 @@
+package com.messenger.chat.service;
+
+import com.messenger.chat.repository.ChatRoomMemberRepository;
+import com.messenger.infrastructure.sharding.ShardKeyHolder;
+import com.messenger.notification.entity.NotificationType;
+import com.messenger.notification.service.NotificationService;
+import com.messenger.user.service.UsernameIndexService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * ============================================================
+ * MentionService - @멘션 해석 + 멘션 알림 발송
+ * ============================================================
+ *
+ * 【처리 흐름】 (ChatMessageConsumer가 메시지 저장 전후로 호출)
+ * 1. resolve(): 본문을 한 번 훑어 @아이디 / @all / @here 추출 (MentionParser)
+ *    → '@' 멘션이 없으면 여기서 끝 (DB/Redis 조회 없음)
+ * 2. 아이디 → 사용자 ID: UsernameIndexService 캐시 (미스만 IN 쿼리 1회)
+ * 3. 채팅방 멤버 ID 조회 1회 → 멤버가 아닌 사용자는 제외
+ *    - @all:  채팅방 멤버 전체
+ *    - @here: 지금 접속 중인 멤버 (온라인 상태는 Redis 1회 일괄 조회)
+ * 4. 보낸 사람 제외 + 사용자별 중복 제거 (@all과 @kim이 함께 있어도 알림 1건)
+ * 5. notify(): NotificationService로 한꺼번에 제출 (writer가 일괄 저장)
+ *
+ * 【ChatMessage.mentions 컬럼】
+ * 아이디로 직접 멘션된 사용자 ID만 "1,5,12" 형태로 저장합니다.
+ * @all/@here 대상은 채팅방 멤버로부터 다시 알 수 있으므로 저장하지 않습니다. (컬럼 500자 제한)
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MentionService {
+
+    /** ChatMessage.mentions 컬럼 길이 */
+    private static final int MENTIONS_COLUMN_LENGTH = 500;
+
+    /** 알림에 보여줄 본문 미리보기 길이 */
+    private static final int PREVIEW_LENGTH = 50;
+
+    private final UsernameIndexService usernameIndexService;
+    private final ChatRoomMemberRepository chatRoomMemberRepository;
+    private final ChatPresenceService chatPresenceService;
+    private final NotificationService notificationService;
+
+    /**
+     * 멘션 해석 결과.
+     *
+     * @param recipients 알림을 받을 사용자 ID (중복 없음, 보낸 사람 제외)
+     * @param column     ChatMessage.mentions에 저장할 값 (없으면 null)
+     */
+    public record Mentions(Set<Long> recipients, String column) {
+        public static final Mentions NONE = new Mentions(Set.of(), null);
+
+        public boolean isEmpty() {
+            return recipients.isEmpty();
+        }
+    }
+
+    /**
+     * 메시지 본문의 멘션을 알림 대상 사용자로 바꿉니다.
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param senderId   보낸 사람 ID
+     * @param content    메시지 본문
+     */
+    public Mentions resolve(Long chatRoomId, Long senderId, String content) {
+        Set<String> tokens = MentionParser.parse(content);
+        if (tokens.isEmpty()) {
+            return Mentions.NONE;
+        }
+
+        boolean all = tokens.remove(MentionParser.ALL);
+        boolean here = tokens.remove(MentionParser.HERE);
+        Map<String, Long> named = tokens.isEmpty() ? Map.of() : usernameIndexService.resolve(tokens);
+        if (!all && !here && named.isEmpty()) {
+            return Mentions.NONE;
+        }
+
+        List<Long> memberIds;
+        try {
+            ShardKeyHolder.set(0L);
+            memberIds = chatRoomMemberRepository.findUserIdsByChatRoomId(chatRoomId);
+        } finally {
+            ShardKeyHolder.clear();
+        }
+        Set<Long> members = new HashSet<>(memberIds);
+
+        Set<Long> direct = new LinkedHashSet<>();
+        for (String username : tokens) {
+            Long userId = named.get(username);
+            if (userId != null && members.contains(userId) && !userId.equals(senderId)) {
+                direct.add(userId);
+            }
+        }
+
+        Set<Long> recipients = new LinkedHashSet<>(direct);
+        if (all) {
+            recipients.addAll(memberIds);
+        } else if (here) {
+            chatPresenceService.getOnlineStatuses(memberIds).forEach((userId, online) -> {
+                if (online) {
+                    recipients.add(userId);
+                }
+            });
+        }
+        recipients.remove(senderId);
+
+        log.debug("[멘션] 채팅방ID={}, 직접={}명, all={}, here={}, 알림 대상={}명",
+                chatRoomId, direct.size(), all, here, recipients.size());
+        return new Mentions(recipients, toColumn(direct));
+    }
+
+    /**
+     * 멘션된 사용자들에게 알림을 보냅니다. (사용자당 1건)
+     *
+     * @param mentions   resolve() 결과
+     * @param chatRoomId 채팅방 ID (알림 클릭 시 이동)
+     * @param senderName 보낸 사람 이름
+     * @param content    메시지 본문
+     */
+    public void notify(Mentions mentions, Long chatRoomId, String senderName, String content) {
+        if (mentions.isEmpty()) {
+            return;
+        }
+        String message = senderName + "님이 회원님을 멘션했습니다: " + preview(content);
+        notificationService.createAndSendAll(new ArrayList<>(mentions.recipients()),
+                NotificationType.MENTION, message, chatRoomId);
+    }
+
+    private String toColumn(Set<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return null;
+        }
+        StringJoiner joiner = new StringJoiner(",");
+        for (Long userId : userIds) {
+            String next = userId.toString();
+            if (joiner.length() + next.length() + 1 > MENTIONS_COLUMN_LENGTH) {
+                break;
+            }
+            joiner.add(next);
+        }
+        return joiner.toString();
+    }
+
+    private String preview(String content) {
+        if (content == null) {
+            return "";
+        }
+        return content.length() > PREVIEW_LENGTH ? content.substring(0, PREVIEW_LENGTH) + "…" : content;
+    }
+}
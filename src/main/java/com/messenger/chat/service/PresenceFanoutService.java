@@ -0,0 +1,120 @@
+package com.messenger.chat.service;
+
+import com.messenger.chat.dto.PresenceChangeResponse;
+import com.messenger.infrastructure.websocket.UserMessageRouter;
+import com.messenger.infrastructure.websocket.UserMessageRouter.UserMessage;
+import com.messenger.user.entity.Friendship;
+import com.messenger.user.entity.FriendshipStatus;
+import com.messenger.user.repository.FriendshipRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ============================================================
+ * PresenceFanoutService - 접속 상태 변경 배치 전파 서비스
+ * ============================================================
+ *
+ * 【역할】
+ * ChatPresenceService가 감지한 온라인/오프라인 전환을 모아 두었다가,
+ * 일정 주기마다 "관심 있는 친구"에게만 STOMP로 한 번에 전송합니다.
+ *
+ * 【배치 처리 흐름】
+ * 1. enqueue(userId, online): 변경 사항을 버퍼에 기록 (같은 사용자는 마지막 상태로 덮어씀)
+ * 2. flush() (@Scheduled): 버퍼를 비우고, 변경된 사용자들의 친구 관계를 쿼리 1번으로 조회
+ * 3. 수신자(친구)별로 변경 목록을 묶어 /user/queue/presence 로 1프레임씩 전송
+ *    (UserMessageRouter가 수신자의 세션이 있는 노드로 전달)
+ *
+ * 【왜 배치로 보내는가?】
+ * 재접속/새로고침이 몰리면 connect → disconnect → connect 가 짧은 시간에 반복됩니다.
+ * 버퍼에서 마지막 상태만 남기므로 친구들은 실제 변경만 받고,
+ * 친구 관계 조회도 변경 1건마다가 아니라 주기마다 1번만 실행됩니다.
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresenceFanoutService {
+
+    private final FriendshipRepository friendshipRepository;
+    private final UserMessageRouter userMessageRouter;
+
+    /** 아직 전파되지 않은 변경 사항 (userId → online 여부, 마지막 상태 우선) */
+    private final ConcurrentMap<Long, Boolean> pendingChanges = new ConcurrentHashMap<>();
+
+    /**
+     * 접속 상태 변경을 전파 대기열에 추가합니다.
+     *
+     * @param userId 상태가 바뀐 사용자 ID
+     * @param online true면 온라인 전환, false면 오프라인 전환
+     */
+    public void enqueue(Long userId, boolean online) {
+        pendingChanges.put(userId, online);
+    }
+
+    /**
+     * 대기 중인 변경 사항을 친구들에게 한 번에 전송합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.presence.fanout-interval-ms:1000}")
+    public void flush() {
+        if (pendingChanges.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Boolean> batch = new HashMap<>();
+        for (Long userId : pendingChanges.keySet()) {
+            Boolean online = pendingChanges.remove(userId);
+            if (online != null) {
+                batch.put(userId, online);
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Friendship> friendships = friendshipRepository
+                    .findAllByUserIdsAndStatus(batch.keySet(), FriendshipStatus.ACCEPTED);
+
+            // 수신자(친구) ID → 전달할 변경 목록
+            Map<Long, List<PresenceChangeResponse>> changesByRecipient = new HashMap<>();
+            for (Friendship f : friendships) {
+                Long requesterId = f.getRequester().getId();
+                Long receiverId = f.getReceiver().getId();
+                collect(changesByRecipient, batch, requesterId, receiverId);
+                collect(changesByRecipient, batch, receiverId, requesterId);
+            }
+
+            List<UserMessage> messages = new ArrayList<>(changesByRecipient.size());
+            changesByRecipient.forEach((recipientId, changes) -> messages.add(new UserMessage(recipientId, changes)));
+            userMessageRouter.sendToUsers("/queue/presence", messages);
+
+            log.debug("[presence] fan-out 완료 - 변경 사용자 수={}, 수신자 수={}",
+                    batch.size(), changesByRecipient.size());
+        } catch (Exception e) {
+            // 전파 실패가 접속 처리 자체를 막으면 안 되므로 로그만 남김 (친구 목록 조회 시 최신 상태로 보정됨)
+            log.warn("[presence] fan-out failed. changedUsers={}, reason={}", batch.keySet(), e.getMessage());
+        }
+    }
+
+    private void collect(Map<Long, List<PresenceChangeResponse>> changesByRecipient,
+                         Map<Long, Boolean> batch, Long changedUserId, Long recipientId) {
+        Boolean online = batch.get(changedUserId);
+        if (online == null) {
+            return;
+        }
+        changesByRecipient.computeIfAbsent(recipientId, id -> new ArrayList<>())
+                .add(PresenceChangeResponse.builder()
+                        .userId(changedUserId)
+                        .online(online)
+                        .build());
+    }
+}
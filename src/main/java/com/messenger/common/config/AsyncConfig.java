@@ -13,6 +13,7 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.lang.reflect.Method;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
 @Configuration
@@ -29,12 +30,10 @@ public class AsyncConfig implements AsyncConfigurer {
     @Value("${async.report.queue:20}")
     private int reportQueue;
 
-    @Value("${async.notification.core:1}")
-    private int notificationCore;
-    @Value("${async.notification.max:2}")
-    private int notificationMax;
-    @Value("${async.notification.queue:50}")
-    private int notificationQueue;
+    @Value("${async.report-batch.concurrency:4}")
+    private int reportBatchConcurrency;
+    @Value("${async.report-batch.queue:8}")
+    private int reportBatchQueue;
 
     @Bean("reportGenerationExecutor")
     public Executor reportGenerationExecutor() {
@@ -49,15 +48,41 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
-    @Bean("notificationExecutor")
-    public Executor notificationExecutor() {
+    /**
+     * 업무일지 일괄 생성(ReportBatchJob) 전용 스레드풀.
+     * 큐가 가득 차면 작업을 버리지 않고 제출한 스레드가 직접 실행합니다(CallerRunsPolicy).
+     * → 제출 속도가 자연스럽게 처리 속도에 맞춰지는 back-pressure
+     * ReportScheduler가 일괄 작업 자체(조정 + 묶음 완료 대기)도 이 풀에 넘기므로
+     * 그 스레드가 자기 하위 작업을 기다리며 풀을 독점하지 않도록 최소 2개를 둡니다.
+     */
+    @Bean("reportBatchExecutor")
+    public Executor reportBatchExecutor() {
+        int concurrency = Math.max(2, reportBatchConcurrency);
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(notificationCore);
-        executor.setMaxPoolSize(notificationMax);
-        executor.setQueueCapacity(notificationQueue);
-        executor.setThreadNamePrefix("notification-");
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(reportBatchQueue);
+        executor.setThreadNamePrefix("report-batch-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
         executor.setWaitForTasksToCompleteOnShutdown(true);
-        executor.setAwaitTerminationSeconds(30);
+        executor.setAwaitTerminationSeconds(60);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 알림 정리(NotificationRetentionJob) 전용 스레드.
+     * 묶음 사이에 쉬면서 오래 도는 작업이라 스케줄러 스레드 대신 여기서 실행합니다.
+     * 한 번에 하나만 실행하므로 스레드 1개, 대기 없음 (진행 중이면 작업 쪽에서 건너뜀)
+     */
+    @Bean("notificationRetentionExecutor")
+    public Executor notificationRetentionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("notification-retention-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
         executor.initialize();
         return executor;
     }
@@ -22,6 +22,11 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  *
  * 【주의사항】
  * @EnableScheduling이 없으면 @Scheduled 어노테이션이 동작하지 않습니다.
+ *
+ * 【스케줄러 스레드】
+ * 모든 @Scheduled 작업은 spring.task.scheduling.pool.size개 스레드를 나눠 씁니다. (application.yml)
+ * 접속 상태 heartbeat, 채팅 프레임 flush처럼 짧고 자주 도는 작업이 많으므로
+ * 오래 걸리는 작업(업무일지 일괄 생성, 알림 정리, 메일 발송)은 자기 스레드/스레드풀에 넘기고 바로 반환해야 합니다.
  * ============================================================
  */
 @Configuration
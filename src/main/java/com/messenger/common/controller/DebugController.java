@@ -2,7 +2,13 @@ package com.messenger.common.controller;
 
 import com.messenger.common.dto.ApiResponse;
 import com.messenger.infrastructure.redis.RedisCacheService;
+import com.messenger.infrastructure.mail.MailQueueWorker;
 import com.messenger.infrastructure.sharding.ShardKeyHolder;
+import com.messenger.infrastructure.websocket.SlowConsumerGuard;
+import com.messenger.infrastructure.websocket.UserMessageRouter;
+import com.messenger.notification.service.NotificationWriter;
+import com.messenger.notification.service.NotificationRetentionJob;
+import com.messenger.notification.service.NotificationDigestService;
 import com.messenger.chat.service.ChatPresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,6 +34,12 @@ import java.util.Set;
  * GET /debug/shard/route/{id}    → 채팅방 ID로 샤드 라우팅 확인
  * GET /debug/redis/presence      → 현재 온라인 사용자 목록
  * GET /debug/thread-pools        → 스레드풀 상태 확인
+ * GET /debug/websocket/backpressure → 느린 클라이언트 정책 실행 횟수
+ * GET /debug/websocket/routing      → 노드 간 사용자 메시지 전달 현황 (로컬/원격/경로 없음 건수)
+ * GET /debug/notifications/writer → 알림 일괄 저장 현황 (대기/저장/버림/실패 건수)
+ * GET /debug/notifications/retention → 알림 정리 현황 (압축/삭제 건수, 마지막 소요 시간)
+ * GET /debug/notifications/digest → 오프라인 요약 메일 현황 (대기 등록/발송/실패 건수)
+ * GET /debug/mail/queue           → 메일 큐 현황 (대기/발송/재시도/속도 제한 건수, 발송 시간 히스토그램)
  *
  * 【보안 주의】
  * @Profile("!prod") 으로 운영 환경에서 자동 비활성화됩니다.
@@ -43,6 +55,12 @@ public class DebugController {
 
     private final RedisCacheService redisCacheService;
     private final ChatPresenceService chatPresenceService;
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final UserMessageRouter userMessageRouter;
+    private final NotificationWriter notificationWriter;
+    private final NotificationRetentionJob notificationRetentionJob;
+    private final NotificationDigestService notificationDigestService;
+    private final MailQueueWorker mailQueueWorker;
 
     /**
      * 【헬스 체크】
@@ -130,6 +148,64 @@ public class DebugController {
         return ResponseEntity.ok(ApiResponse.success("스레드풀 상태 정보", result));
     }
 
+    /**
+     * 【WebSocket backpressure 상태 확인】
+     * 느린 클라이언트에 대해 각 정책(프레임 버림, 재동기화, 연결 종료)이 몇 번 실행됐는지 확인합니다.
+     */
+    @GetMapping("/websocket/backpressure")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> checkBackpressure() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("trackedSessions", slowConsumerGuard.getTrackedSessionCount());
+        result.put("actionCounts", slowConsumerGuard.getActionCounts());
+
+        return ResponseEntity.ok(ApiResponse.success("WebSocket backpressure 정보", result));
+    }
+
+    /**
+     * 【알림 writer 상태 확인】
+     * 대기열에 쌓인 알림 수와 저장/버림/실패 누적 건수를 확인합니다.
+     */
+    @GetMapping("/notifications/writer")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> checkNotificationWriter() {
+        return ResponseEntity.ok(ApiResponse.success("알림 writer 정보", notificationWriter.getStats()));
+    }
+
+    /**
+     * 【알림 정리 작업 상태 확인】
+     * 압축한 묶음/행 수와 보존 기간이 지나 삭제한 건수를 확인합니다.
+     */
+    @GetMapping("/notifications/retention")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> checkNotificationRetention() {
+        return ResponseEntity.ok(ApiResponse.success("알림 정리 작업 정보", notificationRetentionJob.getStats()));
+    }
+
+    /**
+     * 【알림 요약 메일 상태 확인】
+     * 오프라인이라 전송을 건너뛴 수신자 등록 수와 요약 메일 발송/실패 건수를 확인합니다.
+     */
+    @GetMapping("/notifications/digest")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> checkNotificationDigest() {
+        return ResponseEntity.ok(ApiResponse.success("알림 요약 메일 정보", notificationDigestService.getStats()));
+    }
+
+    /**
+     * 【메일 큐 상태 확인】
+     * 발송 대기 건수, 누적 발송/재시도/포기/속도 제한 건수와 발송 시간 분포를 확인합니다.
+     */
+    @GetMapping("/mail/queue")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> checkMailQueue() {
+        return ResponseEntity.ok(ApiResponse.success("메일 큐 정보", mailQueueWorker.getStats()));
+    }
+
+    /**
+     * 【WebSocket 사용자 메시지 라우팅 상태 확인】
+     * 이 노드 ID, 이 노드에 연결된 사용자 수, 로컬 전달/다른 노드로 보낸/받은 메시지 수를 확인합니다.
+     */
+    @GetMapping("/websocket/routing")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> checkWebSocketRouting() {
+        return ResponseEntity.ok(ApiResponse.success("WebSocket 라우팅 정보", userMessageRouter.getStats()));
+    }
+
     /**
      * 【ShardKeyHolder 테스트】
      * ThreadLocal 기반 ShardKeyHolder의 동작을 테스트합니다.
@@ -22,6 +22,7 @@ public enum ErrorCode {
     EMAIL_VERIFICATION_INVALID(400, "이메일 인증 코드가 올바르지 않습니다."),
     EMAIL_VERIFICATION_EXPIRED(400, "이메일 인증 코드가 만료되었습니다."),
     EMAIL_VERIFICATION_SEND_FAILED(500, "인증 메일 전송에 실패했습니다."),
+    EMAIL_VERIFICATION_TOO_MANY_ATTEMPTS(429, "인증 시도 횟수를 초과했습니다. 잠시 후 다시 시도해주세요."),
 
     TEAM_NOT_FOUND(404, "존재하지 않는 팀입니다."),
     ALREADY_TEAM_MEMBER(409, "이미 해당 팀의 멤버입니다."),
@@ -37,6 +38,7 @@ public enum ErrorCode {
     REPORT_ALREADY_EXISTS(409, "해당 날짜의 업무일지가 이미 존재합니다."),
     REPORT_GENERATION_FAILED(500, "업무일지 생성에 실패했습니다."),
     REPORTS_DISABLED(410, "Reports 기능은 현재 비활성화되어 있습니다."),
+    CATEGORY_RULE_NOT_FOUND(404, "존재하지 않는 업무 분류 규칙입니다."),
 
     ALREADY_FRIENDS(409, "이미 친구 관계입니다."),
     FRIEND_REQUEST_ALREADY_SENT(409, "이미 친구 요청을 보냈습니다."),
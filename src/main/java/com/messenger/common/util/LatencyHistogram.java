@@ -0,0 +1,59 @@
+package com.messenger.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ============================================================
+ * LatencyHistogram - 고정 구간 지연 시간 히스토그램
+ * ============================================================
+ *
+ * 구간 경계(ms)마다 LongAdder 하나 → 여러 스레드가 동시에 기록해도 락이 없습니다.
+ * snapshot()은 "le_{경계}ms" → 그 경계 이하로 끝난 누적 건수 형태입니다. (마지막은 le_inf)
+ * ============================================================
+ */
+public class LatencyHistogram {
+
+    private final long[] boundsMs;
+    private final LongAdder[] buckets;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMs = new LongAdder();
+
+    /**
+     * @param boundsMs 오름차순 구간 경계 (예: 50, 100, 250, 500, 1000)
+     */
+    public LatencyHistogram(long... boundsMs) {
+        this.boundsMs = boundsMs.clone();
+        this.buckets = new LongAdder[boundsMs.length + 1];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    public void record(long elapsedMs) {
+        int index = 0;
+        while (index < boundsMs.length && elapsedMs > boundsMs[index]) {
+            index++;
+        }
+        buckets[index].increment();
+        count.increment();
+        sumMs.add(elapsedMs);
+    }
+
+    /** 구간별 누적 건수 + count + 평균(ms) */
+    public Map<String, Long> snapshot() {
+        Map<String, Long> snapshot = new LinkedHashMap<>();
+        long cumulative = 0;
+        for (int i = 0; i < boundsMs.length; i++) {
+            cumulative += buckets[i].sum();
+            snapshot.put("le_" + boundsMs[i] + "ms", cumulative);
+        }
+        cumulative += buckets[boundsMs.length].sum();
+        snapshot.put("le_inf", cumulative);
+        long total = count.sum();
+        snapshot.put("count", total);
+        snapshot.put("avgMs", total == 0 ? 0 : sumMs.sum() / total);
+        return snapshot;
+    }
+}
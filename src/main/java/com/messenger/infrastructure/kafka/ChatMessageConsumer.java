@@ -5,13 +5,15 @@ import com.messenger.chat.entity.ChatMessage;
 import com.messenger.chat.entity.MessageType;
 import com.messenger.chat.event.ChatMessageEvent;
 import com.messenger.chat.repository.ChatMessageRepository;
+import com.messenger.chat.service.MentionService;
 import com.messenger.infrastructure.sharding.ShardKeyHolder;
+import com.messenger.infrastructure.websocket.ChatFrameCoalescer;
+import com.messenger.report.service.ReportAggregateService;
 import com.messenger.user.entity.User;
 import com.messenger.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Component;
 import tools.jackson.databind.ObjectMapper;
 
@@ -24,7 +26,9 @@ public class ChatMessageConsumer {
 
     private final ChatMessageRepository chatMessageRepository;
     private final UserRepository userRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final ChatFrameCoalescer chatFrameCoalescer;
+    private final ReportAggregateService reportAggregateService;
+    private final MentionService mentionService;
     private final ObjectMapper objectMapper;
 
     @KafkaListener(
@@ -45,6 +49,9 @@ public class ChatMessageConsumer {
     // Reusable processing path for both Kafka listener and direct fallback.
     public void consumeEvent(ChatMessageEvent event) {
         try {
+            // 멘션은 서버에서 본문으로부터 다시 해석 ('@'가 없으면 조회 없이 통과)
+            MentionService.Mentions mentions = resolveMentions(event);
+
             ChatMessage chatMessage = ChatMessage.builder()
                     .chatRoomId(event.getChatRoomId())
                     .senderId(event.getSenderId())
@@ -54,7 +61,7 @@ public class ChatMessageConsumer {
                     .attachmentName(event.getAttachmentName())
                     .attachmentContentType(event.getAttachmentContentType())
                     .attachmentSize(event.getAttachmentSize())
-                    .mentions(event.getMentions())
+                    .mentions(mentions.column())
                     .sentAt(event.getSentAt() != null ? event.getSentAt() : LocalDateTime.now())
                     .build();
 
@@ -66,6 +73,13 @@ public class ChatMessageConsumer {
                 ShardKeyHolder.clear();
             }
 
+            // 업무일지 집계 갱신 (실패해도 메시지 전달은 계속)
+            try {
+                reportAggregateService.record(savedMessage, event.getEventId());
+            } catch (Exception e) {
+                log.warn("[report-aggregate-failed] messageId={}, error={}", savedMessage.getId(), e.getMessage());
+            }
+
             String senderProfileImage;
             try {
                 ShardKeyHolder.set(0L);
@@ -83,13 +97,29 @@ public class ChatMessageConsumer {
                     0
             );
 
-            messagingTemplate.convertAndSend("/topic/chatroom/" + event.getChatRoomId(), response);
+            chatFrameCoalescer.send(event.getChatRoomId(), response);
+
+            try {
+                mentionService.notify(mentions, event.getChatRoomId(), event.getSenderName(), event.getContent());
+            } catch (Exception e) {
+                log.warn("[mention-notify-failed] messageId={}, error={}", savedMessage.getId(), e.getMessage());
+            }
         } catch (Exception e) {
             log.error("[message-process-failed] roomId={}, senderId={}, error={}",
                     event.getChatRoomId(), event.getSenderId(), e.getMessage(), e);
         }
     }
 
+    private MentionService.Mentions resolveMentions(ChatMessageEvent event) {
+        try {
+            return mentionService.resolve(event.getChatRoomId(), event.getSenderId(), event.getContent());
+        } catch (Exception e) {
+            // 멘션 해석 실패가 메시지 전달을 막으면 안 됨
+            log.warn("[mention-resolve-failed] roomId={}, error={}", event.getChatRoomId(), e.getMessage());
+            return MentionService.Mentions.NONE;
+        }
+    }
+
     private MessageType parseMessageType(String type) {
         try {
             return type != null ? MessageType.valueOf(type) : MessageType.TEXT;
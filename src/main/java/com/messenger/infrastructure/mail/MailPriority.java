@@ -0,0 +1,13 @@
+package com.messenger.infrastructure.mail;
+
+/**
+ * 발송 우선순위. 숫자(ordinal)가 작을수록 먼저 발송합니다.
+ * DB에는 순서 비교를 위해 ordinal로 저장하므로 새 값은 맨 뒤가 아니라 의도한 순서 자리에 넣고 마이그레이션하세요.
+ */
+public enum MailPriority {
+    /** 사용자가 기다리는 메일 (인증 코드 등) - 대량 메일이 쌓여 있어도 먼저 발송 */
+    TRANSACTIONAL,
+
+    /** 몰아서 보내는 메일 (알림 요약 등) */
+    BULK
+}
@@ -0,0 +1,59 @@
+package com.messenger.infrastructure.mail;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * ============================================================
+ * MailQueueService - 메일 발송 요청 (DB 큐에 넣기만 함)
+ * ============================================================
+ *
+ * 【왜 필요한가】
+ * SMTP 연결/인증은 느리고(타임아웃 10초), 요청 스레드에서 직접 보내면
+ * 메일 서버가 느려질 때 Tomcat 스레드(최대 40개)가 모두 묶일 수 있습니다.
+ * 요청 스레드는 outbound_mails에 한 행을 넣고 바로 응답하고, 발송은 MailQueueWorker가 합니다.
+ *
+ * 호출한 쪽의 트랜잭션 안에서 저장되므로, 그 트랜잭션이 롤백되면 메일도 나가지 않습니다.
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MailQueueService {
+
+    private final OutboundMailRepository outboundMailRepository;
+    private final MailSender mailSender;
+
+    /**
+     * 사용자가 기다리는 메일(TRANSACTIONAL)을 발송 대기열에 넣습니다.
+     *
+     * @return 대기열에 넣었으면 true, 메일 발송이 설정되지 않은 환경(app.mail.provider=none)이면 false
+     */
+    public boolean enqueue(String to, String subject, String text) {
+        return enqueue(to, subject, text, MailPriority.TRANSACTIONAL);
+    }
+
+    /**
+     * 우선순위를 지정해 메일을 발송 대기열에 넣습니다.
+     * 대량 메일(알림 요약 등)은 BULK로 넣어 인증 메일보다 뒤에 발송되게 합니다.
+     *
+     * @return 대기열에 넣었으면 true, 메일 발송이 설정되지 않은 환경(app.mail.provider=none)이면 false
+     */
+    public boolean enqueue(String to, String subject, String text, MailPriority priority) {
+        if (!mailSender.isConfigured()) {
+            return false;
+        }
+        OutboundMail mail = outboundMailRepository.save(OutboundMail.builder()
+                .recipient(to)
+                .subject(subject)
+                .body(text)
+                .priority(priority)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        log.debug("[메일 큐] 등록 - id={}, to={}, 우선순위={}", mail.getId(), to, priority);
+        return true;
+    }
+}
@@ -0,0 +1,260 @@
+package com.messenger.infrastructure.mail;
+
+import com.messenger.common.util.LatencyHistogram;
+import com.messenger.infrastructure.redis.RateLimiterService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ============================================================
+ * MailQueueWorker - 메일 큐 발송 워커
+ * ============================================================
+ *
+ * 【구조】 mail-dispatcher 스레드 1개 → mail-sender 스레드풀(workers개)
+ * 1. dispatcher가 발송할 PENDING 메일 ID를 우선순위(인증 메일 먼저) → 오래된 순으로 batch-size개 읽음
+ * 2. 조건부 UPDATE로 SENDING 선점 (다른 서버가 먼저 가져간 메일은 건너뜀 → 중복 발송 없음)
+ * 3. 선점한 메일만 토큰 버킷(app.mail.rate-limit.{provider})에서 토큰을 얻어 sender 풀에 넘김
+ *    → 다른 서버와 경합해 놓친 메일 때문에 토큰을 낭비하지 않음
+ *    → 토큰이 없으면 선점을 되돌리고(PENDING) 이번 회차는 멈춤, 나머지는 다음 회차에 (제공자 한도 초과 방지)
+ * 4. sender가 MailSender로 발송 → SENT 기록, 발송 시간을 히스토그램에 기록
+ *    실패하면 지수 백오프(backoff-base-ms × 2^(시도-1), 최대 backoff-max-ms, ±20% 흔들기)로 재시도,
+ *    max-attempts번 실패하면 FAILED
+ * 5. 1분마다: 노드가 죽어 SENDING으로 남은 메일을 되돌리고, 오래된 SENT 메일 삭제
+ *
+ * sender 풀의 대기열이 차면 dispatcher가 직접 보내며 자연스럽게 속도가 줄어듭니다.
+ * 메일 발송이 설정되지 않았으면(app.mail.provider=none) 시작하지 않습니다.
+ * ============================================================
+ */
+@Slf4j
+@Component
+public class MailQueueWorker {
+
+    private static final long MAINTENANCE_INTERVAL_MS = 60_000;
+    private static final long STALE_SENDING_MINUTES = 5;
+
+    private final OutboundMailRepository outboundMailRepository;
+    private final MailSender mailSender;
+    private final RateLimiterService rateLimiterService;
+    private final int workers;
+    private final int batchSize;
+    private final long pollIntervalMs;
+    private final int maxAttempts;
+    private final long backoffBaseMs;
+    private final long backoffMaxMs;
+    private final int sentRetentionDays;
+    private final double permitsPerSecond;
+    private final int burst;
+
+    private final LatencyHistogram sendLatency = new LatencyHistogram(50, 100, 250, 500, 1000, 2500, 5000, 10000);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder retried = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    private volatile boolean running;
+    private Thread dispatcherThread;
+    private ExecutorService senderPool;
+
+    public MailQueueWorker(OutboundMailRepository outboundMailRepository,
+                           MailSender mailSender,
+                           RateLimiterService rateLimiterService,
+                           Environment environment,
+                           @Value("${app.mail.queue.workers:2}") int workers,
+                           @Value("${app.mail.queue.batch-size:20}") int batchSize,
+                           @Value("${app.mail.queue.poll-interval-ms:1000}") long pollIntervalMs,
+                           @Value("${app.mail.queue.max-attempts:6}") int maxAttempts,
+                           @Value("${app.mail.queue.backoff-base-ms:30000}") long backoffBaseMs,
+                           @Value("${app.mail.queue.backoff-max-ms:3600000}") long backoffMaxMs,
+                           @Value("${app.mail.queue.sent-retention-days:7}") int sentRetentionDays) {
+        this.outboundMailRepository = outboundMailRepository;
+        this.mailSender = mailSender;
+        this.rateLimiterService = rateLimiterService;
+        this.workers = workers;
+        this.batchSize = batchSize;
+        this.pollIntervalMs = pollIntervalMs;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMs = backoffBaseMs;
+        this.backoffMaxMs = backoffMaxMs;
+        this.sentRetentionDays = sentRetentionDays;
+        String prefix = "app.mail.rate-limit." + mailSender.provider();
+        this.permitsPerSecond = environment.getProperty(prefix + ".per-second", Double.class, 1.0);
+        this.burst = environment.getProperty(prefix + ".burst", Integer.class, 1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running || !mailSender.isConfigured()) {
+            return;
+        }
+        running = true;
+        AtomicInteger sequence = new AtomicInteger();
+        senderPool = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(workers),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mail-sender-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        dispatcherThread = new Thread(this::dispatchLoop, "mail-dispatcher");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+        log.info("[메일 큐 시작] 제공자={}, 발송 스레드={}, 초당 {}건(버스트 {})",
+                mailSender.provider(), workers, permitsPerSecond, burst);
+    }
+
+    @PreDestroy
+    public void stop() {
+        Thread thread;
+        ExecutorService pool;
+        synchronized (this) {
+            running = false;
+            thread = dispatcherThread;
+            pool = senderPool;
+        }
+        if (thread != null) {
+            thread.interrupt();
+        }
+        if (pool != null) {
+            pool.shutdown();
+            try {
+                // 발송 중인 메일은 끝까지 기다림. 못 끝낸 메일은 SENDING으로 남았다가 다음 기동 때 되돌려짐
+                pool.awaitTermination(15, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** 처리 현황 + 발송 시간 히스토그램 (디버그 API용) */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("provider", mailSender.provider());
+        stats.put("pending", outboundMailRepository.countByStatus(OutboundMailStatus.PENDING));
+        stats.put("sent", sent.sum());
+        stats.put("retried", retried.sum());
+        stats.put("failed", failed.sum());
+        stats.put("throttled", throttled.sum());
+        stats.put("sendLatency", sendLatency.snapshot());
+        return stats;
+    }
+
+    private void dispatchLoop() {
+        long lastMaintenance = 0;
+        while (running) {
+            try {
+                long now = System.currentTimeMillis();
+                if (now - lastMaintenance >= MAINTENANCE_INTERVAL_MS) {
+                    maintain();
+                    lastMaintenance = now;
+                }
+                if (dispatchOnce() == 0) {
+                    Thread.sleep(pollIntervalMs);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+            } catch (Exception e) {
+                log.error("[메일 큐] 발송 회차 실패 - 에러={}", e.getMessage(), e);
+                try {
+                    Thread.sleep(pollIntervalMs);
+                } catch (InterruptedException interrupted) {
+                    running = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * 발송할 메일을 선점해 sender 풀에 넘깁니다.
+     *
+     * @return 넘긴 메일 수 (0이면 dispatcher가 poll-interval-ms만큼 쉼)
+     */
+    int dispatchOnce() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = outboundMailRepository.findReadyIds(OutboundMailStatus.PENDING, now,
+                PageRequest.of(0, batchSize));
+        int dispatched = 0;
+        for (Long id : ids) {
+            if (outboundMailRepository.claim(id, OutboundMailStatus.PENDING, OutboundMailStatus.SENDING, now) == 0) {
+                continue;
+            }
+            if (!rateLimiterService.tryAcquire("mail:" + mailSender.provider(), permitsPerSecond, burst)) {
+                throttled.increment();
+                outboundMailRepository.claim(id, OutboundMailStatus.SENDING, OutboundMailStatus.PENDING, now);
+                break;
+            }
+            dispatched++;
+            if (senderPool != null) {
+                senderPool.execute(() -> deliver(id));
+            } else {
+                deliver(id);
+            }
+        }
+        return dispatched;
+    }
+
+    /** 선점한 메일 1건을 발송하고 결과를 기록합니다. */
+    void deliver(Long id) {
+        OutboundMail mail = outboundMailRepository.findById(id).orElse(null);
+        if (mail == null) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try {
+            mailSender.send(mail.getRecipient(), mail.getSubject(), mail.getBody());
+            sendLatency.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+            mail.markSent(LocalDateTime.now());
+            sent.increment();
+        } catch (Exception e) {
+            int attempt = mail.getAttempts() + 1;
+            LocalDateTime nextAttemptAt = attempt >= maxAttempts ? null
+                    : LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs(attempt)));
+            mail.markFailed(e.getMessage(), nextAttemptAt);
+            if (nextAttemptAt == null) {
+                failed.increment();
+                log.error("[메일 발송 포기] id={}, to={}, 시도={}회, 에러={}", id, mail.getRecipient(), attempt, e.getMessage());
+            } else {
+                retried.increment();
+                log.warn("[메일 발송 실패] id={}, to={}, 시도={}회, 다음 시도={}, 에러={}",
+                        id, mail.getRecipient(), attempt, nextAttemptAt, e.getMessage());
+            }
+        }
+        outboundMailRepository.save(mail);
+    }
+
+    /** 지수 백오프 + ±20% 흔들기 (여러 메일이 같은 순간에 몰려 재시도하지 않도록) */
+    long backoffMs(int attempt) {
+        long delay = backoffBaseMs << Math.min(attempt - 1, 20);
+        delay = Math.min(delay, backoffMaxMs);
+        double jitter = 0.8 + ThreadLocalRandom.current().nextDouble() * 0.4;
+        return (long) (delay * jitter);
+    }
+
+    private void maintain() {
+        LocalDateTime now = LocalDateTime.now();
+        int released = outboundMailRepository.releaseStale(OutboundMailStatus.SENDING, OutboundMailStatus.PENDING,
+                now.minusMinutes(STALE_SENDING_MINUTES));
+        int purged = outboundMailRepository.deleteSentBefore(OutboundMailStatus.SENT, now.minusDays(sentRetentionDays));
+        if (released > 0 || purged > 0) {
+            log.info("[메일 큐 정리] 되돌린 발송 중 메일={}건, 삭제한 발송 완료 메일={}건", released, purged);
+        }
+    }
+}
@@ -3,7 +3,18 @@ package com.messenger.infrastructure.mail;
 /**
  * 이메일 발송 추상화 인터페이스.
  * SMTP(JavaMailSender) 또는 HTTP API(Resend) 구현체를 교체 가능.
+ *
+ * 요청 스레드에서 직접 호출하지 말고 MailQueueService.enqueue()를 사용하세요.
+ * (발송은 MailQueueWorker가 속도 제한/재시도와 함께 처리)
  */
 public interface MailSender {
     void send(String to, String subject, String text);
+
+    /** 속도 제한 설정 이름 (app.mail.rate-limit.{provider}.*) */
+    String provider();
+
+    /** 실제로 메일을 보낼 수 있는 구현체인지 (미설정이면 false) */
+    default boolean isConfigured() {
+        return true;
+    }
 }
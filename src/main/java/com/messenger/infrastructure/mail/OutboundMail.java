@@ -0,0 +1,94 @@
+package com.messenger.infrastructure.mail;
+
+import com.messenger.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ============================================================
+ * OutboundMail - 발송 대기 메일 (DB 큐)
+ * ============================================================
+ *
+ * 요청 스레드는 이 행을 저장만 하고 바로 응답합니다.
+ * MailQueueWorker가 PENDING 행을 가져가 발송하고 결과를 기록합니다.
+ * 서버가 재시작되어도 행이 남아 있으므로 메일이 사라지지 않습니다.
+ *
+ * 인덱스 idx_outbound_mails_status_priority (status, priority, next_attempt_at): 발송할 메일 조회 (우선순위 순)
+ * ============================================================
+ */
+@Entity
+@Table(name = "outbound_mails",
+       indexes = @Index(name = "idx_outbound_mails_status_priority", columnList = "status, priority, next_attempt_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class OutboundMail extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 120)
+    private String recipient;
+
+    @Column(nullable = false, length = 200)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private OutboundMailStatus status = OutboundMailStatus.PENDING;
+
+    /** 발송 우선순위 (ordinal 저장 → 작은 값 먼저) */
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    @Builder.Default
+    private MailPriority priority = MailPriority.TRANSACTIONAL;
+
+    /** 지금까지 발송을 시도한 횟수 */
+    @Column(nullable = false)
+    private int attempts;
+
+    /** 이 시각 이후에 발송 (재시도 백오프) */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /** 워커가 가져간 시각 (오래된 SENDING은 되돌림) */
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public void markSent(LocalDateTime now) {
+        this.status = OutboundMailStatus.SENT;
+        this.attempts++;
+        this.sentAt = now;
+        this.lastError = null;
+    }
+
+    /**
+     * 발송 실패를 기록합니다.
+     *
+     * @param nextAttemptAt 다음 시도 시각 (null이면 포기)
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (nextAttemptAt == null) {
+            this.status = OutboundMailStatus.FAILED;
+        } else {
+            this.status = OutboundMailStatus.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
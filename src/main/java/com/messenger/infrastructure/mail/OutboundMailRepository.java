@@ -0,0 +1,61 @@
+package com.messenger.infrastructure.mail;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ============================================================
+ * OutboundMailRepository - 발송 대기 메일 데이터 접근
+ * ============================================================
+ *
+ * 【발송 순서】 우선순위(TRANSACTIONAL → BULK) 다음 오래된 순
+ * 알림 요약 메일이 수천 건 쌓여 있어도 인증 코드 메일은 다음 회차에 바로 나갑니다.
+ *
+ * 【여러 서버에서 같은 메일을 두 번 보내지 않는 방법】
+ * findReadyIds()로 후보를 읽고, claim()의 조건부 UPDATE(status=PENDING일 때만)가
+ * 1건을 바꾼 노드만 발송합니다.
+ * ============================================================
+ */
+public interface OutboundMailRepository extends JpaRepository<OutboundMail, Long> {
+
+    /** 지금 발송할 수 있는 메일 ID (우선순위 → 오래된 순) */
+    @Query("SELECT m.id FROM OutboundMail m WHERE m.status = :status AND m.nextAttemptAt <= :now " +
+           "ORDER BY m.priority, m.id")
+    List<Long> findReadyIds(@Param("status") OutboundMailStatus status, @Param("now") LocalDateTime now,
+                            Pageable pageable);
+
+    /**
+     * 메일 상태를 from → to로 바꿉니다. (선점: PENDING → SENDING, 선점 취소: SENDING → PENDING)
+     * 다른 노드가 먼저 바꿨으면 0을 반환합니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboundMail m SET m.status = :to, m.claimedAt = :now " +
+           "WHERE m.id = :id AND m.status = :from")
+    int claim(@Param("id") Long id, @Param("from") OutboundMailStatus from, @Param("to") OutboundMailStatus to,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * 발송 중에 노드가 죽어 before 이전부터 SENDING으로 남은 메일을 다시 대기로 돌립니다.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE OutboundMail m SET m.status = :to WHERE m.status = :from AND m.claimedAt < :before")
+    int releaseStale(@Param("from") OutboundMailStatus from, @Param("to") OutboundMailStatus to,
+                     @Param("before") LocalDateTime before);
+
+    /** 오래된 발송 완료 메일 삭제 (큐 테이블이 계속 커지지 않도록) */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM OutboundMail m WHERE m.status = :status AND m.sentAt < :before")
+    int deleteSentBefore(@Param("status") OutboundMailStatus status, @Param("before") LocalDateTime before);
+
+    long countByStatus(OutboundMailStatus status);
+}
@@ -0,0 +1,18 @@
+package com.messenger.infrastructure.mail;
+
+/**
+ * 발송 대기 메일 상태.
+ */
+public enum OutboundMailStatus {
+    /** 발송 대기 (next_attempt_at 이후 발송) */
+    PENDING,
+
+    /** 워커가 가져가 발송 중 */
+    SENDING,
+
+    /** 발송 완료 */
+    SENT,
+
+    /** 재시도 횟수 초과로 포기 */
+    FAILED
+}
@@ -54,4 +54,9 @@ public class ResendMailSender implements MailSender {
             throw new RuntimeException("Resend mail send failed: " + e.getMessage(), e);
         }
     }
+
+    @Override
+    public String provider() {
+        return "resend";
+    }
 }
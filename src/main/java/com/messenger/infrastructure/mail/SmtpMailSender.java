@@ -1,23 +1,154 @@
 package com.messenger.infrastructure.mail;
 
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.LinkedBlockingDeque;
+
 /**
- * 이메일 미설정 시 사용되는 기본 구현체.
- * 실제 메일을 보내지 않고 로그만 남김.
+ * SMTP(spring.mail.*)를 사용한 이메일 발송.
+ *
+ * 【연결 재사용】
+ * 메일마다 TCP/TLS 연결 + EHLO + AUTH를 새로 하지 않도록 연결된 Transport를 보관해 다시 씁니다.
+ * - 빌려 쓸 때 끊겼거나 idle-timeout-ms 이상 쉬었으면 닫고 새로 연결
+ * - 다 쓰면 보관 (최대 pool-size개, 넘으면 닫음)
+ * - 전송 중 서버가 연결을 끊었으면 한 번만 새 연결로 다시 보냄
+ *   (연결이 살아 있는데 실패한 경우는 수신자 거부 등이므로 그대로 실패 → 큐가 재시도)
+ * - 예상하지 못한 예외(RuntimeException)로 끝나도 finally에서 연결을 닫음
  *
- * 활성화 조건: app.mail.provider=none (기본값)
+ * 활성화 조건: app.mail.provider=smtp
+ * 로컬 테스트: docker-compose의 mailpit(SMTP 1025, 웹 8025) + SPRING_MAIL_PROTOCOL=smtp, SPRING_MAIL_SMTP_AUTH=false
  */
 @Slf4j
 @Component
-@ConditionalOnProperty(name = "app.mail.provider", havingValue = "none", matchIfMissing = true)
+@ConditionalOnProperty(name = "app.mail.provider", havingValue = "smtp")
 public class SmtpMailSender implements MailSender {
 
+    private record PooledTransport(Transport transport, long lastUsedAt) {
+    }
+
+    private final JavaMailSenderImpl javaMailSender;
+    private final String from;
+    private final int poolSize;
+    private final long idleTimeoutMs;
+    private final BlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+
+    public SmtpMailSender(JavaMailSenderImpl javaMailSender,
+                          @Value("${app.mail.from:onboarding@resend.dev}") String from,
+                          @Value("${app.mail.smtp.pool-size:2}") int poolSize,
+                          @Value("${app.mail.smtp.idle-timeout-ms:30000}") long idleTimeoutMs) {
+        this.javaMailSender = javaMailSender;
+        this.from = from;
+        this.poolSize = poolSize;
+        this.idleTimeoutMs = idleTimeoutMs;
+        log.info("[SmtpMailSender] initialized. host={}, port={}, from={}",
+                javaMailSender.getHost(), javaMailSender.getPort(), from);
+    }
+
     @Override
     public void send(String to, String subject, String text) {
-        log.warn("[NoopMailSender] mail provider not configured. to={}, subject={}", to, subject);
-        throw new IllegalStateException("Mail provider is not configured. Set APP_MAIL_PROVIDER=resend");
+        MimeMessage message;
+        try {
+            message = javaMailSender.createMimeMessage();
+            MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+            helper.setFrom(from);
+            helper.setTo(to);
+            helper.setSubject(subject);
+            helper.setText(text, false);
+            message.saveChanges();
+        } catch (MessagingException e) {
+            throw new MailSendException("SMTP message build failed: " + e.getMessage(), e);
+        }
+
+        Transport transport = borrow();
+        boolean reusable = false;
+        try {
+            try {
+                transport.sendMessage(message, message.getAllRecipients());
+            } catch (MessagingException e) {
+                if (transport.isConnected()) {
+                    // 연결은 정상이고 메일만 거부됨 (수신자 거부 등) → 연결은 다시 씀
+                    reusable = true;
+                    throw new MailSendException("SMTP send failed: " + e.getMessage(), e);
+                }
+                // 서버가 idle 연결을 끊은 경우: 새 연결로 한 번만 재시도
+                closeQuietly(transport);
+                transport = borrow();
+                try {
+                    transport.sendMessage(message, message.getAllRecipients());
+                } catch (MessagingException retry) {
+                    throw new MailSendException("SMTP send failed after reconnect: " + retry.getMessage(), retry);
+                }
+            }
+            reusable = true;
+        } finally {
+            // RuntimeException을 포함해 어떤 경우에도 연결을 보관하거나 닫음 (연결 누수 방지)
+            if (reusable) {
+                release(transport);
+            } else {
+                closeQuietly(transport);
+            }
+        }
+        log.info("[SmtpMailSender] sent to={}", to);
+    }
+
+    @Override
+    public String provider() {
+        return "smtp";
+    }
+
+    @PreDestroy
+    public void close() {
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            closeQuietly(pooled.transport());
+        }
+    }
+
+    private Transport borrow() {
+        long now = System.currentTimeMillis();
+        PooledTransport pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            if (pooled.transport().isConnected() && now - pooled.lastUsedAt() < idleTimeoutMs) {
+                return pooled.transport();
+            }
+            closeQuietly(pooled.transport());
+        }
+        try {
+            Transport transport = javaMailSender.getSession().getTransport(javaMailSender.getProtocol());
+            transport.connect(javaMailSender.getHost(), javaMailSender.getPort(),
+                    blankToNull(javaMailSender.getUsername()), blankToNull(javaMailSender.getPassword()));
+            return transport;
+        } catch (MessagingException e) {
+            throw new MailSendException("SMTP connect failed: " + e.getMessage(), e);
+        }
+    }
+
+    private void release(Transport transport) {
+        if (idle.size() >= poolSize || !idle.offerFirst(new PooledTransport(transport, System.currentTimeMillis()))) {
+            closeQuietly(transport);
+        }
+    }
+
+    private void closeQuietly(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            log.debug("[SmtpMailSender] close failed: {}", e.getMessage());
+        }
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
     }
 }
@@ -0,0 +1,87 @@
+package com.messenger.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * ============================================================
+ * DistributedLockService - Redis 기반 임대(lease) 분산 락
+ * ============================================================
+ *
+ * 【역할】
+ * 서버가 여러 대일 때 "클러스터 전체에서 한 노드만" 실행해야 하는 작업을 보호합니다.
+ * (예: 업무일지 일괄 생성 작업의 분배를 한 노드만 수행)
+ *
+ * 【동작 방식】
+ * 1. tryLock(): SET lock:{name} {token} NX PX {lease}
+ *    → 키가 없을 때만 저장되므로 한 노드만 성공, 성공한 노드는 고유 token을 받음
+ * 2. renew():  값이 내 token일 때만 PEXPIRE (Lua로 비교와 연장을 원자적으로 실행)
+ * 3. unlock(): 값이 내 token일 때만 DEL
+ *    → 임대가 만료되어 다른 노드가 락을 가져간 뒤에 내가 지우는 사고를 방지
+ *
+ * 【임대(lease)인 이유】
+ * 락을 잡은 노드가 죽으면 PX 만료 후 자동으로 풀리므로,
+ * 다른 노드가 이어받을 수 있습니다. 긴 작업은 중간중간 renew()로 연장합니다.
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DistributedLockService {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+                    + "return redis.call('DEL', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisCacheService redisCacheService;
+
+    /**
+     * 락 획득을 한 번 시도합니다. (대기하지 않음)
+     *
+     * @param name  락 이름 (예: "report:coordinator:2026-02-09")
+     * @param lease 임대 시간 (이 시간 안에 renew/unlock하지 않으면 자동 해제)
+     * @return 획득했으면 해제/연장에 쓸 token, 다른 노드가 보유 중이면 null
+     */
+    public String tryLock(String name, Duration lease) {
+        String token = UUID.randomUUID().toString();
+        if (redisCacheService.setIfAbsent(KEY_PREFIX + name, token, lease)) {
+            log.debug("[분산 락] 획득 - name={}, lease={}", name, lease);
+            return token;
+        }
+        return null;
+    }
+
+    /**
+     * 보유 중인 락의 임대 시간을 연장합니다.
+     *
+     * @return 아직 내 락이면 true (이미 만료되어 다른 노드가 가져갔으면 false)
+     */
+    public boolean renew(String name, String token, Duration lease) {
+        Long renewed = redisCacheService.executeScript(RENEW_SCRIPT, List.of(KEY_PREFIX + name),
+                token, String.valueOf(lease.toMillis()));
+        return renewed != null && renewed > 0;
+    }
+
+    /**
+     * 보유 중인 락을 해제합니다. 내 token이 아니면 아무것도 하지 않습니다.
+     */
+    public void unlock(String name, String token) {
+        Long deleted = redisCacheService.executeScript(UNLOCK_SCRIPT, List.of(KEY_PREFIX + name), token);
+        log.debug("[분산 락] 해제 - name={}, released={}", name, deleted != null && deleted > 0);
+    }
+}
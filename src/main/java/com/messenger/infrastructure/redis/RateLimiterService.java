@@ -0,0 +1,68 @@
+package com.messenger.infrastructure.redis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * ============================================================
+ * RateLimiterService - Redis 토큰 버킷 (클러스터 공용 속도 제한)
+ * ============================================================
+ *
+ * 【동작 방식】 키: "ratelimit:{name}" (HASH: tokens, ts)
+ * - 마지막 시각(ts) 이후 흐른 시간 × 초당 허용량만큼 토큰을 채움 (최대 burst개)
+ * - 토큰이 1개 이상이면 1개 쓰고 허용, 없으면 거절
+ * 계산과 갱신을 Lua 한 번으로 실행하므로 여러 서버가 같은 버킷을 나눠 써도 한도를 넘지 않습니다.
+ *
+ * Redis 장애 시에는 허용합니다. (속도 제한 때문에 메일 같은 기능이 멈추지 않도록)
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RateLimiterService {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    private static final RedisScript<Long> TOKEN_BUCKET = new DefaultRedisScript<>(
+            "local rate = tonumber(ARGV[1]) " +
+            "local burst = tonumber(ARGV[2]) " +
+            "local now = tonumber(ARGV[3]) " +
+            "local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(state[1]) " +
+            "local ts = tonumber(state[2]) " +
+            "if tokens == nil then tokens = burst ts = now end " +
+            "tokens = math.min(burst, tokens + math.max(0, now - ts) / 1000 * rate) " +
+            "local allowed = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 allowed = 1 end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(burst / rate * 1000) + 1000) " +
+            "return allowed",
+            Long.class);
+
+    private final RedisCacheService redisCacheService;
+
+    /**
+     * 토큰 1개를 얻습니다. (대기하지 않음)
+     *
+     * @param name             버킷 이름 (예: "mail:smtp")
+     * @param permitsPerSecond 초당 허용량
+     * @param burst            한 번에 몰아 쓸 수 있는 최대 토큰 수
+     * @return 허용이면 true
+     */
+    public boolean tryAcquire(String name, double permitsPerSecond, int burst) {
+        try {
+            Long allowed = redisCacheService.executeScript(TOKEN_BUCKET, List.of(KEY_PREFIX + name),
+                    String.valueOf(permitsPerSecond), String.valueOf(burst),
+                    String.valueOf(System.currentTimeMillis()));
+            return allowed != null && allowed == 1L;
+        } catch (Exception e) {
+            log.warn("[속도 제한] Redis 오류로 허용 처리 - name={}, 에러={}", name, e.getMessage());
+            return true;
+        }
+    }
+}
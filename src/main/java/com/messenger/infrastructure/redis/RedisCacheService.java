@@ -2,10 +2,17 @@ package com.messenger.infrastructure.redis;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -21,8 +28,18 @@ import java.util.concurrent.TimeUnit;
  * 【Redis 키 네이밍 규칙 (이 프로젝트)】
  * - 사용자 프로필:     "user:profile:{userId}"
  * - 채팅방 멤버:       "chatroom:members:{roomId}"
- * - 접속 상태:         "online:users" (SET)
+ * - 접속 상태:         "presence:online" (ZSET, score=마지막 heartbeat 시각)
+ * - 사용자별 세션:     "presence:sessions:{userId}" (ZSET, TTL)
  * - 읽지 않은 메시지:  "chatroom:unread:{roomId}:{userId}"
+ * - 읽지 않은 알림:    "notification:unread:{userId}"
+ * - 알림 요약 메일:    "notification:digest:pending" (SET), "notification:digest:sent:{userId}"
+ * - 속도 제한:         "ratelimit:{name}" (HASH, 토큰 버킷)
+ * - 이메일 인증:       "email:verify:{email}" (HASH, TTL), "email:verify:sends:{email}"
+ * - 분산 락:           "lock:{name}" (SET NX PX, 값 = 보유 노드의 token)
+ * - WebSocket 라우팅:  "ws:nodes:{userId}" (HASH, 필드=세션이 있는 노드 ID, 값=마지막 heartbeat 시각)
+ *                     채널 "ws:route:{nodeId}" (노드별 Pub/Sub)
+ * - 업무일지 작업 큐:  "report:batch:{date}:*"
+ * - 업무일지 집계:    "report:agg:{userId}:{date}" (HASH), "report:agg:seen:{eventId}", "report:agg:since"
  *
  * 【TTL (Time To Live)이란?】
  * 캐시 데이터가 자동으로 삭제되는 시간입니다.
@@ -74,6 +91,31 @@ public class RedisCacheService {
         log.debug("[Redis DEL] key={}", key);
     }
 
+    /**
+     * 키가 없을 때만 값을 저장합니다. (SET key value NX PX)
+     * 분산 락처럼 "여러 노드 중 한 곳만 성공"해야 하는 경우에 사용합니다.
+     *
+     * @return 저장에 성공했으면 true (이미 키가 있으면 false)
+     */
+    public boolean setIfAbsent(String key, String value, Duration timeout) {
+        boolean stored = Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, value, timeout));
+        log.debug("[Redis SET NX] key={}, stored={}, TTL={}", key, stored, timeout);
+        return stored;
+    }
+
+    /**
+     * Lua 스크립트를 실행합니다.
+     * 여러 명령을 원자적으로 묶어야 할 때 사용합니다. (예: 값 비교 후 삭제)
+     *
+     * @param script 실행할 스크립트
+     * @param keys   KEYS 인자
+     * @param args   ARGV 인자 (문자열로 직렬화되므로 String으로 전달)
+     * @return 스크립트 결과
+     */
+    public <T> T executeScript(RedisScript<T> script, List<String> keys, Object... args) {
+        return redisTemplate.execute(script, keys, args);
+    }
+
     /**
      * 특정 키가 존재하는지 확인합니다.
      */
@@ -94,6 +136,17 @@ public class RedisCacheService {
         log.debug("[Redis SADD] key={}, value={}", key, value);
     }
 
+    /**
+     * SET에 여러 값을 한 번에 추가합니다. (SADD 1회)
+     */
+    public void addAllToSet(String key, Collection<String> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(key, values.toArray());
+        log.debug("[Redis SADD] key={}, count={}", key, values.size());
+    }
+
     /**
      * SET에서 값을 제거합니다.
      */
@@ -116,6 +169,182 @@ public class RedisCacheService {
         return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key, value));
     }
 
+    // ===== SORTED SET 자료구조 (heartbeat 기반 접속 상태 관리용) =====
+
+    /**
+     * SORTED SET에 값을 추가하거나 score를 갱신합니다.
+     *
+     * @param key   ZSET 키 (예: "presence:online")
+     * @param value 멤버 (예: "42")
+     * @param score 점수 (예: 마지막 heartbeat 시각 epoch millis)
+     * @return 새로 추가되었으면 true, 기존 멤버의 score만 갱신되었으면 false
+     */
+    public boolean addToSortedSet(String key, String value, double score) {
+        Boolean added = redisTemplate.opsForZSet().add(key, value, score);
+        log.debug("[Redis ZADD] key={}, value={}, score={}", key, value, score);
+        return Boolean.TRUE.equals(added);
+    }
+
+    /**
+     * SORTED SET에서 값을 제거합니다.
+     *
+     * @return 실제로 제거되었으면 true (여러 노드가 동시에 제거할 때 한 곳만 true)
+     */
+    public boolean removeFromSortedSet(String key, String value) {
+        Long removed = redisTemplate.opsForZSet().remove(key, value);
+        log.debug("[Redis ZREM] key={}, value={}", key, value);
+        return removed != null && removed > 0;
+    }
+
+    /**
+     * score 범위에 해당하는 멤버를 조회합니다.
+     */
+    public Set<Object> getSortedSetRangeByScore(String key, double min, double max) {
+        return redisTemplate.opsForZSet().rangeByScore(key, min, max);
+    }
+
+    /**
+     * score 범위에 해당하는 멤버를 삭제합니다. (만료된 세션 정리용)
+     */
+    public void removeSortedSetRangeByScore(String key, double min, double max) {
+        redisTemplate.opsForZSet().removeRangeByScore(key, min, max);
+        log.debug("[Redis ZREMRANGEBYSCORE] key={}, min={}, max={}", key, min, max);
+    }
+
+    /**
+     * 특정 멤버의 score를 조회합니다.
+     *
+     * @return score (멤버가 없으면 null)
+     */
+    public Double getSortedSetScore(String key, String value) {
+        return redisTemplate.opsForZSet().score(key, value);
+    }
+
+    /**
+     * 여러 멤버의 score를 한 번의 ZMSCORE 호출로 조회합니다.
+     * 친구 목록/채팅방 멤버처럼 수백 명의 접속 상태를 한 번에 확인할 때 사용합니다.
+     *
+     * @param values 조회할 멤버 목록
+     * @return values와 같은 순서의 score 목록 (멤버가 없으면 해당 위치는 null)
+     */
+    public List<Double> getSortedSetScores(String key, List<String> values) {
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        List<Double> scores = redisTemplate.opsForZSet().score(key, values.toArray());
+        log.debug("[Redis ZMSCORE] key={}, count={}", key, values.size());
+        return scores != null ? scores : Collections.nCopies(values.size(), null);
+    }
+
+    /**
+     * SORTED SET의 멤버 수를 조회합니다.
+     */
+    public long getSortedSetSize(String key) {
+        Long size = redisTemplate.opsForZSet().zCard(key);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 키에 TTL을 설정합니다.
+     * 갱신이 멈추면 (예: 서버 노드 장애) 키가 자동으로 사라집니다.
+     */
+    public void expire(String key, Duration timeout) {
+        redisTemplate.expire(key, timeout);
+    }
+
+    // ===== HASH 자료구조 (업무일지 실시간 집계용) =====
+
+    /**
+     * HASH의 여러 필드를 한 번의 파이프라인으로 증가시키고 키에 TTL을 설정합니다.
+     * HINCRBY는 원자적이므로 여러 서버 노드가 같은 키에 동시에 더해도 안전합니다.
+     *
+     * @param key     HASH 키 (예: "report:agg:42:2026-02-09")
+     * @param deltas  필드 → 증가량
+     * @param timeout 키 TTL
+     */
+    public void incrementHashFields(String key, Map<String, Long> deltas, Duration timeout) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Map.Entry<String, Long> delta : deltas.entrySet()) {
+                connection.hashCommands().hIncrBy(rawKey, delta.getKey().getBytes(StandardCharsets.UTF_8), delta.getValue());
+            }
+            connection.keyCommands().expire(rawKey, timeout.toSeconds());
+            return null;
+        });
+        log.debug("[Redis HINCRBY] key={}, fields={}", key, deltas.size());
+    }
+
+    /**
+     * HASH의 모든 필드와 값을 조회합니다.
+     */
+    public Map<Object, Object> getHashEntries(String key) {
+        return redisTemplate.opsForHash().entries(key);
+    }
+
+    /**
+     * 여러 HASH 키에 같은 필드/값을 한 번의 파이프라인으로 쓰고 각 키에 TTL을 설정합니다.
+     * (예: 이 노드에 세션이 있는 사용자들의 "사용자 → 노드" 등록 갱신)
+     */
+    public void putHashFieldAll(Collection<String> keys, String field, String value, Duration timeout) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        byte[] rawField = field.getBytes(StandardCharsets.UTF_8);
+        byte[] rawValue = value.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+                connection.hashCommands().hSet(rawKey, rawField, rawValue);
+                connection.keyCommands().pExpire(rawKey, timeout.toMillis());
+            }
+            return null;
+        });
+        log.debug("[Redis HSET] keys={}, field={}", keys.size(), field);
+    }
+
+    /**
+     * HASH에서 필드 하나를 삭제합니다.
+     */
+    public void deleteHashField(String key, String field) {
+        redisTemplate.opsForHash().delete(key, field);
+    }
+
+    /**
+     * 여러 HASH의 전체 필드를 한 번의 파이프라인으로 조회합니다.
+     *
+     * @return keys와 같은 순서의 결과 (없는 키는 빈 Map)
+     */
+    @SuppressWarnings("unchecked")
+    public List<Map<Object, Object>> getHashEntriesAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (String key : keys) {
+                connection.hashCommands().hGetAll(key.getBytes(StandardCharsets.UTF_8));
+            }
+            return null;
+        }, redisTemplate.getHashValueSerializer());
+        return results.stream()
+                .map(result -> result instanceof Map<?, ?> map ? (Map<Object, Object>) map : Map.<Object, Object>of())
+                .toList();
+    }
+
+    // ===== Pub/Sub (노드 간 메시지 전달) =====
+
+    /**
+     * 채널에 메시지를 발행합니다. 구독 중인 노드만 받습니다. (저장되지 않음)
+     *
+     * @param channel 채널 이름 (예: "ws:route:{nodeId}")
+     * @param message 메시지 (JSON 문자열)
+     */
+    public void publish(String channel, String message) {
+        redisTemplate.convertAndSend(channel, message);
+    }
+
     // ===== 카운터 (읽지 않은 메시지 수 관리) =====
 
     /**
@@ -7,6 +7,7 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -20,8 +21,9 @@ import org.springframework.data.redis.serializer.StringRedisSerializer;
  * 【Redis 사용처 (이 프로젝트)】
  * 1. 세션 저장 (Spring Session): 사용자 로그인 상태 유지
  * 2. 캐시: 사용자 프로필, 채팅방 멤버 목록 등 자주 조회하는 데이터
- * 3. 접속 상태: 사용자의 온라인/오프라인 상태 (SET 자료구조)
+ * 3. 접속 상태: 사용자의 온라인/오프라인 상태 (SORTED SET + heartbeat TTL)
  * 4. 읽지 않은 메시지 수: 채팅방별 안 읽은 메시지 카운터
+ * 5. Pub/Sub: 다른 노드에 연결된 사용자에게 WebSocket 메시지 전달 (UserMessageRouter)
  *
  * 【직렬화란?】
  * Java 객체를 Redis에 저장하려면 바이트 배열로 변환해야 합니다.
@@ -82,4 +84,16 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * 【Pub/Sub 구독 컨테이너】
+     * 구독한 채널의 메시지를 받아 등록된 리스너로 넘깁니다.
+     * 채널 구독은 각 리스너가 직접 등록합니다. (예: UserMessageRouter → "ws:route:{nodeId}")
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
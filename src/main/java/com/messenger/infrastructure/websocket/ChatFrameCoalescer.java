@@ -0,0 +1,102 @@
+package com.messenger.infrastructure.websocket;
+
+import com.messenger.chat.dto.ChatMessageResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ============================================================
+ * ChatFrameCoalescer - 채팅방 메시지 프레임 묶음 전송기
+ * ============================================================
+ *
+ * 【역할】
+ * 채팅방으로 브로드캐스트할 메시지를 짧은 시간(window) 동안 모아 두었다가
+ * 하나의 STOMP 프레임(JSON 배열)으로 전송합니다.
+ *
+ * 【왜 필요한가?】
+ * 공지 폭주나 봇 메시지처럼 짧은 시간에 메시지가 몰리면,
+ * 메시지 1건마다 구독자 전원에게 프레임이 1개씩 나갑니다. (메시지 N건 × 구독자 M명)
+ * window 안에 들어온 메시지를 묶으면 구독자 세션마다 프레임 1개로 줄어들어
+ * 프레임 헤더, 소켓 write 호출, 클라이언트 onmessage 호출이 함께 줄어듭니다.
+ *
+ * 【전송 형식】
+ * - window 안에 1건만 있으면: 기존과 같은 단일 객체 {"id":..}
+ * - 2건 이상이면: 배열 [{"id":..}, {"id":..}] (chat.js가 두 형식 모두 처리)
+ *
+ * 【설정】
+ * app.chat.coalesce.enabled=false (기본값) 이면 즉시 전송하여 기존 동작과 동일합니다.
+ * app.chat.coalesce.window-ms 로 묶음 주기를 조절합니다.
+ * ============================================================
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatFrameCoalescer {
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/chatroom/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /** 묶음 전송 활성화 여부 */
+    @Value("${app.chat.coalesce.enabled:false}")
+    private boolean enabled;
+
+    /** 채팅방별 전송 대기 메시지 (도착 순서 유지) */
+    private final ConcurrentMap<Long, List<ChatMessageResponse>> pendingFrames = new ConcurrentHashMap<>();
+
+    /**
+     * 채팅방에 메시지를 브로드캐스트합니다.
+     * 묶음 전송이 꺼져 있으면 즉시 전송하고, 켜져 있으면 다음 flush까지 대기열에 넣습니다.
+     *
+     * @param roomId   채팅방 ID
+     * @param response 전송할 메시지
+     */
+    public void send(Long roomId, ChatMessageResponse response) {
+        if (!enabled) {
+            messagingTemplate.convertAndSend(ROOM_TOPIC_PREFIX + roomId, response);
+            return;
+        }
+        // compute는 키 단위로 원자적이므로 flush의 remove와 경합해도 메시지가 유실되지 않음
+        pendingFrames.compute(roomId, (id, frames) -> {
+            List<ChatMessageResponse> list = frames != null ? frames : new ArrayList<>();
+            list.add(response);
+            return list;
+        });
+    }
+
+    /**
+     * 【묶음 전송】
+     * 대기 중인 메시지를 채팅방별로 한 프레임씩 전송합니다.
+     */
+    @Scheduled(fixedDelayString = "${app.chat.coalesce.window-ms:15}")
+    public void flush() {
+        if (pendingFrames.isEmpty()) {
+            return;
+        }
+        for (Long roomId : pendingFrames.keySet()) {
+            List<ChatMessageResponse> frames = pendingFrames.remove(roomId);
+            if (frames == null || frames.isEmpty()) {
+                continue;
+            }
+            try {
+                Object payload = frames.size() == 1 ? frames.get(0) : frames;
+                messagingTemplate.convertAndSend(ROOM_TOPIC_PREFIX + roomId, payload);
+                if (frames.size() > 1) {
+                    log.debug("[frame-coalesce] roomId={}, messages={}", roomId, frames.size());
+                }
+            } catch (Exception e) {
+                log.error("[frame-coalesce-failed] roomId={}, messages={}, error={}",
+                        roomId, frames.size(), e.getMessage(), e);
+            }
+        }
+    }
+}
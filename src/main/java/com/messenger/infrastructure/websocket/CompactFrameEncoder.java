@@ -0,0 +1,155 @@
+package com.messenger.infrastructure.websocket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * ============================================================
+ * CompactFrameEncoder - 채팅 프레임 압축 인코딩 (연결 단위 선택)
+ * ============================================================
+ *
+ * 【역할】
+ * 채팅방 메시지 프레임(ChatMessageResponse JSON)을 필드명 축약 + null 생략 형태로 바꿔 보냅니다.
+ * 긴 필드명과 첨부파일 관련 null 필드가 빠지면서 프레임 크기가 크게 줄어듭니다.
+ *
+ * 【협상 방식】
+ * 클라이언트가 STOMP CONNECT 프레임에 "x-encoding: compact" 헤더를 보내면
+ * 해당 연결(세션)만 압축 형식을 받습니다. 헤더가 없는 클라이언트는 기존 JSON 그대로 받습니다.
+ * 압축된 프레임에는 "x-encoding: compact" 헤더가 붙으므로 클라이언트가 구분할 수 있습니다.
+ *
+ * 【필드 매핑】 (chat.js의 COMPACT_KEYS와 반드시 일치해야 함)
+ *   id → i, chatRoomId → r, senderId → s, senderName → n, senderProfileImage → p,
+ *   content → c, messageType → t, attachmentUrl → au, attachmentName → an,
+ *   attachmentContentType → ac, attachmentSize → as, sentAt → at, unreadCount → u
+ *
+ * 【성능】
+ * SimpleBroker는 구독자마다 같은 payload 배열을 공유하므로,
+ * 마지막으로 변환한 결과를 재사용하여 브로드캐스트 1건당 한 번만 변환합니다.
+ * ============================================================
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CompactFrameEncoder implements ChannelInterceptor {
+
+    public static final String ENCODING_HEADER = "x-encoding";
+    public static final String COMPACT = "compact";
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/chatroom/";
+
+    private static final Map<String, String> COMPACT_KEYS = Map.ofEntries(
+            Map.entry("id", "i"),
+            Map.entry("chatRoomId", "r"),
+            Map.entry("senderId", "s"),
+            Map.entry("senderName", "n"),
+            Map.entry("senderProfileImage", "p"),
+            Map.entry("content", "c"),
+            Map.entry("messageType", "t"),
+            Map.entry("attachmentUrl", "au"),
+            Map.entry("attachmentName", "an"),
+            Map.entry("attachmentContentType", "ac"),
+            Map.entry("attachmentSize", "as"),
+            Map.entry("sentAt", "at"),
+            Map.entry("unreadCount", "u")
+    );
+
+    private final ObjectMapper objectMapper;
+
+    /** 압축 형식을 요청한 세션 ID */
+    private final Set<String> compactSessions = ConcurrentHashMap.newKeySet();
+
+    /** 마지막 변환 결과 (원본 payload 참조 → 압축 payload) */
+    private final AtomicReference<EncodedFrame> lastEncoded = new AtomicReference<>();
+
+    private record EncodedFrame(byte[] source, byte[] encoded) {
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String sessionId = accessor.getSessionId();
+        if (sessionId == null) {
+            return message;
+        }
+
+        // 클라이언트 → 서버: CONNECT 헤더로 압축 형식 요청 여부 기록
+        if (accessor.getMessageType() == SimpMessageType.CONNECT) {
+            if (COMPACT.equals(accessor.getFirstNativeHeader(ENCODING_HEADER))) {
+                compactSessions.add(sessionId);
+            }
+            return message;
+        }
+
+        // 서버 → 클라이언트: 압축 요청 세션의 채팅방 프레임만 변환
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || !compactSessions.contains(sessionId)
+                || accessor.getDestination() == null
+                || !accessor.getDestination().startsWith(ROOM_TOPIC_PREFIX)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        try {
+            byte[] encoded = encode(payload);
+            accessor.setNativeHeader(ENCODING_HEADER, COMPACT);
+            return MessageBuilder.createMessage(encoded, accessor.getMessageHeaders());
+        } catch (Exception e) {
+            // 변환에 실패하면 원본 JSON을 그대로 보냄 (클라이언트는 헤더가 없으면 원본으로 처리)
+            log.warn("[compact-encoding] encode failed. sessionId={}, reason={}", sessionId, e.getMessage());
+            return message;
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        compactSessions.remove(event.getSessionId());
+    }
+
+    private byte[] encode(byte[] payload) {
+        EncodedFrame cached = lastEncoded.get();
+        if (cached != null && cached.source() == payload) {
+            return cached.encoded();
+        }
+        JsonNode compact = compact(objectMapper.readTree(payload));
+        byte[] encoded = objectMapper.writeValueAsBytes(compact);
+        lastEncoded.set(new EncodedFrame(payload, encoded));
+        return encoded;
+    }
+
+    private JsonNode compact(JsonNode node) {
+        if (node.isArray()) {
+            ArrayNode array = objectMapper.createArrayNode();
+            node.forEach(element -> array.add(compact(element)));
+            return array;
+        }
+        if (!node.isObject()) {
+            return node;
+        }
+        ObjectNode object = objectMapper.createObjectNode();
+        for (Map.Entry<String, JsonNode> field : node.properties()) {
+            if (field.getValue() == null || field.getValue().isNull()) {
+                continue;
+            }
+            object.set(COMPACT_KEYS.getOrDefault(field.getKey(), field.getKey()), field.getValue());
+        }
+        return object;
+    }
+}
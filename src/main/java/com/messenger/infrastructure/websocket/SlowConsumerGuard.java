@@ -0,0 +1,349 @@
+package com.messenger.infrastructure.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ============================================================
+ * SlowConsumerGuard - 느린 WebSocket 클라이언트 보호 장치
+ * ============================================================
+ *
+ * 【문제】
+ * 모바일 회선처럼 수신이 느린 클라이언트가 있으면, 그 세션으로 나갈 프레임이
+ * clientOutboundChannel 큐와 세션 송신 버퍼(ConcurrentWebSocketSessionDecorator)에 계속 쌓입니다.
+ * 이런 연결 몇 개만으로도 힙이 불어나 GC가 잦아지고 서버 전체가 느려집니다.
+ *
+ * 【backlog 측정】 세션별 "채널에 들어왔지만 아직 소켓에 쓰지 않은 MESSAGE 프레임 수"
+ *   - preSend(): clientOutboundChannel에 들어올 때 +1
+ *   - TrackedSession.sendMessage(): 송신 버퍼에서 꺼내 실제로 소켓에 쓸 때(또는 버릴 때) -1
+ * TrackedSession은 Spring이 송신 버퍼로 감싸기 "안쪽"의 세션이므로,
+ * 채널 executor 대기분 + 세션 송신 버퍼 대기분 + 쓰는 중인 프레임이 모두 backlog에 포함됩니다.
+ *
+ * 【정책】 backlog가 커질수록 단계적으로 적용합니다.
+ *   1단계 (drop-threshold 초과):
+ *     송신 버퍼에서 꺼낸 접속 상태/타이핑 프레임을 쓰지 않고 버림 → 가장 오래된 것부터 버려짐
+ *   2단계 (resync-threshold 초과):
+ *     꺼낸 채팅방 프레임(/topic/chatroom/**)도 버리고 세션을 "재동기화 필요"로 표시
+ *     (알림처럼 이력 재조회로 복구되지 않는 프레임은 버리지 않음)
+ *     → backlog가 풀린 뒤 그 세션의 첫 채팅방 프레임(/topic/chatroom/**)에 x-resync 헤더를 붙임
+ *     → chat.js의 채팅방 구독 핸들러가 헤더를 보고 메시지 이력을 다시 불러옴
+ *   3단계 (disconnect-threshold 초과): 새 프레임을 받지 않고 세션 강제 종료
+ *     (클라이언트가 재접속하며 이력을 새로 받음)
+ *
+ * 【최후 방어선】
+ * WebSocketConfig의 sendBufferSizeLimit / sendTimeLimit 으로 Spring이 세션 송신 버퍼를
+ * 직접 제한합니다. 그 한도에 걸려 끊긴 세션(SESSION_NOT_RELIABLE)도 여기서 집계합니다.
+ *
+ * 【집계】
+ * 정책별 실행 횟수는 getActionCounts()로 조회합니다. (/debug/websocket/backpressure)
+ * ============================================================
+ */
+@Slf4j
+@Component
+public class SlowConsumerGuard implements ExecutorChannelInterceptor, WebSocketHandlerDecoratorFactory {
+
+    /** 재동기화가 필요함을 클라이언트에 알리는 STOMP 헤더 */
+    public static final String RESYNC_HEADER = "x-resync";
+
+    private static final String ROOM_TOPIC_PREFIX = "/topic/chatroom/";
+
+    private static final String MESSAGE_FRAME_PREFIX = "MESSAGE\n";
+
+    private static final String DESTINATION_HEADER = "\ndestination:";
+
+    /** 목적지 헤더를 찾을 때 읽는 프레임 앞부분 최대 길이 (본문까지 읽지 않도록) */
+    private static final int HEADER_SCAN_LIMIT = 1024;
+
+    /** 정책 실행 종류 */
+    public enum Action {
+        /** 접속 상태/타이핑 프레임을 버림 */
+        DROPPED_LOW_PRIORITY,
+        /** 채팅 메시지 프레임을 버림 */
+        DROPPED_MESSAGE,
+        /** 세션을 재동기화 필요 상태로 표시 */
+        RESYNC_MARKED,
+        /** 재동기화 헤더를 붙여 전송 */
+        RESYNC_SENT,
+        /** backlog 한도 초과로 세션 종료 */
+        DISCONNECTED,
+        /** Spring 송신 버퍼 한도 초과로 세션 종료 */
+        BUFFER_OVERFLOW_CLOSED
+    }
+
+    @Value("${app.websocket.backpressure.drop-threshold:64}")
+    private int dropThreshold;
+
+    @Value("${app.websocket.backpressure.resync-threshold:256}")
+    private int resyncThreshold;
+
+    @Value("${app.websocket.backpressure.disconnect-threshold:1024}")
+    private int disconnectThreshold;
+
+    /** 세션 ID → 소켓에 쓰지 않은 프레임 수 (연결 시 등록, 종료 시 제거) */
+    private final ConcurrentMap<String, AtomicInteger> backlogs = new ConcurrentHashMap<>();
+
+    /** 재동기화가 필요한 세션 ID */
+    private final Set<String> resyncPending = ConcurrentHashMap.newKeySet();
+
+    /** 세션 ID → WebSocket 세션 (강제 종료용) */
+    private final ConcurrentMap<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    private final Map<Action, LongAdder> actionCounts = new EnumMap<>(Action.class);
+
+    public SlowConsumerGuard() {
+        for (Action action : Action.values()) {
+            actionCounts.put(action, new LongAdder());
+        }
+    }
+
+    // ===== clientOutboundChannel 인터셉터 =====
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String sessionId = accessor.getSessionId();
+        if (sessionId == null || accessor.getMessageType() != SimpMessageType.MESSAGE) {
+            return message;
+        }
+        AtomicInteger backlog = backlogs.get(sessionId);
+        if (backlog == null) {
+            // 이미 닫혔거나 추적하지 않는 세션
+            return message;
+        }
+
+        int pending = backlog.incrementAndGet();
+        if (pending > disconnectThreshold) {
+            release(backlog);
+            disconnect(sessionId, pending);
+            return null;
+        }
+
+        // backlog가 풀린 뒤 첫 채팅방 프레임에 재동기화 헤더를 실어 보냄
+        // (다른 목적지 프레임에 붙이면 채팅방 핸들러가 보지 못해 표시가 사라짐)
+        String destination = accessor.getDestination();
+        if (pending <= dropThreshold && isRoomTopic(destination) && resyncPending.remove(sessionId)) {
+            record(Action.RESYNC_SENT);
+            return withResyncHeader(message);
+        }
+        return message;
+    }
+
+    @Override
+    public void afterSendCompletion(Message<?> message, MessageChannel channel, boolean sent, Exception ex) {
+        // 뒤쪽 인터셉터가 막았거나 executor에 넣지 못한 프레임은 소켓까지 가지 않음
+        if (!sent) {
+            releaseIfMessage(message);
+        }
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel,
+                                    MessageHandler handler, Exception ex) {
+        // 세션으로 넘기다 실패한 프레임은 소켓까지 가지 않음 (정상 처리분은 TrackedSession에서 차감)
+        if (ex != null) {
+            releaseIfMessage(message);
+        }
+    }
+
+    // ===== WebSocket 세션 추적 =====
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                AtomicInteger backlog = new AtomicInteger();
+                backlogs.put(session.getId(), backlog);
+                // Spring은 이 세션을 다시 송신 버퍼(ConcurrentWebSocketSessionDecorator)로 감쌈
+                // → TrackedSession.sendMessage()는 버퍼에서 꺼내 소켓에 쓰는 시점에 호출됨
+                super.afterConnectionEstablished(new TrackedSession(session, backlog));
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                backlogs.remove(session.getId());
+                resyncPending.remove(session.getId());
+                if (closeStatus.getCode() == CloseStatus.SESSION_NOT_RELIABLE.getCode()) {
+                    record(Action.BUFFER_OVERFLOW_CLOSED);
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    /**
+     * 송신 버퍼에서 꺼낸 프레임을 소켓에 쓰기 직전에 정책을 적용하는 세션 래퍼.
+     * 버퍼는 오래된 프레임부터 꺼내므로, 여기서 버리면 가장 오래된 프레임부터 버려집니다.
+     */
+    private class TrackedSession extends WebSocketSessionDecorator {
+
+        private final AtomicInteger backlog;
+
+        TrackedSession(WebSocketSession session, AtomicInteger backlog) {
+            super(session);
+            this.backlog = backlog;
+        }
+
+        @Override
+        public void sendMessage(WebSocketMessage<?> message) throws IOException {
+            String frame = frameHead(message);
+            if (frame == null || !frame.startsWith(MESSAGE_FRAME_PREFIX)) {
+                // CONNECTED, RECEIPT, ERROR, heartbeat 등은 backlog에 세지 않음
+                super.sendMessage(message);
+                return;
+            }
+
+            int pending = backlog.get();
+            if (pending > dropThreshold) {
+                String destination = destinationOf(frame);
+                if (isLowPriority(destination)) {
+                    release(backlog);
+                    record(Action.DROPPED_LOW_PRIORITY);
+                    return;
+                }
+                if (pending > resyncThreshold && isRoomTopic(destination)) {
+                    release(backlog);
+                    record(Action.DROPPED_MESSAGE);
+                    if (resyncPending.add(getId())) {
+                        record(Action.RESYNC_MARKED);
+                        log.warn("[backpressure] 재동기화 필요 표시 - sessionId={}, backlog={}", getId(), pending);
+                    }
+                    return;
+                }
+            }
+
+            try {
+                super.sendMessage(message);
+            } finally {
+                release(backlog);
+            }
+        }
+    }
+
+    /**
+     * 정책별 실행 횟수를 조회합니다.
+     */
+    public Map<String, Long> getActionCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        actionCounts.forEach((action, adder) -> counts.put(action.name(), adder.sum()));
+        return counts;
+    }
+
+    /**
+     * 현재 추적 중인 세션 수를 조회합니다.
+     */
+    public int getTrackedSessionCount() {
+        return sessions.size();
+    }
+
+    private void disconnect(String sessionId, int pending) {
+        WebSocketSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return;
+        }
+        record(Action.DISCONNECTED);
+        log.warn("[backpressure] 느린 클라이언트 연결 종료 - sessionId={}, backlog={}", sessionId, pending);
+        try {
+            // SESSION_NOT_RELIABLE로 닫으면 afterConnectionClosed에서 BUFFER_OVERFLOW_CLOSED로도 집계되므로 일반 상태 코드 사용
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("slow consumer"));
+        } catch (IOException e) {
+            log.debug("[backpressure] close failed. sessionId={}, reason={}", sessionId, e.getMessage());
+        }
+    }
+
+    private void releaseIfMessage(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String sessionId = accessor.getSessionId();
+        if (sessionId == null || accessor.getMessageType() != SimpMessageType.MESSAGE) {
+            return;
+        }
+        AtomicInteger backlog = backlogs.get(sessionId);
+        if (backlog != null) {
+            release(backlog);
+        }
+    }
+
+    /** backlog -1 (세지 않은 프레임이 섞여도 음수로 내려가지 않도록) */
+    private void release(AtomicInteger backlog) {
+        backlog.updateAndGet(pending -> pending > 0 ? pending - 1 : 0);
+    }
+
+    private Message<?> withResyncHeader(Message<?> message) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        accessor.setNativeHeader(RESYNC_HEADER, "true");
+        return MessageBuilder.createMessage(message.getPayload(), accessor.getMessageHeaders());
+    }
+
+    /** 인코딩된 STOMP 프레임의 앞부분 (명령 + 헤더 확인용) */
+    private String frameHead(WebSocketMessage<?> message) {
+        if (message instanceof TextMessage text) {
+            String payload = text.getPayload();
+            return payload.length() > HEADER_SCAN_LIMIT ? payload.substring(0, HEADER_SCAN_LIMIT) : payload;
+        }
+        if (message instanceof BinaryMessage binary) {
+            ByteBuffer buffer = binary.getPayload().asReadOnlyBuffer();
+            byte[] head = new byte[Math.min(buffer.remaining(), HEADER_SCAN_LIMIT)];
+            buffer.get(head);
+            return new String(head, StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    /** 프레임 헤더에서 destination 값을 찾습니다. (본문 앞 빈 줄까지만) */
+    private String destinationOf(String frame) {
+        int headerEnd = frame.indexOf("\n\n");
+        int start = frame.indexOf(DESTINATION_HEADER);
+        if (start < 0 || (headerEnd >= 0 && start > headerEnd)) {
+            return null;
+        }
+        start += DESTINATION_HEADER.length();
+        int end = frame.indexOf('\n', start);
+        return end < 0 ? frame.substring(start) : frame.substring(start, end);
+    }
+
+    /** 채팅방 메시지 프레임인지 판단 (버려도 x-resync로 이력을 다시 불러와 복구) */
+    private boolean isRoomTopic(String destination) {
+        return destination != null && destination.startsWith(ROOM_TOPIC_PREFIX);
+    }
+
+    /** 유실되어도 다음 갱신으로 복구되는 프레임인지 판단 (접속 상태, 타이핑) */
+    private boolean isLowPriority(String destination) {
+        return destination != null
+                && (destination.contains("/queue/presence") || destination.endsWith("/typing"));
+    }
+
+    private void record(Action action) {
+        actionCounts.get(action).increment();
+    }
+}
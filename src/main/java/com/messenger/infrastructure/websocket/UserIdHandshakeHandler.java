@@ -0,0 +1,66 @@
+package com.messenger.infrastructure.websocket;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ============================================================
+ * UserIdHandshakeHandler - WebSocket 세션의 Principal을 사용자 ID로 지정
+ * ============================================================
+ *
+ * 【역할】
+ * convertAndSendToUser("42", "/queue/...") 는 Principal 이름이 "42"인 세션으로 전달됩니다.
+ * 기본 Principal은 Spring Security의 username이므로, 서비스 코드가 사용하는
+ * 사용자 ID 기준 전송(/user/queue/notifications, /user/queue/presence)과 맞지 않습니다.
+ *
+ * 【동작】
+ * HttpSessionHandshakeInterceptor가 복사한 세션 속성의 "userId"를 Principal 이름으로 사용합니다.
+ * userId가 없으면(비로그인) 기본 동작을 그대로 따릅니다.
+ *
+ * 【permessage-deflate】
+ * 컨테이너가 협상한 확장만 응답합니다. (컨테이너가 지원하지 않는 확장을 임의로 추가하지 않음)
+ * 설정(app.websocket.permessage-deflate)이 꺼져 있으면 협상 결과에서 deflate를 제거해
+ * 압축 없이 연결합니다. 이 설정은 확장을 빼는 용도로만 쓰입니다.
+ * ============================================================
+ */
+public class UserIdHandshakeHandler extends DefaultHandshakeHandler {
+
+    private static final String PERMESSAGE_DEFLATE = "permessage-deflate";
+
+    private final boolean permessageDeflate;
+
+    public UserIdHandshakeHandler(boolean permessageDeflate) {
+        this.permessageDeflate = permessageDeflate;
+    }
+
+    @Override
+    protected Principal determineUser(ServerHttpRequest request,
+                                      WebSocketHandler wsHandler,
+                                      Map<String, Object> attributes) {
+        Object userId = attributes.get("userId");
+        if (userId == null) {
+            return super.determineUser(request, wsHandler, attributes);
+        }
+        String name = userId.toString();
+        return () -> name;
+    }
+
+    @Override
+    protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request,
+                                                                 List<WebSocketExtension> requestedExtensions,
+                                                                 List<WebSocketExtension> supportedExtensions) {
+        List<WebSocketExtension> result = new ArrayList<>(
+                super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions));
+        if (!permessageDeflate) {
+            result.removeIf(extension -> PERMESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,186 @@
+package com.messenger.infrastructure.websocket;
+
+import com.messenger.infrastructure.redis.RedisCacheService;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ============================================================
+ * UserMessageRouter - 사용자 전용 메시지(/user/...)의 노드 간 전달
+ * ============================================================
+ *
+ * 【흐름】 sendToUsers(destination, messages)
+ * 1. 이 노드에 세션이 있는 사용자 → convertAndSendToUser()로 바로 전달
+ * 2. 수신자들의 세션 위치를 한 번에 조회 (UserSessionRegistry, Redis 파이프라인 1회)
+ * 3. 다른 노드에 세션이 있으면 노드별로 메시지를 묶어 그 노드의 채널("ws:route:{nodeId}")에 PUBLISH 1회
+ *    → 모든 노드에 뿌리지 않고, 세션이 있는 노드만 받음
+ * 4. 받은 노드는 onMessage()에서 자기 세션으로 convertAndSendToUser()
+ *
+ * 어디에도 세션이 없는 사용자(오프라인)는 아무 것도 보내지 않습니다. (noRoute로 집계)
+ * Redis 조회/발행이 실패하면 이 노드의 세션에만 전달하고 로그를 남깁니다.
+ * ============================================================
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserMessageRouter implements MessageListener {
+
+    private static final String CHANNEL_PREFIX = "ws:route:";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final UserSessionRegistry userSessionRegistry;
+    private final RedisCacheService redisCacheService;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+
+    private final LongAdder localSent = new LongAdder();
+    private final LongAdder remoteSent = new LongAdder();
+    private final LongAdder remotePublishes = new LongAdder();
+    private final LongAdder received = new LongAdder();
+    private final LongAdder noRoute = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    /** 수신자 1명에게 보낼 메시지 */
+    public record UserMessage(Long userId, Object payload) {
+    }
+
+    /** 노드 간 전달 형식: 목적지 1개 + 수신자별 payload 목록 */
+    record Envelope(String destination, List<Item> items) {
+    }
+
+    record Item(String userId, JsonNode payload) {
+    }
+
+    /** 이 노드 채널 구독 */
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL_PREFIX + userSessionRegistry.getNodeId()));
+    }
+
+    /**
+     * 사용자 1명에게 보냅니다.
+     *
+     * @param userId      수신자 ID
+     * @param destination 사용자 목적지 (예: "/queue/notifications")
+     * @param payload     보낼 객체 (JSON 변환)
+     */
+    public void sendToUser(Long userId, String destination, Object payload) {
+        sendToUsers(destination, List.of(new UserMessage(userId, payload)));
+    }
+
+    /**
+     * 여러 사용자에게 보냅니다. 세션 위치 조회와 노드별 PUBLISH를 묶어서 처리합니다.
+     * 같은 사용자에게 여러 메시지를 보내도 됩니다. (순서 유지)
+     *
+     * @param destination 사용자 목적지 (예: "/queue/notifications")
+     * @param messages    수신자별 메시지
+     */
+    public void sendToUsers(String destination, List<UserMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (UserMessage message : messages) {
+            userIds.add(message.userId());
+            if (userSessionRegistry.isLocal(message.userId())) {
+                sendLocal(message.userId().toString(), destination, message.payload());
+            }
+        }
+
+        Map<Long, Set<String>> remoteNodes;
+        try {
+            remoteNodes = userSessionRegistry.remoteNodesOf(userIds);
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("[WebSocket 라우팅] 세션 위치 조회 실패, 이 노드에만 전달 - 수신자 수={}, 에러={}",
+                    userIds.size(), e.getMessage());
+            return;
+        }
+
+        Map<String, List<Item>> itemsByNode = new LinkedHashMap<>();
+        for (UserMessage message : messages) {
+            Set<String> nodes = remoteNodes.get(message.userId());
+            if (nodes == null) {
+                if (!userSessionRegistry.isLocal(message.userId())) {
+                    noRoute.increment();
+                }
+                continue;
+            }
+            JsonNode payload = objectMapper.valueToTree(message.payload());
+            for (String node : nodes) {
+                itemsByNode.computeIfAbsent(node, n -> new ArrayList<>())
+                        .add(new Item(message.userId().toString(), payload));
+            }
+        }
+        itemsByNode.forEach((node, items) -> publish(node, new Envelope(destination, items)));
+    }
+
+    /** 다른 노드가 보낸 메시지를 이 노드의 세션으로 전달합니다. */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            Envelope envelope = objectMapper.readValue(new String(message.getBody(), StandardCharsets.UTF_8), Envelope.class);
+            for (Item item : envelope.items()) {
+                received.increment();
+                sendLocal(item.userId(), envelope.destination(), item.payload());
+            }
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("[WebSocket 라우팅] 수신 메시지 처리 실패 - 에러={}", e.getMessage());
+        }
+    }
+
+    /** 처리 현황 (디버그 API용) */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("nodeId", userSessionRegistry.getNodeId());
+        stats.put("localUsers", userSessionRegistry.getLocalUserCount());
+        stats.put("localSent", localSent.sum());
+        stats.put("remoteSent", remoteSent.sum());
+        stats.put("remotePublishes", remotePublishes.sum());
+        stats.put("received", received.sum());
+        stats.put("noRoute", noRoute.sum());
+        stats.put("failed", failed.sum());
+        return stats;
+    }
+
+    private void publish(String node, Envelope envelope) {
+        try {
+            redisCacheService.publish(CHANNEL_PREFIX + node, objectMapper.writeValueAsString(envelope));
+            remotePublishes.increment();
+            remoteSent.add(envelope.items().size());
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("[WebSocket 라우팅] 노드 전달 실패 - 노드={}, 메시지 수={}, 에러={}",
+                    node, envelope.items().size(), e.getMessage());
+        }
+    }
+
+    private void sendLocal(String userId, String destination, Object payload) {
+        try {
+            messagingTemplate.convertAndSendToUser(userId, destination, payload);
+            localSent.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("[WebSocket 라우팅] 전송 실패 - 사용자ID={}, 목적지={}, 에러={}", userId, destination, e.getMessage());
+        }
+    }
+}
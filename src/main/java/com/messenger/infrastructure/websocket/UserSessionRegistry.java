@@ -0,0 +1,178 @@
+package com.messenger.infrastructure.websocket;
+
+import com.messenger.infrastructure.redis.RedisCacheService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ============================================================
+ * UserSessionRegistry - 사용자별 WebSocket 세션 위치 (노드 간 공유)
+ * ============================================================
+ *
+ * 【문제】
+ * convertAndSendToUser()는 이 노드의 SimpleBroker에 있는 세션에만 전달합니다.
+ * 서버가 여러 대면 사용자가 다른 노드에 연결되어 있을 때 알림이 조용히 사라집니다.
+ *
+ * 【저장 방식】 키: "ws:nodes:{userId}" (HASH, 필드 = 노드 ID, 값 = 마지막 heartbeat 시각)
+ * - 사용자의 첫 세션이 이 노드에 연결되면 필드 등록, 마지막 세션이 끊기면 필드 삭제
+ * - heartbeat마다 이 노드에 세션이 있는 사용자 전체를 파이프라인 한 번으로 갱신
+ * - 조회 시 TTL보다 오래된 필드는 무시 → 노드가 죽어도 그 노드로는 보내지 않음
+ *
+ * 이 노드에 연결된 세션은 메모리(localSessions)에서 바로 확인합니다. (Redis 조회 없음)
+ * 같은 세션의 연결 해제 이벤트가 두 번 와도 세션 ID 기준이라 중복 처리되지 않습니다.
+ * ============================================================
+ */
+@Slf4j
+@Component
+public class UserSessionRegistry {
+
+    private static final String KEY_PREFIX = "ws:nodes:";
+
+    private final RedisCacheService redisCacheService;
+    private final String nodeId;
+    private final long ttlMillis;
+
+    /** 이 노드의 사용자 ID → 세션 ID 목록 */
+    private final ConcurrentMap<Long, Set<String>> localSessions = new ConcurrentHashMap<>();
+
+    public UserSessionRegistry(RedisCacheService redisCacheService,
+                               @Value("${app.websocket.node-id:}") String nodeId,
+                               @Value("${app.presence.ttl-seconds:60}") long ttlSeconds) {
+        this.redisCacheService = redisCacheService;
+        this.nodeId = nodeId == null || nodeId.isBlank()
+                ? UUID.randomUUID().toString().replace("-", "").substring(0, 12) : nodeId;
+        this.ttlMillis = Duration.ofSeconds(ttlSeconds).toMillis();
+        log.info("[WebSocket 라우팅] 노드 ID={}", this.nodeId);
+    }
+
+    /** 이 노드의 ID (Pub/Sub 채널 이름에 사용) */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 세션 연결 시 호출합니다. 사용자의 첫 세션이면 Redis에 이 노드를 등록합니다.
+     */
+    public void register(Long userId, String sessionId) {
+        boolean[] first = {false};
+        localSessions.compute(userId, (id, sessions) -> {
+            Set<String> updated = sessions != null ? sessions : ConcurrentHashMap.newKeySet();
+            first[0] = updated.isEmpty();
+            updated.add(sessionId);
+            return updated;
+        });
+        if (first[0]) {
+            try {
+                putNode(userId);
+            } catch (Exception e) {
+                log.warn("[WebSocket 라우팅] 등록 실패 - 사용자ID={}, 에러={}", userId, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 세션 해제 시 호출합니다. 이 노드에 남은 세션이 없으면 Redis에서 이 노드를 지웁니다.
+     *
+     * 마지막 세션 해제와 새 세션 연결이 겹치면 새 연결의 등록(HSET)이 이 삭제(HDEL)보다 먼저
+     * 반영될 수 있습니다. 삭제 후 그 사이 다시 연결됐는지 확인해 필드를 되살립니다.
+     */
+    public void unregister(Long userId, String sessionId) {
+        boolean[] last = {false};
+        localSessions.computeIfPresent(userId, (id, sessions) -> {
+            if (sessions.remove(sessionId) && sessions.isEmpty()) {
+                last[0] = true;
+                return null;
+            }
+            return sessions.isEmpty() ? null : sessions;
+        });
+        if (last[0]) {
+            try {
+                redisCacheService.deleteHashField(key(userId), nodeId);
+                if (localSessions.containsKey(userId)) {
+                    putNode(userId);
+                }
+            } catch (Exception e) {
+                log.warn("[WebSocket 라우팅] 해제 실패 - 사용자ID={}, 에러={}", userId, e.getMessage());
+            }
+        }
+    }
+
+    /** 이 노드에 사용자의 세션이 있는지 확인합니다. */
+    public boolean isLocal(Long userId) {
+        return localSessions.containsKey(userId);
+    }
+
+    /**
+     * 사용자들의 세션이 있는 "다른" 노드를 조회합니다. (Redis 파이프라인 1회)
+     *
+     * @return 사용자 ID → 노드 ID 목록 (다른 노드에 세션이 없는 사용자는 빠짐)
+     */
+    public Map<Long, Set<String>> remoteNodesOf(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = new ArrayList<>(userIds);
+        List<String> keys = ids.stream().map(this::key).toList();
+        List<Map<Object, Object>> entries = redisCacheService.getHashEntriesAll(keys);
+
+        long aliveAfter = System.currentTimeMillis() - ttlMillis;
+        Map<Long, Set<String>> result = new HashMap<>();
+        for (int i = 0; i < ids.size() && i < entries.size(); i++) {
+            for (Map.Entry<Object, Object> entry : entries.get(i).entrySet()) {
+                String node = entry.getKey().toString();
+                if (node.equals(nodeId) || Long.parseLong(entry.getValue().toString()) < aliveAfter) {
+                    continue;
+                }
+                result.computeIfAbsent(ids.get(i), id -> new HashSet<>()).add(node);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 【heartbeat 갱신】
+     * 이 노드에 세션이 있는 사용자들의 등록 시각을 갱신합니다.
+     * 노드가 죽으면 갱신이 멈추므로, TTL 이후 다른 노드는 이 노드로 보내지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${app.presence.heartbeat-interval-ms:20000}")
+    public void heartbeat() {
+        if (localSessions.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> keys = localSessions.keySet().stream().map(this::key).toList();
+            redisCacheService.putHashFieldAll(keys, nodeId, String.valueOf(System.currentTimeMillis()),
+                    Duration.ofMillis(ttlMillis));
+        } catch (Exception e) {
+            log.warn("[WebSocket 라우팅] heartbeat 실패 - 사용자 수={}, 에러={}", localSessions.size(), e.getMessage());
+        }
+    }
+
+    /** 이 노드에 연결된 사용자 수 (디버그 API용) */
+    public int getLocalUserCount() {
+        return localSessions.size();
+    }
+
+    private void putNode(Long userId) {
+        redisCacheService.putHashFieldAll(List.of(key(userId)), nodeId,
+                String.valueOf(System.currentTimeMillis()), Duration.ofMillis(ttlMillis));
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
@@ -1,10 +1,14 @@
 package com.messenger.infrastructure.websocket;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 import org.springframework.web.socket.server.support.HttpSessionHandshakeInterceptor;
 
 /**
@@ -43,8 +47,24 @@ import org.springframework.web.socket.server.support.HttpSessionHandshakeInterce
  */
 @Configuration
 @EnableWebSocketMessageBroker  // WebSocket 메시지 브로커 기능 활성화
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final SlowConsumerGuard slowConsumerGuard;
+    private final CompactFrameEncoder compactFrameEncoder;
+
+    /** permessage-deflate 확장 허용 여부 */
+    @Value("${app.websocket.permessage-deflate:true}")
+    private boolean permessageDeflate;
+
+    /** 세션별 송신 버퍼 한도 (바이트). 넘으면 Spring이 세션을 종료합니다. */
+    @Value("${app.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    /** 한 번의 송신이 이 시간(ms)을 넘기면 세션을 종료합니다. */
+    @Value("${app.websocket.send-time-limit-ms:10000}")
+    private int sendTimeLimitMs;
+
     /**
      * 【메시지 브로커 설정】
      * 메시지가 어디로 가야 하는지 라우팅 규칙을 정의합니다.
@@ -78,6 +98,42 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 //    WebSocket 세션으로 복사합니다.
                 //    이것이 없으면 ChatWebSocketController에서 사용자 정보를 알 수 없습니다!
                 .addInterceptors(new HttpSessionHandshakeInterceptor())
+                // ★ UserIdHandshakeHandler: Principal 이름을 userId로 지정하여
+                //    convertAndSendToUser(userId, ...) 가 해당 사용자의 세션으로 전달되게 합니다.
+                //    permessage-deflate 확장도 여기서 허용 여부를 결정합니다.
+                .setHandshakeHandler(new UserIdHandshakeHandler(permessageDeflate))
                 .withSockJS();               // SockJS 폴백 활성화
     }
+
+    /**
+     * 【WebSocket 전송 설정】
+     * 느린 클라이언트 때문에 송신 버퍼가 무한히 커지지 않도록 한도를 둡니다.
+     * SlowConsumerGuard는 세션을 송신 버퍼 안쪽에서 감싸 소켓에 실제로 쓴 프레임을 세고(backlog),
+     * 단계별로 오래된 프레임을 버리거나 세션을 종료합니다.
+     */
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimitMs)
+                .addDecoratorFactory(slowConsumerGuard);
+    }
+
+    /**
+     * 【클라이언트 → 서버 채널 설정】
+     * CONNECT 헤더로 압축 인코딩(x-encoding: compact)을 요청한 세션을 기록합니다.
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(compactFrameEncoder);
+    }
+
+    /**
+     * 【서버 → 클라이언트 채널 설정】
+     * 세션별 backlog에 새 프레임을 더하고(한도 초과 시 세션 종료),
+     * 압축 인코딩을 요청한 세션에는 채팅 프레임을 축약 형식으로 바꿔 보냅니다.
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.interceptors(slowConsumerGuard, compactFrameEncoder);
+    }
 }
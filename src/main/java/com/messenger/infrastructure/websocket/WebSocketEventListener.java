@@ -1,7 +1,6 @@
 package com.messenger.infrastructure.websocket;
 
-import com.messenger.user.entity.UserStatus;
-import com.messenger.user.repository.UserRepository;
+import com.messenger.chat.service.ChatPresenceService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
@@ -15,7 +14,8 @@ import org.springframework.web.socket.messaging.SessionDisconnectEvent;
 @RequiredArgsConstructor
 public class WebSocketEventListener {
 
-    private final UserRepository userRepository;
+    private final ChatPresenceService chatPresenceService;
+    private final UserSessionRegistry userSessionRegistry;
 
     @EventListener
     public void handleWebSocketConnectListener(SessionConnectedEvent event) {
@@ -25,7 +25,8 @@ public class WebSocketEventListener {
         log.info("[WebSocket connect] sessionId={}, userId={}", accessor.getSessionId(), userId);
 
         if (userId != null) {
-            userRepository.findById(userId).ifPresent(user -> user.updateStatus(UserStatus.ONLINE));
+            userSessionRegistry.register(userId, accessor.getSessionId());
+            chatPresenceService.connect(userId, accessor.getSessionId());
         }
     }
 
@@ -37,7 +38,8 @@ public class WebSocketEventListener {
         log.info("[WebSocket disconnect] sessionId={}, userId={}", accessor.getSessionId(), userId);
 
         if (userId != null) {
-            userRepository.findById(userId).ifPresent(user -> user.updateStatus(UserStatus.OFFLINE));
+            userSessionRegistry.unregister(userId, accessor.getSessionId());
+            chatPresenceService.disconnect(userId, accessor.getSessionId());
         }
     }
 
@@ -3,7 +3,7 @@ package com.messenger.notification.controller;
 import com.messenger.common.dto.ApiResponse;
 import com.messenger.common.exception.BusinessException;
 import com.messenger.common.exception.ErrorCode;
-import com.messenger.notification.dto.NotificationResponse;
+import com.messenger.notification.dto.NotificationPageResponse;
 import com.messenger.notification.service.NotificationService;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
@@ -11,15 +11,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * ============================================================
  * NotificationController - 알림 REST API 컨트롤러
  * ============================================================
  *
  * 【엔드포인트 목록】
- * GET  /api/notifications              → 내 알림 목록 조회
+ * GET  /api/notifications              → 내 알림 목록 조회 (?cursor=&size=, 최신순 커서 페이지)
  * GET  /api/notifications/unread-count  → 읽지 않은 알림 수 조회
  * POST /api/notifications/{id}/read     → 특정 알림 읽음 처리
  * POST /api/notifications/read-all      → 모든 알림 읽음 처리
@@ -38,14 +36,17 @@ public class NotificationController {
     private final NotificationService notificationService;
 
     /**
-     * 내 알림 목록 조회.
-     * 세션에서 userId를 가져와 해당 사용자의 알림을 반환합니다.
+     * 내 알림 목록 조회 (한 페이지).
+     * 첫 페이지는 cursor 없이, 다음 페이지는 응답의 nextCursor를 넣어 요청합니다.
      */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<NotificationResponse>>> getNotifications(HttpSession session) {
+    public ResponseEntity<ApiResponse<NotificationPageResponse>> getNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
         Long userId = requireUserId(session);
-        List<NotificationResponse> notifications = notificationService.getNotifications(userId);
-        return ResponseEntity.ok(ApiResponse.success("알림 목록을 조회했습니다.", notifications));
+        NotificationPageResponse page = notificationService.getNotifications(userId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.success("알림 목록을 조회했습니다.", page));
     }
 
     /**
@@ -0,0 +1,21 @@
+package com.messenger.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * ============================================================
+ * NotificationBadgeResponse - 읽지 않은 알림 수 배지 프레임
+ * ============================================================
+ *
+ * 알림과 같은 경로(/user/queue/notifications)로 전송되며,
+ * type이 "UNREAD_COUNT"인 것으로 일반 알림과 구분합니다.
+ * ============================================================
+ */
+@Getter
+@AllArgsConstructor
+public class NotificationBadgeResponse {
+
+    private final String type = "UNREAD_COUNT";
+    private long unreadCount;
+}
@@ -0,0 +1,25 @@
+package com.messenger.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * ============================================================
+ * NotificationPageResponse - 알림함 한 페이지 응답 DTO
+ * ============================================================
+ *
+ * 다음 페이지는 nextCursor를 그대로 ?cursor= 에 넣어 요청합니다. (hasNext=false면 null)
+ * ============================================================
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class NotificationPageResponse {
+
+    private List<NotificationResponse> notifications;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -30,6 +30,9 @@ public class NotificationResponse {
     private boolean read;
     private LocalDateTime createdAt;
 
+    /** 합쳐진 알림 수 (1보다 크면 "외 N건"으로 표시) */
+    private int mergedCount;
+
     /**
      * Entity → DTO 변환 팩토리 메서드.
      *
@@ -44,6 +47,7 @@ public class NotificationResponse {
                 .referenceId(notification.getReferenceId())
                 .read(notification.isRead())
                 .createdAt(notification.getCreatedAt())
+                .mergedCount(notification.getMergedCount())
                 .build();
     }
 }
@@ -25,12 +25,22 @@ import lombok.*;
  * ├── message        ← 알림 메시지 내용
  * ├── reference_id   ← 관련 객체 ID (채팅방 ID, 리포트 ID 등)
  * ├── is_read        ← 읽음 여부
+ * ├── merged_count   ← 이 알림 하나로 합쳐진 알림 수 (기본 1, NotificationRetentionJob이 압축)
  * ├── created_at     ← BaseEntity 상속
  * └── updated_at     ← BaseEntity 상속
+ *
+ * 인덱스 idx_notifications_recipient_created (recipient_id, created_at): 알림함 커서 페이지 조회
+ * 인덱스 idx_notifications_dedupe (recipient_id, type, reference_id, is_read, merged_count):
+ *   NotificationRetentionJob의 중복 묶음 조회 (테이블을 읽지 않는 커버링 인덱스)
  * ============================================================
  */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications",
+       indexes = {
+               @Index(name = "idx_notifications_recipient_created", columnList = "recipient_id, created_at"),
+               @Index(name = "idx_notifications_dedupe",
+                      columnList = "recipient_id, type, reference_id, is_read, merged_count")
+       })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -68,6 +78,14 @@ public class Notification extends BaseEntity {
     @Builder.Default
     private boolean read = false;
 
+    /**
+     * 이 알림 하나로 합쳐진 알림 수.
+     * 같은 유형 + 같은 대상(예: 한 채팅방의 멘션 50건)이 쌓이면 최신 1건만 남기고 건수를 여기에 더합니다.
+     */
+    @Column(name = "merged_count", nullable = false, columnDefinition = "int default 1")
+    @Builder.Default
+    private int mergedCount = 1;
+
     /** 알림을 읽음 처리합니다 */
     public void markAsRead() {
         this.read = true;
@@ -0,0 +1,84 @@
+package com.messenger.notification.repository;
+
+import com.messenger.notification.entity.Notification;
+import com.messenger.notification.entity.NotificationType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ============================================================
+ * NotificationBatchRepository - 알림 다건 INSERT / 정리 (NotificationRepository 확장)
+ * ============================================================
+ *
+ * 【왜 JPA saveAll이 아닌가】
+ * Notification의 ID는 IDENTITY 전략이라 Hibernate가 JDBC 배치를 쓰지 못하고
+ * 한 건씩 INSERT 합니다. 알림 폭주 시에는 한 문장으로 여러 행을 넣는 편이 훨씬 가볍습니다.
+ *
+ * 【정리(NotificationRetentionJob)용 메서드】
+ * 모두 트랜잭션 없이 문장 단위로 커밋됩니다. 한 문장이 건드리는 행 수를 limit으로 묶어
+ * 락을 오래 잡지 않습니다.
+ * ============================================================
+ */
+public interface NotificationBatchRepository {
+
+    /**
+     * 알림 여러 건을 한 번의 multi-row INSERT로 저장합니다.
+     *
+     * @param notifications 저장할 알림 (ID 없음)
+     * @param createdAt     생성/수정 시각 (배치 전체 공통)
+     * @return 생성된 ID 목록 (notifications와 같은 순서)
+     */
+    List<Long> insertAll(List<Notification> notifications, LocalDateTime createdAt);
+
+    /** 정리 대상 판단용 행 요약 */
+    record RetentionRow(long id, boolean read, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 같은 수신자 + 유형 + 대상 + 읽음 상태로 쌓인 알림 묶음.
+     *
+     * @param keepId      남길 알림 ID (묶음에서 가장 최신)
+     * @param mergedTotal 묶음 전체의 merged_count 합
+     */
+    record DuplicateGroup(long recipientId, NotificationType type, long referenceId, boolean read,
+                          long keepId, int mergedTotal) {
+    }
+
+    /**
+     * afterId 다음부터 PK 순서로 limit건을 읽습니다. (키셋 방식, OFFSET 없음)
+     */
+    List<RetentionRow> findRetentionRowsAfter(long afterId, int limit);
+
+    /**
+     * ID 목록의 알림을 삭제합니다.
+     *
+     * @return 삭제된 건수
+     */
+    int deleteByIdIn(List<Long> ids);
+
+    /**
+     * 수신자 ID 구간 (fromRecipientId, toRecipientId] 안에서 알림이 minSize건 이상 쌓인 묶음을 찾습니다.
+     * (참조 ID가 없는 SYSTEM 알림 등은 제외)
+     * 테이블 전체를 한 번에 GROUP BY 하지 않도록 구간 단위로 나눠 호출합니다.
+     * idx_notifications_dedupe 인덱스만 읽고 끝납니다. (커버링 인덱스)
+     */
+    List<DuplicateGroup> findDuplicateGroups(long fromRecipientId, long toRecipientId, int minSize, int limit);
+
+    /**
+     * 가장 큰 수신자 ID (알림이 없으면 0). 압축 구간의 끝을 정할 때 사용합니다.
+     */
+    long findMaxRecipientId();
+
+    /**
+     * 묶음에서 keepId보다 오래된 알림을 최대 limit건 삭제합니다.
+     *
+     * @return 삭제된 건수 (0이면 묶음 정리 완료)
+     */
+    int deleteGroupOlderThanKeep(DuplicateGroup group, int limit);
+
+    /**
+     * 남긴 알림에 합쳐진 건수를 기록합니다.
+     */
+    void updateMergedCount(long id, int mergedCount, LocalDateTime now);
+}
@@ -0,0 +1,125 @@
+package com.messenger.notification.repository;
+
+import com.messenger.notification.entity.Notification;
+import com.messenger.notification.entity.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * NotificationBatchRepository 구현체.
+ * Spring Data가 "Impl" 접미사로 찾아 NotificationRepository에 합쳐 줍니다.
+ * 알림 테이블은 Shard 0에 있으므로 ShardKeyHolder 없이 기본 DataSource로 실행됩니다.
+ */
+@RequiredArgsConstructor
+class NotificationBatchRepositoryImpl implements NotificationBatchRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO notifications (recipient_id, type, message, reference_id, is_read, merged_count, created_at, updated_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<Long> insertAll(List<Notification> notifications, LocalDateTime createdAt) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + notifications.size() * (ROW.length() + 2))
+                .append(INSERT_PREFIX);
+        for (int i = 0; i < notifications.size(); i++) {
+            sql.append(i == 0 ? ROW : ", " + ROW);
+        }
+
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(), Statement.RETURN_GENERATED_KEYS);
+            int index = 1;
+            for (Notification notification : notifications) {
+                ps.setLong(index++, notification.getRecipientId());
+                ps.setString(index++, notification.getType().name());
+                ps.setString(index++, notification.getMessage());
+                if (notification.getReferenceId() != null) {
+                    ps.setLong(index++, notification.getReferenceId());
+                } else {
+                    ps.setNull(index++, Types.BIGINT);
+                }
+                ps.setBoolean(index++, notification.isRead());
+                ps.setInt(index++, notification.getMergedCount());
+                ps.setTimestamp(index++, timestamp);
+                ps.setTimestamp(index++, timestamp);
+            }
+            return ps;
+        }, keyHolder);
+
+        return keyHolder.getKeyList().stream()
+                .map(Map::values)
+                .map(values -> ((Number) values.iterator().next()).longValue())
+                .toList();
+    }
+
+    @Override
+    public List<RetentionRow> findRetentionRowsAfter(long afterId, int limit) {
+        return jdbcTemplate.query(
+                "SELECT id, is_read, created_at FROM notifications WHERE id > ? ORDER BY id LIMIT ?",
+                (rs, rowNum) -> {
+                    Timestamp createdAt = rs.getTimestamp("created_at");
+                    return new RetentionRow(rs.getLong("id"), rs.getBoolean("is_read"),
+                            createdAt != null ? createdAt.toLocalDateTime() : LocalDateTime.MIN);
+                },
+                afterId, limit);
+    }
+
+    @Override
+    public int deleteByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM notifications WHERE id IN (" + placeholders + ")", ids.toArray());
+    }
+
+    @Override
+    public List<DuplicateGroup> findDuplicateGroups(long fromRecipientId, long toRecipientId, int minSize, int limit) {
+        return jdbcTemplate.query(
+                "SELECT recipient_id, type, reference_id, is_read, MAX(id) AS keep_id, SUM(merged_count) AS merged_total "
+                        + "FROM notifications WHERE recipient_id > ? AND recipient_id <= ? AND reference_id IS NOT NULL "
+                        + "GROUP BY recipient_id, type, reference_id, is_read "
+                        + "HAVING COUNT(*) >= ? LIMIT ?",
+                (rs, rowNum) -> new DuplicateGroup(rs.getLong("recipient_id"),
+                        NotificationType.valueOf(rs.getString("type")), rs.getLong("reference_id"),
+                        rs.getBoolean("is_read"), rs.getLong("keep_id"), rs.getInt("merged_total")),
+                fromRecipientId, toRecipientId, minSize, limit);
+    }
+
+    @Override
+    public long findMaxRecipientId() {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(recipient_id) FROM notifications", Long.class);
+        return max != null ? max : 0L;
+    }
+
+    @Override
+    public int deleteGroupOlderThanKeep(DuplicateGroup group, int limit) {
+        return jdbcTemplate.update(
+                "DELETE FROM notifications WHERE recipient_id = ? AND type = ? AND reference_id = ? "
+                        + "AND is_read = ? AND id < ? LIMIT ?",
+                group.recipientId(), group.type().name(), group.referenceId(), group.read(), group.keepId(), limit);
+    }
+
+    @Override
+    public void updateMergedCount(long id, int mergedCount, LocalDateTime now) {
+        jdbcTemplate.update("UPDATE notifications SET merged_count = ?, updated_at = ? WHERE id = ?",
+                mergedCount, Timestamp.valueOf(now), id);
+    }
+}
@@ -1,8 +1,13 @@
 package com.messenger.notification.repository;
 
 import com.messenger.notification.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -11,18 +16,57 @@ import java.util.List;
  * ============================================================
  *
  * 【주요 쿼리】
- * - findByRecipientIdOrderByCreatedAtDesc: 사용자의 모든 알림 (최신순)
- * - findByRecipientIdAndReadFalse:         읽지 않은 알림만 조회
- * - countByRecipientIdAndReadFalse:        읽지 않은 알림 수
+ * - findInboxFirstPage / findInboxPageBefore: 알림함 커서 페이지 (최신순, 인덱스 (recipient_id, created_at))
+ * - markAllAsReadByRecipientId:                UPDATE 한 문장으로 전체 읽음
+ * - findUnreadSince:                           요약 메일에 넣을 읽지 않은 알림
+ * - countByRecipientIdAndReadFalse:            읽지 않은 알림 수 (카운터 캐시가 비었을 때만)
+ * - insertAll:                                 알림 다건 multi-row INSERT (NotificationBatchRepository)
  * ============================================================
  */
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
+public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationBatchRepository {
 
-    /** 특정 사용자의 알림 목록 (최신순) */
-    List<Notification> findByRecipientIdOrderByCreatedAtDesc(Long recipientId);
+    /**
+     * 알림함 첫 페이지 (최신순).
+     *
+     * @param pageable 페이지 크기 (PageRequest.of(0, size))
+     */
+    @Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxFirstPage(@Param("recipientId") Long recipientId, Pageable pageable);
 
-    /** 특정 사용자의 읽지 않은 알림 목록 */
-    List<Notification> findByRecipientIdAndReadFalseOrderByCreatedAtDesc(Long recipientId);
+    /**
+     * 알림함 다음 페이지: 커서(마지막으로 받은 알림의 createdAt, id)보다 오래된 알림.
+     * writer가 한 배치를 같은 createdAt으로 저장하므로 id로 동순위를 가릅니다.
+     * OFFSET 없이 인덱스에서 커서 위치부터 바로 읽습니다.
+     */
+    @Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId " +
+           "AND (n.createdAt < :createdAt OR (n.createdAt = :createdAt AND n.id < :id)) " +
+           "ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findInboxPageBefore(@Param("recipientId") Long recipientId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("id") Long id,
+                                           Pageable pageable);
+
+    /**
+     * since 이후에 생긴 읽지 않은 알림 (최신순). 오프라인 사용자 요약 메일용.
+     *
+     * @param pageable 최대 건수 (PageRequest.of(0, size))
+     */
+    @Query("SELECT n FROM Notification n WHERE n.recipientId = :recipientId " +
+           "AND n.createdAt > :since AND n.read = false ORDER BY n.createdAt DESC, n.id DESC")
+    List<Notification> findUnreadSince(@Param("recipientId") Long recipientId,
+                                       @Param("since") LocalDateTime since,
+                                       Pageable pageable);
+
+    /**
+     * 사용자의 읽지 않은 알림을 한 문장으로 읽음 처리합니다. (엔티티를 불러오지 않음)
+     *
+     * @return 읽음 처리된 건수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.read = true, n.updatedAt = :now " +
+           "WHERE n.recipientId = :recipientId AND n.read = false")
+    int markAllAsReadByRecipientId(@Param("recipientId") Long recipientId, @Param("now") LocalDateTime now);
 
     /** 특정 사용자의 읽지 않은 알림 수 */
     long countByRecipientIdAndReadFalse(Long recipientId);
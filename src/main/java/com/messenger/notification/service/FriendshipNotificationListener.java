@@ -0,0 +1,55 @@
+package com.messenger.notification.service;
+
+import com.messenger.notification.entity.NotificationType;
+import com.messenger.user.event.FriendAcceptedEvent;
+import com.messenger.user.event.FriendRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * ============================================================
+ * FriendshipNotificationListener - 친구 요청/수락 알림
+ * ============================================================
+ *
+ * 【흐름】
+ * 1. FriendshipService가 트랜잭션 안에서 이벤트만 발행 (알림 코드를 직접 호출하지 않음)
+ * 2. 트랜잭션이 커밋된 뒤(AFTER_COMMIT)에만 이 리스너가 실행
+ *    → 롤백된 친구 요청에는 알림이 가지 않음
+ * 3. NotificationService.createAndSend()로 NotificationWriter 대기열에 넣고 반환
+ *    → 저장/전송은 writer 스레드가 다른 알림과 묶어서 처리
+ *
+ * 커밋 이후라 여기서 실패해도 친구 요청 자체는 유지됩니다. (로그만 남김)
+ * ============================================================
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendshipNotificationListener {
+
+    private final NotificationService notificationService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFriendRequested(FriendRequestedEvent event) {
+        try {
+            notificationService.createAndSend(event.receiverId(), NotificationType.FRIEND_REQUEST,
+                    event.requesterName() + "님이 친구 요청을 보냈습니다.", event.friendshipId());
+        } catch (Exception e) {
+            log.warn("[friend-request] notification enqueue failed. friendshipId={}, reason={}",
+                    event.friendshipId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onFriendAccepted(FriendAcceptedEvent event) {
+        try {
+            notificationService.createAndSend(event.requesterId(), NotificationType.FRIEND_ACCEPTED,
+                    event.accepterName() + "님이 친구 요청을 수락했습니다.", event.friendshipId());
+        } catch (Exception e) {
+            log.warn("[friend-accept] notification enqueue failed. friendshipId={}, reason={}",
+                    event.friendshipId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.messenger.notification.service;
+
+import com.messenger.infrastructure.redis.RedisCacheService;
+import com.messenger.infrastructure.websocket.UserMessageRouter;
+import com.messenger.notification.dto.NotificationBadgeResponse;
+import com.messenger.notification.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * ============================================================
+ * NotificationCounterService - 읽지 않은 알림 수 (Redis 카운터 + 배지 전송)
+ * ============================================================
+ *
+ * 【문제】
+ * 읽지 않은 알림 수를 매번 COUNT 쿼리로 세면 페이지를 열 때마다 DB를 읽습니다.
+ *
+ * 【동작 방식】 키: "notification:unread:{userId}" (TTL = ttl-days, 변경될 때마다 연장)
+ * - get():       Redis 값 사용. 키가 없을 때(처음/만료)만 COUNT 쿼리 1회로 채움
+ * - increment(): 알림 저장 후 writer가 호출. 키가 있을 때만 INCRBY (Lua, 원자적)
+ *                → 키가 없으면 DB에서 다시 세어 채움 (방금 저장한 알림까지 포함)
+ * - decrement(): 알림 읽음 / 압축으로 삭제. 0 아래로 내려가지 않음
+ * - reset():     전체 읽음 → 0
+ * 값이 바뀔 때마다 /user/{userId}/queue/notifications로 배지 프레임을 보냅니다.
+ *
+ * Redis 장애 시 get()은 DB 값으로 응답하고, 나머지는 로그만 남깁니다. (알림 기능은 계속 동작)
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationCounterService {
+
+    private static final String KEY_PREFIX = "notification:unread:";
+
+    /** 키가 있을 때만 증가 + TTL 연장. 키가 없으면 -1 */
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then return -1 end " +
+            "local v = redis.call('INCRBY', KEYS[1], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return v",
+            Long.class);
+
+    /** 키가 있을 때만 감소 (0 미만 방지) + TTL 연장. 키가 없으면 -1 */
+    private static final RedisScript<Long> DECREMENT_IF_POSITIVE = new DefaultRedisScript<>(
+            "local v = redis.call('GET', KEYS[1]) " +
+            "if not v then return -1 end " +
+            "v = math.max(tonumber(v) - tonumber(ARGV[1]), 0) " +
+            "redis.call('SET', KEYS[1], v, 'PX', ARGV[2]) " +
+            "return v",
+            Long.class);
+
+    private final RedisCacheService redisCacheService;
+    private final NotificationRepository notificationRepository;
+    private final UserMessageRouter userMessageRouter;
+
+    @Value("${app.notification.unread.ttl-days:7}")
+    private long ttlDays;
+
+    /**
+     * 읽지 않은 알림 수를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 읽지 않은 알림 수
+     */
+    public long get(Long userId) {
+        try {
+            Object cached = redisCacheService.get(key(userId));
+            if (cached != null) {
+                return Long.parseLong(cached.toString());
+            }
+        } catch (Exception e) {
+            log.warn("[알림 카운터 조회 실패] 사용자ID={}, DB로 대체 - {}", userId, e.getMessage());
+            return notificationRepository.countByRecipientIdAndReadFalse(userId);
+        }
+        return seed(userId);
+    }
+
+    /**
+     * 새 알림 저장 후 호출합니다. 변경된 값을 배지로 전송합니다.
+     *
+     * @param userId 수신자 ID
+     * @param delta  새로 저장된 알림 수
+     */
+    public void increment(Long userId, long delta) {
+        increment(userId, delta, true);
+    }
+
+    /**
+     * 새 알림 저장 후 호출합니다.
+     * 오프라인 사용자(push=false)는 배지를 보내지 않고, 키가 없어도 DB에서 채우지 않습니다. (다음 get() 때 채움)
+     *
+     * @param userId 수신자 ID
+     * @param delta  새로 저장된 알림 수
+     * @param push   배지 프레임 전송 여부 (수신자가 접속 중일 때만)
+     */
+    public void increment(Long userId, long delta, boolean push) {
+        try {
+            Long count = redisCacheService.executeScript(INCREMENT_IF_PRESENT, List.of(key(userId)),
+                    String.valueOf(delta), String.valueOf(ttl().toMillis()));
+            if (push) {
+                publish(userId, count == null || count < 0 ? seed(userId) : count);
+            }
+        } catch (Exception e) {
+            log.warn("[알림 카운터 증가 실패] 사용자ID={}, 에러={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 알림 1건을 읽었을 때 호출합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void decrement(Long userId) {
+        decrement(userId, 1);
+    }
+
+    /**
+     * 읽지 않은 알림이 여러 건 줄었을 때 호출합니다. (예: 알림 압축으로 삭제)
+     *
+     * @param userId 사용자 ID
+     * @param delta  줄어든 건수
+     */
+    public void decrement(Long userId, long delta) {
+        try {
+            Long count = redisCacheService.executeScript(DECREMENT_IF_POSITIVE, List.of(key(userId)),
+                    String.valueOf(delta), String.valueOf(ttl().toMillis()));
+            publish(userId, count == null || count < 0 ? seed(userId) : count);
+        } catch (Exception e) {
+            log.warn("[알림 카운터 감소 실패] 사용자ID={}, 에러={}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * 모든 알림을 읽었을 때 호출합니다.
+     *
+     * @param userId 사용자 ID
+     */
+    public void reset(Long userId) {
+        try {
+            redisCacheService.set(key(userId), "0", ttl());
+            publish(userId, 0);
+        } catch (Exception e) {
+            log.warn("[알림 카운터 초기화 실패] 사용자ID={}, 에러={}", userId, e.getMessage());
+        }
+    }
+
+    /** 키가 없을 때 DB에서 세어 채웁니다. 동시에 다른 곳에서 채웠으면 그 값을 사용합니다. */
+    private long seed(Long userId) {
+        long count = notificationRepository.countByRecipientIdAndReadFalse(userId);
+        String key = key(userId);
+        if (!redisCacheService.setIfAbsent(key, String.valueOf(count), ttl())) {
+            Object current = redisCacheService.get(key);
+            if (current != null) {
+                return Long.parseLong(current.toString());
+            }
+        }
+        log.debug("[알림 카운터 채움] 사용자ID={}, 읽지 않은 알림={}", userId, count);
+        return count;
+    }
+
+    private void publish(Long userId, long count) {
+        try {
+            userMessageRouter.sendToUser(userId, "/queue/notifications", new NotificationBadgeResponse(count));
+        } catch (Exception e) {
+            log.warn("[알림 배지 전송 실패] 사용자ID={}, 에러={}", userId, e.getMessage());
+        }
+    }
+
+    private Duration ttl() {
+        return Duration.ofDays(ttlDays);
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
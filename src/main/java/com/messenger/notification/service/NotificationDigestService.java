@@ -0,0 +1,213 @@
+package com.messenger.notification.service;
+
+import com.messenger.chat.service.ChatPresenceService;
+import com.messenger.infrastructure.mail.MailPriority;
+import com.messenger.infrastructure.mail.MailQueueService;
+import com.messenger.infrastructure.redis.DistributedLockService;
+import com.messenger.infrastructure.redis.RedisCacheService;
+import com.messenger.notification.entity.Notification;
+import com.messenger.notification.repository.NotificationRepository;
+import com.messenger.user.entity.User;
+import com.messenger.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * ============================================================
+ * NotificationDigestService - 오프라인 사용자 알림 요약 메일
+ * ============================================================
+ *
+ * 【흐름】
+ * 1. NotificationWriter가 저장한 알림의 수신자가 오프라인이면 WebSocket 전송을 건너뛰고
+ *    record()로 "요약 대기" SET(notification:digest:pending)에 사용자 ID만 넣습니다.
+ *    (알림 내용은 이미 DB에 있으므로 Redis에 따로 쌓지 않음)
+ * 2. 정해진 주기(cron)마다 한 노드만(분산 락) sendDigests() 실행
+ *    - 그 사이 접속한 사용자는 앱에서 볼 수 있으므로 건너뜀
+ *    - 마지막 요약 이후의 읽지 않은 알림을 최대 max-items건 모아 메일 1통을 메일 큐에 등록
+ *    → 알림 1건마다 메일을 보내지 않고, 사용자당 주기마다 최대 1통
+ * 3. 실제 발송/재시도는 MailQueueWorker가 처리 (큐 등록에 실패하면 대기 SET에 다시 넣어 다음 주기에)
+ *
+ * 이메일 인증을 마친 사용자에게만 보냅니다. 기본값은 꺼짐(app.notification.digest.enabled=false)입니다.
+ * ============================================================
+ */
+@Slf4j
+@Service
+public class NotificationDigestService {
+
+    private static final String PENDING_KEY = "notification:digest:pending";
+    private static final String SENT_KEY_PREFIX = "notification:digest:sent:";
+    private static final String LOCK_NAME = "notification:digest";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(10);
+    private static final Duration SENT_MARKER_TTL = Duration.ofDays(30);
+
+    /** 처음 요약을 받는 사용자는 최근 이 기간의 알림만 포함 */
+    private static final Duration FIRST_DIGEST_WINDOW = Duration.ofDays(1);
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("MM-dd HH:mm");
+
+    private final RedisCacheService redisCacheService;
+    private final DistributedLockService distributedLockService;
+    private final ChatPresenceService chatPresenceService;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final MailQueueService mailQueueService;
+    private final boolean enabled;
+    private final int maxItems;
+
+    private final LongAdder recorded = new LongAdder();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder skippedOnline = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    public NotificationDigestService(RedisCacheService redisCacheService,
+                                     DistributedLockService distributedLockService,
+                                     ChatPresenceService chatPresenceService,
+                                     NotificationRepository notificationRepository,
+                                     UserRepository userRepository,
+                                     MailQueueService mailQueueService,
+                                     @Value("${app.notification.digest.enabled:false}") boolean enabled,
+                                     @Value("${app.notification.digest.max-items:20}") int maxItems) {
+        this.redisCacheService = redisCacheService;
+        this.distributedLockService = distributedLockService;
+        this.chatPresenceService = chatPresenceService;
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.mailQueueService = mailQueueService;
+        this.enabled = enabled;
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 오프라인이라 전송하지 못한 알림의 수신자를 요약 대기에 넣습니다. (SADD 1회)
+     *
+     * @param userIds 오프라인 수신자 ID
+     */
+    public void record(Collection<Long> userIds) {
+        if (!enabled || userIds.isEmpty()) {
+            return;
+        }
+        try {
+            redisCacheService.addAllToSet(PENDING_KEY,
+                    userIds.stream().map(String::valueOf).collect(Collectors.toList()));
+            recorded.add(userIds.size());
+        } catch (Exception e) {
+            log.warn("[알림 요약] 대기 등록 실패 - {}명, 에러={}", userIds.size(), e.getMessage());
+        }
+    }
+
+    /** 요약 대기 중인 오프라인 사용자에게 메일을 보냅니다. */
+    @Scheduled(cron = "${app.notification.digest.cron:0 0 * * * *}")
+    public void sendDigests() {
+        if (!enabled) {
+            return;
+        }
+        String token = distributedLockService.tryLock(LOCK_NAME, LOCK_LEASE);
+        if (token == null) {
+            return;
+        }
+        try {
+            Set<Object> pending = redisCacheService.getSetMembers(PENDING_KEY);
+            if (pending == null || pending.isEmpty()) {
+                return;
+            }
+            List<Long> userIds = pending.stream().map(member -> Long.parseLong(member.toString())).toList();
+            // 조회 실패 시 모두 오프라인으로 보지 않고 이번 실행을 건너뜀 (대기 목록은 다음 실행에서 처리)
+            Map<Long, Boolean> online = chatPresenceService.lookupOnlineStatuses(userIds);
+            for (Long userId : userIds) {
+                // 처리 중 새로 들어온 알림은 다시 SADD 되므로 먼저 제거
+                redisCacheService.removeFromSet(PENDING_KEY, userId.toString());
+                if (Boolean.TRUE.equals(online.get(userId))) {
+                    skippedOnline.increment();
+                    continue;
+                }
+                sendDigest(userId);
+                distributedLockService.renew(LOCK_NAME, token, LOCK_LEASE);
+            }
+            log.info("[알림 요약] 대상 {}명 처리 (누적 발송={}, 실패={})", userIds.size(), sent.sum(), failed.sum());
+        } catch (Exception e) {
+            log.error("[알림 요약] 실행 실패 - 에러={}", e.getMessage(), e);
+        } finally {
+            distributedLockService.unlock(LOCK_NAME, token);
+        }
+    }
+
+    /** 처리 현황 (디버그 API용) */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("recorded", recorded.sum());
+        stats.put("sent", sent.sum());
+        stats.put("skippedOnline", skippedOnline.sum());
+        stats.put("failed", failed.sum());
+        return stats;
+    }
+
+    void sendDigest(Long userId) {
+        User user = userRepository.findById(userId).orElse(null);
+        if (user == null || !user.isEmailVerified() || user.getEmail() == null) {
+            return;
+        }
+
+        String sentKey = SENT_KEY_PREFIX + userId;
+        LocalDateTime since = lastSentAt(sentKey);
+        List<Notification> unread = notificationRepository.findUnreadSince(userId, since, PageRequest.of(0, maxItems));
+        if (unread.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            if (!mailQueueService.enqueue(user.getEmail(), "[Messenger] 읽지 않은 알림 " + unread.size() + "건",
+                    render(user, unread), MailPriority.BULK)) {
+                return;
+            }
+            redisCacheService.set(sentKey, String.valueOf(now.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()),
+                    SENT_MARKER_TTL);
+            sent.increment();
+        } catch (Exception e) {
+            failed.increment();
+            redisCacheService.addToSet(PENDING_KEY, userId.toString());
+            log.warn("[알림 요약] 메일 큐 등록 실패 - 사용자ID={}, 다음 주기에 재시도, 에러={}", userId, e.getMessage());
+        }
+    }
+
+    private LocalDateTime lastSentAt(String sentKey) {
+        Object value = redisCacheService.get(sentKey);
+        if (value == null) {
+            return LocalDateTime.now().minus(FIRST_DIGEST_WINDOW);
+        }
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(value.toString())), ZoneId.systemDefault());
+    }
+
+    private String render(User user, List<Notification> unread) {
+        StringBuilder text = new StringBuilder()
+                .append(user.getDisplayName()).append("님, 접속하지 않은 동안 새 알림이 도착했습니다.\n\n");
+        for (Notification notification : unread) {
+            text.append("- [").append(notification.getCreatedAt() != null ? notification.getCreatedAt().format(TIME_FORMAT) : "")
+                    .append("] ").append(notification.getMessage());
+            if (notification.getMergedCount() > 1) {
+                text.append(" (외 ").append(notification.getMergedCount() - 1).append("건)");
+            }
+            text.append('\n');
+        }
+        if (unread.size() >= maxItems) {
+            text.append("\n더 많은 알림은 메신저에서 확인하세요.\n");
+        }
+        return text.toString();
+    }
+}
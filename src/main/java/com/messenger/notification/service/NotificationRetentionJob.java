@@ -0,0 +1,296 @@
+package com.messenger.notification.service;
+
+import com.messenger.infrastructure.redis.DistributedLockService;
+import com.messenger.infrastructure.redis.RedisCacheService;
+import com.messenger.notification.repository.NotificationBatchRepository.DuplicateGroup;
+import com.messenger.notification.repository.NotificationBatchRepository.RetentionRow;
+import com.messenger.notification.repository.NotificationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ============================================================
+ * NotificationRetentionJob - 알림 테이블 정리 (압축 + 보존 기간 삭제)
+ * ============================================================
+ *
+ * 【문제】
+ * notifications 테이블은 지우는 곳이 없어 계속 커집니다.
+ * 테이블과 인덱스가 버퍼 풀에 들어가지 않으면 알림함 조회/전체 읽음이 디스크를 읽기 시작합니다.
+ *
+ * 【1단계: 압축】
+ * 같은 수신자 + 같은 유형 + 같은 대상(reference_id) + 같은 읽음 상태로 compact-min-group건 이상 쌓이면
+ * (예: 한 채팅방에서 멘션 50건) 최신 1건만 남기고 나머지를 지운 뒤, 남긴 알림의 merged_count에 건수를 더합니다.
+ * 읽지 않은 묶음이면 지운 건수만큼 읽지 않은 알림 카운터를 줄입니다.
+ * - 묶음 조회는 수신자 ID compact-recipient-window개 구간씩 나눠 실행 (테이블 전체 GROUP BY 없음)
+ * - 구간 조회는 커버링 인덱스(idx_notifications_dedupe)만 읽음
+ *
+ * 【2단계: 보존 기간 삭제】
+ * read-retention-days가 지난 "읽은" 알림을 지웁니다. (읽지 않은 알림은 기간과 상관없이 남김)
+ * - PK 순서로 chunk-size건씩 읽고(키셋: id > 마지막 ID), 그중 대상만 ID로 삭제
+ * - 각 문장은 바로 커밋 → 한 번에 잡는 락은 chunk-size건 이하
+ * - 묶음 사이에 chunk-pause-ms만큼 쉬어 다른 쓰기에 양보
+ * - ID는 생성 순서대로 커지므로, 기준 시각 이후에 만든 행을 만나면 그 자리에서 끝냅니다.
+ * - 마지막으로 확인한 ID를 Redis("notification:retention:purge-cursor")에 저장하고 다음 실행은 그 뒤부터 읽음
+ *   → 매일 이미 정리한 앞부분을 다시 훑지 않음, 중간에 멈춰도 이어서 진행
+ * - 커서 앞쪽에서 나중에 읽음 처리된 알림은 full-sweep-days마다 한 번 처음(ID 0)부터 다시 훑어 정리
+ *
+ * 【여러 서버】
+ * 분산 락("notification:retention")을 얻은 한 노드만 실행하고, 묶음마다 임대를 연장합니다.
+ *
+ * 【실행 스레드】
+ * 묶음 사이에 쉬며 오래 도는 작업이므로 스케줄러 스레드는 notificationRetentionExecutor에 넘기고 바로 반환합니다.
+ * ============================================================
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private static final String LOCK_NAME = "notification:retention";
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+    private static final String PURGE_CURSOR_KEY = "notification:retention:purge-cursor";
+    private static final String FULL_SWEEP_KEY = "notification:retention:full-sweep";
+
+    /** 한 번 실행에서 압축할 최대 묶음 수 (나머지는 다음 실행에서) */
+    private static final int MAX_GROUPS_PER_RUN = 1000;
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationCounterService notificationCounterService;
+    private final DistributedLockService distributedLockService;
+    private final RedisCacheService redisCacheService;
+    private final Executor notificationRetentionExecutor;
+    private final boolean enabled;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final long chunkPauseMs;
+    private final int compactMinGroup;
+    private final long compactRecipientWindow;
+    private final long fullSweepDays;
+
+    /** 이 노드에서 이전 실행이 아직 진행 중이면 다시 시작하지 않음 */
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder purged = new LongAdder();
+    private final LongAdder compactedGroups = new LongAdder();
+    private final LongAdder compactedRows = new LongAdder();
+    private volatile long lastRunMs;
+
+    public NotificationRetentionJob(NotificationRepository notificationRepository,
+                                    NotificationCounterService notificationCounterService,
+                                    DistributedLockService distributedLockService,
+                                    RedisCacheService redisCacheService,
+                                    @Qualifier("notificationRetentionExecutor") Executor notificationRetentionExecutor,
+                                    @Value("${app.notification.retention.enabled:true}") boolean enabled,
+                                    @Value("${app.notification.retention.read-retention-days:30}") int retentionDays,
+                                    @Value("${app.notification.retention.chunk-size:500}") int chunkSize,
+                                    @Value("${app.notification.retention.chunk-pause-ms:50}") long chunkPauseMs,
+                                    @Value("${app.notification.retention.compact-min-group:5}") int compactMinGroup,
+                                    @Value("${app.notification.retention.compact-recipient-window:1000}") long compactRecipientWindow,
+                                    @Value("${app.notification.retention.full-sweep-days:7}") long fullSweepDays) {
+        this.notificationRepository = notificationRepository;
+        this.notificationCounterService = notificationCounterService;
+        this.distributedLockService = distributedLockService;
+        this.redisCacheService = redisCacheService;
+        this.notificationRetentionExecutor = notificationRetentionExecutor;
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.chunkPauseMs = chunkPauseMs;
+        this.compactMinGroup = compactMinGroup;
+        this.compactRecipientWindow = Math.max(1, compactRecipientWindow);
+        this.fullSweepDays = fullSweepDays;
+    }
+
+    /** 스케줄러 스레드에서는 정리 작업을 전용 스레드에 넘기기만 합니다. */
+    @Scheduled(cron = "${app.notification.retention.cron:0 30 3 * * *}")
+    public void trigger() {
+        if (!enabled) {
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[알림 정리] 이전 실행이 아직 진행 중 - 스킵");
+            return;
+        }
+        try {
+            notificationRetentionExecutor.execute(() -> {
+                try {
+                    run();
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            log.error("[알림 정리] 작업 제출 실패 - 에러={}", e.getMessage());
+        }
+    }
+
+    /** 정리 작업 본체 (notificationRetentionExecutor 스레드에서 실행) */
+    void run() {
+        String token = distributedLockService.tryLock(LOCK_NAME, LOCK_LEASE);
+        if (token == null) {
+            log.debug("[알림 정리] 다른 노드가 실행 중 - 스킵");
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            int groups = compact(token);
+            long deleted = purge(LocalDateTime.now().minusDays(retentionDays), token);
+            runs.increment();
+            lastRunMs = System.currentTimeMillis() - startedAt;
+            log.info("[알림 정리 완료] 압축 묶음={}개, 보존 기간 삭제={}건, 소요={}ms", groups, deleted, lastRunMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("[알림 정리 실패] 에러={}", e.getMessage(), e);
+        } finally {
+            distributedLockService.unlock(LOCK_NAME, token);
+        }
+    }
+
+    /** 처리 현황 (디버그 API용) */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("runs", runs.sum());
+        stats.put("purged", purged.sum());
+        stats.put("compactedGroups", compactedGroups.sum());
+        stats.put("compactedRows", compactedRows.sum());
+        stats.put("lastRunMs", lastRunMs);
+        return stats;
+    }
+
+    /**
+     * 반복된 알림 묶음을 최신 1건으로 합칩니다.
+     *
+     * @return 압축한 묶음 수
+     */
+    int compact(String token) throws InterruptedException {
+        long maxRecipientId = notificationRepository.findMaxRecipientId();
+        int total = 0;
+        for (long from = 0; from < maxRecipientId && total < MAX_GROUPS_PER_RUN; from += compactRecipientWindow) {
+            List<DuplicateGroup> groups = notificationRepository.findDuplicateGroups(
+                    from, from + compactRecipientWindow, compactMinGroup, MAX_GROUPS_PER_RUN - total);
+            for (DuplicateGroup group : groups) {
+                compactGroup(group, token);
+            }
+            total += groups.size();
+            pause(token);
+        }
+        return total;
+    }
+
+    private void compactGroup(DuplicateGroup group, String token) throws InterruptedException {
+        // 오래된 알림부터 지우고 건수를 기록 → 중간에 멈춰도 다음 실행에서 이중으로 세지 않음
+        int removed = 0;
+        int deleted;
+        do {
+            deleted = notificationRepository.deleteGroupOlderThanKeep(group, chunkSize);
+            removed += deleted;
+            pause(token);
+        } while (deleted == chunkSize);
+
+        notificationRepository.updateMergedCount(group.keepId(), group.mergedTotal(), LocalDateTime.now());
+        if (!group.read() && removed > 0) {
+            notificationCounterService.decrement(group.recipientId(), removed);
+        }
+        compactedGroups.increment();
+        compactedRows.add(removed);
+        log.debug("[알림 압축] 수신자ID={}, 유형={}, 대상ID={}, 삭제={}건, 합계={}",
+                group.recipientId(), group.type(), group.referenceId(), removed, group.mergedTotal());
+    }
+
+    /**
+     * 기준 시각 이전의 읽은 알림을 키셋 묶음 단위로 삭제합니다.
+     *
+     * @return 삭제된 건수
+     */
+    long purge(LocalDateTime cutoff, String token) throws InterruptedException {
+        long afterId = startCursor();
+        long total = 0;
+        while (true) {
+            List<RetentionRow> rows = notificationRepository.findRetentionRowsAfter(afterId, chunkSize);
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Long> ids = new ArrayList<>();
+            long scannedUpTo = afterId;
+            boolean reachedCutoff = false;
+            for (RetentionRow row : rows) {
+                if (!row.createdAt().isBefore(cutoff)) {
+                    reachedCutoff = true;
+                    break;
+                }
+                scannedUpTo = row.id();
+                if (row.read()) {
+                    ids.add(row.id());
+                }
+            }
+            int deleted = notificationRepository.deleteByIdIn(ids);
+            total += deleted;
+            purged.add(deleted);
+            if (scannedUpTo > afterId) {
+                // 기준 시각 전까지 확인한 마지막 ID (읽지 않아 남긴 행은 전체 다시 훑기에서 다시 봄)
+                saveCursor(scannedUpTo);
+                afterId = scannedUpTo;
+            }
+
+            if (reachedCutoff || rows.size() < chunkSize) {
+                break;
+            }
+            pause(token);
+        }
+        return total;
+    }
+
+    /**
+     * 삭제를 시작할 ID. full-sweep-days마다 한 번은 0부터 (커서 앞쪽에서 나중에 읽은 알림 정리),
+     * 그 외에는 저장된 커서 다음부터 읽습니다.
+     */
+    private long startCursor() {
+        try {
+            if (redisCacheService.setIfAbsent(FULL_SWEEP_KEY, String.valueOf(System.currentTimeMillis()),
+                    Duration.ofDays(fullSweepDays))) {
+                log.info("[알림 정리] 전체 다시 훑기 - 처음부터 삭제 대상 확인");
+                return 0;
+            }
+            Object cursor = redisCacheService.get(PURGE_CURSOR_KEY);
+            return cursor != null ? Long.parseLong(cursor.toString()) : 0;
+        } catch (Exception e) {
+            // 커서를 모르면 처음부터 (느리지만 빠뜨리는 행 없음)
+            log.warn("[알림 정리] 커서 조회 실패, 처음부터 진행 - 에러={}", e.getMessage());
+            return 0;
+        }
+    }
+
+    private void saveCursor(long afterId) {
+        try {
+            redisCacheService.set(PURGE_CURSOR_KEY, String.valueOf(afterId), Duration.ofDays(fullSweepDays * 2));
+        } catch (Exception e) {
+            log.warn("[알림 정리] 커서 저장 실패 - 마지막ID={}, 에러={}", afterId, e.getMessage());
+        }
+    }
+
+    /** 묶음 사이에 쉬면서 락 임대를 연장합니다. 락을 잃었으면 중단합니다. */
+    private void pause(String token) throws InterruptedException {
+        if (!distributedLockService.renew(LOCK_NAME, token, LOCK_LEASE)) {
+            throw new IllegalStateException("알림 정리 락 임대 만료");
+        }
+        if (chunkPauseMs > 0) {
+            Thread.sleep(chunkPauseMs);
+        }
+    }
+}
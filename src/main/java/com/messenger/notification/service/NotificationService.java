@@ -1,5 +1,6 @@
 package com.messenger.notification.service;
 
+import com.messenger.notification.dto.NotificationPageResponse;
 import com.messenger.notification.dto.NotificationResponse;
 import com.messenger.notification.entity.Notification;
 import com.messenger.notification.entity.NotificationType;
@@ -8,11 +9,11 @@ import com.messenger.common.exception.BusinessException;
 import com.messenger.common.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,14 +26,17 @@ import java.util.stream.Collectors;
  * 알림의 생성, 조회, 읽음 처리, 실시간 전송을 담당합니다.
  *
  * 【알림 전송 흐름】
- * 1. createAndSend() 호출 (비동기 - @Async)
- * 2. DB에 알림 저장
+ * 1. createAndSend() 호출 → NotificationWriter 대기열에 넣고 즉시 반환
+ * 2. writer 스레드가 모인 알림을 한 번에 DB 저장 (multi-row INSERT)
  * 3. WebSocket으로 해당 사용자에게 실시간 전송 (/user/{userId}/queue/notifications)
  *
+ * 【읽지 않은 알림 수】
+ * NotificationCounterService의 Redis 카운터를 사용합니다. (COUNT 쿼리는 캐시가 비었을 때만)
+ * 저장(writer)/읽음/전체 읽음 때마다 카운터가 바뀌고 같은 경로로 배지 프레임이 전송됩니다.
+ *
  * 【비동기 처리하는 이유】
  * 알림 발송이 채팅 메시지 처리를 지연시키면 안 됩니다.
- * 예: 채팅에서 @멘션 감지 → 알림 저장 + WebSocket 전송을 별도 스레드에서 처리
- *     → 메인 채팅 흐름은 즉시 계속 진행
+ * 예: 채팅에서 @멘션 감지 → 대기열에 넣기만 하고 메인 채팅 흐름은 즉시 계속 진행
  *
  * 【WebSocket 알림 경로】
  * - /user/{userId}/queue/notifications
@@ -45,80 +49,101 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class NotificationService {
 
+    /** 알림함 한 페이지 최대 크기 */
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationWriter notificationWriter;
+    private final NotificationCounterService notificationCounterService;
 
     /**
      * 【알림 생성 + 실시간 전송 (비동기)】
      *
-     * 알림을 DB에 저장하고, WebSocket으로 실시간 전송합니다.
-     * @Async("notificationExecutor"): 알림 전용 스레드풀에서 실행됩니다.
+     * 알림을 NotificationWriter 대기열에 넣고 바로 반환합니다.
+     * 저장(여러 건을 한 번에 INSERT)과 WebSocket 전송은 writer 스레드가 처리합니다.
      *
      * @param recipientId 알림 받을 사용자 ID
      * @param type        알림 유형 (MENTION, REPORT, SYSTEM)
      * @param message     알림 메시지 내용
      * @param referenceId 관련 객체 ID (채팅방 ID, 리포트 ID 등)
      */
-    @Async("notificationExecutor")
-    @Transactional
     public void createAndSend(Long recipientId, NotificationType type, String message, Long referenceId) {
-        try {
-            // 1단계: DB에 알림 저장
-            Notification notification = Notification.builder()
+        Notification notification = Notification.builder()
+                .recipientId(recipientId)
+                .type(type)
+                .message(message)
+                .referenceId(referenceId)
+                .build();
+
+        notificationWriter.submit(notification);
+        log.debug("[알림 생성] 수신자ID={}, 유형={}", recipientId, type);
+    }
+
+    /**
+     * 【같은 알림을 여러 사용자에게 (비동기)】
+     * @all 멘션처럼 수신자가 많은 경우에 사용합니다. writer가 모아서 한 번에 저장합니다.
+     *
+     * @param recipientIds 알림 받을 사용자 ID 목록 (중복 없이 전달)
+     */
+    public void createAndSendAll(List<Long> recipientIds, NotificationType type, String message, Long referenceId) {
+        for (Long recipientId : recipientIds) {
+            notificationWriter.submit(Notification.builder()
                     .recipientId(recipientId)
                     .type(type)
                     .message(message)
                     .referenceId(referenceId)
-                    .build();
-
-            notificationRepository.save(notification);
-            log.info("[알림 생성] 수신자ID={}, 유형={}, 메시지={}", recipientId, type, message);
-
-            // 2단계: WebSocket으로 실시간 전송
-            // convertAndSendToUser: Spring이 자동으로 /user/{userId}/queue/notifications 경로로 라우팅
-            NotificationResponse response = NotificationResponse.from(notification);
-            messagingTemplate.convertAndSendToUser(
-                    recipientId.toString(),
-                    "/queue/notifications",
-                    response
-            );
-
-            log.debug("[알림 전송] WebSocket으로 전송 완료 - 수신자ID={}", recipientId);
-
-        } catch (Exception e) {
-            // 알림 발송 실패가 전체 시스템에 영향을 주면 안 되므로 로그만 남김
-            log.error("[알림 전송 실패] 수신자ID={}, 에러={}", recipientId, e.getMessage(), e);
+                    .build());
         }
+        log.debug("[알림 일괄 생성] 수신자 수={}, 유형={}", recipientIds.size(), type);
     }
 
     /**
-     * 사용자의 모든 알림 조회 (최신순).
+     * 알림함 한 페이지 조회 (최신순, 커서 방식).
+     * 알림이 많이 쌓인 사용자도 페이지당 size건만 읽습니다.
      *
      * @param userId 사용자 ID
-     * @return 알림 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (최대 MAX_PAGE_SIZE)
+     * @return 알림 목록 + 다음 페이지 커서
      */
-    public List<NotificationResponse> getNotifications(Long userId) {
-        List<Notification> notifications = notificationRepository
-                .findByRecipientIdOrderByCreatedAtDesc(userId);
+    @Transactional(readOnly = true)
+    public NotificationPageResponse getNotifications(Long userId, String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // 한 건 더 읽어서 다음 페이지가 있는지 판단 (COUNT 쿼리 없음)
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = notificationRepository.findInboxFirstPage(userId, limit);
+        } else {
+            Cursor position = Cursor.decode(cursor);
+            rows = notificationRepository.findInboxPageBefore(userId, position.createdAt(), position.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Notification> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? Cursor.of(page.get(page.size() - 1)).encode() : null;
 
-        return notifications.stream()
-                .map(NotificationResponse::from)
-                .collect(Collectors.toList());
+        return NotificationPageResponse.builder()
+                .notifications(page.stream().map(NotificationResponse::from).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
-     * 읽지 않은 알림 수 조회.
+     * 읽지 않은 알림 수 조회 (Redis 카운터).
      *
      * @param userId 사용자 ID
      * @return 읽지 않은 알림 수
      */
     public long getUnreadCount(Long userId) {
-        return notificationRepository.countByRecipientIdAndReadFalse(userId);
+        return notificationCounterService.get(userId);
     }
 
     /**
      * 특정 알림을 읽음 처리.
-     * 본인의 알림만 읽음 처리할 수 있습니다.
+     * 본인의 알림만 읽음 처리할 수 있습니다. 이미 읽은 알림이면 카운터를 건드리지 않습니다.
      *
      * @param notificationId 알림 ID
      * @param userId 요청한 사용자 ID (소유권 검증용)
@@ -132,24 +157,51 @@ public class NotificationService {
             throw new BusinessException(ErrorCode.FORBIDDEN);
         }
 
+        if (notification.isRead()) {
+            return;
+        }
         notification.markAsRead();
         notificationRepository.save(notification);
+        notificationCounterService.decrement(userId);
         log.debug("[알림 읽음] 알림ID={}, 사용자ID={}", notificationId, userId);
     }
 
     /**
      * 사용자의 모든 알림을 읽음 처리.
+     * UPDATE 한 문장으로 처리합니다. (읽지 않은 알림을 하나씩 불러와 저장하지 않음)
      *
      * @param userId 사용자 ID
      */
     @Transactional
     public void markAllAsRead(Long userId) {
-        List<Notification> unread = notificationRepository
-                .findByRecipientIdAndReadFalseOrderByCreatedAtDesc(userId);
+        int updated = notificationRepository.markAllAsReadByRecipientId(userId, LocalDateTime.now());
+        notificationCounterService.reset(userId);
+
+        log.info("[알림 전체 읽음] 사용자ID={}, 처리 건수={}", userId, updated);
+    }
+
+    /**
+     * 알림함 커서: 마지막으로 받은 알림의 (createdAt, id).
+     * 문자열 형태는 "2026-10-19T09:30:00.123_42" 입니다.
+     */
+    record Cursor(LocalDateTime createdAt, Long id) {
+
+        static Cursor of(Notification notification) {
+            return new Cursor(notification.getCreatedAt(), notification.getId());
+        }
 
-        unread.forEach(Notification::markAsRead);
-        notificationRepository.saveAll(unread);
+        static Cursor decode(String value) {
+            int separator = value.lastIndexOf('_');
+            try {
+                return new Cursor(LocalDateTime.parse(value.substring(0, separator)),
+                        Long.parseLong(value.substring(separator + 1)));
+            } catch (RuntimeException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+        }
 
-        log.info("[알림 전체 읽음] 사용자ID={}, 처리 건수={}", userId, unread.size());
+        String encode() {
+            return createdAt + "_" + id;
+        }
     }
 }
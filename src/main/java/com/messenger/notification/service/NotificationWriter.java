@@ -0,0 +1,295 @@
+package com.messenger.notification.service;
+
+import com.messenger.chat.service.ChatPresenceService;
+import com.messenger.infrastructure.websocket.UserMessageRouter;
+import com.messenger.infrastructure.websocket.UserMessageRouter.UserMessage;
+import com.messenger.notification.dto.NotificationResponse;
+import com.messenger.notification.entity.Notification;
+import com.messenger.notification.repository.NotificationRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ============================================================
+ * NotificationWriter - 알림 일괄 저장 + 실시간 전송
+ * ============================================================
+ *
+ * 【문제】
+ * 알림 1건마다 @Async 작업 1개(트랜잭션 1개 + INSERT 1회 + WebSocket 전송)를 만들면
+ * @all 멘션이나 큰 채팅방 초대처럼 한꺼번에 수백 건이 생길 때
+ * 스레드풀 큐(50)가 넘쳐 TaskRejectedException으로 알림이 사라집니다.
+ *
+ * 【구조】 여러 생산자 → 유한 큐 → 단일 writer 스레드
+ * 1. submit(): 아무 스레드에서나 큐에 넣고 바로 반환 (DB 작업 없음)
+ * 2. writer 스레드: 첫 알림이 들어오면 flush-interval-ms 동안 더 모아서
+ *    최대 batch-size 건을 multi-row INSERT 한 문장으로 저장
+ * 3. 수신자들의 접속 상태를 한 번에 조회 (Redis 1회)
+ *    - 접속 중: 알림을 WebSocket 전송 (UserMessageRouter가 세션이 있는 노드로 전달)
+ *    - 오프라인: 전송을 건너뛰고 요약 메일 대기에 등록 (NotificationDigestService)
+ *    - 조회 실패/상태 모름: 접속 중으로 간주해 전송하고 요약 메일은 건너뜀
+ *      (Redis 장애 때 모두를 오프라인으로 보면 실시간 알림이 끊기고 요약 메일이 쏟아짐)
+ * 4. 수신자별 읽지 않은 알림 수를 건수만큼 올리고, 접속 중이면 배지 전송 (NotificationCounterService)
+ *
+ * 【큐가 가득 찼을 때 (overflow-policy)】
+ * - CALLER_RUNS (기본): 제출한 스레드가 그 알림을 직접 저장/전송 (유실 없음, 생산자가 느려짐)
+ * - DROP:               알림을 버리고 dropped 카운터 증가 + 경고 로그 (채팅 흐름 보호 우선)
+ * 어느 쪽이든 조용히 사라지는 알림은 없고, getStats()로 확인할 수 있습니다.
+ * ============================================================
+ */
+@Slf4j
+@Component
+public class NotificationWriter {
+
+    /** 큐가 가득 찼을 때의 처리 방식 */
+    public enum OverflowPolicy {
+        CALLER_RUNS,
+        DROP
+    }
+
+    private final NotificationRepository notificationRepository;
+    private final UserMessageRouter userMessageRouter;
+    private final NotificationCounterService notificationCounterService;
+    private final ChatPresenceService chatPresenceService;
+    private final NotificationDigestService notificationDigestService;
+    private final BlockingQueue<Notification> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final OverflowPolicy overflowPolicy;
+
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder written = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder callerRuns = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder offlineSkipped = new LongAdder();
+    private final LongAdder presenceUnknown = new LongAdder();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public NotificationWriter(NotificationRepository notificationRepository,
+                              UserMessageRouter userMessageRouter,
+                              NotificationCounterService notificationCounterService,
+                              ChatPresenceService chatPresenceService,
+                              NotificationDigestService notificationDigestService,
+                              @Value("${app.notification.writer.queue-capacity:10000}") int queueCapacity,
+                              @Value("${app.notification.writer.batch-size:200}") int batchSize,
+                              @Value("${app.notification.writer.flush-interval-ms:5}") long flushIntervalMs,
+                              @Value("${app.notification.writer.overflow-policy:CALLER_RUNS}") OverflowPolicy overflowPolicy) {
+        this.notificationRepository = notificationRepository;
+        this.userMessageRouter = userMessageRouter;
+        this.notificationCounterService = notificationCounterService;
+        this.chatPresenceService = chatPresenceService;
+        this.notificationDigestService = notificationDigestService;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalMs = flushIntervalMs;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * 알림을 저장 대기열에 넣습니다. DB 작업을 기다리지 않습니다.
+     *
+     * @param notification 저장할 알림 (ID 없음)
+     */
+    public void submit(Notification notification) {
+        submitted.increment();
+        if (queue.offer(notification)) {
+            return;
+        }
+
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            callerRuns.increment();
+            flush(List.of(notification));
+        } else {
+            dropped.increment();
+            log.warn("[알림 큐 초과] 알림 버림 - 수신자ID={}, 유형={}, 누적 버림={}",
+                    notification.getRecipientId(), notification.getType(), dropped.sum());
+        }
+    }
+
+    /** 애플리케이션 준비 후 writer 스레드 시작 (그 전에 들어온 알림은 큐에서 대기) */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::drainLoop, "notification-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("[알림 writer 시작] 큐 크기={}, 배치 크기={}, 모으는 시간={}ms, 초과 정책={}",
+                queue.size() + queue.remainingCapacity(), batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    /** 종료 시 writer를 멈추고 큐에 남은 알림을 모두 저장합니다. */
+    @PreDestroy
+    public void stop() {
+        Thread thread;
+        synchronized (this) {
+            running = false;
+            thread = writerThread;
+        }
+        if (thread != null) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        List<Notification> rest = new ArrayList<>();
+        while (queue.drainTo(rest, batchSize) > 0) {
+            flush(rest);
+            rest = new ArrayList<>();
+        }
+    }
+
+    /** 처리 현황 (디버그 API용) */
+    public Map<String, Long> getStats() {
+        Map<String, Long> stats = new LinkedHashMap<>();
+        stats.put("queued", (long) queue.size());
+        stats.put("submitted", submitted.sum());
+        stats.put("written", written.sum());
+        stats.put("batches", batches.sum());
+        stats.put("callerRuns", callerRuns.sum());
+        stats.put("dropped", dropped.sum());
+        stats.put("failed", failed.sum());
+        stats.put("offlineSkipped", offlineSkipped.sum());
+        stats.put("presenceUnknown", presenceUnknown.sum());
+        return stats;
+    }
+
+    // ===== writer 스레드 =====
+
+    private void drainLoop() {
+        List<Notification> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 종료 신호: 이미 모은 알림은 아래에서 저장, 큐에 남은 알림은 stop()이 저장
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+    }
+
+    /**
+     * 첫 알림을 기다린 뒤, flush-interval-ms가 지나거나 batch-size가 찰 때까지 더 모읍니다.
+     * → 한가할 때는 지연 최대 flush-interval-ms, 폭주할 때는 batch-size 단위로 저장
+     */
+    void collect(List<Notification> batch) throws InterruptedException {
+        Notification first = queue.poll(1, TimeUnit.SECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        queue.drainTo(batch, batchSize - batch.size());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            Notification next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+    }
+
+    /**
+     * 모은 알림을 한 번에 저장하고 접속 중인 수신자에게 전송합니다.
+     * 읽지 않은 알림 수는 수신자당 1번만 올립니다. (@all 멘션 100건 → 사용자 100명 × 1회)
+     * 저장에 실패하면 배치 전체를 failed로 집계하고 로그를 남깁니다. (알림 때문에 writer가 멈추면 안 됨)
+     */
+    void flush(List<Notification> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids;
+        try {
+            ids = notificationRepository.insertAll(batch, now);
+        } catch (Exception e) {
+            failed.add(batch.size());
+            log.error("[알림 저장 실패] {}건, 에러={}", batch.size(), e.getMessage(), e);
+            return;
+        }
+        written.add(batch.size());
+        batches.increment();
+        log.debug("[알림 저장] {}건을 한 번에 저장", batch.size());
+
+        Map<Long, Long> perRecipient = new LinkedHashMap<>();
+        for (Notification notification : batch) {
+            perRecipient.merge(notification.getRecipientId(), 1L, Long::sum);
+        }
+        Map<Long, Boolean> online;
+        try {
+            online = chatPresenceService.lookupOnlineStatuses(perRecipient.keySet());
+        } catch (Exception e) {
+            presenceUnknown.increment();
+            log.warn("[알림 전송] 접속 상태 조회 실패, 모두 전송 - 수신자 수={}, 에러={}",
+                    perRecipient.size(), e.getMessage());
+            online = Map.of();
+        }
+
+        List<UserMessage> messages = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            Notification notification = batch.get(i);
+            if (isOffline(online, notification.getRecipientId())) {
+                offlineSkipped.increment();
+                continue;
+            }
+            messages.add(new UserMessage(notification.getRecipientId(), NotificationResponse.builder()
+                    .id(i < ids.size() ? ids.get(i) : null)
+                    .type(notification.getType())
+                    .message(notification.getMessage())
+                    .referenceId(notification.getReferenceId())
+                    .read(false)
+                    .createdAt(now)
+                    .mergedCount(notification.getMergedCount())
+                    .build()));
+        }
+        try {
+            userMessageRouter.sendToUsers("/queue/notifications", messages);
+        } catch (Exception e) {
+            // 저장은 끝났으므로 다음 조회 때 보임. 전송 실패만 기록
+            log.warn("[알림 전송 실패] {}건, 에러={}", messages.size(), e.getMessage());
+        }
+
+        List<Long> offline = new ArrayList<>();
+        perRecipient.forEach((recipientId, count) -> {
+            boolean connected = !isOffline(online, recipientId);
+            notificationCounterService.increment(recipientId, count, connected);
+            if (!connected) {
+                offline.add(recipientId);
+            }
+        });
+        notificationDigestService.record(offline);
+    }
+
+    /** 오프라인이 확인된 경우만 true (조회 실패/상태 모름은 접속 중으로 간주) */
+    private boolean isOffline(Map<Long, Boolean> online, Long recipientId) {
+        return Boolean.FALSE.equals(online.get(recipientId));
+    }
+}
@@ -3,6 +3,18 @@ package com.messenger.report.controller;
 import com.messenger.common.dto.ApiResponse;
 import com.messenger.common.exception.BusinessException;
 import com.messenger.common.exception.ErrorCode;
+import com.messenger.report.dto.ReportListResponse;
+import com.messenger.report.dto.ReportResponse;
+import com.messenger.report.dto.ReportRollupResponse;
+import com.messenger.report.dto.ReportUpdateRequest;
+import com.messenger.report.entity.RollupPeriod;
+import com.messenger.report.service.ReportRegenerationService;
+import com.messenger.report.service.ReportRollupService;
+import com.messenger.report.service.ReportService;
+import jakarta.servlet.http.HttpSession;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -10,11 +22,35 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 
+import java.time.LocalDate;
+
+/**
+ * ============================================================
+ * ReportController - 업무일지 컨트롤러
+ * ============================================================
+ *
+ * 【엔드포인트 목록】
+ * GET  /api/reports?page=0&size=20                                → 내 업무일지 목록 (필요한 컬럼만, 페이지)
+ * GET  /api/reports/{id}                                          → 내 업무일지 상세 (항목 포함)
+ * PUT  /api/reports/{id}                                          → 내 업무일지 요약 수정
+ * POST /api/reports/regenerate?date=2026-02-09                     → 내 업무일지 다시 생성 (동시 요청은 병합)
+ * GET  /api/reports/rollups?period=WEEK&date=2026-02-09         → 내 주간/월간 요약
+ * GET  /api/reports/rollups/teams/{teamId}?period=MONTH&date=... → 팀 대시보드 (팀원만)
+ *
+ * 그 외 일일 업무일지 API는 현재 비활성화되어 있습니다. (REPORTS_DISABLED)
+ * ============================================================
+ */
 @Controller
+@RequiredArgsConstructor
 public class ReportController {
 
+    private final ReportService reportService;
+    private final ReportRollupService reportRollupService;
+    private final ReportRegenerationService reportRegenerationService;
+
     @GetMapping("/reports")
     public String reportListPage() {
         return "redirect:/worklog";
@@ -25,24 +61,36 @@ public class ReportController {
         return "redirect:/worklog";
     }
 
+    /** 내 업무일지 목록 (최신순, 페이지 단위) */
     @GetMapping("/api/reports")
     @ResponseBody
-    public ResponseEntity<ApiResponse<Void>> getReports() {
-        throw new BusinessException(ErrorCode.REPORTS_DISABLED);
+    public ResponseEntity<ApiResponse<ReportListResponse>> getReports(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            HttpSession session) {
+        Long userId = requireUserId(session);
+        ReportListResponse reports = reportService.getReports(userId, page, size);
+        return ResponseEntity.ok(ApiResponse.success("업무일지 목록을 조회했습니다.", reports));
     }
 
+    /** 내 업무일지 상세 (항목 포함) */
     @GetMapping("/api/reports/{id}")
     @ResponseBody
-    public ResponseEntity<ApiResponse<Void>> getReport(@PathVariable Long id) {
-        throw new BusinessException(ErrorCode.REPORTS_DISABLED);
+    public ResponseEntity<ApiResponse<ReportResponse>> getReport(@PathVariable Long id, HttpSession session) {
+        Long userId = requireUserId(session);
+        ReportResponse report = reportService.getReport(id, userId);
+        return ResponseEntity.ok(ApiResponse.success("업무일지를 조회했습니다.", report));
     }
 
     @PutMapping("/api/reports/{id}")
     @ResponseBody
-    public ResponseEntity<ApiResponse<Void>> updateReport(
+    public ResponseEntity<ApiResponse<ReportResponse>> updateReport(
             @PathVariable Long id,
-            @RequestBody(required = false) Object request) {
-        throw new BusinessException(ErrorCode.REPORTS_DISABLED);
+            @Valid @RequestBody ReportUpdateRequest request,
+            HttpSession session) {
+        Long userId = requireUserId(session);
+        ReportResponse report = reportService.updateReport(id, userId, request);
+        return ResponseEntity.ok(ApiResponse.success("업무일지를 수정했습니다.", report));
     }
 
     @PostMapping("/api/reports/{id}/confirm")
@@ -56,4 +104,57 @@ public class ReportController {
     public ResponseEntity<ApiResponse<Void>> generateReport() {
         throw new BusinessException(ErrorCode.REPORTS_DISABLED);
     }
+
+    /**
+     * 내 업무일지 다시 생성.
+     * date를 생략하면 오늘 업무일지를 대상으로 합니다. 업무일지가 없으면 새로 만듭니다.
+     */
+    @PostMapping("/api/reports/regenerate")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<ReportResponse>> regenerateReport(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            HttpSession session) {
+        Long userId = requireUserId(session);
+        ReportResponse report = reportRegenerationService.regenerate(
+                userId, date != null ? date : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success("업무일지를 다시 생성했습니다.", report));
+    }
+
+    /**
+     * 내 주간/월간 요약.
+     * date를 생략하면 오늘이 포함된 기간을 조회합니다.
+     */
+    @GetMapping("/api/reports/rollups")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<ReportRollupResponse>> getMyRollup(
+            @RequestParam(defaultValue = "WEEK") RollupPeriod period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            HttpSession session) {
+        Long userId = requireUserId(session);
+        ReportRollupResponse rollup = reportRollupService.getUserRollup(
+                userId, period, date != null ? date : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success("업무일지 요약을 조회했습니다.", rollup));
+    }
+
+    /** 팀 대시보드 (주간/월간 팀 요약 + 팀원별 활동량) */
+    @GetMapping("/api/reports/rollups/teams/{teamId}")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<ReportRollupResponse>> getTeamRollup(
+            @PathVariable Long teamId,
+            @RequestParam(defaultValue = "WEEK") RollupPeriod period,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            HttpSession session) {
+        Long userId = requireUserId(session);
+        ReportRollupResponse rollup = reportRollupService.getTeamRollup(
+                teamId, userId, period, date != null ? date : LocalDate.now());
+        return ResponseEntity.ok(ApiResponse.success("팀 업무일지 요약을 조회했습니다.", rollup));
+    }
+
+    private Long requireUserId(HttpSession session) {
+        Long userId = (Long) session.getAttribute("userId");
+        if (userId == null) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+        return userId;
+    }
 }
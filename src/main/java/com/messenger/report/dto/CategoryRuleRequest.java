@@ -0,0 +1,32 @@
+package com.messenger.report.dto;
+
+import com.messenger.report.entity.CategoryRuleType;
+import com.messenger.report.entity.WorkCategory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ============================================================
+ * CategoryRuleRequest - 업무 분류 규칙 등록 요청 DTO
+ * ============================================================
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryRuleRequest {
+
+    @NotNull(message = "카테고리를 선택해주세요.")
+    private WorkCategory category;
+
+    @NotNull(message = "규칙 종류를 선택해주세요.")
+    private CategoryRuleType ruleType;
+
+    /** 키워드 또는 정규식 */
+    @NotBlank(message = "키워드 또는 정규식을 입력해주세요.")
+    @Size(max = 200)
+    private String pattern;
+}
@@ -0,0 +1,31 @@
+package com.messenger.report.dto;
+
+import com.messenger.report.entity.CategoryRule;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * ============================================================
+ * CategoryRuleResponse - 업무 분류 규칙 응답 DTO
+ * ============================================================
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class CategoryRuleResponse {
+
+    private Long id;
+    private String category;
+    private String ruleType;
+    private String pattern;
+
+    public static CategoryRuleResponse from(CategoryRule rule) {
+        return CategoryRuleResponse.builder()
+                .id(rule.getId())
+                .category(rule.getCategory().name())
+                .ruleType(rule.getRuleType().name())
+                .pattern(rule.getPattern())
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.messenger.report.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * ============================================================
+ * ReportListResponse - 업무일지 목록 페이지 응답 DTO
+ * ============================================================
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ReportListResponse {
+
+    private List<ReportSummaryResponse> reports;
+    private int page;
+    private int size;
+    private long totalCount;
+    private boolean hasNext;
+}
@@ -0,0 +1,79 @@
+package com.messenger.report.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ============================================================
+ * ReportRollupResponse - 주간/월간/팀 업무일지 요약 응답 DTO
+ * ============================================================
+ *
+ * 【구성】
+ * 기간 안의 DailyReport / ReportItem을 합친 결과입니다. (원본 메시지는 읽지 않음)
+ *   - type:           WEEK, MONTH, TEAM_WEEK, TEAM_MONTH
+ *   - subjectId/Name: 사용자 또는 팀
+ *   - categoryCounts: 카테고리별 메시지 수 합계
+ *   - rooms:          채팅방별 메시지 수 합계 (많은 순)
+ *   - daily:          날짜별 메시지 수 (업무일지가 있는 날만)
+ *   - members:        팀원별 메시지 수 (팀 요약만, 업무일지가 있는 팀원, 많은 순)
+ * ============================================================
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ReportRollupResponse {
+
+    private String type;
+    private Long subjectId;
+    private String subjectName;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int reportCount;
+    private int totalMessageCount;
+    private int activeRoomCount;
+    private Map<String, Integer> categoryCounts;
+    private List<RoomRollup> rooms;
+    private List<DailyPoint> daily;
+    private List<MemberRollup> members;
+
+    /**
+     * 채팅방별 합계 (내부 클래스)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class RoomRollup {
+        private String chatRoomName;
+        private int messageCount;
+        private String category;
+    }
+
+    /**
+     * 날짜별 메시지 수 (내부 클래스)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class DailyPoint {
+        private LocalDate date;
+        private int messageCount;
+    }
+
+    /**
+     * 팀원별 합계 (내부 클래스)
+     */
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class MemberRollup {
+        private Long userId;
+        private String userName;
+        private int reportCount;
+        private int messageCount;
+    }
+}
@@ -0,0 +1,35 @@
+package com.messenger.report.dto;
+
+import com.messenger.report.entity.ReportStatus;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * ============================================================
+ * ReportSummaryResponse - 업무일지 목록 한 줄 (프로젝션)
+ * ============================================================
+ *
+ * 【프로젝션 조회】
+ * DailyReportRepository가 JPQL 생성자 표현식(SELECT new ...)으로 이 객체를 바로 만듭니다.
+ * → 목록에 필요한 컬럼만 SELECT, 엔티티/요약 본문(TEXT)/항목은 읽지 않음
+ * ============================================================
+ */
+@Getter
+public class ReportSummaryResponse {
+
+    private final Long id;
+    private final LocalDate reportDate;
+    private final int totalMessageCount;
+    private final int activeRoomCount;
+    private final String status;
+
+    public ReportSummaryResponse(Long id, LocalDate reportDate, int totalMessageCount,
+                                 int activeRoomCount, ReportStatus status) {
+        this.id = id;
+        this.reportDate = reportDate;
+        this.totalMessageCount = totalMessageCount;
+        this.activeRoomCount = activeRoomCount;
+        this.status = status != null ? status.name() : null;
+    }
+}
@@ -1,5 +1,7 @@
 package com.messenger.report.dto;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,6 +16,8 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ReportUpdateRequest {
 
-    /** 수정할 업무 요약 */
+    /** 수정할 업무 요약 (비어 있으면 기존 요약이 지워지므로 거부) */
+    @NotBlank(message = "업무 요약을 입력해주세요.")
+    @Size(max = 5000, message = "업무 요약은 5000자 이하로 입력해주세요.")
     private String summary;
 }
@@ -0,0 +1,48 @@
+package com.messenger.report.entity;
+
+import com.messenger.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * ============================================================
+ * CategoryRule - 관리자가 관리하는 업무 분류 규칙
+ * ============================================================
+ *
+ * 【역할】
+ * 메시지 본문에서 pattern이 발견되면 category의 점수를 올립니다.
+ * 메시지 분석 시 점수가 가장 높은 카테고리로 업무가 분류됩니다.
+ *
+ * 【예시】
+ *   KEYWORD "배포"            → DEVELOPMENT
+ *   REGEX   "PR\s*#?\d+"     → REVIEW
+ *
+ * 관리자 규칙은 기본 키워드 규칙(CompiledRuleSet.DEFAULT_KEYWORDS)에 더해집니다.
+ * 기본 키워드와 같은 단어를 KEYWORD로 등록하면 그 단어의 카테고리가 바뀝니다.
+ * ============================================================
+ */
+@Entity
+@Table(name = "category_rules")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class CategoryRule extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 일치 시 점수를 올릴 카테고리 */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private WorkCategory category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "rule_type", nullable = false, length = 20)
+    private CategoryRuleType ruleType;
+
+    /** 키워드 또는 정규식 */
+    @Column(nullable = false, length = 200)
+    private String pattern;
+}
@@ -0,0 +1,11 @@
+package com.messenger.report.entity;
+
+/**
+ * ============================================================
+ * CategoryRuleType - 업무 분류 규칙 종류
+ * ============================================================
+ */
+public enum CategoryRuleType {
+    KEYWORD,    // 키워드 포함 여부 (출현 횟수만큼 가산)
+    REGEX       // 정규식 일치 (일치 횟수만큼 가산)
+}
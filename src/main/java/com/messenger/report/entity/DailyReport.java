@@ -6,8 +6,12 @@ import jakarta.persistence.*;
 import lombok.*;
 
 import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ============================================================
@@ -29,7 +33,8 @@ import java.util.List;
  * ============================================================
  */
 @Entity
-@Table(name = "daily_reports")
+@Table(name = "daily_reports",
+       indexes = @Index(name = "idx_daily_reports_user_date", columnList = "user_id, report_date"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -81,6 +86,53 @@ public class DailyReport extends BaseEntity {
         item.setDailyReport(this);
     }
 
+    /**
+     * 【업무일지 다시 생성 반영】
+     * 새로 분석한 항목을 기존 항목과 채팅방 이름으로 맞춰 봅니다.
+     * - 같은 채팅방: 내용이 달라진 항목만 수정 (그대로면 UPDATE 없음)
+     * - 없어진 채팅방: 항목 삭제 (orphanRemoval)
+     * - 새 채팅방: 항목 추가
+     * 사용자가 수정/확인한 요약은 덮어쓰지 않습니다. (AUTO_GENERATED일 때만 교체)
+     *
+     * @return INSERT/UPDATE/DELETE가 필요한 항목 수
+     */
+    public int refresh(String newSummary, int totalMessageCount, int activeRoomCount, List<ReportItem> freshItems) {
+        this.totalMessageCount = totalMessageCount;
+        this.activeRoomCount = activeRoomCount;
+        if (this.status == ReportStatus.AUTO_GENERATED) {
+            this.summary = newSummary;
+        }
+
+        // 같은 이름의 채팅방이 여러 개일 수 있으므로 이름별로 줄을 세워 하나씩 짝지음
+        Map<String, Deque<ReportItem>> existing = new HashMap<>();
+        for (ReportItem item : this.items) {
+            existing.computeIfAbsent(item.getChatRoomName(), name -> new ArrayDeque<>()).add(item);
+        }
+
+        int changed = 0;
+        List<ReportItem> added = new ArrayList<>();
+        for (ReportItem fresh : freshItems) {
+            Deque<ReportItem> candidates = existing.get(fresh.getChatRoomName());
+            ReportItem current = candidates != null ? candidates.poll() : null;
+            if (current == null) {
+                added.add(fresh);
+                changed++;
+            } else if (current.updateFrom(fresh)) {
+                changed++;
+            }
+        }
+
+        for (Deque<ReportItem> stale : existing.values()) {
+            changed += stale.size();
+            this.items.removeAll(stale);
+        }
+        for (ReportItem item : added) {
+            addItem(item);
+        }
+        this.items.sort((a, b) -> Integer.compare(b.getRelatedMessageCount(), a.getRelatedMessageCount()));
+        return changed;
+    }
+
     /** 사용자가 요약을 수정합니다. */
     public void updateSummary(String newSummary) {
         this.summary = newSummary;
@@ -4,6 +4,8 @@ import com.messenger.common.entity.BaseEntity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Objects;
+
 /**
  * ============================================================
  * ReportItem - 업무일지 항목 엔티티
@@ -60,4 +62,23 @@ public class ReportItem extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(length = 30)
     private WorkCategory category;
+
+    /**
+     * 다시 분석한 항목의 내용으로 바꿉니다.
+     *
+     * @return 하나라도 달라졌으면 true
+     */
+    public boolean updateFrom(ReportItem fresh) {
+        boolean changed = !Objects.equals(title, fresh.getTitle())
+                || !Objects.equals(description, fresh.getDescription())
+                || relatedMessageCount != fresh.getRelatedMessageCount()
+                || category != fresh.getCategory();
+        if (changed) {
+            this.title = fresh.getTitle();
+            this.description = fresh.getDescription();
+            this.relatedMessageCount = fresh.getRelatedMessageCount();
+            this.category = fresh.getCategory();
+        }
+        return changed;
+    }
 }
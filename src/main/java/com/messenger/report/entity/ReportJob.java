@@ -0,0 +1,140 @@
+package com.messenger.report.entity;
+
+import com.messenger.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * ============================================================
+ * ReportJob - 업무일지 일괄 생성 작업 진행 상황
+ * ============================================================
+ *
+ * 【역할】
+ * 날짜별 업무일지 일괄 생성 작업의 진행 상황을 DB에 기록합니다.
+ * 조정 노드가 사용자를 ID 순으로 페이지 단위로 묶어 작업 큐(ReportWorkQueue)에 넣으며,
+ * 페이지마다 마지막으로 큐에 넣은 사용자 ID(lastProcessedUserId)를 저장합니다.
+ * → 조정 노드가 중간에 죽어도 다음 조정 노드가 그 다음 사용자부터 이어서 적재합니다.
+ * 처리 건수/시간은 모든 노드의 결과를 합쳐 작업이 끝날 때 기록합니다.
+ *
+ * 【테이블 구조】
+ * report_jobs
+ * ├── id (PK)
+ * ├── report_date             ← 대상 날짜
+ * ├── status                  ← RUNNING, FAILED, COMPLETED
+ * ├── last_processed_user_id  ← 재개 지점 (이 ID 다음 사용자부터 큐에 적재)
+ * ├── resume_attempts         ← 서버 재시작 후 이어서 처리한 횟수 (한도를 넘으면 더 이상 재개하지 않음)
+ * ├── processed_count / succeeded_count / failed_count
+ * ├── started_at / finished_at
+ * ├── elapsed_millis          ← 전체 소요 시간
+ * └── max_user_millis         ← 사용자 1명 처리에 걸린 최대 시간
+ * ============================================================
+ */
+@Entity
+@Table(name = "report_jobs", indexes = @Index(name = "idx_report_jobs_date", columnList = "report_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReportJob extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** 업무일지 대상 날짜 */
+    @Column(name = "report_date", nullable = false)
+    private LocalDate reportDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReportJobStatus status;
+
+    /** 마지막으로 작업 큐에 넣은 사용자 ID (0이면 처음부터) */
+    @Column(name = "last_processed_user_id", nullable = false)
+    @Builder.Default
+    private Long lastProcessedUserId = 0L;
+
+    /** 서버 재시작 후 이어서 처리한 횟수 */
+    @Column(name = "resume_attempts", nullable = false, columnDefinition = "int default 0")
+    private int resumeAttempts;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "succeeded_count", nullable = false)
+    private int succeededCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /** 전체 처리 시간 (모든 노드의 묶음 처리 시간의 합) */
+    @Column(name = "elapsed_millis", nullable = false)
+    private long elapsedMillis;
+
+    /** 사용자 1명 처리에 걸린 최대 시간 */
+    @Column(name = "max_user_millis", nullable = false)
+    private long maxUserMillis;
+
+    /** 새 작업을 시작합니다. */
+    public static ReportJob start(LocalDate reportDate) {
+        return ReportJob.builder()
+                .reportDate(reportDate)
+                .status(ReportJobStatus.RUNNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /** 사용자 한 페이지를 작업 큐에 넣었음을 기록합니다. */
+    public void markEnqueued(Long lastUserId) {
+        this.lastProcessedUserId = lastUserId;
+    }
+
+    /** 적재를 처음부터 다시 해야 할 때 재개 지점을 되돌립니다. (작업 큐 상태가 사라진 경우) */
+    public void resetEnqueued() {
+        this.lastProcessedUserId = 0L;
+    }
+
+    /** 서버 재시작 후 이어서 처리함을 기록합니다. */
+    public void markResumed() {
+        this.resumeAttempts++;
+    }
+
+    /** 전체 처리 결과를 반영하고 작업을 완료 처리합니다. */
+    public void complete(int succeeded, int failed, long elapsedMillis, long maxUserMillis) {
+        this.processedCount = succeeded + failed;
+        this.succeededCount = succeeded;
+        this.failedCount = failed;
+        this.elapsedMillis = elapsedMillis;
+        this.maxUserMillis = maxUserMillis;
+        this.status = ReportJobStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /** 묶음 처리 중 예외로 중단되었음을 기록합니다. 이미 완료된 작업은 그대로 둡니다. */
+    public void fail() {
+        if (this.status == ReportJobStatus.COMPLETED) {
+            return;
+        }
+        this.status = ReportJobStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /** 처리가 끝나지 않아 다시 참여해야 하는 작업인지 (실행 중 또는 실패) */
+    public boolean isResumable() {
+        return status == ReportJobStatus.RUNNING || status == ReportJobStatus.FAILED;
+    }
+
+    /** 사용자 1명당 평균 처리 시간 (ms) */
+    public long getAverageUserMillis() {
+        return processedCount > 0 ? elapsedMillis / processedCount : 0L;
+    }
+}
@@ -0,0 +1,37 @@
+package com.messenger.report.entity;
+
+import com.messenger.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * ============================================================
+ * ReportJobFailure - 업무일지 일괄 생성 중 실패한 사용자 기록
+ * ============================================================
+ *
+ * 【역할】
+ * 일괄 생성 작업(ReportJob) 중 특정 사용자의 업무일지 생성이 실패하면
+ * 사용자 ID와 에러 메시지를 남겨 원인 파악과 재처리에 사용합니다.
+ * ============================================================
+ */
+@Entity
+@Table(name = "report_job_failures", indexes = @Index(name = "idx_report_job_failures_job", columnList = "job_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ReportJobFailure extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+}
@@ -0,0 +1,18 @@
+package com.messenger.report.entity;
+
+/**
+ * ============================================================
+ * ReportJobStatus - 업무일지 일괄 생성 작업 상태
+ * ============================================================
+ *
+ * 【상태 흐름】
+ * RUNNING → COMPLETED
+ * RUNNING → FAILED → (재실행/재시작 시 남은 묶음을 이어서 처리) → COMPLETED
+ * RUNNING 상태로 서버가 종료되면 재시작 시 마지막 처리 지점부터 이어서 실행합니다.
+ * ============================================================
+ */
+public enum ReportJobStatus {
+    RUNNING,     // 실행 중 (또는 중단되어 재개 대기 중)
+    FAILED,      // 묶음 처리 중 예외로 중단 (다음 실행에서 재개)
+    COMPLETED    // 모든 사용자 처리 완료
+}
@@ -0,0 +1,34 @@
+package com.messenger.report.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * ============================================================
+ * RollupPeriod - 업무일지 요약 기간 단위
+ * ============================================================
+ *
+ * 【기간 계산】
+ * WEEK:  날짜가 속한 주의 월요일 ~ 일요일
+ * MONTH: 날짜가 속한 달의 1일 ~ 말일
+ * ============================================================
+ */
+public enum RollupPeriod {
+    WEEK,     // 주간 요약
+    MONTH;    // 월간 요약
+
+    /** 날짜가 속한 기간의 첫날 */
+    public LocalDate start(LocalDate date) {
+        return this == WEEK
+                ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                : date.withDayOfMonth(1);
+    }
+
+    /** 날짜가 속한 기간의 마지막 날 */
+    public LocalDate end(LocalDate date) {
+        return this == WEEK
+                ? date.with(TemporalAdjusters.nextOrSame(DayOfWeek.SUNDAY))
+                : date.with(TemporalAdjusters.lastDayOfMonth());
+    }
+}
@@ -0,0 +1,14 @@
+package com.messenger.report.repository;
+
+import com.messenger.report.entity.CategoryRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ============================================================
+ * CategoryRuleRepository - 업무 분류 규칙 데이터 접근
+ * ============================================================
+ */
+@Repository
+public interface CategoryRuleRepository extends JpaRepository<CategoryRule, Long> {
+}
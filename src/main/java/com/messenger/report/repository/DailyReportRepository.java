@@ -1,7 +1,12 @@
 package com.messenger.report.repository;
 
+import com.messenger.report.dto.ReportSummaryResponse;
 import com.messenger.report.entity.DailyReport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
@@ -19,9 +24,45 @@ public interface DailyReportRepository extends JpaRepository<DailyReport, Long>
     /** 특정 사용자의 특정 날짜 업무일지 조회 */
     Optional<DailyReport> findByUserIdAndReportDate(Long userId, LocalDate reportDate);
 
-    /** 특정 사용자의 업무일지 목록 조회 (최신순) */
-    List<DailyReport> findByUserIdOrderByReportDateDesc(Long userId);
+    /**
+     * 특정 사용자의 업무일지 목록을 페이지 단위로 조회합니다. (최신순)
+     * 목록에 필요한 컬럼만 DTO로 바로 만들므로 요약 본문과 항목은 읽지 않습니다.
+     */
+    @Query(value = "SELECT new com.messenger.report.dto.ReportSummaryResponse(" +
+                   "r.id, r.reportDate, r.totalMessageCount, r.activeRoomCount, r.status) " +
+                   "FROM DailyReport r WHERE r.user.id = :userId ORDER BY r.reportDate DESC",
+           countQuery = "SELECT COUNT(r) FROM DailyReport r WHERE r.user.id = :userId")
+    Page<ReportSummaryResponse> findSummariesByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 업무일지 상세 조회. 작성자와 항목을 한 번에 가져옵니다. (상세 화면/수정용)
+     */
+    @Query("SELECT r FROM DailyReport r JOIN FETCH r.user LEFT JOIN FETCH r.items WHERE r.id = :id")
+    Optional<DailyReport> findDetailById(@Param("id") Long id);
 
     /** 특정 날짜에 이미 업무일지가 존재하는지 확인 */
     boolean existsByUserIdAndReportDate(Long userId, LocalDate reportDate);
+
+    /**
+     * 특정 사용자의 기간 내 업무일지를 항목까지 한 번에 조회합니다. (주간/월간 요약용)
+     * JOIN FETCH로 항목을 함께 가져오므로 업무일지마다 항목 조회 쿼리가 나가지 않습니다.
+     */
+    @Query("SELECT DISTINCT r FROM DailyReport r LEFT JOIN FETCH r.items " +
+           "WHERE r.user.id = :userId AND r.reportDate BETWEEN :start AND :end")
+    List<DailyReport> findWithItemsByUserIdAndPeriod(@Param("userId") Long userId,
+                                                     @Param("start") LocalDate start,
+                                                     @Param("end") LocalDate end);
+
+    /**
+     * 팀원 전체의 기간 내 업무일지를 사용자/항목까지 한 번에 조회합니다. (팀 요약용)
+     * user_teams와 한 번 JOIN하므로 팀원 목록을 따로 조회하지 않습니다.
+     */
+    @Query("SELECT DISTINCT r FROM DailyReport r " +
+           "JOIN UserTeam ut ON ut.user = r.user " +
+           "JOIN FETCH r.user " +
+           "LEFT JOIN FETCH r.items " +
+           "WHERE ut.team.id = :teamId AND r.reportDate BETWEEN :start AND :end")
+    List<DailyReport> findWithItemsByTeamIdAndPeriod(@Param("teamId") Long teamId,
+                                                     @Param("start") LocalDate start,
+                                                     @Param("end") LocalDate end);
 }
@@ -0,0 +1,19 @@
+package com.messenger.report.repository;
+
+import com.messenger.report.entity.ReportJobFailure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * ============================================================
+ * ReportJobFailureRepository - 업무일지 생성 실패 기록 데이터 접근
+ * ============================================================
+ */
+@Repository
+public interface ReportJobFailureRepository extends JpaRepository<ReportJobFailure, Long> {
+
+    /** 특정 작업의 실패 기록 조회 */
+    List<ReportJobFailure> findByJobId(Long jobId);
+}
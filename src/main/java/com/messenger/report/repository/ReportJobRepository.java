@@ -0,0 +1,27 @@
+package com.messenger.report.repository;
+
+import com.messenger.report.entity.ReportJob;
+import com.messenger.report.entity.ReportJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ============================================================
+ * ReportJobRepository - 업무일지 일괄 생성 작업 데이터 접근
+ * ============================================================
+ */
+@Repository
+public interface ReportJobRepository extends JpaRepository<ReportJob, Long> {
+
+    /** 특정 날짜의 가장 최근 작업 조회 */
+    Optional<ReportJob> findTopByReportDateOrderByIdDesc(LocalDate reportDate);
+
+    /** 특정 날짜 이후의 특정 상태 작업 목록 조회 (재시작 시 최근 중단/실패한 작업 재개용) */
+    List<ReportJob> findByStatusInAndReportDateGreaterThanEqual(Collection<ReportJobStatus> statuses,
+                                                                LocalDate fromDate);
+}
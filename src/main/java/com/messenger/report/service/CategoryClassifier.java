@@ -0,0 +1,29 @@
+package com.messenger.report.service;
+
+/**
+ * ============================================================
+ * CategoryClassifier - 업무 카테고리 분류기 (SPI)
+ * ============================================================
+ *
+ * 【역할】
+ * 메시지 본문 하나를 읽고 카테고리별 점수를 누적 배열에 더합니다.
+ * MessageAnalyzer는 이 인터페이스만 알고, 실제 규칙은 구현체가 가집니다.
+ *
+ * 【구현 규칙】
+ * - 여러 스레드(업무일지 일괄 생성, 실시간 집계)에서 동시에 호출됩니다.
+ * - 메시지마다 호출되므로 호출당 객체를 만들지 않는 것이 좋습니다.
+ *
+ * 【기본 구현】
+ * RuleBasedCategoryClassifier: 관리자가 등록한 키워드/정규식 규칙 (무중단 교체 가능)
+ * ============================================================
+ */
+public interface CategoryClassifier {
+
+    /**
+     * 텍스트의 카테고리별 점수를 누적합니다.
+     *
+     * @param text   메시지 본문 (null이면 무시)
+     * @param counts 카테고리 ordinal 인덱스의 누적 배열 (길이 = WorkCategory.values().length)
+     */
+    void count(CharSequence text, int[] counts);
+}
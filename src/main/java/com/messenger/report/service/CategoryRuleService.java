@@ -0,0 +1,93 @@
+package com.messenger.report.service;
+
+import com.messenger.common.exception.BusinessException;
+import com.messenger.common.exception.ErrorCode;
+import com.messenger.report.dto.CategoryRuleRequest;
+import com.messenger.report.dto.CategoryRuleResponse;
+import com.messenger.report.entity.CategoryRule;
+import com.messenger.report.entity.CategoryRuleType;
+import com.messenger.report.repository.CategoryRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * ============================================================
+ * CategoryRuleService - 업무 분류 규칙 관리 (관리자용)
+ * ============================================================
+ *
+ * 【역할】
+ * 규칙을 등록/삭제하고, 저장이 끝나면 분류기에 교체를 요청합니다.
+ *
+ * 【트랜잭션】
+ * 저장(커밋)이 끝난 뒤 publishChange()를 호출해야 다른 노드가 새 규칙을 읽으므로,
+ * 이 서비스의 메서드는 하나의 트랜잭션으로 묶지 않습니다.
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryRuleService {
+
+    private final CategoryRuleRepository categoryRuleRepository;
+    private final RuleBasedCategoryClassifier ruleBasedCategoryClassifier;
+
+    /** 등록된 규칙 목록 (기본 키워드 규칙 위에 더해져 적용됨) */
+    public List<CategoryRuleResponse> findAllRules() {
+        return categoryRuleRepository.findAll().stream()
+                .map(CategoryRuleResponse::from)
+                .toList();
+    }
+
+    /**
+     * 규칙을 등록하고 분류기를 교체합니다.
+     * 정규식은 미리 컴파일해 보고, 올바르지 않거나 빈 문자열과 일치하면 거부합니다.
+     */
+    public CategoryRuleResponse addRule(CategoryRuleRequest request) {
+        String pattern = request.getPattern().trim();
+        if (request.getRuleType() == CategoryRuleType.REGEX) {
+            validateRegex(pattern);
+        }
+
+        CategoryRule saved = categoryRuleRepository.save(CategoryRule.builder()
+                .category(request.getCategory())
+                .ruleType(request.getRuleType())
+                .pattern(pattern)
+                .build());
+        ruleBasedCategoryClassifier.publishChange();
+
+        log.info("[업무 분류 규칙 등록] id={}, 카테고리={}, 종류={}, 패턴={}",
+                saved.getId(), saved.getCategory(), saved.getRuleType(), saved.getPattern());
+        return CategoryRuleResponse.from(saved);
+    }
+
+    /** 규칙을 삭제하고 분류기를 교체합니다. */
+    public void deleteRule(Long ruleId) {
+        CategoryRule rule = categoryRuleRepository.findById(ruleId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.CATEGORY_RULE_NOT_FOUND));
+        categoryRuleRepository.delete(rule);
+        ruleBasedCategoryClassifier.publishChange();
+
+        log.info("[업무 분류 규칙 삭제] id={}", ruleId);
+    }
+
+    /** 모든 노드에 DB 규칙을 다시 읽게 합니다. (DB를 직접 고친 경우) */
+    public void reloadRules() {
+        ruleBasedCategoryClassifier.publishChange();
+    }
+
+    private void validateRegex(String pattern) {
+        try {
+            // 빈 문자열과 일치하는 정규식은 모든 위치에서 일치하므로 점수를 왜곡함
+            if (Pattern.compile(pattern).matcher("").matches()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT);
+            }
+        } catch (PatternSyntaxException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.messenger.report.service;
+
+import com.messenger.report.entity.CategoryRule;
+import com.messenger.report.entity.CategoryRuleType;
+import com.messenger.report.entity.WorkCategory;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * ============================================================
+ * CompiledRuleSet - 컴파일된 업무 분류 규칙 묶음 (불변)
+ * ============================================================
+ *
+ * 【구성】
+ * - 키워드 규칙: KeywordAutomaton 하나로 합쳐 본문을 한 번만 훑음
+ * - 정규식 규칙: 미리 컴파일한 Pattern 배열
+ *
+ * 【할당 없는 분류】
+ * 정규식 Matcher는 스레드마다 한 번만 만들어 두고 reset(text)으로 재사용합니다.
+ * → 규칙이 바뀌지 않는 동안 count() 호출은 객체를 만들지 않습니다.
+ * ThreadLocal은 클래스에 하나만 두고 어느 규칙 묶음의 Matcher인지 함께 저장합니다.
+ * → 규칙이 교체되면 각 스레드는 다음 호출에서 새 묶음의 Matcher로 바꾸므로,
+ *   교체된 묶음이 스레드마다 쌓이지 않습니다. (인스턴스마다 ThreadLocal을 두면 교체할 때마다 남음)
+ *
+ * 【불변 객체】
+ * 규칙이 바뀌면 이 객체를 고치지 않고 새로 만들어 통째로 교체합니다. (RuleBasedCategoryClassifier)
+ * ============================================================
+ */
+final class CompiledRuleSet implements CategoryClassifier {
+
+    /** 항상 적용되는 기본 키워드 (관리자 키워드 규칙이 같은 단어의 카테고리를 바꿀 수 있음) */
+    static final Map<WorkCategory, List<String>> DEFAULT_KEYWORDS = Map.of(
+            WorkCategory.DEVELOPMENT, List.of(
+                    "코드", "버그", "수정", "배포", "개발", "구현", "PR", "커밋",
+                    "빌드", "테스트", "에러", "오류", "디버그", "API", "서버", "DB",
+                    "프론트", "백엔드", "기능", "모듈", "브랜치", "머지"),
+            WorkCategory.MEETING, List.of(
+                    "회의", "미팅", "논의", "결정", "안건", "일정", "참석",
+                    "발표", "공유", "보고", "계획", "전략", "목표"),
+            WorkCategory.REVIEW, List.of(
+                    "검토", "확인", "피드백", "리뷰", "승인", "반려",
+                    "수정요청", "코멘트", "코드리뷰")
+    );
+
+    /** 스레드별로 마지막에 사용한 규칙 묶음의 Matcher */
+    private static final ThreadLocal<ThreadMatchers> MATCHERS = new ThreadLocal<>();
+
+    private final KeywordAutomaton keywords;
+    private final Pattern[] patterns;
+    private final int[] patternCategories;
+    private final int ruleCount;
+
+    private CompiledRuleSet(Map<WorkCategory, List<String>> keywordRules, List<Pattern> patterns,
+                            List<Integer> patternCategories) {
+        this.keywords = new KeywordAutomaton(keywordRules);
+        this.patterns = patterns.toArray(new Pattern[0]);
+        this.patternCategories = patternCategories.stream().mapToInt(Integer::intValue).toArray();
+        this.ruleCount = keywordRules.values().stream().mapToInt(List::size).sum() + this.patterns.length;
+    }
+
+    /** 기본 키워드 규칙 */
+    static CompiledRuleSet defaults() {
+        return new CompiledRuleSet(DEFAULT_KEYWORDS, List.of(), List.of());
+    }
+
+    /**
+     * 기본 키워드 위에 관리자 규칙을 합쳐 컴파일합니다.
+     * - 키워드 규칙: 기본 키워드에 추가, 기본 키워드와 같은 단어면 관리자 규칙의 카테고리로 바꿈
+     * - 정규식 규칙: 그대로 추가
+     * 관리자 규칙 하나만 등록해도 기본 키워드가 사라지지 않습니다.
+     *
+     * @throws java.util.regex.PatternSyntaxException 정규식이 올바르지 않은 경우
+     */
+    static CompiledRuleSet compile(List<CategoryRule> rules) {
+        if (rules.isEmpty()) {
+            return defaults();
+        }
+        Map<String, WorkCategory> keywordCategories = new LinkedHashMap<>();
+        DEFAULT_KEYWORDS.forEach((category, words) -> words.forEach(word -> keywordCategories.put(word, category)));
+        List<Pattern> patterns = new ArrayList<>();
+        List<Integer> patternCategories = new ArrayList<>();
+
+        for (CategoryRule rule : rules) {
+            if (rule.getRuleType() == CategoryRuleType.REGEX) {
+                patterns.add(Pattern.compile(rule.getPattern()));
+                patternCategories.add(rule.getCategory().ordinal());
+            } else {
+                keywordCategories.put(rule.getPattern(), rule.getCategory());
+            }
+        }
+
+        Map<WorkCategory, List<String>> keywordRules = new EnumMap<>(WorkCategory.class);
+        keywordCategories.forEach((word, category) ->
+                keywordRules.computeIfAbsent(category, c -> new ArrayList<>()).add(word));
+        return new CompiledRuleSet(keywordRules, patterns, patternCategories);
+    }
+
+    @Override
+    public void count(CharSequence text, int[] counts) {
+        if (text == null) {
+            return;
+        }
+        keywords.count(text, counts);
+        if (patterns.length == 0) {
+            return;
+        }
+        Matcher[] threadMatchers = matchers();
+        for (int i = 0; i < threadMatchers.length; i++) {
+            Matcher matcher = threadMatchers[i].reset(text);
+            while (matcher.find()) {
+                counts[patternCategories[i]]++;
+            }
+            matcher.reset("");   // 다음 호출 전까지 메시지 본문을 붙잡아 두지 않음
+        }
+    }
+
+    int ruleCount() {
+        return ruleCount;
+    }
+
+    /** 이 스레드의 Matcher (다른 규칙 묶음의 것이면 새로 만들어 교체) */
+    private Matcher[] matchers() {
+        ThreadMatchers current = MATCHERS.get();
+        if (current != null && current.owner() == this) {
+            return current.matchers();
+        }
+        Matcher[] created = new Matcher[patterns.length];
+        for (int i = 0; i < created.length; i++) {
+            created[i] = patterns[i].matcher("");
+        }
+        MATCHERS.set(new ThreadMatchers(this, created));
+        return created;
+    }
+
+    private record ThreadMatchers(CompiledRuleSet owner, Matcher[] matchers) {
+    }
+}
@@ -0,0 +1,159 @@
+package com.messenger.report.service;
+
+import com.messenger.report.entity.WorkCategory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * ============================================================
+ * KeywordAutomaton - 카테고리 키워드 동시 검색기 (Aho-Corasick)
+ * ============================================================
+ *
+ * 【왜 필요한가?】
+ * 키워드마다 text.indexOf()를 반복하면 (키워드 수 × 텍스트 길이) 만큼 문자를 읽습니다.
+ * Aho-Corasick 자동자는 모든 키워드를 하나의 트라이로 합쳐,
+ * 텍스트를 한 번만 읽으면서 모든 키워드의 출현 횟수를 동시에 셉니다.
+ *
+ * 【구조】
+ * - 트라이: 키워드 문자를 따라 내려가는 상태(노드) 집합
+ * - 실패 링크: 다음 문자로 진행할 수 없을 때 돌아갈 "가장 긴 접미사" 상태
+ * - 출력: 상태에 도달했을 때 끝나는 키워드들의 카테고리 (실패 링크를 따라 미리 합쳐 둠)
+ *
+ * 【불변 객체】
+ * 생성 후에는 읽기만 하므로 여러 스레드가 동시에 count()를 호출해도 안전합니다.
+ * ============================================================
+ */
+final class KeywordAutomaton {
+
+    private static final int[] NO_OUTPUT = new int[0];
+
+    /** 상태별 다음 문자 (오름차순, 이진 탐색용) */
+    private final char[][] edgeChars;
+
+    /** 상태별 다음 상태 (edgeChars와 같은 순서) */
+    private final int[][] edgeTargets;
+
+    /** 상태별 실패 링크 */
+    private final int[] fail;
+
+    /** 상태별로 끝나는 키워드의 카테고리 ordinal 목록 */
+    private final int[][] outputs;
+
+    KeywordAutomaton(Map<WorkCategory, List<String>> keywords) {
+        // ===== 1단계: 트라이 구성 =====
+        List<TreeMap<Character, Integer>> children = new ArrayList<>();
+        List<List<Integer>> ownOutputs = new ArrayList<>();
+        children.add(new TreeMap<>());
+        ownOutputs.add(new ArrayList<>());
+
+        for (Map.Entry<WorkCategory, List<String>> entry : keywords.entrySet()) {
+            for (String keyword : entry.getValue()) {
+                int state = 0;
+                for (int i = 0; i < keyword.length(); i++) {
+                    char c = keyword.charAt(i);
+                    Integer next = children.get(state).get(c);
+                    if (next == null) {
+                        next = children.size();
+                        children.add(new TreeMap<>());
+                        ownOutputs.add(new ArrayList<>());
+                        children.get(state).put(c, next);
+                    }
+                    state = next;
+                }
+                ownOutputs.get(state).add(entry.getKey().ordinal());
+            }
+        }
+
+        int size = children.size();
+        edgeChars = new char[size][];
+        edgeTargets = new int[size][];
+        for (int s = 0; s < size; s++) {
+            TreeMap<Character, Integer> edges = children.get(s);
+            edgeChars[s] = new char[edges.size()];
+            edgeTargets[s] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[s][i] = edge.getKey();
+                edgeTargets[s][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // ===== 2단계: BFS로 실패 링크 + 출력 병합 =====
+        fail = new int[size];
+        outputs = new int[size][];
+        outputs[0] = toArray(ownOutputs.get(0));
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            fail[child] = 0;
+            outputs[child] = toArray(ownOutputs.get(child));
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char c = edgeChars[state][i];
+                int child = edgeTargets[state][i];
+
+                int f = fail[state];
+                while (f != 0 && next(f, c) < 0) {
+                    f = fail[f];
+                }
+                int target = next(f, c);
+                fail[child] = target >= 0 ? target : 0;
+
+                // 자신의 키워드 + 실패 링크 상태에서 끝나는 키워드(더 짧은 접미사)
+                int[] own = toArray(ownOutputs.get(child));
+                int[] inherited = outputs[fail[child]];
+                int[] merged = Arrays.copyOf(own, own.length + inherited.length);
+                System.arraycopy(inherited, 0, merged, own.length, inherited.length);
+                outputs[child] = merged.length == 0 ? NO_OUTPUT : merged;
+
+                queue.add(child);
+            }
+        }
+    }
+
+    /**
+     * 텍스트를 한 번 훑으며 카테고리별 키워드 출현 횟수를 누적합니다.
+     *
+     * @param text   검사할 텍스트 (null이면 무시)
+     * @param counts 카테고리 ordinal 인덱스의 누적 배열 (길이 = WorkCategory.values().length)
+     */
+    void count(CharSequence text, int[] counts) {
+        if (text == null) {
+            return;
+        }
+        int state = 0;
+        for (int i = 0, len = text.length(); i < len; i++) {
+            char c = text.charAt(i);
+            int target;
+            while ((target = next(state, c)) < 0 && state != 0) {
+                state = fail[state];
+            }
+            state = target >= 0 ? target : 0;
+            for (int category : outputs[state]) {
+                counts[category]++;
+            }
+        }
+    }
+
+    private int next(int state, char c) {
+        int idx = Arrays.binarySearch(edgeChars[state], c);
+        return idx >= 0 ? edgeTargets[state][idx] : -1;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        if (values.isEmpty()) {
+            return NO_OUTPUT;
+        }
+        return values.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
@@ -3,11 +3,11 @@ package com.messenger.report.service;
 import com.messenger.chat.entity.ChatMessage;
 import com.messenger.report.entity.ReportItem;
 import com.messenger.report.entity.WorkCategory;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * ============================================================
@@ -18,14 +18,19 @@ import java.util.stream.Collectors;
  * 하루 동안의 채팅 메시지를 분석하여 업무일지 항목(ReportItem)으로 변환합니다.
  * AI/LLM 없이 키워드 빈도 분석으로 업무를 분류합니다.
  *
- * 【분석 절차 (5단계)】
- * 1단계: 채팅방별로 메시지 그룹화
- * 2단계: 각 채팅방의 메시지에서 키워드 빈도 분석
- * 3단계: 가장 빈도 높은 키워드 기반으로 업무 카테고리 결정
- * 4단계: 채팅방 이름 + 키워드 조합으로 업무 제목 자동 생성
- * 5단계: ReportItem 목록 반환
+ * 【분석 절차】
+ * 1단계: 메시지를 한 건씩 읽으며 채팅방별 RoomActivity에 누적 (메시지 수, 시간대, 키워드 수)
+ *        → 카테고리별 점수는 CategoryClassifier가 셉니다 (키워드는 Aho-Corasick 자동자로 한 번만 훑음)
+ * 2단계: 가장 빈도 높은 키워드의 카테고리로 업무 분류
+ * 3단계: 채팅방 이름 + 카테고리 조합으로 업무 제목 자동 생성
+ * 4단계: ReportItem 목록 반환
  *
- * 【키워드 기반 분류 규칙】
+ * 【메모리】
+ * 채팅방 메시지를 하나의 문자열로 합치지 않으므로, 하루치 대화 전체를 복사해 두지 않습니다.
+ *
+ * 【분류 규칙】
+ * 관리자가 등록한 키워드/정규식 규칙을 사용합니다. (/api/admin/classifier/rules)
+ * 규칙을 바꾸면 분류기가 무중단으로 교체되며, 등록된 규칙이 없으면 아래 기본 키워드를 사용합니다.
  * - DEVELOPMENT: "코드", "버그", "수정", "배포", "개발", "구현", "PR", "커밋", "빌드"
  * - MEETING:     "회의", "미팅", "논의", "결정", "안건", "일정", "참석"
  * - REVIEW:      "검토", "확인", "피드백", "리뷰", "승인", "반려"
@@ -33,29 +38,15 @@ import java.util.stream.Collectors;
  *
  * 【향후 개선 방향】
  * - AI/LLM API 연동하여 더 정교한 분석 가능
- * - 사용자가 키워드를 커스터마이징하는 기능 추가 가능
  * ============================================================
  */
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class MessageAnalyzer {
 
-    /**
-     * 업무 카테고리별 키워드 맵.
-     * 메시지에서 이 키워드들의 빈도를 분석하여 카테고리를 결정합니다.
-     */
-    private static final Map<WorkCategory, List<String>> CATEGORY_KEYWORDS = Map.of(
-            WorkCategory.DEVELOPMENT, List.of(
-                    "코드", "버그", "수정", "배포", "개발", "구현", "PR", "커밋",
-                    "빌드", "테스트", "에러", "오류", "디버그", "API", "서버", "DB",
-                    "프론트", "백엔드", "기능", "모듈", "브랜치", "머지"),
-            WorkCategory.MEETING, List.of(
-                    "회의", "미팅", "논의", "결정", "안건", "일정", "참석",
-                    "발표", "공유", "보고", "계획", "전략", "목표"),
-            WorkCategory.REVIEW, List.of(
-                    "검토", "확인", "피드백", "리뷰", "승인", "반려",
-                    "수정요청", "코멘트", "코드리뷰")
-    );
+    /** 업무 분류기 (관리자 규칙이 바뀌면 내부 규칙이 통째로 교체됨) */
+    private final CategoryClassifier classifier;
 
     /**
      * 【메시지 분석 메인 메서드】
@@ -74,49 +65,63 @@ public class MessageAnalyzer {
             return Collections.emptyList();
         }
 
-        // ===== 1단계: 채팅방별로 메시지 그룹화 =====
-        // 같은 채팅방의 메시지를 하나의 그룹으로 묶습니다
-        Map<Long, List<ChatMessage>> messagesByRoom = messages.stream()
-                .collect(Collectors.groupingBy(ChatMessage::getChatRoomId));
+        // ===== 1단계: 메시지를 한 건씩 채팅방별 집계에 누적 =====
+        Map<Long, RoomActivity> activities = new HashMap<>();
+        for (ChatMessage message : messages) {
+            accumulate(activities.computeIfAbsent(message.getChatRoomId(), id -> new RoomActivity()), message);
+        }
+
+        log.debug("[메시지 분석] 활성 채팅방 수={}", activities.size());
+        return buildItems(activities, roomNames);
+    }
 
-        log.debug("[메시지 분석] 활성 채팅방 수={}", messagesByRoom.size());
+    /**
+     * 【메시지 1건 누적】
+     * 메시지 수, 시간대, 카테고리별 키워드 수를 채팅방 집계에 더합니다.
+     */
+    public void accumulate(RoomActivity activity, ChatMessage message) {
+        activity.recordMessage(message.getSentAt() != null ? message.getSentAt().getHour() : -1);
+        classifier.count(message.getContent(), activity.categoryCounts());
+    }
 
-        // ===== 2~5단계: 각 채팅방에 대해 업무 항목 생성 =====
+    /**
+     * 【채팅방별 집계 → 업무 항목 변환】
+     *
+     * @param activities 채팅방 ID → 하루 활동 집계
+     * @param roomNames  채팅방 ID → 채팅방 이름 매핑
+     * @return 메시지 수가 많은 순으로 정렬된 업무 항목 목록
+     */
+    public List<ReportItem> buildItems(Map<Long, RoomActivity> activities, Map<Long, String> roomNames) {
         List<ReportItem> items = new ArrayList<>();
 
-        for (Map.Entry<Long, List<ChatMessage>> entry : messagesByRoom.entrySet()) {
+        for (Map.Entry<Long, RoomActivity> entry : activities.entrySet()) {
             Long roomId = entry.getKey();
-            List<ChatMessage> roomMessages = entry.getValue();
+            RoomActivity activity = entry.getValue();
 
             // 메시지가 3건 미만인 채팅방은 건너뜀 (너무 적은 대화는 의미 없음)
-            if (roomMessages.size() < 3) {
-                log.debug("[메시지 분석] 채팅방ID={} 메시지 {}건 - 최소 기준 미달로 건너뜀", roomId, roomMessages.size());
+            if (activity.getMessageCount() < 3) {
+                log.debug("[메시지 분석] 채팅방ID={} 메시지 {}건 - 최소 기준 미달로 건너뜀", roomId, activity.getMessageCount());
                 continue;
             }
 
-            // 2단계: 전체 메시지를 하나의 텍스트로 합침
-            String allText = roomMessages.stream()
-                    .map(ChatMessage::getContent)
-                    .collect(Collectors.joining(" "));
+            // 2단계: 키워드 분석으로 업무 카테고리 결정
+            WorkCategory category = activity.getDominantCategory();
 
-            // 3단계: 키워드 분석으로 업무 카테고리 결정
-            WorkCategory category = determineCategory(allText);
-
-            // 4단계: 업무 제목 자동 생성
+            // 3단계: 업무 제목 자동 생성
             String roomName = roomNames.getOrDefault(roomId, "채팅방 #" + roomId);
-            String title = generateTitle(roomName, category, roomMessages.size());
+            String title = generateTitle(roomName, category, activity.getMessageCount());
 
-            // 5단계: ReportItem 생성
+            // 4단계: ReportItem 생성
             ReportItem item = ReportItem.builder()
                     .title(title)
-                    .description(generateDescription(roomMessages, category))
+                    .description(generateDescription(activity, category))
                     .chatRoomName(roomName)
-                    .relatedMessageCount(roomMessages.size())
+                    .relatedMessageCount(activity.getMessageCount())
                     .category(category)
                     .build();
 
             items.add(item);
-            log.debug("[메시지 분석] 항목 생성: 채팅방={}, 카테고리={}, 메시지수={}", roomName, category, roomMessages.size());
+            log.debug("[메시지 분석] 항목 생성: 채팅방={}, 카테고리={}, 메시지수={}", roomName, category, activity.getMessageCount());
         }
 
         // 메시지 수가 많은 순으로 정렬 (가장 활발한 업무가 위에)
@@ -126,35 +131,6 @@ public class MessageAnalyzer {
         return items;
     }
 
-    /**
-     * 【업무 카테고리 결정】
-     * 메시지 텍스트에서 각 카테고리의 키워드 출현 횟수를 세어,
-     * 가장 많이 나온 카테고리로 분류합니다.
-     */
-    private WorkCategory determineCategory(String text) {
-        WorkCategory bestCategory = WorkCategory.OTHER;
-        int maxCount = 0;
-
-        for (Map.Entry<WorkCategory, List<String>> entry : CATEGORY_KEYWORDS.entrySet()) {
-            int count = 0;
-            for (String keyword : entry.getValue()) {
-                // 텍스트에서 키워드가 몇 번 나오는지 카운트
-                int idx = 0;
-                while ((idx = text.indexOf(keyword, idx)) != -1) {
-                    count++;
-                    idx += keyword.length();
-                }
-            }
-
-            if (count > maxCount) {
-                maxCount = count;
-                bestCategory = entry.getKey();
-            }
-        }
-
-        return bestCategory;
-    }
-
     /**
      * 【업무 제목 자동 생성】
      * 채팅방 이름과 카테고리를 조합하여 자연스러운 제목을 만듭니다.
@@ -174,24 +150,15 @@ public class MessageAnalyzer {
      * 해당 채팅방 대화의 핵심 내용을 간략히 요약합니다.
      * (현재는 시간대별 활동량 + 주요 키워드를 나열하는 방식)
      */
-    private String generateDescription(List<ChatMessage> messages, WorkCategory category) {
-        // 시간대별 메시지 수 분석
-        Map<Integer, Long> hourlyCount = messages.stream()
-                .filter(m -> m.getSentAt() != null)
-                .collect(Collectors.groupingBy(
-                        m -> m.getSentAt().getHour(),
-                        Collectors.counting()));
-
-        // 가장 활발한 시간대 찾기
-        Optional<Map.Entry<Integer, Long>> peakHour = hourlyCount.entrySet().stream()
-                .max(Map.Entry.comparingByValue());
-
+    private String generateDescription(RoomActivity activity, WorkCategory category) {
         StringBuilder desc = new StringBuilder();
-        desc.append(String.format("총 %d건의 메시지가 교환되었습니다.\n", messages.size()));
+        desc.append(String.format("총 %d건의 메시지가 교환되었습니다.\n", activity.getMessageCount()));
 
-        if (peakHour.isPresent()) {
+        // 가장 활발한 시간대
+        int peakHour = activity.getPeakHour();
+        if (peakHour >= 0) {
             desc.append(String.format("가장 활발한 시간대: %d시 (%d건)\n",
-                    peakHour.get().getKey(), peakHour.get().getValue()));
+                    peakHour, activity.getHourlyCount(peakHour)));
         }
 
         desc.append(String.format("업무 분류: %s", getCategoryDescription(category)));
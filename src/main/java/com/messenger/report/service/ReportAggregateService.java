@@ -0,0 +1,289 @@
+package com.messenger.report.service;
+
+import com.messenger.chat.entity.ChatMessage;
+import com.messenger.infrastructure.redis.RedisCacheService;
+import com.messenger.report.entity.WorkCategory;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ============================================================
+ * ReportAggregateService - 업무일지 실시간 집계 서비스
+ * ============================================================
+ *
+ * 【역할】
+ * 메시지가 저장될 때마다 (사용자, 날짜, 채팅방) 단위 집계를 갱신해 두어,
+ * 업무일지 생성 시 하루치 메시지를 다시 읽지 않아도 되게 합니다.
+ *
+ * 【집계 항목】 (RoomActivity)
+ * - 메시지 수, 시간대(0~23시)별 메시지 수, 카테고리별 키워드 출현 수
+ *
+ * 【저장 구조】
+ * 1. record(): 중복 확인 + 수신 건수(_seen) 기록을 Lua 한 번으로 실행한 뒤 메모리 버퍼(pending)에 누적
+ * 2. flush() (@Scheduled): 버퍼를 비우고 Redis HASH에 HINCRBY로 더함 (키당 파이프라인 1회)
+ *
+ *    Key: "report:agg:{userId}:{yyyy-MM-dd}" (HASH, TTL 적용)
+ *      "{roomId}:n"              → 메시지 수
+ *      "{roomId}:h:{hour}"       → 해당 시간대 메시지 수
+ *      "{roomId}:c:{category}"   → 해당 카테고리 키워드 수
+ *      "_seen"                   → 집계에 받아들인 메시지 수 (record 시점에 바로 증가)
+ *
+ *    HINCRBY는 더하기만 하므로 여러 서버 노드가 동시에 flush해도 값이 섞이지 않습니다.
+ *
+ * 【중복 방지】 Kafka는 같은 이벤트를 다시 전달할 수 있습니다. (at-least-once)
+ * "report:agg:seen:{eventId}"를 SET NX로 먼저 잡은 이벤트만 집계합니다. (dedupe-ttl-minutes 동안 보관)
+ *
+ * 【집계 범위 표시 (coverage)】
+ * 집계가 하루 전체를 담고 있다고 믿을 수 있을 때만 사용하고, 아니면 호출자가 메시지를 직접 읽습니다.
+ * - "report:agg:since": 집계를 처음 시작한 시각. 그 이후에 시작된 날짜만 완전할 수 있음 (도입 당일 제외)
+ * - "_seen" = 반영된 메시지 수 합계일 때만 완전
+ *   → 노드가 flush 전에 죽어 버퍼를 잃었거나, Redis 오류로 중복 확인을 못 한 메시지가 있으면 값이 달라짐
+ *
+ * 【조회】
+ * load(): Redis에 반영된 값 + 이 노드에서 아직 flush되지 않은 값을 합쳐 반환합니다.
+ * → 업무일지 생성이 O(메시지 수) 스캔에서 O(채팅방 수) 병합으로 바뀝니다.
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportAggregateService {
+
+    private static final String KEY_PREFIX = "report:agg:";
+    private static final String SEEN_KEY_PREFIX = "report:agg:seen:";
+    private static final String SINCE_KEY = "report:agg:since";
+    private static final String SEEN_FIELD = "_seen";
+
+    /**
+     * 이벤트 중복 확인 + 수신 건수 기록. 1 = 새 이벤트, 0 = 이미 집계한 이벤트
+     * KEYS: [seen 키, 집계 키, since 키] / ARGV: [eventId 있음 여부, 중복 TTL(ms), 집계 TTL(ms), 현재 시각(ms)]
+     */
+    private static final RedisScript<Long> ACCEPT_EVENT = new DefaultRedisScript<>(
+            "if ARGV[1] == '1' and not redis.call('SET', KEYS[1], '1', 'NX', 'PX', ARGV[2]) then return 0 end " +
+            "redis.call('HINCRBY', KEYS[2], '" + SEEN_FIELD + "', 1) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[3]) " +
+            "redis.call('SET', KEYS[3], ARGV[4], 'NX') " +
+            "return 1",
+            Long.class);
+
+    private final RedisCacheService redisCacheService;
+    private final MessageAnalyzer messageAnalyzer;
+
+    /** 집계 키 TTL (일). 지난 날짜 업무일지 재생성에 대비해 일주일 이상 보관 */
+    @Value("${app.report.aggregate.ttl-days:8}")
+    private long ttlDays;
+
+    /** 이벤트 중복 확인 보관 시간 (분). Kafka 재전달은 보통 리밸런스 직후에 일어나므로 몇 시간이면 충분 */
+    @Value("${app.report.aggregate.dedupe-ttl-minutes:360}")
+    private long dedupeTtlMinutes;
+
+    private final LongAdder duplicates = new LongAdder();
+
+    /** 아직 Redis에 반영되지 않은 집계 */
+    private final ConcurrentMap<AggregateKey, RoomActivity> pending = new ConcurrentHashMap<>();
+
+    private record AggregateKey(Long userId, LocalDate date, Long roomId) {
+    }
+
+    /**
+     * 사용자의 하루 집계.
+     *
+     * @param activities 채팅방 ID → 하루 활동 집계
+     * @param complete   하루 전체가 빠짐없이 반영되었는지 (false면 메시지를 직접 읽어야 함)
+     */
+    public record DailyAggregate(Map<Long, RoomActivity> activities, boolean complete) {
+    }
+
+    /**
+     * 저장된 메시지 1건을 집계에 반영합니다.
+     * ChatMessageConsumer.consumeEvent()의 저장 직후에 호출됩니다.
+     *
+     * @param message 저장된 채팅 메시지
+     * @param eventId Kafka 이벤트 ID (같은 ID는 한 번만 집계, null이면 중복 확인 없음)
+     */
+    public void record(ChatMessage message, String eventId) {
+        if (message.getSenderId() == null || message.getChatRoomId() == null || message.getSentAt() == null) {
+            return;
+        }
+        AggregateKey key = new AggregateKey(
+                message.getSenderId(), message.getSentAt().toLocalDate(), message.getChatRoomId());
+        if (!accept(key, eventId)) {
+            duplicates.increment();
+            log.debug("[report-aggregate] duplicate event skipped. eventId={}", eventId);
+            return;
+        }
+        // compute는 키 단위로 원자적이므로 flush()와 경합해도 누락되지 않음
+        pending.compute(key, (k, activity) -> {
+            RoomActivity target = activity != null ? activity : new RoomActivity();
+            messageAnalyzer.accumulate(target, message);
+            return target;
+        });
+    }
+
+    /**
+     * 사용자의 특정 날짜 채팅방별 집계를 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param date   날짜
+     * @return 채팅방별 집계 + 하루 전체가 반영되었는지 여부
+     */
+    public DailyAggregate load(Long userId, LocalDate date) {
+        Map<Long, RoomActivity> activities = new HashMap<>();
+        long seen = -1;
+
+        Map<Object, Object> entries = redisCacheService.getHashEntries(redisKey(userId, date));
+        if (entries != null) {
+            for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+                String field = entry.getKey().toString();
+                if (SEEN_FIELD.equals(field)) {
+                    seen = Long.parseLong(entry.getValue().toString());
+                } else {
+                    applyField(activities, field, Integer.parseInt(entry.getValue().toString()));
+                }
+            }
+        }
+
+        // 이 노드에서 아직 flush되지 않은 값 병합
+        for (AggregateKey key : pending.keySet()) {
+            if (key.userId().equals(userId) && key.date().equals(date)) {
+                pending.computeIfPresent(key, (k, activity) -> {
+                    activities.computeIfAbsent(k.roomId(), id -> new RoomActivity()).merge(activity);
+                    return activity;
+                });
+            }
+        }
+
+        long recorded = activities.values().stream().mapToLong(RoomActivity::getMessageCount).sum();
+        boolean complete = seen >= 0 && recorded == seen && startedBefore(date);
+        return new DailyAggregate(activities, complete);
+    }
+
+    /** 중복 이벤트 건수 (디버그/테스트용) */
+    public long getDuplicateCount() {
+        return duplicates.sum();
+    }
+
+    /**
+     * 【Redis 반영】
+     * 메모리 버퍼를 비우고 (사용자, 날짜) 키별로 HINCRBY 파이프라인을 실행합니다.
+     * 실패하면 다음 주기에 다시 시도하도록 버퍼에 되돌립니다.
+     */
+    @Scheduled(fixedDelayString = "${app.report.aggregate.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<Map.Entry<AggregateKey, RoomActivity>>> byRedisKey = new HashMap<>();
+        for (AggregateKey key : new ArrayList<>(pending.keySet())) {
+            RoomActivity activity = pending.remove(key);
+            if (activity != null) {
+                byRedisKey.computeIfAbsent(redisKey(key.userId(), key.date()), k -> new ArrayList<>())
+                        .add(Map.entry(key, activity));
+            }
+        }
+
+        Duration ttl = Duration.ofDays(ttlDays);
+        for (Map.Entry<String, List<Map.Entry<AggregateKey, RoomActivity>>> group : byRedisKey.entrySet()) {
+            Map<String, Long> deltas = new HashMap<>();
+            for (Map.Entry<AggregateKey, RoomActivity> entry : group.getValue()) {
+                appendDeltas(deltas, entry.getKey().roomId(), entry.getValue());
+            }
+            try {
+                redisCacheService.incrementHashFields(group.getKey(), deltas, ttl);
+            } catch (Exception e) {
+                log.warn("[report-aggregate] flush failed, will retry. key={}, reason={}", group.getKey(), e.getMessage());
+                for (Map.Entry<AggregateKey, RoomActivity> entry : group.getValue()) {
+                    pending.merge(entry.getKey(), entry.getValue(), (current, failed) -> {
+                        current.merge(failed);
+                        return current;
+                    });
+                }
+            }
+        }
+        log.debug("[report-aggregate] flushed keys={}", byRedisKey.size());
+    }
+
+    /** 종료 시 남은 집계를 반영합니다. */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * 이벤트를 처음 보는 경우에만 true. Redis 오류면 중복 확인 없이 받아들이고 _seen도 올리지 않으므로
+     * 그날 집계는 불완전으로 표시되어 메시지를 직접 읽게 됩니다.
+     */
+    private boolean accept(AggregateKey key, String eventId) {
+        boolean hasId = eventId != null && !eventId.isBlank();
+        try {
+            Long accepted = redisCacheService.executeScript(ACCEPT_EVENT,
+                    List.of(SEEN_KEY_PREFIX + (hasId ? eventId : ""), redisKey(key.userId(), key.date()), SINCE_KEY),
+                    hasId ? "1" : "0",
+                    String.valueOf(Duration.ofMinutes(dedupeTtlMinutes).toMillis()),
+                    String.valueOf(Duration.ofDays(ttlDays).toMillis()),
+                    String.valueOf(System.currentTimeMillis()));
+            return accepted == null || accepted != 0L;
+        } catch (Exception e) {
+            log.warn("[report-aggregate] dedupe check failed, counting anyway. eventId={}, reason={}",
+                    eventId, e.getMessage());
+            return true;
+        }
+    }
+
+    /** 집계를 시작한 시각이 그 날짜 시작 전인지 (도입 당일 등 중간부터 센 날짜는 불완전) */
+    private boolean startedBefore(LocalDate date) {
+        Object since = redisCacheService.get(SINCE_KEY);
+        if (since == null) {
+            return false;
+        }
+        long dayStart = date.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return Long.parseLong(since.toString()) <= dayStart;
+    }
+
+    private void appendDeltas(Map<String, Long> deltas, Long roomId, RoomActivity activity) {
+        deltas.put(roomId + ":n", (long) activity.getMessageCount());
+        for (int hour = 0; hour < 24; hour++) {
+            if (activity.getHourlyCount(hour) > 0) {
+                deltas.put(roomId + ":h:" + hour, (long) activity.getHourlyCount(hour));
+            }
+        }
+        for (WorkCategory category : WorkCategory.values()) {
+            if (activity.getCategoryCount(category) > 0) {
+                deltas.put(roomId + ":c:" + category.name(), (long) activity.getCategoryCount(category));
+            }
+        }
+    }
+
+    private void applyField(Map<Long, RoomActivity> activities, String field, int value) {
+        String[] parts = field.split(":");
+        RoomActivity activity = activities.computeIfAbsent(Long.parseLong(parts[0]), id -> new RoomActivity());
+        switch (parts[1]) {
+            case "n" -> activity.addMessages(value);
+            case "h" -> activity.addHourly(Integer.parseInt(parts[2]), value);
+            case "c" -> activity.addCategory(WorkCategory.valueOf(parts[2]).ordinal(), value);
+            default -> log.debug("[report-aggregate] unknown field={}", field);
+        }
+    }
+
+    private String redisKey(Long userId, LocalDate date) {
+        return KEY_PREFIX + userId + ":" + date;
+    }
+}
@@ -0,0 +1,365 @@
+package com.messenger.report.service;
+
+import com.messenger.infrastructure.redis.DistributedLockService;
+import com.messenger.report.entity.ReportJob;
+import com.messenger.report.entity.ReportJobFailure;
+import com.messenger.report.entity.ReportJobStatus;
+import com.messenger.report.repository.ReportJobFailureRepository;
+import com.messenger.report.repository.ReportJobRepository;
+import com.messenger.user.entity.User;
+import com.messenger.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ============================================================
+ * ReportBatchJob - 업무일지 일괄 생성 작업
+ * ============================================================
+ *
+ * 【기존 방식의 문제】
+ * userRepository.findAll()로 전체 사용자를 한 번에 메모리에 올리고,
+ * 사용자마다 @Async 작업을 던졌습니다. (core 1 / max 2 / queue 20)
+ * → 사용자가 22명을 넘으면 나머지 작업은 예외와 함께 조용히 버려졌습니다.
+ * → 서버가 N대면 모든 서버의 스케줄러가 같은 작업을 N번 실행했습니다.
+ *
+ * 【클러스터 처리 방식】
+ * 1. 조정: 분산 락(DistributedLockService)을 얻은 한 노드만
+ *    사용자 ID를 페이지(page-size) 단위로 조회하여 작업 큐(ReportWorkQueue)에 적재
+ *    → 페이지마다 재개 지점(lastProcessedUserId)을 저장하고 락 임대를 연장
+ *    → 나머지 노드는 적재 완료 표시를 기다림
+ * 2. 처리: 모든 노드가 묶음을 하나씩 가져가(claim) reportBatchExecutor에서 병렬 처리
+ *    → 큐가 차면 제출 스레드가 직접 실행(CallerRunsPolicy)하여 버려지는 작업이 없음
+ *    → 실패한 사용자는 ReportJobFailure로 기록
+ * 3. 완료: 마지막 묶음을 끝낸 노드가 전체 결과를 ReportJob에 기록하고 완료 보고서를 로그로 남김
+ *
+ * 【장애 대응】
+ * - 조정 노드가 죽음: 락 임대 만료 → 다른 노드가 재개 지점부터 이어서 적재
+ * - 조정 노드가 재개 지점 저장 전에 죽음: 같은 사용자를 다시 적재해도 큐가 이미 넣은 사용자를 걸러냄
+ * - 처리 노드가 죽음: 묶음 임대 만료 → 남은 노드가 회수하여 다시 처리
+ * - 묶음 처리 중 예외: 작업을 FAILED로 기록 → 다음 실행/재시작 시 남은 묶음을 이어서 처리
+ * - 재시작 시 재개는 최근 resume-max-age-days일 이내, 작업당 resume-max-attempts회까지만
+ *   → 계속 실패하는 오래된 작업을 재시작마다 다시 돌리지 않음 (필요하면 관리자가 직접 다시 실행)
+ * generateReport()는 이미 생성된 업무일지를 건너뛰므로 같은 묶음을 다시 처리해도 안전합니다.
+ * ============================================================
+ */
+@Slf4j
+@Service
+public class ReportBatchJob {
+
+    private final UserRepository userRepository;
+    private final ReportGenerationService reportGenerationService;
+    private final ReportJobRepository reportJobRepository;
+    private final ReportJobFailureRepository reportJobFailureRepository;
+    private final ReportWorkQueue reportWorkQueue;
+    private final DistributedLockService distributedLockService;
+    private final Executor reportBatchExecutor;
+
+    /** 묶음 하나에 담을 사용자 수 */
+    @Value("${report.batch.page-size:100}")
+    private int pageSize;
+
+    /** 조정 노드 락 임대 시간 (페이지 적재마다 연장) */
+    @Value("${report.batch.coordinator-lease-ms:60000}")
+    private long coordinatorLeaseMs;
+
+    /** 묶음 처리 임대 시간 (이 시간 안에 끝내지 못하면 다른 노드가 다시 가져감) */
+    @Value("${report.batch.claim-lease-ms:300000}")
+    private long claimLeaseMs;
+
+    /** 큐 적재 완료/다른 노드의 마지막 묶음을 기다릴 때 확인 간격 */
+    @Value("${report.batch.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    /** 큐 적재 완료를 기다리는 최대 시간 */
+    @Value("${report.batch.ready-timeout-ms:600000}")
+    private long readyTimeoutMs;
+
+    /** 재시작 시 재개할 작업의 최대 경과 일수 (이보다 오래된 날짜의 작업은 재개하지 않음) */
+    @Value("${report.batch.resume-max-age-days:2}")
+    private int resumeMaxAgeDays;
+
+    /** 작업 하나를 재시작 후 이어서 처리할 최대 횟수 */
+    @Value("${report.batch.resume-max-attempts:3}")
+    private int resumeMaxAttempts;
+
+    public ReportBatchJob(UserRepository userRepository,
+                          ReportGenerationService reportGenerationService,
+                          ReportJobRepository reportJobRepository,
+                          ReportJobFailureRepository reportJobFailureRepository,
+                          ReportWorkQueue reportWorkQueue,
+                          DistributedLockService distributedLockService,
+                          @Qualifier("reportBatchExecutor") Executor reportBatchExecutor) {
+        this.userRepository = userRepository;
+        this.reportGenerationService = reportGenerationService;
+        this.reportJobRepository = reportJobRepository;
+        this.reportJobFailureRepository = reportJobFailureRepository;
+        this.reportWorkQueue = reportWorkQueue;
+        this.distributedLockService = distributedLockService;
+        this.reportBatchExecutor = reportBatchExecutor;
+    }
+
+    /**
+     * 특정 날짜의 업무일지를 전체 사용자에 대해 생성합니다.
+     * 모든 노드에서 동시에 호출되어도 사용자마다 한 번만 처리됩니다.
+     *
+     * @param date 업무일지 대상 날짜
+     * @return 작업 (다른 노드가 아직 처리 중이면 RUNNING 상태)
+     */
+    public ReportJob run(LocalDate date) {
+        Optional<ReportJob> latest = reportJobRepository.findTopByReportDateOrderByIdDesc(date);
+        if (latest.isPresent() && latest.get().getStatus() == ReportJobStatus.COMPLETED) {
+            log.info("[업무일지 일괄 생성] 이미 완료된 작업 - 날짜={}, jobId={}", date, latest.get().getId());
+            return latest.get();
+        }
+
+        if (!awaitQueueReady(date)) {
+            log.warn("[업무일지 일괄 생성] 작업 큐가 준비되지 않아 이번 실행을 건너뜀 - 날짜={}", date);
+            return reportJobRepository.findTopByReportDateOrderByIdDesc(date).orElse(null);
+        }
+
+        ReportJob job = reportJobRepository.findTopByReportDateOrderByIdDesc(date).orElseThrow();
+        if (job.isResumable()) {
+            work(job.getId(), date);
+        }
+        return reportJobRepository.findById(job.getId()).orElse(job);
+    }
+
+    /**
+     * 서버 재시작 등으로 RUNNING/FAILED 상태로 남은 최근 작업에 다시 참여합니다.
+     * 오래된 날짜의 작업과 재개 한도를 넘은 작업은 건너뜁니다.
+     */
+    public void resumeUnfinished() {
+        LocalDate fromDate = LocalDate.now().minusDays(resumeMaxAgeDays);
+        List<ReportJob> jobs = reportJobRepository.findByStatusInAndReportDateGreaterThanEqual(
+                List.of(ReportJobStatus.RUNNING, ReportJobStatus.FAILED), fromDate);
+        for (ReportJob job : jobs) {
+            if (job.getResumeAttempts() >= resumeMaxAttempts) {
+                log.warn("[업무일지 일괄 생성] 재개 한도 초과 - 건너뜀, 날짜={}, jobId={}, 재개 횟수={}",
+                        job.getReportDate(), job.getId(), job.getResumeAttempts());
+                continue;
+            }
+            job.markResumed();
+            reportJobRepository.save(job);
+            log.info("[업무일지 일괄 생성] 미완료 작업 재개 - 날짜={}, jobId={}, 재개 횟수={}",
+                    job.getReportDate(), job.getId(), job.getResumeAttempts());
+            run(job.getReportDate());
+        }
+    }
+
+    // ===== 조정: 한 노드만 사용자 묶음을 큐에 적재 =====
+
+    /**
+     * 작업 큐가 준비될 때까지 기다립니다.
+     * 락을 얻은 노드가 적재하고, 나머지 노드는 준비 표시를 기다립니다.
+     * 적재하던 노드가 죽으면 락 임대가 만료된 뒤 기다리던 노드가 이어받습니다.
+     *
+     * @return 준비되었으면 true, 제한 시간 안에 준비되지 않았으면 false
+     */
+    private boolean awaitQueueReady(LocalDate date) {
+        String lockName = "report:coordinator:" + date;
+        long deadline = System.currentTimeMillis() + readyTimeoutMs;
+
+        while (!reportWorkQueue.isReady(date)) {
+            String token = distributedLockService.tryLock(lockName, Duration.ofMillis(coordinatorLeaseMs));
+            if (token != null) {
+                try {
+                    enqueueUsers(date, lockName, token);
+                } finally {
+                    distributedLockService.unlock(lockName, token);
+                }
+                continue;
+            }
+            if (System.currentTimeMillis() > deadline || !sleep()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void enqueueUsers(LocalDate date, String lockName, String token) {
+        // 락을 얻기 직전에 이전 조정 노드가 적재를 마쳤을 수 있음
+        if (reportWorkQueue.isReady(date)) {
+            return;
+        }
+
+        Optional<ReportJob> latest = reportJobRepository.findTopByReportDateOrderByIdDesc(date);
+        if (latest.isPresent() && latest.get().getStatus() == ReportJobStatus.COMPLETED) {
+            return;
+        }
+        ReportJob job = latest.orElseGet(() -> reportJobRepository.save(ReportJob.start(date)));
+
+        if (job.getLastProcessedUserId() > 0 && !reportWorkQueue.isInitialized(date)) {
+            // DB에는 적재 기록이 있는데 큐가 사라짐 (Redis 재시작/TTL 만료) → 처음부터 다시 적재
+            // 이미 생성된 업무일지는 건너뛰므로 중복 생성되지 않음
+            log.warn("[업무일지 일괄 생성] 작업 큐 상태 없음 - 처음부터 다시 적재, 날짜={}", date);
+            job.resetEnqueued();
+        }
+
+        Long cursor = job.getLastProcessedUserId();
+        int batches = 0;
+        while (true) {
+            List<Long> userIds = userRepository.findIdsAfter(cursor, PageRequest.of(0, pageSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+            reportWorkQueue.enqueue(date, userIds);
+            cursor = userIds.get(userIds.size() - 1);
+            job.markEnqueued(cursor);
+            job = reportJobRepository.save(job);
+            batches++;
+
+            if (!distributedLockService.renew(lockName, token, Duration.ofMillis(coordinatorLeaseMs))) {
+                log.warn("[업무일지 일괄 생성] 조정 락 임대 만료 - 적재 중단, 날짜={}, 재개 지점 userId>{}", date, cursor);
+                return;
+            }
+        }
+
+        reportWorkQueue.markReady(date);
+        log.info("[업무일지 일괄 생성] 작업 큐 적재 완료 - 날짜={}, jobId={}, 이번에 적재한 묶음={}개",
+                date, job.getId(), batches);
+
+        // 대상 사용자가 한 명도 없으면 완료 처리할 묶음도 없음
+        if (reportWorkQueue.remaining(date) == 0) {
+            finish(job.getId(), date);
+        }
+    }
+
+    // ===== 처리: 모든 노드가 묶음을 하나씩 가져가 처리 =====
+
+    private void work(Long jobId, LocalDate date) {
+        Duration lease = Duration.ofMillis(claimLeaseMs);
+        int processedBatches = 0;
+
+        while (true) {
+            String batch = reportWorkQueue.claim(date, lease);
+            if (batch == null) {
+                if (reportWorkQueue.remaining(date) <= 0) {
+                    break;
+                }
+                // 다른 노드가 처리 중인 묶음이 남음 → 그 노드가 죽었으면 임대 만료 후 회수하여 이어서 처리
+                if (reportWorkQueue.requeueExpired(date) == 0 && !sleep()) {
+                    break;
+                }
+                continue;
+            }
+
+            ReportWorkQueue.BatchResult result;
+            try {
+                result = process(jobId, date, ReportWorkQueue.userIds(batch));
+            } catch (RuntimeException e) {
+                // 묶음은 임대 만료 후 다른 노드(또는 다음 실행)가 회수하여 다시 처리
+                markFailed(jobId, date, e);
+                throw e;
+            }
+            long remaining = reportWorkQueue.complete(date, batch, result);
+            processedBatches++;
+            log.info("[업무일지 일괄 생성] 묶음 완료 - 날짜={}, 성공={}명, 실패={}명, 남은 묶음={}",
+                    date, result.succeeded(), result.failed(), remaining);
+
+            if (remaining == 0) {
+                finish(jobId, date);
+            }
+        }
+        log.info("[업무일지 일괄 생성] 이 노드의 처리 종료 - 날짜={}, 처리한 묶음={}개", date, processedBatches);
+    }
+
+    private ReportWorkQueue.BatchResult process(Long jobId, LocalDate date, List<Long> userIds) {
+        List<User> users = userRepository.findAllById(userIds);
+
+        long batchStart = System.currentTimeMillis();
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicLong maxUserMillis = new AtomicLong();
+        Queue<ReportJobFailure> failures = new ConcurrentLinkedQueue<>();
+
+        CompletableFuture<?>[] tasks = users.stream()
+                .map(user -> CompletableFuture.runAsync(() -> {
+                    long userStart = System.currentTimeMillis();
+                    try {
+                        reportGenerationService.generateReport(user, date);
+                        succeeded.incrementAndGet();
+                    } catch (Exception e) {
+                        log.error("[업무일지 생성 실패] 사용자={}, 날짜={}, 에러={}",
+                                user.getUsername(), date, e.getMessage(), e);
+                        failures.add(ReportJobFailure.builder()
+                                .jobId(jobId)
+                                .userId(user.getId())
+                                .errorMessage(truncate(e.getMessage()))
+                                .build());
+                    } finally {
+                        maxUserMillis.accumulateAndGet(System.currentTimeMillis() - userStart, Math::max);
+                    }
+                }, reportBatchExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        // 묶음 단위로 완료를 기다린 뒤 결과 반영
+        CompletableFuture.allOf(tasks).join();
+
+        if (!failures.isEmpty()) {
+            reportJobFailureRepository.saveAll(failures);
+        }
+        return new ReportWorkQueue.BatchResult(succeeded.get(), failures.size(),
+                System.currentTimeMillis() - batchStart, maxUserMillis.get());
+    }
+
+    /** 마지막 묶음을 완료한 노드가 전체 결과를 DB에 기록합니다. */
+    private void finish(Long jobId, LocalDate date) {
+        ReportJob job = reportJobRepository.findById(jobId).orElseThrow();
+        ReportWorkQueue.Totals totals = reportWorkQueue.totals(date);
+        job.complete(totals.succeeded(), totals.failed(), totals.elapsedMillis(), totals.maxUserMillis());
+        job = reportJobRepository.save(job);
+
+        log.info("====================================================");
+        log.info("[업무일지 일괄 생성 완료] 날짜={}, jobId={}", date, job.getId());
+        log.info("  처리={}명, 성공={}명, 실패={}명", job.getProcessedCount(), job.getSucceededCount(), job.getFailedCount());
+        log.info("  경과={}ms, 처리 시간 합계={}ms, 사용자당 평균={}ms, 최대={}ms",
+                Duration.between(job.getStartedAt(), job.getFinishedAt()).toMillis(),
+                job.getElapsedMillis(), job.getAverageUserMillis(), job.getMaxUserMillis());
+        log.info("====================================================");
+    }
+
+    /** 묶음 처리 중 예외 → 작업을 FAILED로 기록합니다. (RUNNING으로 남아 아무도 모르게 멈추지 않도록) */
+    private void markFailed(Long jobId, LocalDate date, RuntimeException cause) {
+        log.error("[업무일지 일괄 생성] 묶음 처리 실패 - 작업을 FAILED로 기록, 날짜={}, jobId={}, 에러={}",
+                date, jobId, cause.getMessage(), cause);
+        try {
+            reportJobRepository.findById(jobId).ifPresent(job -> {
+                job.fail();
+                reportJobRepository.save(job);
+            });
+        } catch (Exception e) {
+            log.error("[업무일지 일괄 생성] 실패 상태 기록 실패 - jobId={}, 에러={}", jobId, e.getMessage());
+        }
+    }
+
+    /** @return 인터럽트되었으면 false */
+    private boolean sleep() {
+        try {
+            Thread.sleep(pollIntervalMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null) {
+            return null;
+        }
+        return message.length() > 500 ? message.substring(0, 500) : message;
+    }
+}
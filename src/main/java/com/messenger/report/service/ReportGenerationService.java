@@ -3,12 +3,16 @@ package com.messenger.report.service;
 import com.messenger.chat.entity.ChatMessage;
 import com.messenger.chat.repository.ChatMessageRepository;
 import com.messenger.chat.repository.ChatRoomMemberRepository;
-import com.messenger.chat.repository.ChatRoomRepository;
+import com.messenger.chat.service.ChatRoomMetadataService;
+import com.messenger.common.exception.BusinessException;
+import com.messenger.common.exception.ErrorCode;
+import com.messenger.report.dto.ReportResponse;
 import com.messenger.report.entity.DailyReport;
 import com.messenger.report.entity.ReportItem;
 import com.messenger.report.entity.ReportStatus;
 import com.messenger.report.repository.DailyReportRepository;
 import com.messenger.user.entity.User;
+import com.messenger.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -18,8 +22,10 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -36,8 +42,9 @@ import java.util.stream.Collectors;
  *   → 사용자 50명의 업무일지를 동시에 생성해도 메인 스레드에 영향 없음
  *
  * 【처리 흐름】
- * 1. 해당 사용자의 당일 메시지를 모든 샤드에서 조회
- * 2. MessageAnalyzer로 메시지 분석 → ReportItem 목록 생성
+ * 1. ReportAggregateService에서 당일 채팅방별 집계를 조회 (메시지 저장 시점에 미리 누적됨)
+ *    → 집계가 하루 전체를 담고 있지 않으면(Redis 장애, 기능 도입 당일/이전 날짜 등) 당일 메시지를 직접 조회하여 분석
+ * 2. 집계로부터 ReportItem 목록 생성
  * 3. DailyReport 엔티티 생성 + ReportItem 연결
  * 4. DB에 저장
  *
@@ -54,10 +61,13 @@ import java.util.stream.Collectors;
 public class ReportGenerationService {
 
     private final ChatMessageRepository chatMessageRepository;
-    private final ChatRoomRepository chatRoomRepository;
+    private final ChatRoomMetadataService chatRoomMetadataService;
     private final ChatRoomMemberRepository chatRoomMemberRepository;
     private final DailyReportRepository dailyReportRepository;
     private final MessageAnalyzer messageAnalyzer;
+    private final ReportAggregateService reportAggregateService;
+    private final ReportRollupService reportRollupService;
+    private final UserRepository userRepository;
 
     /**
      * 【업무일지 자동 생성 (비동기)】
@@ -92,6 +102,13 @@ public class ReportGenerationService {
      */
     @Transactional
     public DailyReport generateReport(User user, LocalDate date) {
+        return createReport(user, date, true);
+    }
+
+    /**
+     * @param useAggregate 실시간 집계를 써도 되는지 (재생성은 현재 분류 규칙으로 다시 세야 하므로 false)
+     */
+    private DailyReport createReport(User user, LocalDate date, boolean useAggregate) {
         log.info("[업무일지 생성 시작] 사용자={}, 날짜={}", user.getUsername(), date);
 
         // 이미 해당 날짜의 업무일지가 있는지 확인
@@ -100,41 +117,29 @@ public class ReportGenerationService {
             return dailyReportRepository.findByUserIdAndReportDate(user.getId(), date).orElse(null);
         }
 
-        // ===== 1단계: 해당 날짜의 메시지 조회 =====
-        LocalDateTime dayStart = date.atStartOfDay();           // 00:00:00
-        LocalDateTime dayEnd = date.atTime(LocalTime.MAX);      // 23:59:59
-
-        // ★ 현재는 기본 DataSource(shard_0)에서만 조회
-        // Phase 6 이후: 모든 샤드에서 조회하여 합치는 로직 추가
-        List<ChatMessage> messages = chatMessageRepository
-                .findBySenderIdAndSentAtBetween(user.getId(), dayStart, dayEnd);
+        // ===== 1단계: 채팅방별 하루 활동 집계 조회 =====
+        Map<Long, RoomActivity> activities = loadActivities(user, date, useAggregate);
+        int totalMessageCount = activities.values().stream()
+                .mapToInt(RoomActivity::getMessageCount)
+                .sum();
 
-        log.info("[업무일지] 사용자={}, 메시지 수={}", user.getUsername(), messages.size());
+        log.info("[업무일지] 사용자={}, 메시지 수={}", user.getUsername(), totalMessageCount);
 
         // ===== 2단계: 채팅방 이름 맵 생성 =====
-        // 메시지에서 채팅방 ID를 추출하고, 채팅방 이름을 조회
-        Map<Long, String> roomNames = messages.stream()
-                .map(ChatMessage::getChatRoomId)
-                .distinct()
-                .collect(Collectors.toMap(
-                        roomId -> roomId,
-                        roomId -> chatRoomRepository.findById(roomId)
-                                .map(room -> room.getName())
-                                .orElse("알 수 없는 채팅방")
-                ));
+        Map<Long, String> roomNames = resolveRoomNames(activities.keySet());
 
-        // ===== 3단계: MessageAnalyzer로 메시지 분석 =====
-        List<ReportItem> items = messageAnalyzer.analyzeMessages(messages, roomNames);
+        // ===== 3단계: 집계로부터 업무 항목 생성 (O(채팅방 수)) =====
+        List<ReportItem> items = messageAnalyzer.buildItems(activities, roomNames);
 
         // ===== 4단계: 업무 요약 생성 =====
-        String summary = generateSummary(user.getDisplayName(), date, messages.size(), roomNames.size(), items);
+        String summary = generateSummary(user.getDisplayName(), date, totalMessageCount, roomNames.size(), items);
 
         // ===== 5단계: DailyReport 엔티티 생성 =====
         DailyReport report = DailyReport.builder()
                 .user(user)
                 .reportDate(date)
                 .summary(summary)
-                .totalMessageCount(messages.size())
+                .totalMessageCount(totalMessageCount)
                 .activeRoomCount(roomNames.size())
                 .status(ReportStatus.AUTO_GENERATED)
                 .build();
@@ -146,6 +151,7 @@ public class ReportGenerationService {
 
         // ===== 6단계: DB에 저장 =====
         DailyReport savedReport = dailyReportRepository.save(report);
+        reportRollupService.evict(user.getId(), date);
 
         log.info("[업무일지 생성 완료] 사용자={}, 날짜={}, 리포트ID={}, 항목수={}",
                 user.getUsername(), date, savedReport.getId(), items.size());
@@ -153,6 +159,104 @@ public class ReportGenerationService {
         return savedReport;
     }
 
+    /**
+     * 【업무일지 다시 생성】
+     * 늦게 도착한 메시지나 분류 규칙 변경을 이미 만들어진 업무일지에 반영합니다.
+     * 실시간 집계의 카테고리 수는 메시지를 받을 당시 규칙으로 센 값이므로 쓰지 않고,
+     * 당일 메시지를 현재 분류 규칙으로 다시 셉니다.
+     * 항목은 통째로 지우고 다시 넣지 않고, 달라진 행만 INSERT/UPDATE/DELETE 합니다.
+     * 업무일지가 아직 없으면 새로 생성합니다.
+     *
+     * 같은 (사용자, 날짜) 동시 요청 병합은 ReportRegenerationService가 담당합니다.
+     *
+     * @param userId 사용자 ID
+     * @param date   업무일지 대상 날짜
+     * @return 반영된 업무일지 (트랜잭션 안에서 변환하여 지연 로딩 문제 없음)
+     */
+    @Transactional
+    public ReportResponse regenerateReport(Long userId, LocalDate date) {
+        DailyReport report = dailyReportRepository.findByUserIdAndReportDate(userId, date).orElse(null);
+        if (report == null) {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+            return ReportResponse.from(createReport(user, date, false));
+        }
+
+        User user = report.getUser();
+        Map<Long, RoomActivity> activities = loadActivities(user, date, false);
+        int totalMessageCount = activities.values().stream()
+                .mapToInt(RoomActivity::getMessageCount)
+                .sum();
+        Map<Long, String> roomNames = resolveRoomNames(activities.keySet());
+        List<ReportItem> items = messageAnalyzer.buildItems(activities, roomNames);
+        String summary = generateSummary(user.getDisplayName(), date, totalMessageCount, roomNames.size(), items);
+
+        int changedItems = report.refresh(summary, totalMessageCount, roomNames.size(), items);
+        reportRollupService.evict(userId, date);
+
+        log.info("[업무일지 재생성] 사용자={}, 날짜={}, 리포트ID={}, 변경된 항목수={}",
+                user.getUsername(), date, report.getId(), changedItems);
+        return ReportResponse.from(report);
+    }
+
+    /**
+     * 채팅방 ID → 채팅방 이름 매핑을 만듭니다.
+     * 캐시에 없는 채팅방만 한 번의 IN 쿼리로 조회합니다. (채팅방마다 findById 호출하지 않음)
+     */
+    private Map<Long, String> resolveRoomNames(Set<Long> roomIds) {
+        Map<Long, String> found = chatRoomMetadataService.getRoomNames(roomIds);
+        return roomIds.stream()
+                .collect(Collectors.toMap(
+                        roomId -> roomId,
+                        roomId -> found.getOrDefault(roomId, "알 수 없는 채팅방")
+                ));
+    }
+
+    /**
+     * 채팅방별 하루 활동 집계를 가져옵니다.
+     * 실시간 집계가 하루 전체를 담고 있지 않으면(도입 당일, 노드 비정상 종료, Redis 오류 등)
+     * 당일 메시지를 직접 읽어 같은 형태로 만듭니다.
+     * 재생성처럼 현재 분류 규칙을 적용해야 하면(useAggregate=false) 집계를 보지 않고 메시지를 다시 셉니다.
+     */
+    private Map<Long, RoomActivity> loadActivities(User user, LocalDate date, boolean useAggregate) {
+        if (useAggregate) {
+            Map<Long, RoomActivity> aggregated = loadAggregate(user, date);
+            if (aggregated != null) {
+                return aggregated;
+            }
+        }
+
+        LocalDateTime dayStart = date.atStartOfDay();           // 00:00:00
+        LocalDateTime dayEnd = date.atTime(LocalTime.MAX);      // 23:59:59
+
+        // ★ 현재는 기본 DataSource(shard_0)에서만 조회
+        // Phase 6 이후: 모든 샤드에서 조회하여 합치는 로직 추가
+        List<ChatMessage> messages = chatMessageRepository
+                .findBySenderIdAndSentAtBetween(user.getId(), dayStart, dayEnd);
+
+        Map<Long, RoomActivity> activities = new HashMap<>();
+        for (ChatMessage message : messages) {
+            messageAnalyzer.accumulate(
+                    activities.computeIfAbsent(message.getChatRoomId(), id -> new RoomActivity()), message);
+        }
+        return activities;
+    }
+
+    /** 실시간 집계가 하루 전체를 담고 있으면 반환, 아니면 null */
+    private Map<Long, RoomActivity> loadAggregate(User user, LocalDate date) {
+        try {
+            ReportAggregateService.DailyAggregate aggregate = reportAggregateService.load(user.getId(), date);
+            if (aggregate.complete()) {
+                return aggregate.activities();
+            }
+            log.info("[업무일지] 실시간 집계가 불완전, 메시지 직접 조회 - 사용자={}, 날짜={}", user.getUsername(), date);
+        } catch (Exception e) {
+            log.warn("[업무일지] 실시간 집계 조회 실패, 메시지 직접 조회로 대체 - 사용자={}, 에러={}",
+                    user.getUsername(), e.getMessage());
+        }
+        return null;
+    }
+
     /**
      * 【업무 요약 텍스트 생성】
      * 하루 업무를 한 단락으로 요약합니다.
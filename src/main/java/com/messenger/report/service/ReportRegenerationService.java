@@ -0,0 +1,138 @@
+package com.messenger.report.service;
+
+import com.messenger.common.exception.BusinessException;
+import com.messenger.common.exception.ErrorCode;
+import com.messenger.report.dto.ReportResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * ============================================================
+ * ReportRegenerationService - 업무일지 재생성 요청 병합
+ * ============================================================
+ *
+ * 【문제】
+ * 화면에서 "다시 생성" 버튼을 연달아 누르면 같은 (사용자, 날짜)의
+ * 집계 조회 + 분석 + 저장이 요청 수만큼 반복됩니다.
+ *
+ * 【요청 병합 (Request Coalescing)】
+ * (사용자, 날짜)별로 진행 중인 작업을 CompletableFuture로 하나만 보관합니다.
+ * - 처음 들어온 요청: 직접 재생성을 수행하고 결과를 future에 채움
+ * - 진행 중에 들어온 요청: 새로 계산하지 않고 같은 future의 결과를 기다림
+ * → 동시에 몇 번을 눌러도 DB 작업은 한 번
+ *
+ * 【짧은 재사용】
+ * 방금 끝난 결과는 cooldown-ms 동안 그대로 돌려줍니다. (연속 클릭 대비)
+ *
+ * 【트랜잭션】
+ * 이 서비스는 트랜잭션 밖에서 병합만 하고, 실제 재생성은
+ * ReportGenerationService.regenerateReport()의 트랜잭션에서 실행됩니다.
+ * (기다리는 요청이 DB 커넥션을 붙잡지 않음)
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportRegenerationService {
+
+    private final ReportGenerationService reportGenerationService;
+
+    /** 방금 끝난 결과를 재사용하는 시간 */
+    @Value("${app.report.regenerate.cooldown-ms:5000}")
+    private long cooldownMs;
+
+    /** 진행 중인 작업을 기다리는 최대 시간 */
+    @Value("${app.report.regenerate.wait-timeout-ms:30000}")
+    private long waitTimeoutMs;
+
+    /** 재사용 결과 최대 보관 수 (넘으면 비움) */
+    @Value("${app.report.regenerate.max-recent:1000}")
+    private int maxRecent;
+
+    private final ConcurrentMap<RegenerationKey, CompletableFuture<ReportResponse>> inFlight = new ConcurrentHashMap<>();
+    private final ConcurrentMap<RegenerationKey, RecentResult> recent = new ConcurrentHashMap<>();
+
+    private record RegenerationKey(Long userId, LocalDate date) {
+    }
+
+    private record RecentResult(ReportResponse response, long completedAt) {
+    }
+
+    /**
+     * 【업무일지 다시 생성】
+     *
+     * @param userId 사용자 ID
+     * @param date   업무일지 대상 날짜 (미래 날짜 불가)
+     */
+    public ReportResponse regenerate(Long userId, LocalDate date) {
+        if (date.isAfter(LocalDate.now())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        RegenerationKey key = new RegenerationKey(userId, date);
+
+        RecentResult last = recent.get(key);
+        if (last != null && System.currentTimeMillis() - last.completedAt() < cooldownMs) {
+            log.debug("[업무일지 재생성] 최근 결과 재사용 - 사용자ID={}, 날짜={}", userId, date);
+            return last.response();
+        }
+
+        CompletableFuture<ReportResponse> mine = new CompletableFuture<>();
+        CompletableFuture<ReportResponse> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            log.debug("[업무일지 재생성] 진행 중인 작업에 합류 - 사용자ID={}, 날짜={}", userId, date);
+            return await(running);
+        }
+
+        try {
+            ReportResponse response = reportGenerationService.regenerateReport(userId, date);
+            remember(key, response);
+            mine.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * 업무일지를 직접 수정했을 때 재사용 결과를 버립니다.
+     */
+    public void forget(Long userId, LocalDate date) {
+        recent.remove(new RegenerationKey(userId, date));
+    }
+
+    private ReportResponse await(CompletableFuture<ReportResponse> running) {
+        try {
+            return running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new BusinessException(ErrorCode.REPORT_GENERATION_FAILED);
+        } catch (TimeoutException e) {
+            throw new BusinessException(ErrorCode.REPORT_GENERATION_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.REPORT_GENERATION_FAILED);
+        }
+    }
+
+    private void remember(RegenerationKey key, ReportResponse response) {
+        if (recent.size() >= maxRecent) {
+            recent.clear();
+        }
+        recent.put(key, new RecentResult(response, System.currentTimeMillis()));
+    }
+}
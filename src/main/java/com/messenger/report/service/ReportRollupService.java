@@ -0,0 +1,256 @@
+package com.messenger.report.service;
+
+import com.messenger.common.exception.BusinessException;
+import com.messenger.common.exception.ErrorCode;
+import com.messenger.report.dto.ReportRollupResponse;
+import com.messenger.report.entity.DailyReport;
+import com.messenger.report.entity.ReportItem;
+import com.messenger.report.entity.RollupPeriod;
+import com.messenger.report.entity.WorkCategory;
+import com.messenger.report.repository.DailyReportRepository;
+import com.messenger.user.entity.Team;
+import com.messenger.user.entity.User;
+import com.messenger.user.repository.TeamRepository;
+import com.messenger.user.repository.UserRepository;
+import com.messenger.user.repository.UserTeamRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * ============================================================
+ * ReportRollupService - 주간/월간/팀 업무일지 요약 서비스
+ * ============================================================
+ *
+ * 【역할】
+ * 이미 저장된 DailyReport / ReportItem을 합쳐서 기간 요약을 만듭니다.
+ * → 한 달 요약 = 업무일지 최대 30여 건 병합 (몇 주치 chat_messages를 다시 읽지 않음)
+ *
+ * 【요약 종류】
+ * - 사용자 주간/월간: 내 업무일지를 기간 단위로 합침
+ * - 팀 주간/월간:     팀원 전체의 업무일지를 기간 단위로 합침 (팀 대시보드)
+ *                     → user_teams와 JOIN한 쿼리 1회로 팀원 업무일지를 가져와 한 번만 훑음
+ *                     → 메시지 수, 카테고리 구성, 가장 활발한 채팅방, 팀원별 활동량
+ *
+ * 【캐시】
+ * (요약 종류, 대상, 기간 시작일) 단위로 메모리에 보관합니다.
+ * - 오늘이 포함된 기간: 짧은 TTL (open-period-ttl-seconds)
+ * - 이미 끝난 기간:     긴 TTL (closed-period-ttl-seconds)
+ * 업무일지가 생성/수정되면 evict()로 해당 기간의 본인 요약과 소속 팀 요약을 지웁니다.
+ * 팀 구성 변경은 TTL이 지나면 반영됩니다.
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReportRollupService {
+
+    /** 요약에 표시할 채팅방 수 */
+    private static final int TOP_ROOMS = 10;
+
+    private final DailyReportRepository dailyReportRepository;
+    private final UserRepository userRepository;
+    private final TeamRepository teamRepository;
+    private final UserTeamRepository userTeamRepository;
+
+    @Value("${app.report.rollup.open-period-ttl-seconds:60}")
+    private long openPeriodTtlSeconds;
+
+    @Value("${app.report.rollup.closed-period-ttl-seconds:3600}")
+    private long closedPeriodTtlSeconds;
+
+    @Value("${app.report.rollup.max-entries:1000}")
+    private int maxEntries;
+
+    private final ConcurrentMap<RollupKey, CachedRollup> cache = new ConcurrentHashMap<>();
+
+    private record RollupKey(boolean team, RollupPeriod period, Long subjectId, LocalDate start) {
+    }
+
+    private record CachedRollup(ReportRollupResponse response, long expiresAt) {
+    }
+
+    /**
+     * 【사용자 주간/월간 요약】
+     *
+     * @param userId 사용자 ID
+     * @param period WEEK 또는 MONTH
+     * @param date   기간에 포함되는 아무 날짜
+     */
+    public ReportRollupResponse getUserRollup(Long userId, RollupPeriod period, LocalDate date) {
+        LocalDate start = period.start(date);
+        LocalDate end = period.end(date);
+
+        return cached(new RollupKey(false, period, userId, start), end, () -> {
+            User user = userRepository.findById(userId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
+            List<DailyReport> reports = dailyReportRepository.findWithItemsByUserIdAndPeriod(userId, start, end);
+            return merge(period.name(), userId, user.getDisplayName(), start, end, reports, false);
+        });
+    }
+
+    /**
+     * 【팀 주간/월간 요약】
+     * 팀원만 조회할 수 있습니다.
+     *
+     * @param teamId      팀 ID
+     * @param requesterId 요청한 사용자 ID
+     * @param period      WEEK 또는 MONTH
+     * @param date        기간에 포함되는 아무 날짜
+     */
+    public ReportRollupResponse getTeamRollup(Long teamId, Long requesterId, RollupPeriod period, LocalDate date) {
+        Team team = teamRepository.findById(teamId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.TEAM_NOT_FOUND));
+        if (!userTeamRepository.existsByUserIdAndTeamId(requesterId, teamId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+
+        LocalDate start = period.start(date);
+        LocalDate end = period.end(date);
+
+        return cached(new RollupKey(true, period, teamId, start), end, () -> {
+            List<DailyReport> reports = dailyReportRepository.findWithItemsByTeamIdAndPeriod(teamId, start, end);
+            return merge("TEAM_" + period.name(), teamId, team.getName(), start, end, reports, true);
+        });
+    }
+
+    /**
+     * 업무일지가 생성/수정되었을 때 해당 날짜가 포함된 요약 캐시를 지웁니다.
+     * 사용자 본인의 요약과, 사용자가 속한 팀들의 요약이 대상입니다.
+     */
+    public void evict(Long userId, LocalDate date) {
+        List<Long> teamIds = userTeamRepository.findByUserId(userId).stream()
+                .map(userTeam -> userTeam.getTeam().getId())
+                .toList();
+        for (RollupPeriod period : RollupPeriod.values()) {
+            LocalDate start = period.start(date);
+            cache.remove(new RollupKey(false, period, userId, start));
+            for (Long teamId : teamIds) {
+                cache.remove(new RollupKey(true, period, teamId, start));
+            }
+        }
+    }
+
+    // ===== 내부 메서드 =====
+
+    private ReportRollupResponse cached(RollupKey key, LocalDate end,
+                                        Supplier<ReportRollupResponse> loader) {
+        long now = System.currentTimeMillis();
+        CachedRollup hit = cache.get(key);
+        if (hit != null && hit.expiresAt() > now) {
+            return hit.response();
+        }
+
+        ReportRollupResponse response = loader.get();
+        long ttlSeconds = end.isBefore(LocalDate.now()) ? closedPeriodTtlSeconds : openPeriodTtlSeconds;
+        if (cache.size() >= maxEntries) {
+            cache.clear();
+        }
+        cache.put(key, new CachedRollup(response, now + ttlSeconds * 1000));
+        return response;
+    }
+
+    /**
+     * 【업무일지 병합】
+     * 업무일지와 항목을 한 번씩만 훑으며 날짜별/카테고리별/채팅방별(팀이면 팀원별) 합계를 만듭니다.
+     */
+    private ReportRollupResponse merge(String type, Long subjectId, String subjectName,
+                                       LocalDate start, LocalDate end, List<DailyReport> reports,
+                                       boolean team) {
+        int totalMessageCount = 0;
+        Map<LocalDate, Integer> daily = new TreeMap<>();
+        int[] categoryTotals = new int[WorkCategory.values().length];
+        Map<String, int[]> roomTotals = new HashMap<>();   // 채팅방 이름 → 카테고리별 메시지 수
+        Map<Long, int[]> memberTotals = new HashMap<>();     // 팀원 ID → [업무일지 수, 메시지 수]
+        Map<Long, String> memberNames = new HashMap<>();
+
+        for (DailyReport report : reports) {
+            totalMessageCount += report.getTotalMessageCount();
+            daily.merge(report.getReportDate(), report.getTotalMessageCount(), Integer::sum);
+            if (team) {
+                User member = report.getUser();
+                int[] totals = memberTotals.computeIfAbsent(member.getId(), id -> new int[2]);
+                totals[0]++;
+                totals[1] += report.getTotalMessageCount();
+                memberNames.putIfAbsent(member.getId(), member.getDisplayName());
+            }
+
+            for (ReportItem item : report.getItems()) {
+                int ordinal = item.getCategory().ordinal();
+                categoryTotals[ordinal] += item.getRelatedMessageCount();
+                roomTotals.computeIfAbsent(item.getChatRoomName(), name -> new int[categoryTotals.length])
+                        [ordinal] += item.getRelatedMessageCount();
+            }
+        }
+
+        Map<String, Integer> categoryCounts = new LinkedHashMap<>();
+        for (WorkCategory category : WorkCategory.values()) {
+            categoryCounts.put(category.name(), categoryTotals[category.ordinal()]);
+        }
+
+        List<ReportRollupResponse.RoomRollup> rooms = new ArrayList<>();
+        for (Map.Entry<String, int[]> entry : roomTotals.entrySet()) {
+            rooms.add(toRoomRollup(entry.getKey(), entry.getValue()));
+        }
+        rooms.sort((a, b) -> Integer.compare(b.getMessageCount(), a.getMessageCount()));
+
+        List<ReportRollupResponse.MemberRollup> members = null;
+        if (team) {
+            members = new ArrayList<>();
+            for (Map.Entry<Long, int[]> entry : memberTotals.entrySet()) {
+                members.add(new ReportRollupResponse.MemberRollup(entry.getKey(),
+                        memberNames.get(entry.getKey()), entry.getValue()[0], entry.getValue()[1]));
+            }
+            members.sort((a, b) -> Integer.compare(b.getMessageCount(), a.getMessageCount()));
+        }
+
+        log.debug("[업무일지 요약] 유형={}, 대상={}, 기간={}~{}, 업무일지={}건",
+                type, subjectId, start, end, reports.size());
+
+        return ReportRollupResponse.builder()
+                .type(type)
+                .subjectId(subjectId)
+                .subjectName(subjectName)
+                .startDate(start)
+                .endDate(end)
+                .reportCount(reports.size())
+                .totalMessageCount(totalMessageCount)
+                .activeRoomCount(roomTotals.size())
+                .categoryCounts(categoryCounts)
+                .rooms(rooms.size() > TOP_ROOMS ? List.copyOf(rooms.subList(0, TOP_ROOMS)) : rooms)
+                .daily(daily.entrySet().stream()
+                        .map(e -> new ReportRollupResponse.DailyPoint(e.getKey(), e.getValue()))
+                        .toList())
+                .members(members)
+                .build();
+    }
+
+    private ReportRollupResponse.RoomRollup toRoomRollup(String chatRoomName, int[] counts) {
+        int total = 0;
+        WorkCategory dominant = WorkCategory.OTHER;
+        int max = 0;
+        for (WorkCategory category : WorkCategory.values()) {
+            int count = counts[category.ordinal()];
+            total += count;
+            if (count > max) {
+                max = count;
+                dominant = category;
+            }
+        }
+        return new ReportRollupResponse.RoomRollup(chatRoomName, total, dominant.name());
+    }
+}
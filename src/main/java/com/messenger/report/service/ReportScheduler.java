@@ -1,15 +1,17 @@
 package com.messenger.report.service;
 
-import com.messenger.user.entity.User;
-import com.messenger.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * ============================================================
@@ -21,10 +23,14 @@ import java.util.List;
  *
  * 【동작 흐름】
  * 1. @Scheduled(cron)에 의해 정해진 시각에 triggerDailyReports()가 자동 호출
- * 2. 모든 사용자 목록을 조회
- * 3. 각 사용자에 대해 ReportGenerationService.generateReportAsync() 호출
- *    (★ @Async이므로 각 사용자별 생성이 병렬로 실행됨)
- * 4. 사용자 50명이면 → 5개 스레드(maxPoolSize=5)가 동시에 처리
+ * 2. ReportBatchJob.run()을 reportBatchExecutor에 넘기고 바로 반환
+ *    → 스케줄러 스레드는 접속 상태 heartbeat 등 다른 @Scheduled 작업과 공유하므로
+ *      최대 수십 분 걸리는 일괄 생성이 그 작업들을 막으면 안 됨
+ *    → 서버가 여러 대여도 분산 락을 얻은 한 노드만 사용자 묶음을 작업 큐에 적재
+ *    → 모든 노드가 묶음을 나눠 가져가 reportBatchExecutor에서 병렬 처리
+ *    → 진행 상황은 report_jobs 테이블에 저장
+ * 3. 서버 시작 시(ApplicationReadyEvent) 최근 RUNNING/FAILED 상태로 남은 작업이 있으면 다시 참여
+ *    → 정기 실행과 같은 reportBatchExecutor/진행 중 표시(running)를 사용하므로 둘이 겹쳐 실행되지 않음
  *
  * 【cron 표현식 읽는 법】
  *   "초 분 시 일 월 요일"
@@ -46,24 +52,33 @@ import java.util.List;
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ReportScheduler {
 
-    private final UserRepository userRepository;
-    private final ReportGenerationService reportGenerationService;
+    private final ReportBatchJob reportBatchJob;
+    private final Executor reportBatchExecutor;
+
+    /** 이전 실행(정기 실행 또는 재시작 후 재개)이 아직 진행 중이면 다시 시작하지 않음 */
+    private final AtomicBoolean running = new AtomicBoolean();
 
     /** 업무일지 생성 활성화 여부 (application.yml에서 설정) */
     @Value("${report.generation.enabled:true}")
     private boolean enabled;
 
+    public ReportScheduler(ReportBatchJob reportBatchJob,
+                           @Qualifier("reportBatchExecutor") Executor reportBatchExecutor) {
+        this.reportBatchJob = reportBatchJob;
+        this.reportBatchExecutor = reportBatchExecutor;
+    }
+
     /**
      * 【업무일지 자동 생성 트리거】
      *
      * @Scheduled: Spring이 정해진 시각에 자동으로 이 메서드를 호출합니다.
      * cron 값은 application.yml의 report.generation.cron에서 가져옵니다.
      *
-     * ★ 이 메서드는 Spring 스케줄러 스레드에서 실행됩니다.
-     *   실제 업무일지 생성은 @Async 스레드풀에서 병렬로 실행됩니다.
+     * ★ 이 메서드는 Spring 스케줄러 스레드에서 실행되므로 작업을 넘기기만 하고 바로 반환합니다.
+     *   큐 적재 대기/묶음 처리는 reportBatchExecutor 스레드 하나가 맡고,
+     *   사용자별 생성은 같은 스레드풀의 나머지 스레드에서 병렬로 실행됩니다.
      */
     @Scheduled(cron = "${report.generation.cron}")
     public void triggerDailyReports() {
@@ -78,17 +93,41 @@ public class ReportScheduler {
         log.info("[업무일지 스케줄러] 자동 생성 시작 - 날짜={}", today);
         log.info("====================================================");
 
-        // 모든 사용자 조회
-        List<User> allUsers = userRepository.findAll();
-        log.info("[업무일지 스케줄러] 대상 사용자 수={}", allUsers.size());
+        submit("일괄 생성 (날짜=" + today + ")", () -> reportBatchJob.run(today));
+    }
 
-        // 각 사용자에 대해 비동기로 업무일지 생성
-        for (User user : allUsers) {
-            log.debug("[업무일지 스케줄러] 업무일지 생성 요청 - 사용자={}", user.getUsername());
-            reportGenerationService.generateReportAsync(user, today);
-            // ★ @Async이므로 여기서 리턴됨 (생성 완료를 기다리지 않음)
+    /**
+     * 【미완료 작업 재개】
+     * 서버가 작업 도중 종료되었다면 시작 직후 마지막 재개 지점부터 이어서 처리합니다.
+     * 시작을 지연시키지 않도록 정기 실행과 같은 reportBatchExecutor에 넘기고 바로 반환합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        if (!enabled) {
+            return;
         }
+        submit("미완료 작업 재개", reportBatchJob::resumeUnfinished);
+    }
 
-        log.info("[업무일지 스케줄러] 모든 사용자에 대해 생성 요청 완료 (비동기 실행 중)");
+    /** 진행 중인 실행이 없을 때만 작업을 reportBatchExecutor에 넘깁니다. */
+    private void submit(String name, Runnable task) {
+        if (!running.compareAndSet(false, true)) {
+            log.warn("[업무일지 스케줄러] 이전 실행이 아직 진행 중 - 스킵, 작업={}", name);
+            return;
+        }
+        try {
+            reportBatchExecutor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("[업무일지 스케줄러] 실패 - 작업={}, 에러={}", name, e.getMessage(), e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            log.error("[업무일지 스케줄러] 작업 제출 실패 - 작업={}, 에러={}", name, e.getMessage());
+        }
     }
 }
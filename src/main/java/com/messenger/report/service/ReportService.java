@@ -0,0 +1,104 @@
+package com.messenger.report.service;
+
+import com.messenger.common.exception.BusinessException;
+import com.messenger.common.exception.ErrorCode;
+import com.messenger.report.dto.ReportListResponse;
+import com.messenger.report.dto.ReportResponse;
+import com.messenger.report.dto.ReportSummaryResponse;
+import com.messenger.report.dto.ReportUpdateRequest;
+import com.messenger.report.entity.DailyReport;
+import com.messenger.report.repository.DailyReportRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ============================================================
+ * ReportService - 업무일지 조회/수정 비즈니스 로직
+ * ============================================================
+ *
+ * 【역할】
+ * 생성된 업무일지를 사용자가 조회/수정하는 기능을 담당합니다.
+ * (생성은 ReportGenerationService, 기간 요약은 ReportRollupService)
+ *
+ * 【캐시 무효화】
+ * 요약을 수정하면 해당 날짜가 포함된 주간/월간/팀 요약 캐시를 지웁니다.
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReportService {
+
+    /** 목록 한 페이지 최대 크기 */
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final DailyReportRepository dailyReportRepository;
+    private final ReportRollupService reportRollupService;
+    private final ReportRegenerationService reportRegenerationService;
+
+    /**
+     * 【내 업무일지 목록 (페이지)】
+     * 날짜/메시지 수/상태 같은 목록 컬럼만 조회합니다. (항목과 요약 본문은 상세 조회에서)
+     *
+     * @param userId 사용자 ID
+     * @param page   페이지 번호 (0부터)
+     * @param size   페이지 크기 (최대 100)
+     */
+    public ReportListResponse getReports(Long userId, int page, int size) {
+        if (page < 0 || size < 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT);
+        }
+        Pageable pageable = PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE));
+        Page<ReportSummaryResponse> result = dailyReportRepository.findSummariesByUserId(userId, pageable);
+
+        return ReportListResponse.builder()
+                .reports(result.getContent())
+                .page(result.getNumber())
+                .size(result.getSize())
+                .totalCount(result.getTotalElements())
+                .hasNext(result.hasNext())
+                .build();
+    }
+
+    /**
+     * 【업무일지 상세】
+     * 작성자와 항목을 한 번의 쿼리로 가져옵니다. 본인의 업무일지만 조회할 수 있습니다.
+     */
+    public ReportResponse getReport(Long reportId, Long userId) {
+        return ReportResponse.from(findOwnedReport(reportId, userId));
+    }
+
+    /**
+     * 【업무일지 요약 수정】
+     * 본인의 업무일지만 수정할 수 있습니다.
+     *
+     * @param reportId 업무일지 ID
+     * @param userId   요청한 사용자 ID
+     * @param request  수정 내용
+     */
+    @Transactional
+    public ReportResponse updateReport(Long reportId, Long userId, ReportUpdateRequest request) {
+        DailyReport report = findOwnedReport(reportId, userId);
+        report.updateSummary(request.getSummary());
+        reportRollupService.evict(userId, report.getReportDate());
+        reportRegenerationService.forget(userId, report.getReportDate());
+
+        log.info("[업무일지 수정] 리포트ID={}, 사용자ID={}", reportId, userId);
+        return ReportResponse.from(report);
+    }
+
+    private DailyReport findOwnedReport(Long reportId, Long userId) {
+        DailyReport report = dailyReportRepository.findDetailById(reportId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.REPORT_NOT_FOUND));
+        if (!report.getUser().getId().equals(userId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN);
+        }
+        return report;
+    }
+}
@@ -0,0 +1,223 @@
+package com.messenger.report.service;
+
+import com.messenger.infrastructure.redis.RedisCacheService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ============================================================
+ * ReportWorkQueue - 업무일지 일괄 생성 작업 큐 (Redis, 클러스터 공용)
+ * ============================================================
+ *
+ * 【역할】
+ * 조정 노드가 사용자 ID 묶음(batch)을 큐에 넣으면, 모든 노드가 묶음을 하나씩
+ * 가져가(claim) 처리합니다. → 노드 N대가 같은 사용자를 중복 처리하지 않고 부하를 나눕니다.
+ *
+ * 【Redis 키】 (날짜별, TTL 적용)
+ *   report:batch:{date}:pending    LIST  아직 아무도 가져가지 않은 묶음 ("1,2,3")
+ *   report:batch:{date}:queued     SET   한 번이라도 큐에 넣은 사용자 ID (중복 적재 방지)
+ *   report:batch:{date}:claimed    ZSET  처리 중인 묶음, score = 임대 만료 시각
+ *   report:batch:{date}:remaining  카운터  완료되지 않은 묶음 수
+ *   report:batch:{date}:stats      HASH  succeeded / failed / elapsed / max
+ *   report:batch:{date}:ready      조정 노드가 큐 적재를 마쳤다는 표시
+ *
+ * 【원자성】
+ * 적재는 사용자 ID를 queued에 SADD하여 새로 추가된 사용자만 묶음으로 넣습니다.
+ * → 조정 노드가 적재 후 재개 지점을 저장하기 전에 죽어도, 다음 조정 노드가 같은 사용자를 두 번 넣지 않습니다.
+ * 꺼내기+임대 등록, 완료+통계 반영+카운터 감소를 각각 Lua 스크립트 하나로 실행합니다.
+ * 완료는 claimed에서 실제로 지워졌을 때만 반영되므로,
+ * 임대가 만료되어 다른 노드가 다시 처리한 묶음도 통계에는 한 번만 더해집니다.
+ *
+ * 【노드 장애】
+ * 묶음을 가져간 노드가 죽으면 임대 만료 후 requeueExpired()가 pending으로 되돌립니다.
+ * 업무일지 생성은 이미 있는 업무일지를 건너뛰므로 다시 처리해도 안전합니다.
+ * ============================================================
+ */
+@Component
+@RequiredArgsConstructor
+public class ReportWorkQueue {
+
+    private static final String KEY_PREFIX = "report:batch:";
+
+    /** KEYS: pending, remaining, queued / ARGV: ttlSeconds, userId... → 새로 넣은 사용자 수 */
+    private static final RedisScript<Long> ENQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "local fresh = {} "
+                    + "for i = 2, #ARGV do "
+                    + "  if redis.call('SADD', KEYS[3], ARGV[i]) == 1 then fresh[#fresh + 1] = ARGV[i] end "
+                    + "end "
+                    + "redis.call('EXPIRE', KEYS[3], ARGV[1]) "
+                    + "if #fresh == 0 then return 0 end "
+                    + "redis.call('RPUSH', KEYS[1], table.concat(fresh, ',')) "
+                    + "redis.call('INCR', KEYS[2]) "
+                    + "redis.call('EXPIRE', KEYS[1], ARGV[1]) "
+                    + "redis.call('EXPIRE', KEYS[2], ARGV[1]) "
+                    + "return #fresh",
+            Long.class);
+
+    /** KEYS: pending, claimed / ARGV: leaseDeadline, ttlSeconds */
+    private static final RedisScript<String> CLAIM_SCRIPT = new DefaultRedisScript<>(
+            "local b = redis.call('LPOP', KEYS[1]) "
+                    + "if b then "
+                    + "  redis.call('ZADD', KEYS[2], ARGV[1], b) "
+                    + "  redis.call('EXPIRE', KEYS[2], ARGV[2]) "
+                    + "end "
+                    + "return b",
+            String.class);
+
+    /** KEYS: claimed, remaining, stats / ARGV: batch, succeeded, failed, elapsed, maxUser, ttlSeconds */
+    private static final RedisScript<Long> COMPLETE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then return -1 end "
+                    + "redis.call('HINCRBY', KEYS[3], 'succeeded', ARGV[2]) "
+                    + "redis.call('HINCRBY', KEYS[3], 'failed', ARGV[3]) "
+                    + "redis.call('HINCRBY', KEYS[3], 'elapsed', ARGV[4]) "
+                    + "local max = tonumber(redis.call('HGET', KEYS[3], 'max') or '0') "
+                    + "if tonumber(ARGV[5]) > max then redis.call('HSET', KEYS[3], 'max', ARGV[5]) end "
+                    + "redis.call('EXPIRE', KEYS[3], ARGV[6]) "
+                    + "return redis.call('DECR', KEYS[2])",
+            Long.class);
+
+    /** KEYS: claimed, pending / ARGV: now */
+    private static final RedisScript<Long> REQUEUE_SCRIPT = new DefaultRedisScript<>(
+            "local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1]) "
+                    + "for _, b in ipairs(expired) do "
+                    + "  redis.call('ZREM', KEYS[1], b) "
+                    + "  redis.call('RPUSH', KEYS[2], b) "
+                    + "end "
+                    + "return #expired",
+            Long.class);
+
+    private final RedisCacheService redisCacheService;
+
+    /** 큐 상태 보관 시간 (시간). 하루 작업이 끝나고도 재시도/확인이 가능하도록 넉넉히 */
+    @Value("${report.batch.state-ttl-hours:24}")
+    private long stateTtlHours;
+
+    /** 묶음 하나의 처리 결과 */
+    public record BatchResult(int succeeded, int failed, long elapsedMillis, long maxUserMillis) {
+    }
+
+    /** 전체 처리 결과 (stats HASH) */
+    public record Totals(int succeeded, int failed, long elapsedMillis, long maxUserMillis) {
+    }
+
+    /** 큐 적재가 이미 시작되었는지 (remaining 카운터 존재 여부) */
+    public boolean isInitialized(LocalDate date) {
+        return redisCacheService.exists(key(date, "remaining"));
+    }
+
+    /** 조정 노드가 큐 적재를 마쳤는지 */
+    public boolean isReady(LocalDate date) {
+        return redisCacheService.exists(key(date, "ready"));
+    }
+
+    /**
+     * 사용자 ID 묶음 하나를 큐에 넣습니다. 이미 넣은 사용자는 빠지고, 모두 넣은 사용자면 묶음을 만들지 않습니다.
+     *
+     * @return 새로 넣은 사용자 수
+     */
+    public long enqueue(LocalDate date, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0L;
+        }
+        Object[] args = new Object[userIds.size() + 1];
+        args[0] = String.valueOf(ttl().toSeconds());
+        for (int i = 0; i < userIds.size(); i++) {
+            args[i + 1] = String.valueOf(userIds.get(i));
+        }
+        Long added = redisCacheService.executeScript(ENQUEUE_SCRIPT,
+                List.of(key(date, "pending"), key(date, "remaining"), key(date, "queued")), args);
+        return added != null ? added : 0L;
+    }
+
+    /** 큐 적재 완료를 표시합니다. 다른 노드들은 이 표시를 본 뒤 묶음을 가져가기 시작합니다. */
+    public void markReady(LocalDate date) {
+        redisCacheService.set(key(date, "ready"), "1", ttl());
+    }
+
+    /**
+     * 묶음 하나를 가져갑니다.
+     *
+     * @param lease 이 시간 안에 complete()하지 않으면 다른 노드가 다시 가져갈 수 있음
+     * @return 묶음 (사용자 ID 문자열 "1,2,3"), 남은 묶음이 없으면 null
+     */
+    public String claim(LocalDate date, Duration lease) {
+        long deadline = System.currentTimeMillis() + lease.toMillis();
+        return redisCacheService.executeScript(CLAIM_SCRIPT,
+                List.of(key(date, "pending"), key(date, "claimed")),
+                String.valueOf(deadline), String.valueOf(ttl().toSeconds()));
+    }
+
+    /**
+     * 묶음 처리 완료를 기록합니다.
+     *
+     * @return 남은 묶음 수 (0이면 이 호출이 마지막 묶음), 임대가 만료되어 이미 회수된 묶음이면 -1
+     */
+    public long complete(LocalDate date, String batch, BatchResult result) {
+        Long remaining = redisCacheService.executeScript(COMPLETE_SCRIPT,
+                List.of(key(date, "claimed"), key(date, "remaining"), key(date, "stats")),
+                batch,
+                String.valueOf(result.succeeded()),
+                String.valueOf(result.failed()),
+                String.valueOf(result.elapsedMillis()),
+                String.valueOf(result.maxUserMillis()),
+                String.valueOf(ttl().toSeconds()));
+        return remaining != null ? remaining : -1L;
+    }
+
+    /**
+     * 임대가 만료된 묶음을 pending으로 되돌립니다. (처리하던 노드가 죽은 경우)
+     *
+     * @return 되돌린 묶음 수
+     */
+    public long requeueExpired(LocalDate date) {
+        Long requeued = redisCacheService.executeScript(REQUEUE_SCRIPT,
+                List.of(key(date, "claimed"), key(date, "pending")),
+                String.valueOf(System.currentTimeMillis()));
+        return requeued != null ? requeued : 0L;
+    }
+
+    /** 완료되지 않은 묶음 수 (큐가 없으면 0) */
+    public long remaining(LocalDate date) {
+        Object value = redisCacheService.get(key(date, "remaining"));
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    /** 전체 처리 결과를 조회합니다. */
+    public Totals totals(LocalDate date) {
+        Map<Object, Object> stats = redisCacheService.getHashEntries(key(date, "stats"));
+        return new Totals(
+                (int) field(stats, "succeeded"),
+                (int) field(stats, "failed"),
+                field(stats, "elapsed"),
+                field(stats, "max"));
+    }
+
+    /** 묶음 문자열을 사용자 ID 목록으로 변환합니다. */
+    public static List<Long> userIds(String batch) {
+        return Arrays.stream(batch.split(","))
+                .map(Long::parseLong)
+                .toList();
+    }
+
+    private long field(Map<Object, Object> stats, String name) {
+        Object value = stats != null ? stats.get(name) : null;
+        return value != null ? Long.parseLong(value.toString()) : 0L;
+    }
+
+    private Duration ttl() {
+        return Duration.ofHours(stateTtlHours);
+    }
+
+    private String key(LocalDate date, String suffix) {
+        return KEY_PREFIX + date + ":" + suffix;
+    }
+}
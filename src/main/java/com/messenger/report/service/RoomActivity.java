@@ -0,0 +1,104 @@
+package com.messenger.report.service;
+
+import com.messenger.report.entity.WorkCategory;
+
+/**
+ * ============================================================
+ * RoomActivity - 채팅방 하나의 하루 활동 집계
+ * ============================================================
+ *
+ * 【역할】
+ * 메시지를 한 건씩 받아 채팅방 단위로 아래 값을 누적합니다.
+ *   - messageCount:   메시지 수
+ *   - hourlyCounts:   시간대(0~23시)별 메시지 수
+ *   - categoryCounts: 카테고리(WorkCategory ordinal)별 키워드 출현 수
+ *
+ * 메시지 본문을 보관하지 않으므로 하루치 대화를 메모리에 모아둘 필요가 없습니다.
+ * MessageAnalyzer가 이 집계로부터 ReportItem을 만듭니다.
+ * ============================================================
+ */
+public class RoomActivity {
+
+    private int messageCount;
+    private final int[] hourlyCounts = new int[24];
+    private final int[] categoryCounts = new int[WorkCategory.values().length];
+
+    void recordMessage(int hour) {
+        messageCount++;
+        if (hour >= 0 && hour < hourlyCounts.length) {
+            hourlyCounts[hour]++;
+        }
+    }
+
+    int[] categoryCounts() {
+        return categoryCounts;
+    }
+
+    void addMessages(int count) {
+        messageCount += count;
+    }
+
+    void addHourly(int hour, int count) {
+        hourlyCounts[hour] += count;
+    }
+
+    void addCategory(int ordinal, int count) {
+        categoryCounts[ordinal] += count;
+    }
+
+    /**
+     * 다른 집계를 이 집계에 더합니다. (Redis에 저장된 값 + 아직 반영되지 않은 값 병합용)
+     */
+    public void merge(RoomActivity other) {
+        messageCount += other.messageCount;
+        for (int hour = 0; hour < hourlyCounts.length; hour++) {
+            hourlyCounts[hour] += other.hourlyCounts[hour];
+        }
+        for (int i = 0; i < categoryCounts.length; i++) {
+            categoryCounts[i] += other.categoryCounts[i];
+        }
+    }
+
+    public int getMessageCount() {
+        return messageCount;
+    }
+
+    public int getHourlyCount(int hour) {
+        return hourlyCounts[hour];
+    }
+
+    public int getCategoryCount(WorkCategory category) {
+        return categoryCounts[category.ordinal()];
+    }
+
+    /**
+     * 가장 메시지가 많은 시간대를 반환합니다. (동률이면 이른 시간)
+     *
+     * @return 0~23시, 시간 정보가 없으면 -1
+     */
+    public int getPeakHour() {
+        int peak = -1;
+        for (int hour = 0; hour < hourlyCounts.length; hour++) {
+            if (hourlyCounts[hour] > 0 && (peak < 0 || hourlyCounts[hour] > hourlyCounts[peak])) {
+                peak = hour;
+            }
+        }
+        return peak;
+    }
+
+    /**
+     * 키워드 출현 수가 가장 많은 카테고리를 반환합니다.
+     * 키워드가 하나도 없으면 OTHER입니다.
+     */
+    public WorkCategory getDominantCategory() {
+        WorkCategory best = WorkCategory.OTHER;
+        int max = 0;
+        for (WorkCategory category : WorkCategory.values()) {
+            if (categoryCounts[category.ordinal()] > max) {
+                max = categoryCounts[category.ordinal()];
+                best = category;
+            }
+        }
+        return best;
+    }
+}
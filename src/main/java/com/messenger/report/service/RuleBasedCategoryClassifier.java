@@ -0,0 +1,111 @@
+package com.messenger.report.service;
+
+import com.messenger.infrastructure.redis.RedisCacheService;
+import com.messenger.report.repository.CategoryRuleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * ============================================================
+ * RuleBasedCategoryClassifier - 무중단 교체 가능한 규칙 기반 분류기
+ * ============================================================
+ *
+ * 【역할】
+ * 관리자가 등록한 규칙(category_rules)을 CompiledRuleSet으로 컴파일해 사용합니다.
+ *
+ * 【Copy-on-Write 교체】
+ * 규칙이 바뀌면 새 CompiledRuleSet을 만든 뒤 volatile 필드 하나만 바꿔 끼웁니다.
+ * - 분류 중인 스레드는 이미 읽어 둔 이전 규칙으로 끝까지 진행 (락 없음, 대기 없음)
+ * - 다음 호출부터 새 규칙 사용
+ *
+ * 【여러 서버 노드 동기화】
+ * 규칙 변경 시 Redis "report:classifier:version"을 증가시키고,
+ * 각 노드는 주기적으로 버전을 확인하여 다르면 DB에서 규칙을 다시 읽습니다.
+ * ============================================================
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RuleBasedCategoryClassifier implements CategoryClassifier {
+
+    private static final String VERSION_KEY = "report:classifier:version";
+
+    private final CategoryRuleRepository categoryRuleRepository;
+    private final RedisCacheService redisCacheService;
+
+    /** 현재 사용 중인 규칙 (교체 시 통째로 바뀜) */
+    private volatile CompiledRuleSet current = CompiledRuleSet.defaults();
+
+    /** 마지막으로 반영한 클러스터 규칙 버전 */
+    private volatile String loadedVersion;
+
+    @Override
+    public void count(CharSequence text, int[] counts) {
+        current.count(text, counts);
+    }
+
+    /** 시작 시 DB 규칙을 불러옵니다. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        try {
+            loadedVersion = currentVersion();
+        } catch (Exception e) {
+            log.warn("[업무 분류 규칙] 버전 확인 실패 - {}", e.getMessage());
+        }
+        reload();
+    }
+
+    /**
+     * DB 규칙을 다시 컴파일하여 교체합니다.
+     * 컴파일에 실패하면 기존 규칙을 그대로 유지합니다.
+     */
+    public synchronized void reload() {
+        try {
+            CompiledRuleSet compiled = CompiledRuleSet.compile(categoryRuleRepository.findAll());
+            current = compiled;
+            log.info("[업무 분류 규칙] 교체 완료 - 규칙 수={}", compiled.ruleCount());
+        } catch (Exception e) {
+            log.error("[업무 분류 규칙] 교체 실패, 기존 규칙 유지 - 원인={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 규칙 변경을 클러스터에 알리고 이 노드는 즉시 교체합니다.
+     * DB 변경이 커밋된 뒤에 호출해야 다른 노드가 새 규칙을 읽습니다.
+     */
+    public void publishChange() {
+        try {
+            loadedVersion = String.valueOf(redisCacheService.increment(VERSION_KEY));
+        } catch (Exception e) {
+            log.warn("[업무 분류 규칙] 버전 갱신 실패 - 다른 노드는 재시작 전까지 이전 규칙 사용, 원인={}", e.getMessage());
+        }
+        reload();
+    }
+
+    /** 다른 노드에서 규칙이 바뀌었는지 확인합니다. */
+    @Scheduled(fixedDelayString = "${app.report.classifier.sync-interval-ms:10000}")
+    public void syncWithCluster() {
+        String version;
+        try {
+            version = currentVersion();
+        } catch (Exception e) {
+            log.debug("[업무 분류 규칙] 버전 확인 실패 - {}", e.getMessage());
+            return;
+        }
+        if (!Objects.equals(version, loadedVersion)) {
+            loadedVersion = version;
+            reload();
+        }
+    }
+
+    private String currentVersion() {
+        Object version = redisCacheService.get(VERSION_KEY);
+        return version != null ? version.toString() : null;
+    }
+}
@@ -63,16 +63,12 @@ public class UserPruneInitializer implements CommandLineRunner {
         }
 
         List<Long> targetIds = targets.stream().map(User::getId).collect(Collectors.toList());
-        List<String> targetEmails = targets.stream()
-                .map(User::getEmail)
-                .filter(e -> e != null && !e.isBlank())
-                .collect(Collectors.toList());
 
-        purgeByUserIds(targetIds, targetEmails);
+        purgeByUserIds(targetIds);
         log.warn("[user-prune] purged users except whitelist. count={}", targetIds.size());
     }
 
-    private void purgeByUserIds(List<Long> userIds, List<String> emails) {
+    private void purgeByUserIds(List<Long> userIds) {
         String inUsers = placeholders(userIds.size());
 
         jdbcTemplate.update("DELETE FROM notifications WHERE recipient_id IN (" + inUsers + ")", userIds.toArray());
@@ -88,11 +84,6 @@ public class UserPruneInitializer implements CommandLineRunner {
         // chat_messages is sharded by chat_room_id and may exist in both shards; this clears current datasource scope.
         jdbcTemplate.update("DELETE FROM chat_messages WHERE sender_id IN (" + inUsers + ")", userIds.toArray());
 
-        if (!emails.isEmpty()) {
-            String inEmails = placeholders(emails.size());
-            jdbcTemplate.update("DELETE FROM email_verifications WHERE email IN (" + inEmails + ")", emails.toArray());
-        }
-
         jdbcTemplate.update("DELETE FROM users WHERE id IN (" + inUsers + ")", userIds.toArray());
     }
 
@@ -3,12 +3,17 @@ package com.messenger.user.controller;
 import com.messenger.common.dto.ApiResponse;
 import com.messenger.common.exception.BusinessException;
 import com.messenger.common.exception.ErrorCode;
+import com.messenger.report.dto.CategoryRuleRequest;
+import com.messenger.report.dto.CategoryRuleResponse;
+import com.messenger.report.service.CategoryRuleService;
 import com.messenger.user.dto.UserResponse;
 import com.messenger.user.entity.User;
 import com.messenger.user.entity.UserRole;
 import com.messenger.user.entity.UserStatus;
 import com.messenger.user.repository.UserRepository;
+import com.messenger.user.service.UsernameIndexService;
 import jakarta.servlet.http.HttpSession;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -30,6 +35,10 @@ import java.util.stream.Collectors;
  * PUT    /api/admin/users/{id}/role   ???????亦낅슦釉?癰궰野?API
  * PUT    /api/admin/users/{id}/status ????????怨밴묶 癰궰野?API
  * DELETE /api/admin/users/{id}     ???????????API
+ * GET    /api/admin/classifier/rules        업무 분류 규칙 목록 API
+ * POST   /api/admin/classifier/rules        업무 분류 규칙 등록 API
+ * DELETE /api/admin/classifier/rules/{id}   업무 분류 규칙 삭제 API
+ * POST   /api/admin/classifier/reload       업무 분류 규칙 다시 읽기 API
  * ============================================================
  */
 @Slf4j
@@ -38,6 +47,8 @@ import java.util.stream.Collectors;
 public class AdminController {
 
     private final UserRepository userRepository;
+    private final CategoryRuleService categoryRuleService;
+    private final UsernameIndexService usernameIndexService;
 
     /** ?온?귐딆쁽 ??륁뵠筌왖 */
     @GetMapping("/admin")
@@ -111,14 +122,52 @@ public class AdminController {
             throw new BusinessException(ErrorCode.INVALID_INPUT);
         }
 
-        userRepository.findById(userId)
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
         userRepository.deleteById(userId);
+        usernameIndexService.evict(user.getUsername());
 
         log.info("[?온?귐딆쁽] ?????????- userId={}", userId);
         return ResponseEntity.ok(ApiResponse.success("????癒? ?????뤿???щ빍??"));
     }
 
+    /** 업무 분류 규칙 목록 (비어 있으면 기본 키워드 사용 중) */
+    @GetMapping("/api/admin/classifier/rules")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<List<CategoryRuleResponse>>> getCategoryRules(HttpSession session) {
+        checkAdmin(session);
+        return ResponseEntity.ok(ApiResponse.success("분류 규칙 목록을 조회했습니다.", categoryRuleService.findAllRules()));
+    }
+
+    /** 업무 분류 규칙 등록 (모든 노드의 분류기가 새 규칙으로 교체됨) */
+    @PostMapping("/api/admin/classifier/rules")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<CategoryRuleResponse>> addCategoryRule(
+            @Valid @RequestBody CategoryRuleRequest request, HttpSession session) {
+        checkAdmin(session);
+        CategoryRuleResponse rule = categoryRuleService.addRule(request);
+        return ResponseEntity.ok(ApiResponse.success("분류 규칙이 등록되었습니다.", rule));
+    }
+
+    /** 업무 분류 규칙 삭제 */
+    @DeleteMapping("/api/admin/classifier/rules/{ruleId}")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<Void>> deleteCategoryRule(
+            @PathVariable Long ruleId, HttpSession session) {
+        checkAdmin(session);
+        categoryRuleService.deleteRule(ruleId);
+        return ResponseEntity.ok(ApiResponse.success("분류 규칙이 삭제되었습니다."));
+    }
+
+    /** DB에서 직접 수정한 규칙을 모든 노드에 다시 읽게 함 */
+    @PostMapping("/api/admin/classifier/reload")
+    @ResponseBody
+    public ResponseEntity<ApiResponse<Void>> reloadCategoryRules(HttpSession session) {
+        checkAdmin(session);
+        categoryRuleService.reloadRules();
+        return ResponseEntity.ok(ApiResponse.success("분류 규칙을 다시 불러왔습니다."));
+    }
+
     /** ?온?귐딆쁽 亦낅슦釉?筌ｋ똾寃?*/
     private void checkAdmin(HttpSession session) {
         Long userId = (Long) session.getAttribute("userId");
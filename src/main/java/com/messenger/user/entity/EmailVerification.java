@@ -1,48 +0,0 @@
-package com.messenger.user.entity;
-
-import com.messenger.common.entity.BaseEntity;
-import jakarta.persistence.*;
-import lombok.*;
-
-import java.time.LocalDateTime;
-
-@Entity
-@Table(name = "email_verifications")
-@Getter
-@NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor
-@Builder
-public class EmailVerification extends BaseEntity {
-
-    @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    private Long id;
-
-    @Column(nullable = false, length = 120)
-    private String email;
-
-    @Column(nullable = false, length = 16)
-    private String code;
-
-    @Column(nullable = false)
-    private LocalDateTime expiresAt;
-
-    @Column(nullable = false)
-    private boolean verified;
-
-    @Column(nullable = false)
-    private boolean consumed;
-
-    @Column
-    private LocalDateTime verifiedAt;
-
-    public void verify() {
-        this.verified = true;
-        this.verifiedAt = LocalDateTime.now();
-    }
-
-    public void consume() {
-        this.consumed = true;
-    }
-}
-
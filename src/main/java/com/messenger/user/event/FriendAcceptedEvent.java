@@ -0,0 +1,12 @@
+package com.messenger.user.event;
+
+/**
+ * 친구 요청이 수락되었을 때 발행되는 이벤트.
+ * 트랜잭션 커밋 후 FriendshipNotificationListener가 요청한 사람에게 알림을 보냅니다.
+ *
+ * @param friendshipId 친구 관계 ID
+ * @param accepterName 수락한 사용자 표시 이름
+ * @param requesterId  처음 요청한 사용자 ID (알림 수신자)
+ */
+public record FriendAcceptedEvent(Long friendshipId, String accepterName, Long requesterId) {
+}
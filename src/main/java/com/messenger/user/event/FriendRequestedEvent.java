@@ -0,0 +1,12 @@
+package com.messenger.user.event;
+
+/**
+ * 친구 요청이 저장되었을 때 발행되는 이벤트.
+ * 트랜잭션 커밋 후 FriendshipNotificationListener가 받는 사람에게 알림을 보냅니다.
+ *
+ * @param friendshipId  친구 관계 ID (알림 클릭 시 이동)
+ * @param requesterName 요청한 사용자 표시 이름
+ * @param receiverId    요청받은 사용자 ID (알림 수신자)
+ */
+public record FriendRequestedEvent(Long friendshipId, String requesterName, Long receiverId) {
+}
@@ -1,11 +0,0 @@
-package com.messenger.user.repository;
-
-import com.messenger.user.entity.EmailVerification;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-import java.util.Optional;
-
-public interface EmailVerificationRepository extends JpaRepository<EmailVerification, Long> {
-    Optional<EmailVerification> findTopByEmailOrderByCreatedAtDesc(String email);
-}
-
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +34,12 @@ public interface FriendshipRepository extends JpaRepository<Friendship, Long> {
             "(f.requester.id = :userId OR f.receiver.id = :userId) AND f.status = :status")
     List<Friendship> findAllByUserIdAndStatus(@Param("userId") Long userId, @Param("status") FriendshipStatus status);
 
+    /** 여러 사용자의 친구 관계를 한 번에 조회 (접속 상태 변경 배치 전파용) */
+    @Query("SELECT f FROM Friendship f JOIN FETCH f.requester JOIN FETCH f.receiver WHERE " +
+            "(f.requester.id IN :userIds OR f.receiver.id IN :userIds) AND f.status = :status")
+    List<Friendship> findAllByUserIdsAndStatus(@Param("userIds") Collection<Long> userIds,
+                                               @Param("status") FriendshipStatus status);
+
     /** 두 사용자 간에 이미 관계가 존재하는지 확인 */
     @Query("SELECT COUNT(f) > 0 FROM Friendship f WHERE " +
             "(f.requester.id = :userId1 AND f.receiver.id = :userId2) OR " +
@@ -2,9 +2,13 @@ package com.messenger.user.repository;
 
 import com.messenger.user.entity.User;
 import com.messenger.user.entity.UserStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -70,4 +74,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     /** username 또는 displayName에 키워드가 포함된 사용자 검색 */
     List<User> findByUsernameContainingOrDisplayNameContaining(String username, String displayName);
+
+    /** 여러 아이디로 사용자를 한 번에 조회합니다. (@멘션 해석용, IN 쿼리 1회) */
+    List<User> findByUsernameIn(Collection<String> usernames);
+
+    /**
+     * ID가 기준값보다 큰 사용자의 ID만 ID 순으로 한 페이지 조회합니다. (키셋 페이지네이션)
+     * 업무일지 일괄 생성처럼 전체 사용자를 묶음으로 나눠 처리할 때 사용합니다.
+     * OFFSET을 쓰지 않으므로 뒤쪽 페이지도 인덱스로 바로 찾아가고, 엔티티를 로딩하지 않습니다.
+     *
+     * @param id       마지막으로 조회한 사용자 ID (처음이면 0)
+     * @param pageable 페이지 크기 (PageRequest.of(0, size))
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id > :id ORDER BY u.id ASC")
+    List<Long> findIdsAfter(@Param("id") Long id, Pageable pageable);
 }
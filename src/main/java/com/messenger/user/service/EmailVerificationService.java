@@ -2,26 +2,90 @@ package com.messenger.user.service;
 
 import com.messenger.common.exception.BusinessException;
 import com.messenger.common.exception.ErrorCode;
-import com.messenger.infrastructure.mail.MailSender;
-import com.messenger.user.entity.EmailVerification;
-import com.messenger.user.repository.EmailVerificationRepository;
+import com.messenger.infrastructure.mail.MailQueueService;
+import com.messenger.infrastructure.redis.RedisCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * ============================================================
+ * EmailVerificationService - 이메일 인증 코드 (Redis 저장)
+ * ============================================================
+ *
+ * 【저장 방식】 인증 상태는 짧게만 필요하므로 DB 대신 Redis에 두고 TTL로 자동 삭제합니다.
+ * - "email:verify:{email}"       HASH {code, attempts, verified}
+ *   - 코드 발송 시 새로 만들고 TTL = code-ttl-minutes
+ *   - 키가 없을 때 발송 기록이 남아 있으면 만료, 없으면 요청 없음으로 구분
+ *   - 인증 성공 시 code를 지우고 verified=1, TTL = verified-ttl-minutes (이 안에 가입해야 함)
+ *   - 가입 시 verified=1인지 확인만 하고, 사용자 저장이 커밋된 뒤에 키를 지움 (한 번만 사용)
+ *     → 가입 트랜잭션이 롤백되면 인증 상태가 남아 있어 코드를 다시 받지 않고 재시도 가능
+ * - "email:verify:sends:{email}" 발송 횟수 (TTL = send-window-minutes)
+ *
+ * 【무차별 대입 방지】
+ * - 코드 1개당 확인 시도는 max-attempts회까지 (HINCRBY로 먼저 세고 비교 → 동시 요청도 한도를 넘지 못함)
+ * - 발송은 send-window-minutes 동안 max-sends회까지 (새 코드로 시도 횟수를 초기화하는 우회 차단)
+ * 비교/갱신은 모두 Lua 스크립트 한 번으로 실행합니다.
+ * ============================================================
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EmailVerificationService {
 
-    private final EmailVerificationRepository emailVerificationRepository;
-    private final MailSender mailSender;
+    private static final String KEY_PREFIX = "email:verify:";
+    private static final String SENDS_KEY_PREFIX = "email:verify:sends:";
+
+    /** 발송 횟수 확인 + 새 코드 저장 (이전 코드/인증 상태는 버림). 한도 초과면 -1 */
+    private static final RedisScript<Long> ISSUE_CODE = new DefaultRedisScript<>(
+            "local sends = redis.call('INCR', KEYS[2]) " +
+            "if sends == 1 then redis.call('PEXPIRE', KEYS[2], ARGV[4]) end " +
+            "if sends > tonumber(ARGV[3]) then return -1 end " +
+            "redis.call('DEL', KEYS[1]) " +
+            "redis.call('HSET', KEYS[1], 'code', ARGV[1], 'attempts', 0, 'verified', 0) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[2]) " +
+            "return sends",
+            Long.class);
+
+    /** 코드 확인. 1=성공(이미 인증됨 포함), 0=불일치, -1=요청 없음, -2=시도 횟수 초과, -3=만료 */
+    private static final RedisScript<Long> CHECK_CODE = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 0 then " +
+            "if redis.call('EXISTS', KEYS[2]) == 1 then return -3 end " +
+            "return -1 end " +
+            "if redis.call('HGET', KEYS[1], 'verified') == '1' then return 1 end " +
+            "local attempts = redis.call('HINCRBY', KEYS[1], 'attempts', 1) " +
+            "if attempts > tonumber(ARGV[2]) then return -2 end " +
+            "if redis.call('HGET', KEYS[1], 'code') ~= ARGV[1] then return 0 end " +
+            "redis.call('HDEL', KEYS[1], 'code') " +
+            "redis.call('HSET', KEYS[1], 'verified', 1) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1",
+            Long.class);
+
+    /** 인증된 상태면 1, 아니면 0 (키는 그대로 둠) */
+    private static final RedisScript<Long> IS_VERIFIED = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'verified') == '1' then return 1 end " +
+            "return 0",
+            Long.class);
+
+    /** 인증된 상태면 키를 지우고 1, 아니면 0 */
+    private static final RedisScript<Long> CONSUME_VERIFIED = new DefaultRedisScript<>(
+            "if redis.call('HGET', KEYS[1], 'verified') == '1' then " +
+            "redis.call('DEL', KEYS[1]) return 1 end " +
+            "return 0",
+            Long.class);
+
+    private final RedisCacheService redisCacheService;
+    private final MailQueueService mailQueueService;
 
     @Value("${app.email-verification.code-ttl-minutes:10}")
     private long codeTtlMinutes;
@@ -29,32 +93,36 @@ public class EmailVerificationService {
     @Value("${app.email-verification.verified-ttl-minutes:30}")
     private long verifiedTtlMinutes;
 
+    @Value("${app.email-verification.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.email-verification.max-sends:5}")
+    private int maxSends;
+
+    @Value("${app.email-verification.send-window-minutes:60}")
+    private long sendWindowMinutes;
+
     @Value("${app.email-verification.debug-expose-code:false}")
     private boolean debugExposeCode;
 
-    @Transactional
     public Map<String, Object> sendCode(String rawEmail) {
         String email = normalizeEmail(rawEmail);
         String code = String.valueOf(ThreadLocalRandom.current().nextInt(100000, 1000000));
         LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(codeTtlMinutes);
 
-        EmailVerification entity = EmailVerification.builder()
-                .email(email)
-                .code(code)
-                .expiresAt(expiresAt)
-                .verified(false)
-                .consumed(false)
-                .build();
-        emailVerificationRepository.save(entity);
+        Long sends = redisCacheService.executeScript(ISSUE_CODE, List.of(KEY_PREFIX + email, SENDS_KEY_PREFIX + email),
+                code, millis(codeTtlMinutes), String.valueOf(maxSends), millis(sendWindowMinutes));
+        if (sends == null || sends < 0) {
+            log.warn("[email-verification] send limit exceeded. email={}", email);
+            throw new BusinessException(ErrorCode.EMAIL_VERIFICATION_TOO_MANY_ATTEMPTS);
+        }
 
-        boolean mailSent = false;
-        try {
-            mailSender.send(email,
-                    "[Narsil] Email verification code",
-                    "Your verification code is: " + code + "\nThis code expires in " + codeTtlMinutes + " minutes.");
-            mailSent = true;
-        } catch (Exception e) {
-            log.warn("[email-verification] mail send failed, falling back to code response. email={}, reason={}", email, e.getMessage());
+        // 발송은 MailQueueWorker가 비동기로 처리 (요청 스레드는 SMTP를 기다리지 않음)
+        boolean mailSent = mailQueueService.enqueue(email,
+                "[Narsil] Email verification code",
+                "Your verification code is: " + code + "\nThis code expires in " + codeTtlMinutes + " minutes.");
+        if (!mailSent) {
+            log.warn("[email-verification] mail provider not configured, falling back to code response. email={}", email);
         }
 
         if (mailSent && !debugExposeCode) {
@@ -63,39 +131,54 @@ public class EmailVerificationService {
         return Map.of("email", email, "expiresAt", expiresAt, "debugCode", code);
     }
 
-    @Transactional
     public void verifyCode(String rawEmail, String rawCode) {
         String email = normalizeEmail(rawEmail);
         String code = rawCode == null ? "" : rawCode.trim();
 
-        EmailVerification latest = emailVerificationRepository.findTopByEmailOrderByCreatedAtDesc(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.EMAIL_VERIFICATION_NOT_REQUESTED));
-
-        if (latest.getExpiresAt().isBefore(LocalDateTime.now())) {
+        Long result = redisCacheService.executeScript(CHECK_CODE, List.of(KEY_PREFIX + email, SENDS_KEY_PREFIX + email),
+                code, String.valueOf(maxAttempts), millis(verifiedTtlMinutes));
+        long outcome = result == null ? -1 : result;
+        if (outcome == -1) {
+            throw new BusinessException(ErrorCode.EMAIL_VERIFICATION_NOT_REQUESTED);
+        }
+        if (outcome == -3) {
             throw new BusinessException(ErrorCode.EMAIL_VERIFICATION_EXPIRED);
         }
-        if (!latest.getCode().equals(code)) {
+        if (outcome == -2) {
+            log.warn("[email-verification] too many attempts. email={}", email);
+            throw new BusinessException(ErrorCode.EMAIL_VERIFICATION_TOO_MANY_ATTEMPTS);
+        }
+        if (outcome == 0) {
             throw new BusinessException(ErrorCode.EMAIL_VERIFICATION_INVALID);
         }
-        latest.verify();
     }
 
-    @Transactional
-    public void assertAndConsumeVerifiedEmail(String rawEmail) {
+    /**
+     * 가입 전 인증 여부를 확인합니다. 인증 상태는 지우지 않습니다. (가입 커밋 후 consumeVerifiedEmail)
+     */
+    public void assertVerifiedEmail(String rawEmail) {
         String email = normalizeEmail(rawEmail);
-        EmailVerification latest = emailVerificationRepository.findTopByEmailOrderByCreatedAtDesc(email)
-                .orElseThrow(() -> new BusinessException(ErrorCode.EMAIL_NOT_VERIFIED));
-
-        if (!latest.isVerified()) {
+        Long verified = redisCacheService.executeScript(IS_VERIFIED, List.of(KEY_PREFIX + email));
+        if (verified == null || verified != 1L) {
             throw new BusinessException(ErrorCode.EMAIL_NOT_VERIFIED);
         }
-        if (latest.isConsumed()) {
-            throw new BusinessException(ErrorCode.EMAIL_NOT_VERIFIED);
-        }
-        if (latest.getVerifiedAt() == null || latest.getVerifiedAt().plusMinutes(verifiedTtlMinutes).isBefore(LocalDateTime.now())) {
-            throw new BusinessException(ErrorCode.EMAIL_NOT_VERIFIED);
+    }
+
+    /**
+     * 가입이 커밋된 뒤 인증 상태를 지웁니다. (같은 인증으로 다시 가입하지 못하도록)
+     * 이미 커밋된 가입을 되돌릴 수 없으므로 실패해도 예외 없이 로그만 남깁니다. (TTL로 곧 만료)
+     */
+    public void consumeVerifiedEmail(String rawEmail) {
+        String email = normalizeEmail(rawEmail);
+        try {
+            redisCacheService.executeScript(CONSUME_VERIFIED, List.of(KEY_PREFIX + email));
+        } catch (Exception e) {
+            log.warn("[email-verification] consume failed, expires by TTL. email={}, error={}", email, e.getMessage());
         }
-        latest.consume();
+    }
+
+    private String millis(long minutes) {
+        return String.valueOf(Duration.ofMinutes(minutes).toMillis());
     }
 
     private String normalizeEmail(String email) {
@@ -1,17 +1,19 @@
 package com.messenger.user.service;
 
+import com.messenger.chat.service.ChatPresenceService;
 import com.messenger.common.exception.BusinessException;
 import com.messenger.common.exception.ErrorCode;
-import com.messenger.notification.entity.NotificationType;
-import com.messenger.notification.service.NotificationService;
 import com.messenger.user.dto.FriendshipResponse;
 import com.messenger.user.entity.Friendship;
 import com.messenger.user.entity.FriendshipStatus;
 import com.messenger.user.entity.User;
+import com.messenger.user.event.FriendAcceptedEvent;
+import com.messenger.user.event.FriendRequestedEvent;
 import com.messenger.user.repository.FriendshipRepository;
 import com.messenger.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,7 +29,8 @@ public class FriendshipService {
 
     private final FriendshipRepository friendshipRepository;
     private final UserRepository userRepository;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChatPresenceService chatPresenceService;
 
     @Transactional
     public FriendshipResponse sendFriendRequest(Long requesterId, Long receiverId) {
@@ -70,18 +73,8 @@ public class FriendshipService {
         Friendship saved = friendshipRepository.save(friendship);
         log.info("[friend-request] saved friendshipId={}", saved.getId());
 
-        try {
-            notificationService.createAndSend(
-                    receiverId,
-                    NotificationType.FRIEND_REQUEST,
-                    requester.getDisplayName() + "님이 친구 요청을 보냈습니다.",
-                    saved.getId()
-            );
-        } catch (Exception e) {
-            // Do not fail friend request transaction because async notification enqueue failed.
-            log.warn("[friend-request] notification enqueue failed. friendshipId={}, reason={}",
-                    saved.getId(), e.getMessage());
-        }
+        // 알림은 커밋 후 FriendshipNotificationListener가 보냄 (롤백되면 발송 안 함)
+        eventPublisher.publishEvent(new FriendRequestedEvent(saved.getId(), requester.getDisplayName(), receiverId));
 
         return FriendshipResponse.from(saved, requesterId);
     }
@@ -107,17 +100,8 @@ public class FriendshipService {
         log.info("[friend-accept] friendshipId={}, requesterId={}, receiverId={}",
                 friendshipId, friendship.getRequester().getId(), currentUserId);
 
-        try {
-            notificationService.createAndSend(
-                    friendship.getRequester().getId(),
-                    NotificationType.FRIEND_ACCEPTED,
-                    friendship.getReceiver().getDisplayName() + "님이 친구 요청을 수락했습니다.",
-                    friendshipId
-            );
-        } catch (Exception e) {
-            log.warn("[friend-accept] notification enqueue failed. friendshipId={}, reason={}",
-                    friendshipId, e.getMessage());
-        }
+        eventPublisher.publishEvent(new FriendAcceptedEvent(friendshipId,
+                friendship.getReceiver().getDisplayName(), friendship.getRequester().getId()));
 
         return FriendshipResponse.from(friendship, currentUserId);
     }
@@ -170,8 +154,15 @@ public class FriendshipService {
         List<Friendship> friendships = friendshipRepository
                 .findAllByUserIdAndStatus(userId, FriendshipStatus.ACCEPTED);
 
+        // 친구 전원의 접속 상태를 Redis 왕복 1회로 조회
+        List<Long> friendIds = friendships.stream()
+                .map(f -> friendIdOf(f, userId))
+                .collect(Collectors.toList());
+        Map<Long, Boolean> onlineStatuses = chatPresenceService.getOnlineStatuses(friendIds);
+
         return friendships.stream()
-                .map(f -> FriendshipResponse.from(f, userId))
+                .map(f -> FriendshipResponse.from(f, userId,
+                        onlineStatuses.getOrDefault(friendIdOf(f, userId), false)))
                 .collect(Collectors.toList());
     }
 
@@ -244,4 +235,9 @@ public class FriendshipService {
                 })
                 .collect(Collectors.toList());
     }
+
+    private Long friendIdOf(Friendship friendship, Long userId) {
+        return friendship.getRequester().getId().equals(userId)
+                ? friendship.getReceiver().getId() : friendship.getRequester().getId();
+    }
 }
@@ -13,6 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -43,7 +45,8 @@ public class UserService {
             throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
-        emailVerificationService.assertAndConsumeVerifiedEmail(normalizedEmail);
+        // 확인만 하고, 인증 상태는 가입이 커밋된 뒤 소비 (롤백되면 다시 시도 가능)
+        emailVerificationService.assertVerifiedEmail(normalizedEmail);
 
         String encodedPassword = passwordEncoder.encode(request.getPassword());
 
@@ -59,6 +62,7 @@ public class UserService {
                 .build();
 
         User savedUser = userRepository.save(user);
+        consumeVerifiedEmailAfterCommit(normalizedEmail);
         log.info("[register] completed userId={}, username={}", savedUser.getId(), savedUser.getUsername());
         return UserResponse.from(savedUser);
     }
@@ -138,5 +142,17 @@ public class UserService {
         }
         return user.getUsername();
     }
-}
 
+    private void consumeVerifiedEmailAfterCommit(String email) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            emailVerificationService.consumeVerifiedEmail(email);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                emailVerificationService.consumeVerifiedEmail(email);
+            }
+        });
+    }
+}
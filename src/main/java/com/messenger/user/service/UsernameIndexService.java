@@ -0,0 +1,120 @@
+package com.messenger.user.service;
+
+import com.messenger.user.entity.User;
+import com.messenger.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * ============================================================
+ * UsernameIndexService - 아이디(username) → 사용자 ID 조회 (메모리 캐시)
+ * ============================================================
+ *
+ * 【역할】
+ * @멘션처럼 메시지마다 아이디를 사용자 ID로 바꿔야 하는 곳에서 사용합니다.
+ *
+ * 【동작 방식】
+ * 1. 캐시에 있는 아이디는 그대로 사용 (아이디는 가입 후 바뀌지 않음)
+ * 2. 캐시에 없는 아이디만 모아 IN 쿼리 1회로 조회 후 캐시에 저장
+ * 3. 없는 아이디도 negative-ttl-ms 동안 기억 → "@3시"처럼 아이디가 아닌 단어로 매번 조회하지 않음
+ *    (그 사이 같은 아이디로 가입하면 TTL이 지난 뒤부터 멘션됨)
+ *
+ * 【대소문자】 DB 아이디 비교는 대소문자를 구분하지 않으므로(collation) 캐시 키도 소문자로 통일합니다.
+ * → "@Kim"도 "kim"으로 찾고, 한 번 없다고 기억한 표기가 다른 표기의 조회를 막지 않습니다.
+ *
+ * 최대 크기(max-size)를 넘으면 캐시를 비우고 다시 채웁니다.
+ * ============================================================
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UsernameIndexService {
+
+    private final UserRepository userRepository;
+
+    @Value("${app.chat.mention.username-cache-size:50000}")
+    private int maxSize;
+
+    @Value("${app.chat.mention.negative-ttl-ms:60000}")
+    private long negativeTtlMs;
+
+    private final ConcurrentMap<String, Long> userIds = new ConcurrentHashMap<>();
+
+    /** 존재하지 않는 아이디 → 기억한 시각 */
+    private final ConcurrentMap<String, Long> missing = new ConcurrentHashMap<>();
+
+    /**
+     * 여러 아이디를 사용자 ID로 바꿉니다.
+     *
+     * @param usernames 아이디 목록
+     * @return 요청한 아이디(요청한 표기 그대로) → 사용자 ID (존재하지 않는 아이디는 포함되지 않음)
+     */
+    public Map<String, Long> resolve(Collection<String> usernames) {
+        Map<String, Long> result = new HashMap<>();
+        Map<String, List<String>> misses = new HashMap<>();
+        long now = System.currentTimeMillis();
+        for (String username : usernames) {
+            String key = normalize(username);
+            Long userId = userIds.get(key);
+            if (userId != null) {
+                result.put(username, userId);
+                continue;
+            }
+            Long missedAt = missing.get(key);
+            if (missedAt == null || now - missedAt >= negativeTtlMs) {
+                misses.computeIfAbsent(key, k -> new ArrayList<>()).add(username);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            int missCount = misses.size();
+            for (User user : userRepository.findByUsernameIn(misses.keySet())) {
+                String key = normalize(user.getUsername());
+                List<String> requested = misses.remove(key);
+                if (requested == null) {
+                    continue;
+                }
+                requested.forEach(username -> result.put(username, user.getId()));
+                cache(key, user.getId());
+            }
+            misses.keySet().forEach(key -> remember(key, now));
+            log.debug("[아이디 조회] 요청={}개, 캐시 미스={}개, 없는 아이디={}개", usernames.size(), missCount, misses.size());
+        }
+        return result;
+    }
+
+    /** 탈퇴/삭제된 사용자의 아이디를 캐시에서 제거합니다. */
+    public void evict(String username) {
+        userIds.remove(normalize(username));
+    }
+
+    private String normalize(String username) {
+        return username.toLowerCase(Locale.ROOT);
+    }
+
+    private void cache(String username, Long userId) {
+        if (userIds.size() >= maxSize) {
+            userIds.clear();
+        }
+        missing.remove(username);
+        userIds.put(username, userId);
+    }
+
+    private void remember(String username, long now) {
+        if (missing.size() >= maxSize) {
+            missing.clear();
+        }
+        missing.put(username, now);
+    }
+}
@@ -32,6 +32,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 @Controller
 @RequiredArgsConstructor
@@ -144,6 +145,7 @@ public class WorklogController {
         ChatRoomResponse dmRoom = chatRoomService.getOrCreateDirectRoom(userId, friendId);
 
         ChatMessageEvent event = ChatMessageEvent.builder()
+                .eventId(UUID.randomUUID().toString())
                 .chatRoomId(dmRoom.getId())
                 .senderId(userId)
                 .senderName(senderName != null ? senderName : "system")
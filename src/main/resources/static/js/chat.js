@@ -151,18 +151,40 @@
                 console.log('[STOMP] ' + str);
             };
 
-            stompClient.connect({}, onConnected, onConnectionError);
+            // 축약 형식(x-encoding: compact)은 원하는 클라이언트만 요청 (기본은 일반 JSON)
+            var connectHeaders = wantsCompactFrames() ? { 'x-encoding': 'compact' } : {};
+            stompClient.connect(connectHeaders, onConnected, onConnectionError);
         } catch (e) {
             console.error('[chat] websocket init failed:', e);
             startPolling();
         }
     }
 
+    /**
+     * 축약 프레임 사용 여부.
+     * localStorage 'chat.compactFrames'가 'on'/'off'로 설정되어 있으면 그 값을 따르고,
+     * 없으면 브라우저의 데이터 절약 모드(navigator.connection.saveData)일 때만 사용합니다.
+     */
+    function wantsCompactFrames() {
+        var setting = null;
+        try {
+            setting = window.localStorage.getItem('chat.compactFrames');
+        } catch (e) {
+            // 저장소 접근이 막힌 환경(사생활 보호 모드 등)은 기본값 사용
+        }
+        if (setting === 'on') return true;
+        if (setting === 'off') return false;
+        return !!(navigator.connection && navigator.connection.saveData);
+    }
+
     function onConnected() {
         connected = true;
         hideConnectionStatus();
 
         stompClient.subscribe('/topic/chatroom/' + ROOM_ID, onMessageReceived);
+        if (typeof NotificationManager !== 'undefined') {
+            stompClient.subscribe('/user/queue/notifications', NotificationManager.onFrame);
+        }
     }
 
     function onConnectionError(error) {
@@ -174,22 +196,55 @@
 
     function onMessageReceived(message) {
         try {
-            var msg = JSON.parse(message.body);
+            // 서버가 느린 연결이라 판단해 프레임을 버린 적이 있으면 x-resync 헤더가 붙어 옵니다.
+            if (message.headers && message.headers['x-resync'] === 'true') {
+                fetchNewMessages();
+            }
 
-            if (msg.id && msg.id > lastMessageId) {
-                lastMessageId = msg.id;
-                appendMessage(msg);
-                scrollToBottom();
-                markAsRead();
-            } else if (!msg.id) {
-                appendMessage(msg);
-                scrollToBottom();
+            var payload = JSON.parse(message.body);
+            if (message.headers && message.headers['x-encoding'] === 'compact') {
+                payload = Array.isArray(payload) ? payload.map(expandCompact) : expandCompact(payload);
             }
+            // 서버가 묶음 전송(coalesce)을 켜면 한 프레임에 메시지 배열이 들어옵니다.
+            var messages = Array.isArray(payload) ? payload : [payload];
+            var appended = false;
+            var hasNewId = false;
+
+            messages.forEach(function(msg) {
+                if (msg.id && msg.id > lastMessageId) {
+                    lastMessageId = msg.id;
+                    appendMessage(msg);
+                    appended = true;
+                    hasNewId = true;
+                } else if (!msg.id) {
+                    appendMessage(msg);
+                    appended = true;
+                }
+            });
+
+            // 스크롤/읽음 처리는 프레임당 한 번만
+            if (appended) scrollToBottom();
+            if (hasNewId) markAsRead();
         } catch (e) {
             console.error('[chat] parse failed:', e, message.body);
         }
     }
 
+    // CompactFrameEncoder의 필드 매핑과 반드시 일치해야 합니다.
+    var COMPACT_KEYS = {
+        i: 'id', r: 'chatRoomId', s: 'senderId', n: 'senderName', p: 'senderProfileImage',
+        c: 'content', t: 'messageType', au: 'attachmentUrl', an: 'attachmentName',
+        ac: 'attachmentContentType', as: 'attachmentSize', at: 'sentAt', u: 'unreadCount'
+    };
+
+    function expandCompact(compact) {
+        var msg = {};
+        Object.keys(compact).forEach(function (key) {
+            msg[COMPACT_KEYS[key] || key] = compact[key];
+        });
+        return msg;
+    }
+
     function appendMessage(msg) {
         var isMyMessage = (msg.senderId == USER_ID);
         var messageClass = isMyMessage ? 'message-mine' : 'message-other';
@@ -319,30 +374,32 @@
     function startPolling() {
         if (pollingInterval) return;
 
-        pollingInterval = setInterval(function () {
-            $.ajax({
-                url: '/api/chat/rooms/' + ROOM_ID + '/messages',
-                method: 'GET',
-                data: { page: 0, size: 50 },
-                success: function (response) {
-                    if (response.data && response.data.length > 0) {
-                        var hasNew = false;
-                        response.data.forEach(function (msg) {
-                            if (msg.id && msg.id > lastMessageId) {
-                                lastMessageId = msg.id;
-                                appendMessage(msg);
-                                hasNew = true;
-                            }
-                        });
-                        if (hasNew) {
-                            $('#emptyMessage').remove();
-                            scrollToBottom();
-                            markAsRead();
+        pollingInterval = setInterval(fetchNewMessages, 3000);
+    }
+
+    function fetchNewMessages() {
+        $.ajax({
+            url: '/api/chat/rooms/' + ROOM_ID + '/messages',
+            method: 'GET',
+            data: { page: 0, size: 50 },
+            success: function (response) {
+                if (response.data && response.data.length > 0) {
+                    var hasNew = false;
+                    response.data.forEach(function (msg) {
+                        if (msg.id && msg.id > lastMessageId) {
+                            lastMessageId = msg.id;
+                            appendMessage(msg);
+                            hasNew = true;
                         }
+                    });
+                    if (hasNew) {
+                        $('#emptyMessage').remove();
+                        scrollToBottom();
+                        markAsRead();
                     }
                 }
-            });
-        }, 3000);
+            }
+        });
     }
 
     function scrollToBottom() {
@@ -7,6 +7,8 @@
  * 1. WebSocket을 통해 개인 알림 구독 (/user/queue/notifications)
  * 2. 새 알림 수신 시 화면에 토스트 표시
  * 3. 읽지 않은 알림 수 배지 업데이트
+ *    - 서버가 수가 바뀔 때마다 { type: 'UNREAD_COUNT', unreadCount } 프레임을 보내므로 폴링하지 않음
+ *    - 페이지 로드 시 한 번만 API로 조회 (서버 Redis 카운터 값)
  * 4. 알림 목록 로드 및 읽음 처리
  *
  * 【사용 방법】
@@ -52,15 +54,29 @@ var NotificationManager = (function () {
         });
     }
 
+    /**
+     * /user/queue/notifications 구독 콜백.
+     * 배지 프레임이면 숫자만 바꾸고, 알림이면 토스트를 띄웁니다.
+     * (chat.js에서 STOMP 연결 후 구독할 때 사용)
+     *
+     * @param frame STOMP 메시지
+     */
+    function onFrame(frame) {
+        var payload = JSON.parse(frame.body);
+        if (payload.type === 'UNREAD_COUNT') {
+            updateBadge(payload.unreadCount);
+        } else {
+            onNotificationReceived(payload);
+        }
+    }
+
     /**
      * WebSocket으로 수신한 알림을 처리합니다.
-     * (chat.js에서 STOMP 연결 후 알림 구독을 추가할 때 사용)
+     * 배지 숫자는 뒤따라 오는 UNREAD_COUNT 프레임으로 갱신됩니다.
      *
      * @param notification 알림 객체 { id, message, type, createdAt }
      */
     function onNotificationReceived(notification) {
-        unreadCount++;
-        updateBadge(unreadCount);
         showToast(notification.message);
     }
 
@@ -120,6 +136,7 @@ var NotificationManager = (function () {
     // ===== 공개 API =====
     return {
         init: init,
+        onFrame: onFrame,
         onNotificationReceived: onNotificationReceived,
         loadUnreadCount: loadUnreadCount
     };
@@ -0,0 +1,56 @@
+package com.messenger.chat.service;
+
+import com.messenger.infrastructure.redis.RedisCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ChatPresenceServiceTest - 접속 상태 heartbeat 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatPresenceServiceTest {
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    @Mock
+    private PresenceFanoutService presenceFanoutService;
+
+    @InjectMocks
+    private ChatPresenceService chatPresenceService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(chatPresenceService, "ttlSeconds", 60L);
+    }
+
+    @Test
+    @DisplayName("heartbeat 갱신 - 다른 노드가 만료 정리한 사용자를 다시 추가하면 온라인 전파, 이미 온라인이면 전파 없음")
+    void refreshLocalSessions_readdedAfterSweep_fansOutOnline() {
+        // given: 연결 시점에는 이미 온라인 (다른 세션)
+        given(redisCacheService.addToSortedSet(anyString(), anyString(), anyDouble())).willReturn(false);
+        chatPresenceService.connect(1L, "s1");
+        chatPresenceService.connect(2L, "s2");
+
+        // when: 1은 그 사이 만료 정리되어 다시 추가됨, 2는 그대로 온라인
+        given(redisCacheService.addToSortedSet(eq("presence:online"), eq("1"), anyDouble())).willReturn(true);
+        chatPresenceService.refreshLocalSessions();
+
+        // then
+        verify(presenceFanoutService, times(1)).enqueue(anyLong(), anyBoolean());
+        verify(presenceFanoutService).enqueue(1L, true);
+    }
+}
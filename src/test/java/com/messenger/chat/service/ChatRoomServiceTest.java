@@ -48,6 +48,12 @@ class ChatRoomServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ChatPresenceService chatPresenceService;
+
+    @Mock
+    private ChatRoomMetadataService chatRoomMetadataService;
+
     @InjectMocks
     private ChatRoomService chatRoomService;
 
@@ -157,5 +163,6 @@ class ChatRoomServiceTest {
         // then
         verify(chatRoomMemberRepository).delete(member);
         verify(chatRoomRepository).deleteById(1L);
+        verify(chatRoomMetadataService).evict(1L);
     }
 }
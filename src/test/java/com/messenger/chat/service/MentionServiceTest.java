@@ -0,0 +1,95 @@
+package com.messenger.chat.service;
+
+import com.messenger.chat.repository.ChatRoomMemberRepository;
+import com.messenger.notification.entity.NotificationType;
+import com.messenger.notification.service.NotificationService;
+import com.messenger.user.service.UsernameIndexService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * MentionServiceTest - @멘션 해석 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class MentionServiceTest {
+
+    @Mock
+    private UsernameIndexService usernameIndexService;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private ChatPresenceService chatPresenceService;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private MentionService mentionService;
+
+    @Test
+    @DisplayName("파서 - 이메일/문장부호를 구분하고 @all, @here를 특수 멘션으로 인식")
+    void parse_extractsUsernamesAndSpecialTokens() {
+        Set<String> tokens = MentionParser.parse("@kim 확인 부탁, mail은 lee@test.com. @park. @ALL @here!");
+
+        assertThat(tokens).containsExactly("kim", "park", MentionParser.ALL, MentionParser.HERE);
+    }
+
+    @Test
+    @DisplayName("멘션이 없는 메시지 → 조회 없이 통과")
+    void resolve_noMention_noLookups() {
+        MentionService.Mentions mentions = mentionService.resolve(1L, 10L, "오늘 배포 완료했습니다");
+
+        assertThat(mentions.isEmpty()).isTrue();
+        verifyNoInteractions(usernameIndexService, chatRoomMemberRepository, chatPresenceService);
+    }
+
+    @Test
+    @DisplayName("@all + @아이디 → 채팅방 멤버 전체, 보낸 사람 제외, 중복 없음")
+    void resolve_allWithNamedMember_deduplicates() {
+        // given: 멤버 10(보낸 사람), 11, 12 / @lee(11)는 직접 멘션, @ghost는 멤버 아님
+        given(usernameIndexService.resolve(Set.of("lee", "ghost"))).willReturn(Map.of("lee", 11L, "ghost", 99L));
+        given(chatRoomMemberRepository.findUserIdsByChatRoomId(1L)).willReturn(List.of(10L, 11L, 12L));
+
+        // when
+        MentionService.Mentions mentions = mentionService.resolve(1L, 10L, "@all 공지입니다 @lee @ghost");
+
+        // then
+        assertThat(mentions.recipients()).containsExactly(11L, 12L);
+        assertThat(mentions.column()).isEqualTo("11");
+        verifyNoInteractions(chatPresenceService);
+    }
+
+    @Test
+    @DisplayName("@here → 접속 중인 멤버에게만 알림")
+    void resolve_here_onlyOnlineMembers() {
+        // given
+        given(chatRoomMemberRepository.findUserIdsByChatRoomId(1L)).willReturn(List.of(10L, 11L, 12L));
+        given(chatPresenceService.getOnlineStatuses(List.of(10L, 11L, 12L)))
+                .willReturn(Map.of(10L, true, 11L, false, 12L, true));
+
+        // when
+        MentionService.Mentions mentions = mentionService.resolve(1L, 10L, "@here 잠깐 모일까요?");
+        mentionService.notify(mentions, 1L, "김개발", "@here 잠깐 모일까요?");
+
+        // then
+        assertThat(mentions.recipients()).containsExactly(12L);
+        assertThat(mentions.column()).isNull();
+        verify(notificationService).createAndSendAll(eq(List.of(12L)), eq(NotificationType.MENTION), anyString(), eq(1L));
+    }
+}
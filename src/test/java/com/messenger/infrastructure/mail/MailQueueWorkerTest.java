@@ -0,0 +1,143 @@
+package com.messenger.infrastructure.mail;
+
+import com.messenger.infrastructure.redis.RateLimiterService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * MailQueueWorkerTest - 메일 큐 발송/재시도/속도 제한 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class MailQueueWorkerTest {
+
+    @Mock
+    private OutboundMailRepository outboundMailRepository;
+
+    @Mock
+    private MailSender mailSender;
+
+    @Mock
+    private RateLimiterService rateLimiterService;
+
+    private MailQueueWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        given(mailSender.provider()).willReturn("smtp");
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("app.mail.rate-limit.smtp.per-second", "5")
+                .withProperty("app.mail.rate-limit.smtp.burst", "10");
+        // 워커 스레드 없이 호출한 스레드에서 바로 발송 / 최대 3회, 백오프 1초~1분
+        worker = new MailQueueWorker(outboundMailRepository, mailSender, rateLimiterService, environment,
+                1, 20, 1000, 3, 1000, 60000, 7);
+    }
+
+    private OutboundMail createMail(int attempts) {
+        return OutboundMail.builder()
+                .id(1L)
+                .recipient("kim@test.com")
+                .subject("인증 코드")
+                .body("123456")
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("선점한 메일 발송 성공 → SENT 기록 + 발송 시간 히스토그램 집계")
+    void dispatchOnce_claimedMail_sendsAndMarksSent() {
+        // given
+        OutboundMail mail = createMail(0);
+        given(outboundMailRepository.findReadyIds(eq(OutboundMailStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L));
+        given(rateLimiterService.tryAcquire("mail:smtp", 5.0, 10)).willReturn(true);
+        given(outboundMailRepository.claim(eq(1L), eq(OutboundMailStatus.PENDING), eq(OutboundMailStatus.SENDING),
+                any(LocalDateTime.class))).willReturn(1);
+        given(outboundMailRepository.findById(1L)).willReturn(Optional.of(mail));
+
+        // when
+        int dispatched = worker.dispatchOnce();
+
+        // then
+        assertThat(dispatched).isEqualTo(1);
+        verify(mailSender).send("kim@test.com", "인증 코드", "123456");
+        assertThat(mail.getStatus()).isEqualTo(OutboundMailStatus.SENT);
+        verify(outboundMailRepository).save(mail);
+        @SuppressWarnings("unchecked")
+        Map<String, Long> latency = (Map<String, Long>) worker.getStats().get("sendLatency");
+        assertThat(latency).containsEntry("count", 1L);
+    }
+
+    @Test
+    @DisplayName("토큰이 없으면 선점을 되돌리고 발송 없이 다음 회차로, 다른 노드가 가져간 메일은 토큰을 쓰지 않음")
+    void dispatchOnce_rateLimited_releasesClaimAndStopsRound() {
+        // given: 1 = 다른 노드가 먼저 선점, 2 = 선점 성공했지만 토큰 없음, 3 = 다음 회차로
+        given(outboundMailRepository.findReadyIds(eq(OutboundMailStatus.PENDING), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(1L, 2L, 3L));
+        given(outboundMailRepository.claim(eq(1L), eq(OutboundMailStatus.PENDING), eq(OutboundMailStatus.SENDING),
+                any(LocalDateTime.class))).willReturn(0);
+        given(outboundMailRepository.claim(eq(2L), eq(OutboundMailStatus.PENDING), eq(OutboundMailStatus.SENDING),
+                any(LocalDateTime.class))).willReturn(1);
+        given(rateLimiterService.tryAcquire(anyString(), anyDouble(), anyInt())).willReturn(false);
+
+        // when
+        int dispatched = worker.dispatchOnce();
+
+        // then
+        assertThat(dispatched).isZero();
+        verify(rateLimiterService, times(1)).tryAcquire(anyString(), anyDouble(), anyInt());
+        verify(outboundMailRepository).claim(eq(2L), eq(OutboundMailStatus.SENDING), eq(OutboundMailStatus.PENDING),
+                any(LocalDateTime.class));
+        verify(outboundMailRepository, never()).claim(eq(3L), any(), any(), any());
+        verify(mailSender, never()).send(anyString(), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("발송 실패 → 백오프 후 재시도 예약, 최대 횟수에 도달하면 FAILED")
+    void deliver_failure_schedulesRetryThenGivesUp() {
+        doThrow(new IllegalStateException("smtp down")).when(mailSender).send(anyString(), anyString(), anyString());
+
+        // 첫 실패: 재시도 예약
+        OutboundMail first = createMail(0);
+        given(outboundMailRepository.findById(1L)).willReturn(Optional.of(first));
+        worker.deliver(1L);
+        assertThat(first.getStatus()).isEqualTo(OutboundMailStatus.PENDING);
+        assertThat(first.getAttempts()).isEqualTo(1);
+        assertThat(first.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        // 세 번째 실패: 포기
+        OutboundMail last = createMail(2);
+        given(outboundMailRepository.findById(1L)).willReturn(Optional.of(last));
+        worker.deliver(1L);
+        assertThat(last.getStatus()).isEqualTo(OutboundMailStatus.FAILED);
+        assertThat(last.getLastError()).isEqualTo("smtp down");
+    }
+
+    @Test
+    @DisplayName("백오프는 시도마다 두 배, 최대값을 넘지 않음 (±20%)")
+    void backoffMs_growsExponentiallyWithCap() {
+        assertThat(worker.backoffMs(1)).isBetween(800L, 1200L);
+        assertThat(worker.backoffMs(3)).isBetween(3200L, 4800L);
+        assertThat(worker.backoffMs(20)).isBetween(48000L, 72000L);
+    }
+}
@@ -0,0 +1,199 @@
+package com.messenger.infrastructure.websocket;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * SlowConsumerGuardTest - 느린 WebSocket 클라이언트 보호 장치 단위 테스트
+ *
+ * 임계값: drop 2 / resync 4 / disconnect 6
+ */
+@ExtendWith(MockitoExtension.class)
+class SlowConsumerGuardTest {
+
+    private static final String ROOM = "/topic/chatroom/1";
+    private static final String PRESENCE = "/user/queue/presence";
+    private static final String NOTIFICATIONS = "/user/queue/notifications";
+
+    @Mock
+    private WebSocketHandler handler;
+
+    @Mock
+    private WebSocketSession session;
+
+    @Mock
+    private MessageChannel channel;
+
+    private SlowConsumerGuard guard;
+
+    /** Spring 송신 버퍼가 소켓에 쓸 때 호출하는 세션 (guard가 감싼 세션) */
+    private WebSocketSession tracked;
+
+    /** 실제 소켓에 쓰인 프레임 */
+    private final List<String> written = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        guard = new SlowConsumerGuard();
+        ReflectionTestUtils.setField(guard, "dropThreshold", 2);
+        ReflectionTestUtils.setField(guard, "resyncThreshold", 4);
+        ReflectionTestUtils.setField(guard, "disconnectThreshold", 6);
+
+        given(session.getId()).willReturn("s1");
+        lenient().doAnswer(inv -> written.add(((TextMessage) inv.getArgument(0)).getPayload()))
+                .when(session).sendMessage(any(WebSocketMessage.class));
+
+        guard.decorate(handler).afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(captor.capture());
+        tracked = captor.getValue();
+    }
+
+    private Message<byte[]> message(String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setSessionId("s1");
+        accessor.setDestination(destination);
+        return MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+    }
+
+    /** 채널에 넣기 (preSend) */
+    private Message<?> enqueue(String destination) {
+        return guard.preSend(message(destination), channel);
+    }
+
+    /** 송신 버퍼에서 꺼내 소켓에 쓰기 */
+    private void flush(String destination) throws Exception {
+        tracked.sendMessage(new TextMessage("MESSAGE\ndestination:" + destination + "\nsubscription:sub-0\n\n{}\u0000"));
+    }
+
+    @Test
+    @DisplayName("밀리지 않은 세션 - 모든 프레임을 그대로 전송")
+    void uncongested_passesThrough() throws Exception {
+        assertThat(enqueue(PRESENCE)).isNotNull();
+        assertThat(enqueue(ROOM)).isNotNull();
+        flush(PRESENCE);
+        flush(ROOM);
+
+        assertThat(written).hasSize(2);
+        assertThat(guard.getActionCounts()).containsEntry("DROPPED_LOW_PRIORITY", 0L)
+                .containsEntry("DROPPED_MESSAGE", 0L);
+    }
+
+    @Test
+    @DisplayName("drop 단계 - 소켓에 쓰기 전 가장 오래된 접속 상태 프레임부터 버리고 채팅은 전송")
+    void dropThreshold_dropsOldestLowPriorityFirst() throws Exception {
+        // given: 접속 상태 3건 + 채팅 1건이 쌓임 (backlog 4)
+        enqueue(PRESENCE);
+        enqueue(PRESENCE);
+        enqueue(PRESENCE);
+        enqueue(ROOM);
+
+        // when: 오래된 순서로 꺼냄
+        flush(PRESENCE);   // backlog 4 → 버림
+        flush(PRESENCE);   // backlog 3 → 버림
+        flush(PRESENCE);   // backlog 2 → 전송
+        flush(ROOM);       // backlog 1 → 전송
+
+        // then
+        assertThat(written).hasSize(2);
+        assertThat(written.get(1)).contains("destination:" + ROOM);
+        assertThat(guard.getActionCounts()).containsEntry("DROPPED_LOW_PRIORITY", 2L)
+                .containsEntry("DROPPED_MESSAGE", 0L);
+    }
+
+    @Test
+    @DisplayName("resync 단계 - 오래된 채팅 프레임을 버리고, 풀린 뒤 첫 채팅방 프레임에만 x-resync 헤더")
+    void resyncThreshold_dropsChatAndMarksRoomFrame() throws Exception {
+        // given: 채팅 5건 + 알림 1건 (backlog 6)
+        for (int i = 0; i < 5; i++) {
+            enqueue(ROOM);
+        }
+        enqueue(NOTIFICATIONS);
+
+        // when
+        flush(ROOM);            // backlog 6 → 버림, 재동기화 표시
+        flush(ROOM);            // backlog 5 → 버림
+        flush(ROOM);            // backlog 4 → 전송
+        flush(ROOM);
+        flush(ROOM);
+        flush(NOTIFICATIONS);   // 알림은 이력으로 복구되지 않으므로 버리지 않음
+
+        // then
+        assertThat(written).hasSize(4);
+        assertThat(guard.getActionCounts()).containsEntry("DROPPED_MESSAGE", 2L)
+                .containsEntry("RESYNC_MARKED", 1L);
+
+        // when: backlog가 풀린 뒤 - 알림 프레임에는 붙이지 않고 채팅방 프레임에 붙임
+        Message<?> notification = enqueue(NOTIFICATIONS);
+        Message<?> room = enqueue(ROOM);
+
+        // then
+        assertThat(SimpMessageHeaderAccessor.wrap(notification).getFirstNativeHeader(SlowConsumerGuard.RESYNC_HEADER))
+                .isNull();
+        assertThat(SimpMessageHeaderAccessor.wrap(room).getFirstNativeHeader(SlowConsumerGuard.RESYNC_HEADER))
+                .isEqualTo("true");
+        assertThat(guard.getActionCounts()).containsEntry("RESYNC_SENT", 1L);
+    }
+
+    @Test
+    @DisplayName("disconnect 단계 - 새 프레임을 받지 않고 세션 종료")
+    void disconnectThreshold_closesSession() throws Exception {
+        for (int i = 0; i < 6; i++) {
+            assertThat(enqueue(ROOM)).isNotNull();
+        }
+
+        assertThat(enqueue(ROOM)).isNull();
+
+        verify(session).close(any(CloseStatus.class));
+        assertThat(guard.getActionCounts()).containsEntry("DISCONNECTED", 1L);
+        assertThat(guard.getTrackedSessionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("채널에 넣지 못한 프레임은 backlog에서 빼고, 송신 버퍼 한도로 끊긴 세션은 따로 집계")
+    void notSentAndBufferOverflow_accounted() throws Exception {
+        // given: 6건 중 4건은 뒤쪽 인터셉터/executor에서 전달 실패
+        for (int i = 0; i < 6; i++) {
+            Message<?> sent = enqueue(ROOM);
+            if (i < 4) {
+                guard.afterSendCompletion(sent, channel, false, null);
+            }
+        }
+
+        // then: backlog 2 → 한도 안쪽이므로 계속 받음
+        assertThat(enqueue(ROOM)).isNotNull();
+        verify(session, never()).close(any(CloseStatus.class));
+
+        // when: Spring 송신 버퍼 한도 초과로 종료
+        guard.decorate(handler).afterConnectionClosed(session, CloseStatus.SESSION_NOT_RELIABLE);
+
+        // then
+        assertThat(guard.getActionCounts()).containsEntry("BUFFER_OVERFLOW_CLOSED", 1L);
+        assertThat(guard.getTrackedSessionCount()).isZero();
+    }
+}
@@ -0,0 +1,112 @@
+package com.messenger.infrastructure.websocket;
+
+import com.messenger.infrastructure.redis.RedisCacheService;
+import com.messenger.infrastructure.websocket.UserMessageRouter.UserMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserMessageRouterTest - 노드 간 사용자 메시지 전달 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class UserMessageRouterTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private UserSessionRegistry userSessionRegistry;
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private UserMessageRouter router;
+
+    @BeforeEach
+    void setUp() {
+        router = new UserMessageRouter(messagingTemplate, userSessionRegistry, redisCacheService,
+                listenerContainer, objectMapper);
+    }
+
+    @Test
+    @DisplayName("이 노드 사용자는 바로 전달, 다른 노드 사용자는 그 노드 채널에만 묶어서 PUBLISH, 오프라인은 전송 없음")
+    void sendToUsers_routesLocalRemoteAndOffline() {
+        // given: 1 = 이 노드, 2·3 = node-b, 4 = 어디에도 없음
+        given(userSessionRegistry.isLocal(anyLong())).willAnswer(inv -> inv.getArgument(0).equals(1L));
+        given(userSessionRegistry.remoteNodesOf(anyCollection()))
+                .willReturn(Map.of(2L, Set.of("node-b"), 3L, Set.of("node-b")));
+
+        // when
+        router.sendToUsers("/queue/notifications", List.of(
+                new UserMessage(1L, Map.of("message", "a")),
+                new UserMessage(2L, Map.of("message", "b")),
+                new UserMessage(3L, Map.of("message", "c")),
+                new UserMessage(4L, Map.of("message", "d"))));
+
+        // then
+        verify(messagingTemplate).convertAndSendToUser(eq("1"), eq("/queue/notifications"), any());
+        verifyNoMoreInteractions(messagingTemplate);
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(redisCacheService, times(1)).publish(eq("ws:route:node-b"), json.capture());
+        assertThat(json.getValue()).contains("\"destination\":\"/queue/notifications\"");
+        assertThat(objectMapper.readTree(json.getValue()).get("items").size()).isEqualTo(2);
+        assertThat(router.getStats()).containsEntry("localSent", 1L).containsEntry("remoteSent", 2L)
+                .containsEntry("remotePublishes", 1L).containsEntry("noRoute", 1L);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 받은 메시지 → 이 노드 세션으로 전달")
+    void onMessage_deliversToLocalSessions() {
+        String body = "{\"destination\":\"/queue/presence\",\"items\":["
+                + "{\"userId\":\"5\",\"payload\":[{\"userId\":9,\"online\":true}]}]}";
+
+        router.onMessage(new DefaultMessage("ws:route:node-a".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8)), null);
+
+        verify(messagingTemplate).convertAndSendToUser(eq("5"), eq("/queue/presence"), any(JsonNode.class));
+        assertThat(router.getStats()).containsEntry("received", 1L);
+    }
+
+    @Test
+    @DisplayName("세션 위치 조회 실패 → 이 노드 세션에만 전달하고 PUBLISH 없음")
+    void sendToUsers_registryFailure_localOnly() {
+        given(userSessionRegistry.isLocal(7L)).willReturn(true);
+        given(userSessionRegistry.remoteNodesOf(anyCollection())).willThrow(new IllegalStateException("redis down"));
+
+        router.sendToUser(7L, "/queue/notifications", Map.of("type", "UNREAD_COUNT"));
+
+        verify(messagingTemplate).convertAndSendToUser(eq("7"), eq("/queue/notifications"), any());
+        verify(redisCacheService, never()).publish(anyString(), anyString());
+        assertThat(router.getStats()).containsEntry("failed", 1L);
+    }
+}
@@ -0,0 +1,98 @@
+package com.messenger.infrastructure.websocket;
+
+import com.messenger.infrastructure.redis.RedisCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.*;
+
+/**
+ * UserSessionRegistryTest - 사용자별 WebSocket 세션 위치 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class UserSessionRegistryTest {
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    private UserSessionRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new UserSessionRegistry(redisCacheService, "node-a", 60);
+    }
+
+    @Test
+    @DisplayName("첫 세션에서만 등록, 마지막 세션이 끊길 때만 삭제")
+    void registerUnregister_countsSessionsPerUser() {
+        // when: 같은 사용자의 세션 2개 연결 후 하나씩 해제
+        registry.register(1L, "s1");
+        registry.register(1L, "s2");
+        registry.unregister(1L, "s1");
+
+        // then: 세션이 남아 있으므로 등록 1회, 삭제 없음
+        verify(redisCacheService, times(1)).putHashFieldAll(eq(List.of("ws:nodes:1")), eq("node-a"), anyString(),
+                any(Duration.class));
+        verify(redisCacheService, never()).deleteHashField(anyString(), anyString());
+        assertThat(registry.isLocal(1L)).isTrue();
+
+        // when: 같은 해제 이벤트가 두 번 와도 삭제는 1회
+        registry.unregister(1L, "s2");
+        registry.unregister(1L, "s2");
+
+        // then
+        verify(redisCacheService, times(1)).deleteHashField("ws:nodes:1", "node-a");
+        assertThat(registry.isLocal(1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 세션 삭제 중에 다시 연결 → 삭제 후 이 노드를 다시 등록")
+    void unregister_reconnectDuringDelete_restoresField() {
+        // given: HDEL이 반영되기 전에 새 세션이 연결되어 HSET이 먼저 실행된 상황
+        registry.register(1L, "s1");
+        willAnswer(inv -> {
+            registry.register(1L, "s2");
+            return null;
+        }).given(redisCacheService).deleteHashField("ws:nodes:1", "node-a");
+
+        // when
+        registry.unregister(1L, "s1");
+
+        // then: 새 연결 등록 1회 + 삭제 후 복구 1회 (처음 등록 포함 총 3회)
+        verify(redisCacheService, times(3)).putHashFieldAll(eq(List.of("ws:nodes:1")), eq("node-a"), anyString(),
+                any(Duration.class));
+        assertThat(registry.isLocal(1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 노드 조회 - 이 노드와 heartbeat가 TTL보다 오래된 노드는 제외")
+    void remoteNodesOf_skipsOwnAndStaleNodes() {
+        // given
+        long now = System.currentTimeMillis();
+        given(redisCacheService.getHashEntriesAll(List.of("ws:nodes:1", "ws:nodes:2"))).willReturn(List.of(
+                Map.<Object, Object>of("node-a", String.valueOf(now), "node-b", String.valueOf(now)),
+                Map.<Object, Object>of("node-c", String.valueOf(now - 120_000))));
+
+        // when
+        Map<Long, Set<String>> result = registry.remoteNodesOf(List.of(1L, 2L));
+
+        // then
+        assertThat(result).containsOnlyKeys(1L);
+        assertThat(result.get(1L)).containsExactly("node-b");
+    }
+}
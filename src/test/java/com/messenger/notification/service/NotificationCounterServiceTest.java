@@ -0,0 +1,84 @@
+package com.messenger.notification.service;
+
+import com.messenger.infrastructure.redis.RedisCacheService;
+import com.messenger.infrastructure.websocket.UserMessageRouter;
+import com.messenger.notification.dto.NotificationBadgeResponse;
+import com.messenger.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * NotificationCounterServiceTest - 읽지 않은 알림 카운터 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationCounterServiceTest {
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserMessageRouter userMessageRouter;
+
+    @InjectMocks
+    private NotificationCounterService notificationCounterService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(notificationCounterService, "ttlDays", 7L);
+    }
+
+    @Test
+    @DisplayName("캐시 적중 → COUNT 쿼리 없이 Redis 값 반환")
+    void get_cached_skipsCountQuery() {
+        given(redisCacheService.get("notification:unread:42")).willReturn("3");
+
+        assertThat(notificationCounterService.get(42L)).isEqualTo(3L);
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("캐시 없음 → DB에서 한 번 세어 Redis에 채움")
+    void get_cold_seedsFromDatabase() {
+        given(redisCacheService.get("notification:unread:42")).willReturn(null);
+        given(notificationRepository.countByRecipientIdAndReadFalse(42L)).willReturn(5L);
+        given(redisCacheService.setIfAbsent("notification:unread:42", "5", Duration.ofDays(7))).willReturn(true);
+
+        assertThat(notificationCounterService.get(42L)).isEqualTo(5L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("증가 → 바뀐 값을 배지 프레임으로 전송")
+    void increment_pushesBadge() {
+        given(redisCacheService.executeScript(any(RedisScript.class), anyList(), any(), any())).willReturn(4L);
+
+        notificationCounterService.increment(42L, 2L);
+
+        ArgumentCaptor<NotificationBadgeResponse> captor = ArgumentCaptor.forClass(NotificationBadgeResponse.class);
+        verify(userMessageRouter).sendToUser(eq(42L), eq("/queue/notifications"), captor.capture());
+        assertThat(captor.getValue().getUnreadCount()).isEqualTo(4L);
+        assertThat(captor.getValue().getType()).isEqualTo("UNREAD_COUNT");
+        verifyNoInteractions(notificationRepository);
+    }
+}
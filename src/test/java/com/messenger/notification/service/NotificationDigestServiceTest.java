@@ -0,0 +1,106 @@
+package com.messenger.notification.service;
+
+import com.messenger.chat.service.ChatPresenceService;
+import com.messenger.infrastructure.mail.MailPriority;
+import com.messenger.infrastructure.mail.MailQueueService;
+import com.messenger.infrastructure.redis.DistributedLockService;
+import com.messenger.infrastructure.redis.RedisCacheService;
+import com.messenger.notification.entity.Notification;
+import com.messenger.notification.entity.NotificationType;
+import com.messenger.notification.repository.NotificationRepository;
+import com.messenger.user.entity.User;
+import com.messenger.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * NotificationDigestServiceTest - 오프라인 사용자 알림 요약 메일 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationDigestServiceTest {
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    @Mock
+    private ChatPresenceService chatPresenceService;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private MailQueueService mailQueueService;
+
+    private NotificationDigestService digestService;
+
+    @BeforeEach
+    void setUp() {
+        digestService = new NotificationDigestService(redisCacheService, distributedLockService, chatPresenceService,
+                notificationRepository, userRepository, mailQueueService, true, 20);
+    }
+
+    @Test
+    @DisplayName("대기 중 오프라인 사용자 → 읽지 않은 알림을 메일 1통으로, 접속한 사용자는 건너뜀")
+    void sendDigests_mailsOfflineUsersOnly() {
+        // given: 42는 오프라인, 43은 그 사이 접속
+        given(distributedLockService.tryLock(anyString(), any(Duration.class))).willReturn("token");
+        given(redisCacheService.getSetMembers("notification:digest:pending")).willReturn(Set.of("42", "43"));
+        given(chatPresenceService.lookupOnlineStatuses(any())).willReturn(Map.of(42L, false, 43L, true));
+        given(userRepository.findById(42L)).willReturn(Optional.of(User.builder()
+                .id(42L).username("kim").displayName("김개발").email("kim@test.com").emailVerified(true).build()));
+        given(notificationRepository.findUnreadSince(eq(42L), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(Notification.builder().recipientId(42L).type(NotificationType.MENTION)
+                        .message("이대리님이 회원님을 멘션했습니다").referenceId(7L).build()));
+
+        given(mailQueueService.enqueue(anyString(), anyString(), anyString(), eq(MailPriority.BULK))).willReturn(true);
+
+        // when
+        digestService.sendDigests();
+
+        // then
+        verify(mailQueueService).enqueue(eq("kim@test.com"), contains("1건"), contains("이대리님이 회원님을 멘션했습니다"),
+                eq(MailPriority.BULK));
+        verify(userRepository, never()).findById(43L);
+        verify(distributedLockService).unlock(anyString(), eq("token"));
+    }
+
+    @Test
+    @DisplayName("메일 큐 등록 실패 → 다음 주기에 다시 시도하도록 대기에 재등록")
+    void sendDigest_mailFailure_requeues() {
+        given(userRepository.findById(42L)).willReturn(Optional.of(User.builder()
+                .id(42L).username("kim").displayName("김개발").email("kim@test.com").emailVerified(true).build()));
+        given(notificationRepository.findUnreadSince(eq(42L), any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(List.of(Notification.builder().recipientId(42L).type(NotificationType.REPORT)
+                        .message("업무일지가 생성되었습니다").referenceId(3L).build()));
+        given(mailQueueService.enqueue(anyString(), anyString(), anyString(), any(MailPriority.class))).willThrow(new IllegalStateException("db down"));
+
+        digestService.sendDigest(42L);
+
+        verify(redisCacheService).addToSet("notification:digest:pending", "42");
+    }
+}
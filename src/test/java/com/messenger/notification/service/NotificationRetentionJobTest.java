@@ -0,0 +1,151 @@
+package com.messenger.notification.service;
+
+import com.messenger.infrastructure.redis.DistributedLockService;
+import com.messenger.infrastructure.redis.RedisCacheService;
+import com.messenger.notification.entity.NotificationType;
+import com.messenger.notification.repository.NotificationBatchRepository.DuplicateGroup;
+import com.messenger.notification.repository.NotificationBatchRepository.RetentionRow;
+import com.messenger.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * NotificationRetentionJobTest - 알림 압축/보존 기간 삭제 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionJobTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private NotificationCounterService notificationCounterService;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    private NotificationRetentionJob job;
+
+    @BeforeEach
+    void setUp() {
+        // chunk-size 2, 쉬는 시간 없음, 5건 이상이면 압축, 수신자 100명 구간, 7일마다 전체 다시 훑기
+        job = new NotificationRetentionJob(notificationRepository, notificationCounterService,
+                distributedLockService, redisCacheService, Runnable::run, true, 30, 2, 0, 5, 100, 7);
+    }
+
+    @Test
+    @DisplayName("보존 기간 삭제 - 읽은 알림만 묶음 단위로 삭제, 기준 시각 이후 행을 만나면 종료")
+    void purge_deletesReadRowsInChunksUntilCutoff() throws Exception {
+        // given
+        LocalDateTime cutoff = LocalDateTime.of(2026, 9, 19, 0, 0);
+        LocalDateTime old = cutoff.minusDays(10);
+        given(distributedLockService.renew(anyString(), eq("token"), any(Duration.class))).willReturn(true);
+        given(redisCacheService.setIfAbsent(eq("notification:retention:full-sweep"), anyString(), any(Duration.class)))
+                .willReturn(true);
+        given(notificationRepository.findRetentionRowsAfter(0L, 2))
+                .willReturn(List.of(new RetentionRow(1L, true, old), new RetentionRow(2L, false, old)));
+        given(notificationRepository.findRetentionRowsAfter(2L, 2))
+                .willReturn(List.of(new RetentionRow(3L, true, old), new RetentionRow(4L, true, cutoff.plusHours(1))));
+        given(notificationRepository.deleteByIdIn(List.of(1L))).willReturn(1);
+        given(notificationRepository.deleteByIdIn(List.of(3L))).willReturn(1);
+
+        // when
+        long deleted = job.purge(cutoff, "token");
+
+        // then: 읽지 않은 2번, 기준 이후 4번은 남음 / 다음 묶음은 읽지 않음
+        assertThat(deleted).isEqualTo(2);
+        verify(notificationRepository, never()).findRetentionRowsAfter(4L, 2);
+        assertThat(job.getStats()).containsEntry("purged", 2L);
+        // 커서는 기준 시각 전 마지막 행(3번)까지 저장
+        verify(redisCacheService).set(eq("notification:retention:purge-cursor"), eq("2"), any(Duration.class));
+        verify(redisCacheService).set(eq("notification:retention:purge-cursor"), eq("3"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("보존 기간 삭제 - 저장된 커서 다음부터 읽음 (이미 정리한 앞부분은 다시 읽지 않음)")
+    void purge_resumesFromStoredCursor() throws Exception {
+        // given
+        LocalDateTime cutoff = LocalDateTime.of(2026, 9, 19, 0, 0);
+        given(redisCacheService.setIfAbsent(eq("notification:retention:full-sweep"), anyString(), any(Duration.class)))
+                .willReturn(false);
+        given(redisCacheService.get("notification:retention:purge-cursor")).willReturn("500");
+        given(notificationRepository.findRetentionRowsAfter(500L, 2))
+                .willReturn(List.of(new RetentionRow(501L, true, cutoff.minusDays(1))));
+        given(notificationRepository.deleteByIdIn(List.of(501L))).willReturn(1);
+
+        // when
+        long deleted = job.purge(cutoff, "token");
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        verify(notificationRepository, never()).findRetentionRowsAfter(0L, 2);
+        verify(redisCacheService).set(eq("notification:retention:purge-cursor"), eq("501"), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("압축 - 최신 1건에 건수를 합치고, 읽지 않은 묶음이면 카운터를 지운 건수만큼 감소")
+    void compact_unreadGroup_mergesAndDecrementsCounter() throws Exception {
+        // given: 수신자 42의 채팅방 7 멘션 6건 (최신 ID 60), 가장 큰 수신자 ID 150 → 구간 2개
+        DuplicateGroup group = new DuplicateGroup(42L, NotificationType.MENTION, 7L, false, 60L, 6);
+        given(notificationRepository.findMaxRecipientId()).willReturn(150L);
+        given(notificationRepository.findDuplicateGroups(eq(0L), eq(100L), eq(5), anyInt())).willReturn(List.of(group));
+        given(notificationRepository.findDuplicateGroups(eq(100L), eq(200L), eq(5), anyInt())).willReturn(List.of());
+        given(notificationRepository.deleteGroupOlderThanKeep(group, 2)).willReturn(2, 2, 1);
+        given(distributedLockService.renew(anyString(), eq("token"), any(Duration.class))).willReturn(true);
+
+        // when
+        int groups = job.compact("token");
+
+        // then
+        assertThat(groups).isEqualTo(1);
+        verify(notificationRepository).updateMergedCount(eq(60L), eq(6), any(LocalDateTime.class));
+        verify(notificationCounterService).decrement(42L, 5L);
+        assertThat(job.getStats()).containsEntry("compactedRows", 5L);
+    }
+
+    @Test
+    @DisplayName("스케줄 트리거는 전용 실행기에 넘기기만 함")
+    void trigger_handsOffToExecutor() {
+        // given: 제출만 받고 실행하지 않는 실행기
+        List<Runnable> submitted = new ArrayList<>();
+        NotificationRetentionJob deferred = new NotificationRetentionJob(notificationRepository, notificationCounterService,
+                distributedLockService, redisCacheService, submitted::add, true, 30, 2, 0, 5, 100, 7);
+
+        // when: 첫 실행이 끝나기 전에 다시 트리거
+        deferred.trigger();
+        deferred.trigger();
+
+        // then: 한 번만 제출, 스케줄러 스레드에서는 락/DB 작업 없음
+        assertThat(submitted).hasSize(1);
+        verifyNoInteractions(distributedLockService, notificationRepository);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 보유 중이면 실행하지 않음")
+    void run_lockHeldElsewhere_skips() {
+        given(distributedLockService.tryLock(anyString(), any(Duration.class))).willReturn(null);
+
+        job.run();
+
+        verifyNoInteractions(notificationRepository, notificationCounterService);
+    }
+}
@@ -1,6 +1,7 @@
 package com.messenger.notification.service;
 
 import com.messenger.common.exception.BusinessException;
+import com.messenger.notification.dto.NotificationPageResponse;
 import com.messenger.notification.dto.NotificationResponse;
 import com.messenger.notification.entity.Notification;
 import com.messenger.notification.entity.NotificationType;
@@ -8,18 +9,23 @@ import com.messenger.notification.repository.NotificationRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * NotificationServiceTest - 알림 서비스 단위 테스트
@@ -31,7 +37,10 @@ class NotificationServiceTest {
     private NotificationRepository notificationRepository;
 
     @Mock
-    private SimpMessagingTemplate messagingTemplate;
+    private NotificationWriter notificationWriter;
+
+    @Mock
+    private NotificationCounterService notificationCounterService;
 
     @InjectMocks
     private NotificationService notificationService;
@@ -48,41 +57,64 @@ class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("알림 생성 시 DB 저장 + WebSocket 전송")
-    void createAndSend_savesAndSendsViaWebSocket() {
-        given(notificationRepository.save(any(Notification.class)))
-                .willAnswer(invocation -> invocation.getArgument(0));
-
+    @DisplayName("알림 생성 시 writer 대기열에 제출 (저장/전송은 writer가 일괄 처리)")
+    void createAndSend_submitsToWriter() {
         notificationService.createAndSend(1L, NotificationType.MENTION, "홍길동님이 멘션했습니다", 5L);
 
-        verify(notificationRepository).save(any(Notification.class));
-        verify(messagingTemplate).convertAndSendToUser(
-                any(String.class), any(String.class), any(NotificationResponse.class));
+        ArgumentCaptor<Notification> captor = ArgumentCaptor.forClass(Notification.class);
+        verify(notificationWriter).submit(captor.capture());
+        assertThat(captor.getValue().getRecipientId()).isEqualTo(1L);
+        assertThat(captor.getValue().getReferenceId()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("알림함 첫 페이지 - size+1건 조회로 다음 페이지 여부 판단, 커서 발급")
+    void getNotifications_firstPage_returnsCursor() {
+        List<Notification> rows = List.of(
+                createTestNotification(3L, 42L, false),
+                createTestNotification(2L, 42L, true),
+                createTestNotification(1L, 42L, true));
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 19, 9, 30);
+        rows.forEach(n -> ReflectionTestUtils.setField(n, "createdAt", createdAt));
+        given(notificationRepository.findInboxFirstPage(42L, PageRequest.of(0, 3))).willReturn(rows);
+
+        NotificationPageResponse page = notificationService.getNotifications(42L, null, 2);
+
+        assertThat(page.getNotifications()).extracting(NotificationResponse::getId).containsExactly(3L, 2L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextCursor()).isEqualTo("2026-10-19T09:30_2");
     }
 
     @Test
-    @DisplayName("사용자의 알림 목록 조회")
-    void getNotifications_returnsNotificationList() {
-        List<Notification> notifications = List.of(
-                createTestNotification(1L, 42L, false),
-                createTestNotification(2L, 42L, true));
-        given(notificationRepository.findByRecipientIdOrderByCreatedAtDesc(42L))
-                .willReturn(notifications);
-
-        List<NotificationResponse> result = notificationService.getNotifications(42L);
-
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).getMessage()).isEqualTo("테스트 알림 메시지");
+    @DisplayName("알림함 다음 페이지 - 커서 위치부터 조회, 마지막 페이지는 커서 없음")
+    void getNotifications_withCursor_readsFromCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2026, 10, 19, 9, 30);
+        given(notificationRepository.findInboxPageBefore(42L, createdAt, 2L, PageRequest.of(0, 3)))
+                .willReturn(List.of(createTestNotification(1L, 42L, true)));
+
+        NotificationPageResponse page = notificationService.getNotifications(42L, "2026-10-19T09:30_2", 2);
+
+        assertThat(page.getNotifications()).hasSize(1);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
     }
 
     @Test
-    @DisplayName("읽지 않은 알림 수 조회")
+    @DisplayName("알림함 - 잘못된 커서면 예외 발생")
+    void getNotifications_invalidCursor_throwsException() {
+        assertThatThrownBy(() -> notificationService.getNotifications(42L, "not-a-cursor", 20))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("읽지 않은 알림 수 조회 - Redis 카운터 사용 (COUNT 쿼리 없음)")
     void getUnreadCount_returnsCount() {
-        given(notificationRepository.countByRecipientIdAndReadFalse(42L)).willReturn(5L);
+        given(notificationCounterService.get(42L)).willReturn(5L);
 
         long count = notificationService.getUnreadCount(42L);
 
         assertThat(count).isEqualTo(5);
+        verifyNoInteractions(notificationRepository);
     }
 
     @Test
@@ -95,6 +127,18 @@ class NotificationServiceTest {
 
         assertThat(notification.isRead()).isTrue();
         verify(notificationRepository).save(notification);
+        verify(notificationCounterService).decrement(42L);
+    }
+
+    @Test
+    @DisplayName("이미 읽은 알림 읽음 처리 - 카운터 변화 없음")
+    void markAsRead_alreadyRead_doesNotDecrement() {
+        Notification notification = createTestNotification(1L, 42L, true);
+        given(notificationRepository.findById(1L)).willReturn(Optional.of(notification));
+
+        notificationService.markAsRead(1L, 42L);
+
+        verifyNoInteractions(notificationCounterService);
     }
 
     @Test
@@ -117,18 +161,13 @@ class NotificationServiceTest {
     }
 
     @Test
-    @DisplayName("모든 알림 일괄 읽음 처리")
+    @DisplayName("모든 알림 일괄 읽음 처리 - UPDATE 한 문장 + 카운터 초기화")
     void markAllAsRead_marksAllUnreadNotifications() {
-        List<Notification> unreadNotifications = List.of(
-                createTestNotification(1L, 42L, false),
-                createTestNotification(2L, 42L, false),
-                createTestNotification(3L, 42L, false));
-        given(notificationRepository.findByRecipientIdAndReadFalseOrderByCreatedAtDesc(42L))
-                .willReturn(unreadNotifications);
+        given(notificationRepository.markAllAsReadByRecipientId(eq(42L), any(LocalDateTime.class))).willReturn(3);
 
         notificationService.markAllAsRead(42L);
 
-        assertThat(unreadNotifications).allMatch(Notification::isRead);
-        verify(notificationRepository).saveAll(unreadNotifications);
+        verify(notificationRepository).markAllAsReadByRecipientId(eq(42L), any(LocalDateTime.class));
+        verify(notificationCounterService).reset(42L);
     }
 }
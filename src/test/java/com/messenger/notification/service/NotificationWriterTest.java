@@ -0,0 +1,156 @@
+package com.messenger.notification.service;
+
+import com.messenger.chat.service.ChatPresenceService;
+import com.messenger.infrastructure.websocket.UserMessageRouter;
+import com.messenger.infrastructure.websocket.UserMessageRouter.UserMessage;
+import com.messenger.notification.dto.NotificationResponse;
+import com.messenger.notification.entity.Notification;
+import com.messenger.notification.entity.NotificationType;
+import com.messenger.notification.repository.NotificationRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * NotificationWriterTest - 알림 일괄 저장 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationWriterTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private UserMessageRouter userMessageRouter;
+
+    @Mock
+    private NotificationCounterService notificationCounterService;
+
+    @Mock
+    private ChatPresenceService chatPresenceService;
+
+    @Mock
+    private NotificationDigestService notificationDigestService;
+
+    private Notification createNotification(Long recipientId) {
+        return Notification.builder()
+                .recipientId(recipientId)
+                .type(NotificationType.MENTION)
+                .message("멘션 알림")
+                .referenceId(7L)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("큐에 쌓인 알림 → 한 번의 INSERT로 저장, 접속 중인 수신자에게만 전송 + 수신자당 카운터 1회 증가")
+    void collectAndFlush_writesBatchOnceAndPushesOnlineOnly() throws Exception {
+        // given: 사용자 1에게 2건, 2·3에게 1건씩 / 3은 오프라인
+        NotificationWriter writer = new NotificationWriter(notificationRepository, userMessageRouter, notificationCounterService,
+                chatPresenceService, notificationDigestService,
+                100, 50, 5, NotificationWriter.OverflowPolicy.CALLER_RUNS);
+        for (long userId = 1; userId <= 3; userId++) {
+            writer.submit(createNotification(userId));
+        }
+        writer.submit(createNotification(1L));
+        given(notificationRepository.insertAll(anyList(), any(LocalDateTime.class)))
+                .willReturn(List.of(11L, 12L, 13L, 14L));
+        given(chatPresenceService.lookupOnlineStatuses(anyCollection()))
+                .willReturn(Map.of(1L, true, 2L, true, 3L, false));
+
+        // when
+        List<Notification> batch = new ArrayList<>();
+        writer.collect(batch);
+        writer.flush(batch);
+
+        // then
+        assertThat(batch).hasSize(4);
+        verify(notificationRepository, times(1)).insertAll(anyList(), any(LocalDateTime.class));
+        ArgumentCaptor<List<UserMessage>> pushed = ArgumentCaptor.forClass(List.class);
+        verify(userMessageRouter).sendToUsers(eq("/queue/notifications"), pushed.capture());
+        assertThat(pushed.getValue()).extracting(UserMessage::userId).containsExactly(1L, 2L, 1L);
+        assertThat(pushed.getValue()).extracting(UserMessage::payload).allMatch(NotificationResponse.class::isInstance);
+        verify(notificationCounterService).increment(1L, 2L, true);
+        verify(notificationCounterService).increment(2L, 1L, true);
+        verify(notificationCounterService).increment(3L, 1L, false);
+        verify(notificationDigestService).record(List.of(3L));
+        assertThat(writer.getStats()).containsEntry("written", 4L).containsEntry("batches", 1L)
+                .containsEntry("offlineSkipped", 1L);
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    @DisplayName("접속 상태 조회 실패 → 모두에게 전송하고 요약 메일 대기에는 등록하지 않음")
+    void flush_presenceLookupFails_pushesAllAndSkipsDigest() {
+        // given
+        NotificationWriter writer = new NotificationWriter(notificationRepository, userMessageRouter, notificationCounterService,
+                chatPresenceService, notificationDigestService,
+                100, 50, 5, NotificationWriter.OverflowPolicy.CALLER_RUNS);
+        given(notificationRepository.insertAll(anyList(), any(LocalDateTime.class))).willReturn(List.of(31L, 32L));
+        given(chatPresenceService.lookupOnlineStatuses(anyCollection()))
+                .willThrow(new IllegalStateException("redis down"));
+
+        // when
+        writer.flush(List.of(createNotification(1L), createNotification(2L)));
+
+        // then
+        ArgumentCaptor<List<UserMessage>> pushed = ArgumentCaptor.forClass(List.class);
+        verify(userMessageRouter).sendToUsers(eq("/queue/notifications"), pushed.capture());
+        assertThat(pushed.getValue()).extracting(UserMessage::userId).containsExactly(1L, 2L);
+        verify(notificationCounterService).increment(1L, 1L, true);
+        verify(notificationCounterService).increment(2L, 1L, true);
+        verify(notificationDigestService).record(List.of());
+        assertThat(writer.getStats()).containsEntry("offlineSkipped", 0L).containsEntry("presenceUnknown", 1L);
+    }
+
+    @Test
+    @DisplayName("큐 초과 + DROP 정책 → 버린 건수를 집계")
+    void submit_queueFullWithDropPolicy_countsDropped() {
+        // given: 큐 크기 1
+        NotificationWriter writer = new NotificationWriter(notificationRepository, userMessageRouter, notificationCounterService,
+                chatPresenceService, notificationDigestService,
+                1, 50, 5, NotificationWriter.OverflowPolicy.DROP);
+
+        // when
+        writer.submit(createNotification(1L));
+        writer.submit(createNotification(2L));
+
+        // then
+        assertThat(writer.getStats()).containsEntry("queued", 1L).containsEntry("dropped", 1L);
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    @DisplayName("큐 초과 + CALLER_RUNS 정책 → 제출한 스레드가 직접 저장")
+    void submit_queueFullWithCallerRuns_writesDirectly() {
+        // given
+        NotificationWriter writer = new NotificationWriter(notificationRepository, userMessageRouter, notificationCounterService,
+                chatPresenceService, notificationDigestService,
+                1, 50, 5, NotificationWriter.OverflowPolicy.CALLER_RUNS);
+        given(notificationRepository.insertAll(anyList(), any(LocalDateTime.class))).willReturn(List.of(21L));
+
+        // when
+        writer.submit(createNotification(1L));
+        writer.submit(createNotification(2L));
+
+        // then
+        verify(notificationRepository, times(1)).insertAll(anyList(), any(LocalDateTime.class));
+        assertThat(writer.getStats()).containsEntry("callerRuns", 1L).containsEntry("dropped", 0L);
+    }
+}
@@ -2,6 +2,8 @@ package com.messenger.report.service;
 
 import com.messenger.chat.entity.ChatMessage;
 import com.messenger.chat.entity.MessageType;
+import com.messenger.report.entity.CategoryRule;
+import com.messenger.report.entity.CategoryRuleType;
 import com.messenger.report.entity.ReportItem;
 import com.messenger.report.entity.WorkCategory;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,7 +36,7 @@ class MessageAnalyzerTest {
 
     @BeforeEach
     void setUp() {
-        messageAnalyzer = new MessageAnalyzer();
+        messageAnalyzer = new MessageAnalyzer(CompiledRuleSet.defaults());
     }
 
     // ===== 헬퍼 메서드: 테스트용 ChatMessage 생성 =====
@@ -217,4 +219,62 @@ class MessageAnalyzerTest {
         assertThat(result).hasSize(1);
         assertThat(result.get(0).getChatRoomName()).isEqualTo("채팅방 #99");
     }
+
+    @Test
+    @DisplayName("가장 활발한 시간대 → 설명에 메시지가 가장 많은 시간 표시")
+    void analyzeMessages_peakHour_includedInDescription() {
+        // given: 10시 1건, 14시 3건
+        LocalDateTime morning = LocalDateTime.of(2026, 3, 2, 10, 0);
+        LocalDateTime afternoon = LocalDateTime.of(2026, 3, 2, 14, 0);
+        List<ChatMessage> messages = List.of(
+                createMessage(5L, 1L, "배포 준비", morning),
+                createMessage(5L, 2L, "배포 시작", afternoon),
+                createMessage(5L, 1L, "배포 완료", afternoon.plusMinutes(5)),
+                createMessage(5L, 3L, "확인했습니다", afternoon.plusMinutes(10))
+        );
+
+        // when
+        List<ReportItem> result = messageAnalyzer.analyzeMessages(messages, Map.of(5L, "배포방"));
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getDescription()).contains("가장 활발한 시간대: 14시 (3건)");
+        assertThat(result.get(0).getCategory()).isEqualTo(WorkCategory.DEVELOPMENT);
+    }
+
+    @Test
+    @DisplayName("관리자 규칙 → 기본 키워드 위에 더해지고, 같은 키워드는 관리자 규칙의 카테고리로 분류")
+    void analyzeMessages_adminRules_mergedOverDefaults() {
+        // given: "PR #123" 형태를 REVIEW로 분류하는 정규식 + 기본 키워드 "배포"를 REVIEW로 바꾸는 키워드 규칙
+        MessageAnalyzer analyzer = new MessageAnalyzer(CompiledRuleSet.compile(List.of(
+                CategoryRule.builder()
+                        .category(WorkCategory.REVIEW)
+                        .ruleType(CategoryRuleType.REGEX)
+                        .pattern("PR\\s*#\\d+")
+                        .build(),
+                CategoryRule.builder()
+                        .category(WorkCategory.REVIEW)
+                        .ruleType(CategoryRuleType.KEYWORD)
+                        .pattern("배포")
+                        .build())));
+        LocalDateTime now = LocalDateTime.of(2026, 3, 2, 11, 0);
+        List<ChatMessage> messages = List.of(
+                createMessage(7L, 1L, "PR #101 배포 전에 봐주세요", now),
+                createMessage(7L, 2L, "PR #102도 같이요", now.plusMinutes(1)),
+                createMessage(7L, 1L, "배포 완료", now.plusMinutes(2)),
+                createMessage(8L, 1L, "회의 일정 공유", now),
+                createMessage(8L, 2L, "안건 정리해서 회의 때 발표", now.plusMinutes(1)),
+                createMessage(8L, 1L, "회의 참석 가능", now.plusMinutes(2))
+        );
+
+        // when
+        List<ReportItem> result = analyzer.analyzeMessages(messages, Map.of(7L, "리뷰방", 8L, "회의방"));
+
+        // then: 관리자 규칙이 적용된 방은 REVIEW, 관리자 규칙이 없는 기본 키워드(회의/안건)는 그대로 사용
+        assertThat(result).hasSize(2);
+        assertThat(result).filteredOn(item -> item.getChatRoomName().equals("리뷰방"))
+                .extracting(ReportItem::getCategory).containsExactly(WorkCategory.REVIEW);
+        assertThat(result).filteredOn(item -> item.getChatRoomName().equals("회의방"))
+                .extracting(ReportItem::getCategory).containsExactly(WorkCategory.MEETING);
+    }
 }
@@ -0,0 +1,131 @@
+package com.messenger.report.service;
+
+import com.messenger.chat.entity.ChatMessage;
+import com.messenger.infrastructure.redis.RedisCacheService;
+import com.messenger.report.service.ReportAggregateService.DailyAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReportAggregateServiceTest - 업무일지 실시간 집계 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportAggregateServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    private ReportAggregateService reportAggregateService;
+
+    @BeforeEach
+    void setUp() {
+        reportAggregateService = new ReportAggregateService(redisCacheService, new MessageAnalyzer(CompiledRuleSet.defaults()));
+        ReflectionTestUtils.setField(reportAggregateService, "ttlDays", 8L);
+        ReflectionTestUtils.setField(reportAggregateService, "dedupeTtlMinutes", 360L);
+    }
+
+    private ChatMessage createMessage(Long roomId, int hour) {
+        return ChatMessage.builder()
+                .chatRoomId(roomId)
+                .senderId(1L)
+                .content("배포 일정 공유합니다")
+                .sentAt(DATE.atTime(hour, 0))
+                .build();
+    }
+
+    private long epochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    @Test
+    @DisplayName("같은 이벤트가 다시 전달되면 한 번만 집계")
+    void record_redeliveredEvent_countedOnce() {
+        // given: 첫 전달은 새 이벤트, 두 번째는 이미 본 이벤트
+        given(redisCacheService.executeScript(any(), anyList(), any(Object[].class))).willReturn(1L, 0L);
+        given(redisCacheService.getHashEntries("report:agg:1:2026-10-19")).willReturn(Map.of());
+
+        // when
+        reportAggregateService.record(createMessage(5L, 9), "event-1");
+        reportAggregateService.record(createMessage(5L, 9), "event-1");
+
+        // then
+        DailyAggregate aggregate = reportAggregateService.load(1L, DATE);
+        assertThat(aggregate.activities().get(5L).getMessageCount()).isEqualTo(1);
+        assertThat(reportAggregateService.getDuplicateCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영된 메시지 수가 _seen과 같고 집계 시작이 그날 이전이면 완전한 집계")
+    void load_seenMatchesAndStartedBefore_complete() {
+        // given
+        given(redisCacheService.getHashEntries("report:agg:1:2026-10-19")).willReturn(Map.<Object, Object>of(
+                "5:n", "3", "5:h:9", "3", "_seen", "3"));
+        given(redisCacheService.get("report:agg:since"))
+                .willReturn(String.valueOf(epochMillis(DATE.minusDays(3).atStartOfDay())));
+
+        // when
+        DailyAggregate aggregate = reportAggregateService.load(1L, DATE);
+
+        // then
+        assertThat(aggregate.complete()).isTrue();
+        assertThat(aggregate.activities().get(5L).getMessageCount()).isEqualTo(3);
+        assertThat(aggregate.activities().get(5L).getHourlyCount(9)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("불완전한 집계 - 반영 누락(_seen 불일치) 또는 그날 도중에 집계를 시작한 경우")
+    void load_missingFlushOrStartedMidDay_incomplete() {
+        // given: 3건을 받았지만 2건만 반영됨 (노드가 flush 전에 종료)
+        given(redisCacheService.getHashEntries("report:agg:1:2026-10-19"))
+                .willReturn(Map.<Object, Object>of("5:n", "2", "_seen", "3"));
+        assertThat(reportAggregateService.load(1L, DATE).complete()).isFalse();
+
+        // given: 수는 맞지만 집계를 그날 10시에 시작 (도입 당일)
+        given(redisCacheService.getHashEntries("report:agg:1:2026-10-19"))
+                .willReturn(Map.<Object, Object>of("5:n", "3", "_seen", "3"));
+        given(redisCacheService.get("report:agg:since")).willReturn(String.valueOf(epochMillis(DATE.atTime(10, 0))));
+        assertThat(reportAggregateService.load(1L, DATE).complete()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 반영 실패 → 버퍼에 되돌려 다음 flush에서 재시도, 조회에도 포함")
+    void flush_failure_requeuesPending() {
+        // given
+        given(redisCacheService.executeScript(any(), anyList(), any(Object[].class))).willReturn(1L);
+        willThrow(new IllegalStateException("redis down"))
+                .given(redisCacheService).incrementHashFields(anyString(), anyMap(), any(Duration.class));
+        given(redisCacheService.getHashEntries(anyString())).willReturn(Map.of());
+        reportAggregateService.record(createMessage(5L, 9), "event-1");
+        reportAggregateService.record(createMessage(6L, 14), "event-2");
+
+        // when
+        reportAggregateService.flush();
+
+        // then
+        DailyAggregate aggregate = reportAggregateService.load(1L, DATE);
+        assertThat(aggregate.activities()).containsOnlyKeys(5L, 6L);
+        verify(redisCacheService, times(1)).incrementHashFields(anyString(), anyMap(), any(Duration.class));
+    }
+}
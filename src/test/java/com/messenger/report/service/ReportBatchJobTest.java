@@ -0,0 +1,93 @@
+package com.messenger.report.service;
+
+import com.messenger.infrastructure.redis.DistributedLockService;
+import com.messenger.report.entity.ReportJob;
+import com.messenger.report.entity.ReportJobStatus;
+import com.messenger.report.repository.ReportJobFailureRepository;
+import com.messenger.report.repository.ReportJobRepository;
+import com.messenger.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReportBatchJobTest - 업무일지 일괄 생성 작업 재개 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportBatchJobTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ReportGenerationService reportGenerationService;
+
+    @Mock
+    private ReportJobRepository reportJobRepository;
+
+    @Mock
+    private ReportJobFailureRepository reportJobFailureRepository;
+
+    @Mock
+    private ReportWorkQueue reportWorkQueue;
+
+    @Mock
+    private DistributedLockService distributedLockService;
+
+    private ReportBatchJob reportBatchJob;
+
+    @BeforeEach
+    void setUp() {
+        reportBatchJob = new ReportBatchJob(userRepository, reportGenerationService, reportJobRepository,
+                reportJobFailureRepository, reportWorkQueue, distributedLockService, Runnable::run);
+        ReflectionTestUtils.setField(reportBatchJob, "resumeMaxAgeDays", 2);
+        ReflectionTestUtils.setField(reportBatchJob, "resumeMaxAttempts", 3);
+    }
+
+    @Test
+    @DisplayName("재시작 후 재개 - 최근 작업만 조회하고, 재개 한도를 넘은 작업은 건너뜀")
+    void resumeUnfinished_recentJobsUnderAttemptLimitOnly() {
+        // given: 어제 실패한 작업(재개 0회) + 그제 실패한 작업(이미 3회 재개)
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate twoDaysAgo = LocalDate.now().minusDays(2);
+        ReportJob fresh = ReportJob.builder().id(1L).reportDate(yesterday).status(ReportJobStatus.FAILED)
+                .lastProcessedUserId(100L).build();
+        ReportJob exhausted = ReportJob.builder().id(2L).reportDate(twoDaysAgo).status(ReportJobStatus.FAILED)
+                .lastProcessedUserId(100L).resumeAttempts(3).build();
+        given(reportJobRepository.findByStatusInAndReportDateGreaterThanEqual(anyCollection(), eq(twoDaysAgo)))
+                .willReturn(List.of(fresh, exhausted));
+
+        // 어제 작업: 큐는 적재 완료, 남은 묶음 없음
+        given(reportJobRepository.findTopByReportDateOrderByIdDesc(yesterday)).willReturn(Optional.of(fresh));
+        given(reportJobRepository.findById(1L)).willReturn(Optional.of(fresh));
+        given(reportWorkQueue.isReady(yesterday)).willReturn(true);
+
+        // when
+        reportBatchJob.resumeUnfinished();
+
+        // then
+        assertThat(fresh.getResumeAttempts()).isEqualTo(1);
+        verify(reportJobRepository).save(fresh);
+        verify(reportWorkQueue).claim(eq(yesterday), any(Duration.class));
+
+        assertThat(exhausted.getResumeAttempts()).isEqualTo(3);
+        verify(reportJobRepository, never()).findTopByReportDateOrderByIdDesc(twoDaysAgo);
+        verify(reportWorkQueue, never()).claim(eq(twoDaysAgo), any(Duration.class));
+    }
+}
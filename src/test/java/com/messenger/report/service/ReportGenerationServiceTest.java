@@ -0,0 +1,112 @@
+package com.messenger.report.service;
+
+import com.messenger.chat.entity.ChatMessage;
+import com.messenger.chat.repository.ChatMessageRepository;
+import com.messenger.chat.repository.ChatRoomMemberRepository;
+import com.messenger.chat.service.ChatRoomMetadataService;
+import com.messenger.report.entity.DailyReport;
+import com.messenger.report.entity.ReportStatus;
+import com.messenger.report.repository.DailyReportRepository;
+import com.messenger.user.entity.User;
+import com.messenger.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReportGenerationServiceTest - 업무일지 생성/재생성 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportGenerationServiceTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    @Mock
+    private ChatRoomMetadataService chatRoomMetadataService;
+
+    @Mock
+    private ChatRoomMemberRepository chatRoomMemberRepository;
+
+    @Mock
+    private DailyReportRepository dailyReportRepository;
+
+    @Mock
+    private MessageAnalyzer messageAnalyzer;
+
+    @Mock
+    private ReportAggregateService reportAggregateService;
+
+    @Mock
+    private ReportRollupService reportRollupService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private ReportGenerationService reportGenerationService;
+
+    private User createUser() {
+        return User.builder().id(1L).username("kim").displayName("김개발").build();
+    }
+
+    @Test
+    @DisplayName("생성 - 실시간 집계가 완전하면 메시지를 다시 읽지 않음")
+    void generateReport_completeAggregate_skipsMessageScan() {
+        // given
+        User user = createUser();
+        given(reportAggregateService.load(1L, DATE)).willReturn(
+                new ReportAggregateService.DailyAggregate(Map.of(5L, new RoomActivity()), true));
+        given(chatRoomMetadataService.getRoomNames(any())).willReturn(Map.of(5L, "배포방"));
+        given(messageAnalyzer.buildItems(anyMap(), anyMap())).willReturn(List.of());
+        given(dailyReportRepository.save(any(DailyReport.class))).willAnswer(inv -> inv.getArgument(0));
+
+        // when
+        reportGenerationService.generateReport(user, DATE);
+
+        // then
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+    @Test
+    @DisplayName("재생성 - 실시간 집계(기록 당시 규칙)를 쓰지 않고 메시지를 현재 분류 규칙으로 다시 셈")
+    void regenerateReport_ignoresAggregateAndRescans() {
+        // given
+        User user = createUser();
+        DailyReport report = DailyReport.builder()
+                .id(10L).user(user).reportDate(DATE).summary("이전 요약").status(ReportStatus.AUTO_GENERATED).build();
+        List<ChatMessage> messages = List.of(
+                ChatMessage.builder().chatRoomId(5L).senderId(1L).content("회의 일정").sentAt(DATE.atTime(9, 0)).build(),
+                ChatMessage.builder().chatRoomId(5L).senderId(1L).content("배포 완료").sentAt(DATE.atTime(10, 0)).build());
+        given(dailyReportRepository.findByUserIdAndReportDate(1L, DATE)).willReturn(Optional.of(report));
+        given(chatMessageRepository.findBySenderIdAndSentAtBetween(eq(1L), any(LocalDateTime.class),
+                any(LocalDateTime.class))).willReturn(messages);
+        given(chatRoomMetadataService.getRoomNames(any())).willReturn(Map.of(5L, "배포방"));
+        given(messageAnalyzer.buildItems(anyMap(), anyMap())).willReturn(List.of());
+
+        // when
+        reportGenerationService.regenerateReport(1L, DATE);
+
+        // then
+        verifyNoInteractions(reportAggregateService);
+        verify(messageAnalyzer, times(2)).accumulate(any(RoomActivity.class), any(ChatMessage.class));
+        verify(reportRollupService).evict(1L, DATE);
+    }
+}
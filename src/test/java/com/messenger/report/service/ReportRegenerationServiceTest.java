@@ -0,0 +1,99 @@
+package com.messenger.report.service;
+
+import com.messenger.common.exception.BusinessException;
+import com.messenger.report.dto.ReportResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReportRegenerationServiceTest - 업무일지 재생성 요청 병합 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportRegenerationServiceTest {
+
+    @Mock
+    private ReportGenerationService reportGenerationService;
+
+    @InjectMocks
+    private ReportRegenerationService reportRegenerationService;
+
+    private final LocalDate date = LocalDate.of(2026, 3, 2);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reportRegenerationService, "cooldownMs", 5000L);
+        ReflectionTestUtils.setField(reportRegenerationService, "waitTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(reportRegenerationService, "maxRecent", 100);
+    }
+
+    private ReportResponse createResponse() {
+        return ReportResponse.builder().id(10L).userId(1L).reportDate(date).build();
+    }
+
+    @Test
+    @DisplayName("동시 요청 → 재생성은 한 번만 실행되고 같은 결과를 공유")
+    void regenerate_concurrentRequests_coalesced() throws Exception {
+        // given: 첫 요청이 끝나지 않은 상태에서 두 번째 요청이 들어옴
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ReportResponse response = createResponse();
+        given(reportGenerationService.regenerateReport(1L, date)).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return response;
+        });
+
+        // when
+        CompletableFuture<ReportResponse> first =
+                CompletableFuture.supplyAsync(() -> reportRegenerationService.regenerate(1L, date));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<ReportResponse> second =
+                CompletableFuture.supplyAsync(() -> reportRegenerationService.regenerate(1L, date));
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        assertThat(first.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(second.get(5, TimeUnit.SECONDS)).isSameAs(response);
+        verify(reportGenerationService, times(1)).regenerateReport(1L, date);
+    }
+
+    @Test
+    @DisplayName("연속 클릭 → 방금 끝난 결과 재사용, forget 이후에는 다시 실행")
+    void regenerate_withinCooldown_reusesResult() {
+        // given
+        given(reportGenerationService.regenerateReport(1L, date)).willReturn(createResponse());
+
+        // when
+        reportRegenerationService.regenerate(1L, date);
+        reportRegenerationService.regenerate(1L, date);
+        reportRegenerationService.forget(1L, date);
+        reportRegenerationService.regenerate(1L, date);
+
+        // then
+        verify(reportGenerationService, times(2)).regenerateReport(1L, date);
+    }
+
+    @Test
+    @DisplayName("미래 날짜 → 재생성 불가")
+    void regenerate_futureDate_throwsException() {
+        assertThatThrownBy(() -> reportRegenerationService.regenerate(1L, LocalDate.now().plusDays(1)))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(reportGenerationService);
+    }
+}
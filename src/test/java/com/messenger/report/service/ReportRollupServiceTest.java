@@ -0,0 +1,165 @@
+package com.messenger.report.service;
+
+import com.messenger.common.exception.BusinessException;
+import com.messenger.report.dto.ReportRollupResponse;
+import com.messenger.report.entity.DailyReport;
+import com.messenger.report.entity.ReportItem;
+import com.messenger.report.entity.ReportStatus;
+import com.messenger.report.entity.RollupPeriod;
+import com.messenger.report.entity.WorkCategory;
+import com.messenger.report.repository.DailyReportRepository;
+import com.messenger.user.entity.Team;
+import com.messenger.user.entity.User;
+import com.messenger.user.entity.UserRole;
+import com.messenger.user.entity.UserStatus;
+import com.messenger.user.repository.TeamRepository;
+import com.messenger.user.repository.UserRepository;
+import com.messenger.user.repository.UserTeamRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ReportRollupServiceTest - 주간/월간/팀 업무일지 요약 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportRollupServiceTest {
+
+    @Mock
+    private DailyReportRepository dailyReportRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private UserTeamRepository userTeamRepository;
+
+    @InjectMocks
+    private ReportRollupService reportRollupService;
+
+    private User createTestUser() {
+        return createTestUser(1L, "김개발");
+    }
+
+    private User createTestUser(Long id, String displayName) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .password("encoded")
+                .displayName(displayName)
+                .email("user" + id + "@test.com")
+                .status(UserStatus.OFFLINE)
+                .role(UserRole.MEMBER)
+                .build();
+    }
+
+    private DailyReport createReport(User user, LocalDate date, int total, ReportItem... items) {
+        DailyReport report = DailyReport.builder()
+                .user(user)
+                .reportDate(date)
+                .totalMessageCount(total)
+                .status(ReportStatus.AUTO_GENERATED)
+                .build();
+        for (ReportItem item : items) {
+            report.addItem(item);
+        }
+        return report;
+    }
+
+    private ReportItem createItem(String roomName, int count, WorkCategory category) {
+        return ReportItem.builder()
+                .title(roomName)
+                .chatRoomName(roomName)
+                .relatedMessageCount(count)
+                .category(category)
+                .build();
+    }
+
+    @Test
+    @DisplayName("주간 요약 - 일일 업무일지의 채팅방/카테고리 합계를 병합")
+    void getUserRollup_week_mergesDailyReports() {
+        // given: 월요일 2026-02-09 주간, 업무일지 2건
+        User user = createTestUser();
+        LocalDate monday = LocalDate.of(2026, 2, 9);
+        LocalDate sunday = LocalDate.of(2026, 2, 15);
+        DailyReport day1 = createReport(user, monday, 12,
+                createItem("개발팀", 8, WorkCategory.DEVELOPMENT),
+                createItem("회의실", 4, WorkCategory.MEETING));
+        DailyReport day2 = createReport(user, monday.plusDays(2), 10,
+                createItem("개발팀", 10, WorkCategory.DEVELOPMENT));
+
+        given(userRepository.findById(1L)).willReturn(Optional.of(user));
+        given(dailyReportRepository.findWithItemsByUserIdAndPeriod(1L, monday, sunday))
+                .willReturn(List.of(day1, day2));
+
+        // when: 주 중간 날짜로 조회해도 월~일 기간으로 계산
+        ReportRollupResponse rollup = reportRollupService.getUserRollup(1L, RollupPeriod.WEEK, monday.plusDays(3));
+
+        // then
+        assertThat(rollup.getStartDate()).isEqualTo(monday);
+        assertThat(rollup.getEndDate()).isEqualTo(sunday);
+        assertThat(rollup.getReportCount()).isEqualTo(2);
+        assertThat(rollup.getTotalMessageCount()).isEqualTo(22);
+        assertThat(rollup.getActiveRoomCount()).isEqualTo(2);
+        assertThat(rollup.getCategoryCounts()).containsEntry("DEVELOPMENT", 18).containsEntry("MEETING", 4);
+        assertThat(rollup.getRooms().get(0).getChatRoomName()).isEqualTo("개발팀");
+        assertThat(rollup.getRooms().get(0).getMessageCount()).isEqualTo(18);
+        assertThat(rollup.getDaily()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("팀 요약 - 팀원이 아니면 조회 불가")
+    void getTeamRollup_notMember_throwsForbidden() {
+        // given
+        Team team = Team.builder().id(3L).name("개발팀").build();
+        given(teamRepository.findById(3L)).willReturn(Optional.of(team));
+        given(userTeamRepository.existsByUserIdAndTeamId(1L, 3L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> reportRollupService.getTeamRollup(3L, 1L, RollupPeriod.MONTH, LocalDate.now()))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("팀 대시보드 - 팀원별 활동량과 가장 활발한 채팅방 집계")
+    void getTeamRollup_member_aggregatesMembersAndRooms() {
+        // given: 2026-02 한 달, 팀원 2명의 업무일지 3건
+        User kim = createTestUser(1L, "김개발");
+        User lee = createTestUser(2L, "이기획");
+        LocalDate start = LocalDate.of(2026, 2, 1);
+        LocalDate end = LocalDate.of(2026, 2, 28);
+        Team team = Team.builder().id(3L).name("개발팀").build();
+
+        given(teamRepository.findById(3L)).willReturn(Optional.of(team));
+        given(userTeamRepository.existsByUserIdAndTeamId(1L, 3L)).willReturn(true);
+        given(dailyReportRepository.findWithItemsByTeamIdAndPeriod(3L, start, end)).willReturn(List.of(
+                createReport(kim, start.plusDays(1), 5, createItem("배포방", 5, WorkCategory.DEVELOPMENT)),
+                createReport(kim, start.plusDays(2), 7, createItem("배포방", 7, WorkCategory.DEVELOPMENT)),
+                createReport(lee, start.plusDays(2), 20, createItem("기획회의", 20, WorkCategory.MEETING))));
+
+        // when
+        ReportRollupResponse rollup = reportRollupService.getTeamRollup(3L, 1L, RollupPeriod.MONTH, start.plusDays(10));
+
+        // then
+        assertThat(rollup.getType()).isEqualTo("TEAM_MONTH");
+        assertThat(rollup.getTotalMessageCount()).isEqualTo(32);
+        assertThat(rollup.getRooms().get(0).getChatRoomName()).isEqualTo("기획회의");
+        assertThat(rollup.getMembers()).hasSize(2);
+        assertThat(rollup.getMembers().get(0).getUserName()).isEqualTo("이기획");
+        assertThat(rollup.getMembers().get(1).getReportCount()).isEqualTo(2);
+        assertThat(rollup.getMembers().get(1).getMessageCount()).isEqualTo(12);
+    }
+}
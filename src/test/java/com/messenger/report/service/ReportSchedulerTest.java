@@ -0,0 +1,61 @@
+package com.messenger.report.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReportSchedulerTest - 정기 실행/재시작 후 재개의 중복 실행 방지 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportSchedulerTest {
+
+    @Mock
+    private ReportBatchJob reportBatchJob;
+
+    private ReportScheduler reportScheduler;
+
+    /** reportBatchExecutor에 넘겨졌지만 아직 실행되지 않은 작업 */
+    private final List<Runnable> submitted = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        reportScheduler = new ReportScheduler(reportBatchJob, submitted::add);
+        ReflectionTestUtils.setField(reportScheduler, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("재개가 진행 중이면 정기 실행을 건너뛰고, 재개가 끝난 뒤에는 정기 실행을 넘김")
+    void resumeInProgress_blocksDailyTrigger() {
+        // given: 재시작 후 재개가 executor에 넘겨짐
+        reportScheduler.resumeUnfinishedJobs();
+
+        // when: 재개가 끝나기 전에 정기 실행 시각이 됨
+        reportScheduler.triggerDailyReports();
+
+        // then
+        assertThat(submitted).hasSize(1);
+
+        // when: 재개 완료 후 다시 정기 실행
+        submitted.get(0).run();
+        reportScheduler.triggerDailyReports();
+
+        // then
+        verify(reportBatchJob).resumeUnfinished();
+        assertThat(submitted).hasSize(2);
+        submitted.get(1).run();
+        verify(reportBatchJob).run(any(LocalDate.class));
+    }
+}
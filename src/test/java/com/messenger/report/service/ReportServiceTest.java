@@ -0,0 +1,94 @@
+package com.messenger.report.service;
+
+import com.messenger.common.exception.BusinessException;
+import com.messenger.report.dto.ReportListResponse;
+import com.messenger.report.dto.ReportSummaryResponse;
+import com.messenger.report.entity.DailyReport;
+import com.messenger.report.entity.ReportStatus;
+import com.messenger.report.repository.DailyReportRepository;
+import com.messenger.user.entity.User;
+import com.messenger.user.entity.UserRole;
+import com.messenger.user.entity.UserStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * ReportServiceTest - 업무일지 조회/수정 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportServiceTest {
+
+    @Mock
+    private DailyReportRepository dailyReportRepository;
+
+    @Mock
+    private ReportRollupService reportRollupService;
+
+    @Mock
+    private ReportRegenerationService reportRegenerationService;
+
+    @InjectMocks
+    private ReportService reportService;
+
+    private User createTestUser(Long id) {
+        return User.builder()
+                .id(id)
+                .username("user" + id)
+                .password("encoded")
+                .displayName("사용자" + id)
+                .email("user" + id + "@test.com")
+                .status(UserStatus.OFFLINE)
+                .role(UserRole.MEMBER)
+                .build();
+    }
+
+    @Test
+    @DisplayName("업무일지 목록 - 페이지 크기는 최대 100으로 제한")
+    void getReports_largeSize_clampedToMax() {
+        // given
+        PageRequest expected = PageRequest.of(0, 100);
+        ReportSummaryResponse row = new ReportSummaryResponse(
+                5L, LocalDate.of(2026, 3, 2), 12, 2, ReportStatus.AUTO_GENERATED);
+        given(dailyReportRepository.findSummariesByUserId(1L, expected))
+                .willReturn(new PageImpl<>(List.of(row), expected, 101));
+
+        // when
+        ReportListResponse result = reportService.getReports(1L, 0, 5000);
+
+        // then
+        assertThat(result.getSize()).isEqualTo(100);
+        assertThat(result.getTotalCount()).isEqualTo(101);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getReports().get(0).getStatus()).isEqualTo("AUTO_GENERATED");
+    }
+
+    @Test
+    @DisplayName("업무일지 상세 - 다른 사용자의 업무일지는 조회 불가")
+    void getReport_otherUsersReport_throwsForbidden() {
+        // given
+        DailyReport report = DailyReport.builder()
+                .id(5L)
+                .user(createTestUser(2L))
+                .reportDate(LocalDate.of(2026, 3, 2))
+                .status(ReportStatus.AUTO_GENERATED)
+                .build();
+        given(dailyReportRepository.findDetailById(5L)).willReturn(Optional.of(report));
+
+        // when & then
+        assertThatThrownBy(() -> reportService.getReport(5L, 1L))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,110 @@
+package com.messenger.report.service;
+
+import com.messenger.infrastructure.redis.RedisCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * ReportWorkQueueTest - 업무일지 일괄 생성 작업 큐 단위 테스트
+ *
+ * Lua 스크립트 자체는 Redis에서 실행되므로, 여기서는 키/인자 구성과 결과 해석을 확인합니다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReportWorkQueueTest {
+
+    private static final LocalDate DATE = LocalDate.of(2026, 10, 19);
+    private static final String TTL = String.valueOf(Duration.ofHours(24).toSeconds());
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    @InjectMocks
+    private ReportWorkQueue reportWorkQueue;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reportWorkQueue, "stateTtlHours", 24L);
+    }
+
+    @Test
+    @DisplayName("적재 - pending/remaining/queued 키와 TTL, 사용자 ID를 문자열로 넘기고 새로 넣은 수를 반환")
+    void enqueue_passesKeysAndStringArgs() {
+        // given
+        given(redisCacheService.executeScript(any(),
+                eq(List.of("report:batch:2026-10-19:pending", "report:batch:2026-10-19:remaining",
+                        "report:batch:2026-10-19:queued")),
+                eq(TTL), eq("1"), eq("2"), eq("3"))).willReturn(2L);
+
+        // when & then
+        assertThat(reportWorkQueue.enqueue(DATE, List.of(1L, 2L, 3L))).isEqualTo(2L);
+        assertThat(reportWorkQueue.enqueue(DATE, List.of())).isZero();
+        verify(redisCacheService, times(1)).executeScript(any(), any(), any(Object[].class));
+    }
+
+    @Test
+    @DisplayName("가져가기 - 임대 만료 시각을 score로 넘기고 묶음을 사용자 ID 목록으로 변환")
+    void claim_passesLeaseDeadline() {
+        // given
+        long before = System.currentTimeMillis();
+        given(redisCacheService.executeScript(any(),
+                eq(List.of("report:batch:2026-10-19:pending", "report:batch:2026-10-19:claimed")),
+                anyString(), eq(TTL))).willAnswer(inv -> {
+            long deadline = Long.parseLong(inv.getArgument(2));
+            assertThat(deadline).isGreaterThanOrEqualTo(before + 60_000);
+            return "1,2,3";
+        });
+
+        // when
+        String batch = reportWorkQueue.claim(DATE, Duration.ofMinutes(1));
+
+        // then
+        assertThat(ReportWorkQueue.userIds(batch)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    @DisplayName("완료 - 묶음과 처리 결과를 넘기고 남은 묶음 수를 반환, 이미 회수된 묶음이면 -1")
+    void complete_returnsRemainingOrMinusOne() {
+        // given
+        List<String> keys = List.of("report:batch:2026-10-19:claimed", "report:batch:2026-10-19:remaining",
+                "report:batch:2026-10-19:stats");
+        ReportWorkQueue.BatchResult result = new ReportWorkQueue.BatchResult(2, 1, 300L, 150L);
+        given(redisCacheService.executeScript(any(), eq(keys),
+                eq("1,2,3"), eq("2"), eq("1"), eq("300"), eq("150"), eq(TTL))).willReturn(0L);
+        given(redisCacheService.executeScript(any(), eq(keys),
+                eq("4,5"), eq("2"), eq("1"), eq("300"), eq("150"), eq(TTL))).willReturn(null);
+
+        // when & then
+        assertThat(reportWorkQueue.complete(DATE, "1,2,3", result)).isZero();
+        assertThat(reportWorkQueue.complete(DATE, "4,5", result)).isEqualTo(-1L);
+    }
+
+    @Test
+    @DisplayName("회수 - 임대가 만료된 묶음을 claimed에서 pending으로 되돌린 수를 반환")
+    void requeueExpired_returnsRequeuedCount() {
+        // given
+        given(redisCacheService.executeScript(any(),
+                eq(List.of("report:batch:2026-10-19:claimed", "report:batch:2026-10-19:pending")),
+                anyString())).willReturn(2L, (Long) null);
+
+        // when & then
+        assertThat(reportWorkQueue.requeueExpired(DATE)).isEqualTo(2L);
+        assertThat(reportWorkQueue.requeueExpired(DATE)).isZero();
+    }
+}
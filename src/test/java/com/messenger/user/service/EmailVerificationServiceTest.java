@@ -0,0 +1,113 @@
+package com.messenger.user.service;
+
+import com.messenger.common.exception.BusinessException;
+import com.messenger.common.exception.ErrorCode;
+import com.messenger.infrastructure.mail.MailQueueService;
+import com.messenger.infrastructure.redis.RedisCacheService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * EmailVerificationServiceTest - 이메일 인증 (Redis 저장) 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class EmailVerificationServiceTest {
+
+    @Mock
+    private RedisCacheService redisCacheService;
+
+    @Mock
+    private MailQueueService mailQueueService;
+
+    @InjectMocks
+    private EmailVerificationService emailVerificationService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(emailVerificationService, "codeTtlMinutes", 10L);
+        ReflectionTestUtils.setField(emailVerificationService, "verifiedTtlMinutes", 30L);
+        ReflectionTestUtils.setField(emailVerificationService, "maxAttempts", 5);
+        ReflectionTestUtils.setField(emailVerificationService, "maxSends", 5);
+        ReflectionTestUtils.setField(emailVerificationService, "sendWindowMinutes", 60L);
+    }
+
+    @Test
+    @DisplayName("코드 발송 → Redis에 저장 후 메일 큐 등록, 응답에 코드 미포함")
+    void sendCode_storesInRedisAndEnqueues() {
+        // given
+        given(redisCacheService.executeScript(any(), eq(List.of("email:verify:new@test.com", "email:verify:sends:new@test.com")),
+                anyString(), eq("600000"), eq("5"), eq("3600000"))).willReturn(1L);
+        given(mailQueueService.enqueue(eq("new@test.com"), anyString(), anyString())).willReturn(true);
+
+        // when
+        Map<String, Object> result = emailVerificationService.sendCode(" New@Test.com ");
+
+        // then
+        assertThat(result).containsEntry("email", "new@test.com").doesNotContainKey("debugCode");
+    }
+
+    @Test
+    @DisplayName("발송 한도 초과 → 메일을 보내지 않고 예외")
+    void sendCode_overSendLimit_throws() {
+        given(redisCacheService.executeScript(any(), anyList(), any(Object[].class))).willReturn(-1L);
+
+        assertThatThrownBy(() -> emailVerificationService.sendCode("new@test.com"))
+                .isInstanceOf(BusinessException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.EMAIL_VERIFICATION_TOO_MANY_ATTEMPTS);
+        verifyNoInteractions(mailQueueService);
+    }
+
+    @Test
+    @DisplayName("코드 확인 결과 코드별 예외 - 불일치 / 요청 없음 / 시도 초과 / 만료")
+    void verifyCode_mapsScriptResult() {
+        given(redisCacheService.executeScript(any(), eq(List.of("email:verify:new@test.com", "email:verify:sends:new@test.com")),
+                eq("123456"), eq("5"), eq("1800000"))).willReturn(0L, -1L, -2L, -3L, 1L);
+
+        assertThatThrownBy(() -> emailVerificationService.verifyCode("new@test.com", "123456"))
+                .extracting("errorCode").isEqualTo(ErrorCode.EMAIL_VERIFICATION_INVALID);
+        assertThatThrownBy(() -> emailVerificationService.verifyCode("new@test.com", "123456"))
+                .extracting("errorCode").isEqualTo(ErrorCode.EMAIL_VERIFICATION_NOT_REQUESTED);
+        assertThatThrownBy(() -> emailVerificationService.verifyCode("new@test.com", " 123456 "))
+                .extracting("errorCode").isEqualTo(ErrorCode.EMAIL_VERIFICATION_TOO_MANY_ATTEMPTS);
+        assertThatThrownBy(() -> emailVerificationService.verifyCode("new@test.com", "123456"))
+                .extracting("errorCode").isEqualTo(ErrorCode.EMAIL_VERIFICATION_EXPIRED);
+        assertThatCode(() -> emailVerificationService.verifyCode("new@test.com", "123456")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("가입 전 인증 확인 - 인증되지 않았으면 예외")
+    void assertVerified_notVerified_throws() {
+        given(redisCacheService.executeScript(any(), eq(List.of("email:verify:new@test.com")))).willReturn(1L, 0L);
+
+        assertThatCode(() -> emailVerificationService.assertVerifiedEmail("new@test.com"))
+                .doesNotThrowAnyException();
+        assertThatThrownBy(() -> emailVerificationService.assertVerifiedEmail("new@test.com"))
+                .extracting("errorCode").isEqualTo(ErrorCode.EMAIL_NOT_VERIFIED);
+    }
+
+    @Test
+    @DisplayName("가입 커밋 후 인증 상태 소비 - Redis 실패는 예외 없이 무시 (TTL로 만료)")
+    void consumeVerified_redisFailure_doesNotThrow() {
+        given(redisCacheService.executeScript(any(), eq(List.of("email:verify:new@test.com"))))
+                .willThrow(new IllegalStateException("redis down"));
+
+        assertThatCode(() -> emailVerificationService.consumeVerifiedEmail("New@test.com"))
+                .doesNotThrowAnyException();
+    }
+}
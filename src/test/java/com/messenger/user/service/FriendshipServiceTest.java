@@ -1,13 +1,15 @@
 package com.messenger.user.service;
 
+import com.messenger.chat.service.ChatPresenceService;
 import com.messenger.common.exception.BusinessException;
-import com.messenger.notification.service.NotificationService;
 import com.messenger.user.dto.FriendshipResponse;
 import com.messenger.user.entity.Friendship;
 import com.messenger.user.entity.FriendshipStatus;
 import com.messenger.user.entity.User;
 import com.messenger.user.entity.UserRole;
 import com.messenger.user.entity.UserStatus;
+import com.messenger.user.event.FriendAcceptedEvent;
+import com.messenger.user.event.FriendRequestedEvent;
 import com.messenger.user.repository.FriendshipRepository;
 import com.messenger.user.repository.UserRepository;
 import org.junit.jupiter.api.DisplayName;
@@ -16,8 +18,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
@@ -38,7 +42,10 @@ class FriendshipServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private NotificationService notificationService;
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ChatPresenceService chatPresenceService;
 
     @InjectMocks
     private FriendshipService friendshipService;
@@ -71,6 +78,7 @@ class FriendshipServiceTest {
 
         assertThat(result).isNotNull();
         verify(friendshipRepository).save(any(Friendship.class));
+        verify(eventPublisher).publishEvent(new FriendRequestedEvent(10L, "user1", 2L));
     }
 
     @Test
@@ -112,6 +120,7 @@ class FriendshipServiceTest {
 
         assertThat(result).isNotNull();
         assertThat(friendship.getStatus()).isEqualTo(FriendshipStatus.ACCEPTED);
+        verify(eventPublisher).publishEvent(new FriendAcceptedEvent(10L, "user2", 1L));
     }
 
     @Test
@@ -171,10 +180,12 @@ class FriendshipServiceTest {
 
         given(friendshipRepository.findAllByUserIdAndStatus(1L, FriendshipStatus.ACCEPTED))
                 .willReturn(List.of(friendship));
+        given(chatPresenceService.getOnlineStatuses(List.of(2L))).willReturn(Map.of(2L, true));
 
         List<FriendshipResponse> result = friendshipService.getFriends(1L);
 
         assertThat(result).hasSize(1);
+        assertThat(result.get(0).isOnline()).isTrue();
     }
 
     @Test
@@ -15,6 +15,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -22,6 +24,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -95,7 +98,37 @@ class UserServiceTest {
         // then
         verify(passwordEncoder).encode("password123");
         verify(userRepository).save(any(User.class));
-        verify(emailVerificationService).assertAndConsumeVerifiedEmail("new@test.com");
+        verify(emailVerificationService).assertVerifiedEmail("new@test.com");
+    }
+
+    @Test
+    @DisplayName("회원가입 - 인증 상태는 커밋된 뒤에만 소비 (롤백되면 그대로 남음)")
+    void register_consumesVerificationAfterCommit() {
+        // given
+        UserRegistrationRequest request = new UserRegistrationRequest(
+                "newuser", "password123", "새 사용자", "New@Test.com");
+        given(userRepository.existsByUsername("newuser")).willReturn(false);
+        given(userRepository.existsByEmail("new@test.com")).willReturn(false);
+        given(passwordEncoder.encode("password123")).willReturn("$2a$10$encodedPassword");
+        given(userRepository.save(any(User.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when: 트랜잭션 안에서 가입
+            userService.register(request);
+
+            // then: 커밋 전에는 확인만
+            verify(emailVerificationService).assertVerifiedEmail("new@test.com");
+            verify(emailVerificationService, never()).consumeVerifiedEmail(anyString());
+
+            // when: 커밋
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+            // then
+            verify(emailVerificationService).consumeVerifiedEmail("new@test.com");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
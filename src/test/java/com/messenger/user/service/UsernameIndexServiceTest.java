@@ -0,0 +1,54 @@
+package com.messenger.user.service;
+
+import com.messenger.user.entity.User;
+import com.messenger.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+/**
+ * UsernameIndexServiceTest - 아이디 → 사용자 ID 캐시 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+class UsernameIndexServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @InjectMocks
+    private UsernameIndexService usernameIndexService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(usernameIndexService, "maxSize", 100);
+        ReflectionTestUtils.setField(usernameIndexService, "negativeTtlMs", 60000L);
+    }
+
+    @Test
+    @DisplayName("대소문자가 달라도 같은 아이디로 조회하고, 다른 표기도 캐시에서 바로 찾음")
+    void resolve_differentCase_resolvesAndCaches() {
+        // given: DB에는 "kim"으로 저장
+        given(userRepository.findByUsernameIn(Set.of("kim", "ghost")))
+                .willReturn(List.of(User.builder().id(7L).username("kim").build()));
+
+        // when
+        assertThat(usernameIndexService.resolve(List.of("Kim", "ghost"))).containsOnly(entry("Kim", 7L));
+        assertThat(usernameIndexService.resolve(List.of("KIM", "Ghost"))).containsOnly(entry("KIM", 7L));
+
+        // then: 두 번째 조회는 캐시(없는 아이디 포함)만 사용
+        verify(userRepository, times(1)).findByUsernameIn(anyCollection());
+    }
+}